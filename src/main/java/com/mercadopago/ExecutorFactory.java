@@ -0,0 +1,17 @@
+package com.mercadopago;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Creates the default executor for async continuations. Java 21+ runtimes load the version of this
+ * class shipped under META-INF/versions/21, which runs them on virtual threads.
+ */
+final class ExecutorFactory {
+
+  private ExecutorFactory() {}
+
+  static Executor createAsyncExecutor() {
+    return ForkJoinPool.commonPool();
+  }
+}
@@ -0,0 +1,28 @@
+package com.mercadopago;
+
+import com.mercadopago.net.MPAsyncHttpClient;
+import com.mercadopago.net.MPDefaultAsyncHttpClient;
+import com.mercadopago.net.MPDefaultHttpClient;
+import com.mercadopago.net.MPHttp2HttpClient;
+import com.mercadopago.net.MPHttpClient;
+import java.util.Objects;
+
+/**
+ * Creates the default http clients of a context. Java 11+ runtimes load the version of this class
+ * shipped under META-INF/versions/11, which can use the JDK http client instead.
+ */
+final class HttpClientFactory {
+
+  private HttpClientFactory() {}
+
+  static MPHttpClient createHttpClient(MercadoPagoContext context) {
+    if (MercadoPagoConfig.isHttp2Enabled() && Objects.isNull(context.getProxy())) {
+      return new MPHttp2HttpClient(context.getAsyncTransport());
+    }
+    return new MPDefaultHttpClient(context);
+  }
+
+  static MPAsyncHttpClient createAsyncHttpClient(MercadoPagoContext context) {
+    return new MPDefaultAsyncHttpClient(context);
+  }
+}
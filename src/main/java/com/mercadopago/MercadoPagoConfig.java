@@ -1,14 +1,43 @@
 package com.mercadopago;
 
-import com.mercadopago.net.MPDefaultHttpClient;
+import com.mercadopago.core.MPBulkheadAsyncHttpClient;
+import com.mercadopago.core.MPBulkheadHttpClient;
+import com.mercadopago.core.MPBulkheadPolicy;
+import com.mercadopago.core.MPCircuitBreakerAsyncHttpClient;
+import com.mercadopago.core.MPCircuitBreakerHttpClient;
+import com.mercadopago.core.MPCircuitBreakerPolicy;
+import com.mercadopago.core.MPConcurrencyLimitAsyncHttpClient;
+import com.mercadopago.core.MPConcurrencyLimitHttpClient;
+import com.mercadopago.core.MPConcurrencyLimiter;
+import com.mercadopago.core.MPHedgingAsyncHttpClient;
+import com.mercadopago.core.MPHedgingHttpClient;
+import com.mercadopago.core.MPHedgingPolicy;
+import com.mercadopago.core.MPInterceptor;
+import com.mercadopago.core.MPPriorityScheduler;
+import com.mercadopago.core.MPPrioritySchedulingAsyncHttpClient;
+import com.mercadopago.core.MPPrioritySchedulingHttpClient;
+import com.mercadopago.core.MPRateLimitAsyncHttpClient;
+import com.mercadopago.core.MPRateLimitHttpClient;
+import com.mercadopago.core.MPRateLimiter;
+import com.mercadopago.core.MPRequestCoalescer;
+import com.mercadopago.core.MPRetryPolicy;
+import com.mercadopago.core.MPRetryingAsyncHttpClient;
+import com.mercadopago.core.MPRetryingHttpClient;
+import com.mercadopago.net.MPAsyncHttpClient;
 import com.mercadopago.net.MPHttpClient;
+import com.mercadopago.net.MPPoolSaturationListener;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.Level;
 import java.util.logging.StreamHandler;
 import lombok.Getter;
 import lombok.Setter;
-import lombok.Synchronized;
 import org.apache.http.HttpHost;
 import org.apache.http.client.HttpRequestRetryHandler;
 
@@ -27,6 +56,20 @@ public class MercadoPagoConfig {
 
   private static final int DEFAULT_MAX_CONNECTIONS = 10;
 
+  private static final int DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS = 100;
+
+  private static final int DEFAULT_REQUEST_COMPRESSION_THRESHOLD_BYTES = 4096;
+
+  private static final int DEFAULT_POOL_PENDING_THRESHOLD = 10;
+
+  private static final int DEFAULT_IDLE_CONNECTION_TIMEOUT_MS = 30000;
+
+  private static final int DEFAULT_TLS_SESSION_CACHE_SIZE = 100;
+
+  private static final int DEFAULT_TLS_SESSION_TIMEOUT_SECONDS = 86400;
+
+  private static final int DEFAULT_CONNECTION_EVICTION_INTERVAL_MS = 5000;
+
   private static final int DEFAULT_CONNECTION_TIMEOUT_MS = 20000;
 
   private static final int DEFAULT_CONNECTION_REQUEST_TIMEOUT_MS = 20000;
@@ -35,8 +78,19 @@ public class MercadoPagoConfig {
 
   private static final String DEFAULT_METRICS_SCOPE = "prod";
 
+  private static final int DEFAULT_LOG_BODY_MAX_LENGTH = 2048;
+
   private static final Level DEFAULT_LOGGING_LEVEL = Level.OFF;
 
+  /** Console handler shared by every SDK logger while no logging handler is set. */
+  private static final StreamHandler DEFAULT_LOGGING_HANDLER = new ConsoleHandler();
+
+  /**
+   * Guards the lazy creation of the default clients. A lock instead of synchronized so virtual
+   * threads waiting on it do not pin their carrier thread.
+   */
+  private static final ReentrantLock CLIENT_LOCK = new ReentrantLock();
+
   @Getter
   @Setter
   private static volatile String accessToken;
@@ -65,10 +119,138 @@ public class MercadoPagoConfig {
   @Setter
   private static volatile Level loggingLevel = DEFAULT_LOGGING_LEVEL;
 
+  /**
+   * Longest request or response body logged, in characters. Longer bodies are truncated. Zero
+   * logs bodies in full.
+   */
+  @Getter
+  @Setter
+  private static volatile int logBodyMaxLength = DEFAULT_LOG_BODY_MAX_LENGTH;
+
+  /** Fraction of the request and response bodies logged, from 0 to 1. */
+  @Getter
+  @Setter
+  private static volatile double logBodySampleRate = 1;
+
+  /**
+   * Hands log records to a background thread, so request threads do not write to the logging
+   * handler. Read when the SDK classes configure their loggers.
+   */
+  @Getter
+  @Setter
+  private static volatile boolean asyncLoggingEnabled = true;
+
   @Getter
   @Setter
   private static volatile int maxConnections = DEFAULT_MAX_CONNECTIONS;
 
+  /**
+   * Connection limits by host name, e.g. "api.mercadopago.com" to 8. Each listed host is reserved
+   * its limit out of {@link #maxConnections}, and every other host may use what is left. Read when
+   * the default clients are created.
+   */
+  @Getter
+  @Setter
+  private static volatile Map<String, Integer> maxConnectionsPerHost;
+
+  /**
+   * Sends requests as HTTP/2 streams multiplexed over a single connection per host instead of the
+   * HTTP/1.1 connection pool. Read when the default clients are created. Ignored when a proxy is
+   * configured.
+   */
+  @Getter
+  @Setter
+  private static volatile boolean http2Enabled;
+
+  @Getter
+  @Setter
+  private static volatile int http2MaxConcurrentStreams = DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS;
+
+  /**
+   * Makes the default clients use MPJavaHttpClient, backed by the JDK http client, on Java 11+.
+   * The JDK client manages its own connections, so maxConnections, maxConnectionsPerHost, the
+   * connection request timeout, connection warm-up, idle connection eviction and the pool stats do
+   * not apply to it. Ignored on Java 8, with HTTP/2 mode, or when a proxy or a retry handler is
+   * configured. Read when the default clients are created.
+   */
+  @Getter
+  @Setter
+  private static volatile boolean javaHttpClientEnabled;
+
+  @Getter
+  @Setter
+  private static volatile boolean responseCompressionEnabled = true;
+
+  @Getter
+  @Setter
+  private static volatile boolean requestCompressionEnabled;
+
+  @Getter
+  @Setter
+  private static volatile int requestCompressionThreshold =
+      DEFAULT_REQUEST_COMPRESSION_THRESHOLD_BYTES;
+
+  /**
+   * TLS protocols enabled on new connections, e.g. {"TLSv1.3", "TLSv1.2"}. When null, TLSv1.3 and
+   * TLSv1.2 are enabled, TLSv1.3 only if the JVM supports it. Read when the default clients are
+   * created.
+   */
+  @Getter
+  @Setter
+  private static volatile String[] tlsProtocols;
+
+  /** TLS cipher suites enabled on new connections. When null, the JVM defaults are used. */
+  @Getter
+  @Setter
+  private static volatile String[] tlsCipherSuites;
+
+  /** Number of TLS sessions cached for resumption. Zero means no limit. */
+  @Getter
+  @Setter
+  private static volatile int tlsSessionCacheSize = DEFAULT_TLS_SESSION_CACHE_SIZE;
+
+  @Getter
+  @Setter
+  private static volatile int tlsSessionTimeoutSeconds = DEFAULT_TLS_SESSION_TIMEOUT_SECONDS;
+
+  /**
+   * Connections opened to {@link #BASE_URL} in the background when the default http client is
+   * created, so the first requests after startup skip the handshake. Zero disables the warm-up.
+   * Also used by contexts that do not set their own.
+   */
+  @Getter
+  @Setter
+  private static volatile int warmUpConnections;
+
+  /**
+   * Runs a background thread that closes expired connections, and connections idle for longer than
+   * {@link #idleConnectionTimeout}, before the server drops them. Read when the default http client
+   * is created.
+   */
+  @Getter
+  @Setter
+  private static volatile boolean connectionEvictionEnabled = true;
+
+  @Getter
+  @Setter
+  private static volatile int idleConnectionTimeout = DEFAULT_IDLE_CONNECTION_TIMEOUT_MS;
+
+  @Getter
+  @Setter
+  private static volatile int connectionEvictionInterval = DEFAULT_CONNECTION_EVICTION_INTERVAL_MS;
+
+  /**
+   * Number of requests waiting for a pooled connection above which {@link #poolSaturationListener}
+   * is notified.
+   */
+  @Getter
+  @Setter
+  private static volatile int poolPendingThreshold = DEFAULT_POOL_PENDING_THRESHOLD;
+
+  @Getter
+  @Setter
+  private static volatile MPPoolSaturationListener poolSaturationListener;
+
   @Getter
   @Setter
   private static volatile int connectionTimeout = DEFAULT_CONNECTION_TIMEOUT_MS;
@@ -84,24 +266,301 @@ public class MercadoPagoConfig {
   @Setter
   private static volatile MPHttpClient httpClient;
 
-  @Getter(onMethod_ = { @Synchronized })
-  @Setter(onMethod_ = { @Synchronized })
-  private static HttpHost proxy;
+  private static volatile MPAsyncHttpClient asyncHttpClient;
+
+  /**
+   * Undecorated async transport of the default clients, shared by the default async client and, in
+   * HTTP/2 mode, the default blocking client, so each wraps it with the request policies once.
+   */
+  private static volatile MPAsyncHttpClient asyncTransport;
+
+  @Getter
+  @Setter
+  private static volatile Executor asyncExecutor = ExecutorFactory.createAsyncExecutor();
+
+  @Getter
+  @Setter
+  private static volatile HttpHost proxy;
 
   @Getter
   @Setter
   private static HttpRequestRetryHandler retryHandler;
 
+  /**
+   * Retry policy of the default clients, applied on top of the transport, e.g. {@link
+   * MPRetryPolicy#createDefault()}. Retries 429, 5xx and connection failures with backoff, and only
+   * retries POST, PUT and PATCH requests carrying an idempotency key. Each of its attempts may also
+   * be retried by the {@link #retryHandler} of the transport on I/O failures. Null, the default,
+   * disables it. Clients set with {@link #setHttpClient(MPHttpClient)} are not wrapped, use {@link
+   * MPRetryingHttpClient} for them. Read once, when the default clients and those of each
+   * MercadoPagoContext are first created, so set it before sending the first request.
+   */
+  @Getter
+  @Setter
+  private static volatile MPRetryPolicy retryPolicy;
+
+  /**
+   * Circuit breakers of the default clients, one per endpoint, checked before every attempt so a
+   * failing endpoint is not retried either. Null, the default, disables them. Read once, when the
+   * default clients and those of each MercadoPagoContext are first created, so set it before
+   * sending the first request.
+   */
+  @Getter
+  @Setter
+  private static volatile MPCircuitBreakerPolicy circuitBreakerPolicy;
+
+  /**
+   * Adaptive limit of requests the default clients keep in flight, shared by the blocking and the
+   * async client. Each retry attempt takes its own slot. Null, the default, disables it. Read once,
+   * when the default clients and those of each MercadoPagoContext are first created, so set it
+   * before sending the first request.
+   */
+  @Getter
+  @Setter
+  private static volatile MPConcurrencyLimiter concurrencyLimiter;
+
+  /**
+   * Client-side rate limit of the default clients, one token bucket per access token. Each retry
+   * attempt takes its own permit, and waiting for one does not hold a concurrency slot. Null, the
+   * default, disables it. Read once, when the default clients and those of each MercadoPagoContext
+   * are first created, so set it before sending the first request.
+   */
+  @Getter
+  @Setter
+  private static volatile MPRateLimiter rateLimiter;
+
+  /**
+   * Hedging of the GET requests of the default clients. Each hedge goes through the rate and
+   * concurrency limits like any other request, and a retry only starts once both the request and
+   * its hedge failed. The blocking client sends hedgeable requests from the {@link
+   * #hedgingExecutor}. Null, the default, disables it. Read once, when the default clients and
+   * those of each MercadoPagoContext are first created, so set it before sending the first request.
+   */
+  @Getter
+  @Setter
+  private static volatile MPHedgingPolicy hedgingPolicy;
+
+  /**
+   * Bounded executor the blocking default client sends hedgeable requests from, each holding one
+   * of its threads until its response. Null, the default, uses a pool of twice {@link
+   * #maxConnections} threads created with the first hedging client.
+   */
+  @Getter
+  @Setter
+  private static volatile Executor hedgingExecutor;
+
+  private static Executor defaultHedgingExecutor;
+
+  /**
+   * Bulkheads of the default clients, capping the concurrent calls of groups of operations so slow
+   * searches or polling cannot take every connection, e.g. {@code
+   * MPBulkheadPolicy.builder().bulkheads("search: 4, create: 32").build()}. Each hedge and retry
+   * attempt takes its own slot. Null, the default, disables them. Read once, when the default
+   * clients and those of each MercadoPagoContext are first created, so set it before sending the
+   * first request.
+   */
+  @Getter
+  @Setter
+  private static volatile MPBulkheadPolicy bulkheadPolicy;
+
+  /**
+   * Single-flight coalescing of identical GET requests sent by the resource clients: concurrent
+   * GETs for the same URI and access token share one call and its response. Applies to custom
+   * http clients too. Null, the default, disables it.
+   */
+  @Getter
+  @Setter
+  private static volatile MPRequestCoalescer requestCoalescer;
+
+  /**
+   * Priority scheduler of the default clients, in front of the circuit breakers and the concurrency
+   * limit, so latency-critical requests such as Point payment intents get the next free connection
+   * ahead of bulk searches, and time spent queued is not taken for API latency. Each hedge and
+   * retry attempt is scheduled again. Null, the default, disables it. Read once, when the default
+   * clients and those of each MercadoPagoContext are first created, so set it before sending the
+   * first request.
+   */
+  @Getter
+  @Setter
+  private static volatile MPPriorityScheduler priorityScheduler;
+
+  private static final List<MPInterceptor> INTERCEPTORS = new CopyOnWriteArrayList<>();
+
   /**
    * Verifies which http client use.
    *
    * @return MPHttpClient
    */
-  public static synchronized MPHttpClient getHttpClient() {
-    if (Objects.isNull(httpClient)) {
-      httpClient = new MPDefaultHttpClient();
+  public static MPHttpClient getHttpClient() {
+    MPHttpClient client = httpClient;
+    if (Objects.nonNull(client)) {
+      return client;
+    }
+
+    CLIENT_LOCK.lock();
+    try {
+      if (Objects.isNull(httpClient)) {
+        httpClient =
+            decorate(HttpClientFactory.createHttpClient(MercadoPagoContext.getDefault()));
+      }
+      return httpClient;
+    } finally {
+      CLIENT_LOCK.unlock();
+    }
+  }
+
+  /**
+   * Verifies which async http client use. The default client starts its I/O reactor on first use.
+   *
+   * @return MPAsyncHttpClient
+   */
+  public static MPAsyncHttpClient getAsyncHttpClient() {
+    MPAsyncHttpClient client = asyncHttpClient;
+    if (Objects.nonNull(client)) {
+      return client;
+    }
+
+    CLIENT_LOCK.lock();
+    try {
+      if (Objects.isNull(asyncHttpClient)) {
+        asyncHttpClient = decorate(getAsyncTransport());
+      }
+      return asyncHttpClient;
+    } finally {
+      CLIENT_LOCK.unlock();
+    }
+  }
+
+  /**
+   * Sets the async http client. It is used as is, and in HTTP/2 mode the default blocking client
+   * sends through it too.
+   *
+   * @param client async http client, or null to use the default one
+   */
+  public static void setAsyncHttpClient(MPAsyncHttpClient client) {
+    CLIENT_LOCK.lock();
+    try {
+      asyncHttpClient = client;
+      asyncTransport = client;
+    } finally {
+      CLIENT_LOCK.unlock();
+    }
+  }
+
+  /** Async transport of the default context, before the request policies are applied. */
+  static MPAsyncHttpClient getAsyncTransport() {
+    MPAsyncHttpClient transport = asyncTransport;
+    if (Objects.nonNull(transport)) {
+      return transport;
+    }
+
+    CLIENT_LOCK.lock();
+    try {
+      if (Objects.isNull(asyncTransport)) {
+        asyncTransport = HttpClientFactory.createAsyncHttpClient(MercadoPagoContext.getDefault());
+      }
+      return asyncTransport;
+    } finally {
+      CLIENT_LOCK.unlock();
+    }
+  }
+
+  /**
+   * Registers an interceptor run by every resource client, before the interceptors registered on
+   * the client itself.
+   *
+   * @param interceptor interceptor
+   */
+  public static void addInterceptor(MPInterceptor interceptor) {
+    INTERCEPTORS.add(Objects.requireNonNull(interceptor));
+  }
+
+  /**
+   * Unregisters an interceptor added with {@link #addInterceptor(MPInterceptor)}.
+   *
+   * @param interceptor interceptor
+   */
+  public static void removeInterceptor(MPInterceptor interceptor) {
+    INTERCEPTORS.remove(interceptor);
+  }
+
+  /**
+   * Interceptors run by every resource client, in order.
+   *
+   * @return interceptors
+   */
+  public static List<MPInterceptor> getInterceptors() {
+    return Collections.unmodifiableList(INTERCEPTORS);
+  }
+
+  /** Wraps a default client, of this class or of a context, with the request policies. */
+  static MPHttpClient decorate(MPHttpClient client) {
+    MPHttpClient decorated = client;
+    if (Objects.nonNull(circuitBreakerPolicy)) {
+      decorated = new MPCircuitBreakerHttpClient(decorated, circuitBreakerPolicy);
+    }
+    if (Objects.nonNull(concurrencyLimiter)) {
+      decorated = new MPConcurrencyLimitHttpClient(decorated, concurrencyLimiter);
+    }
+    if (Objects.nonNull(priorityScheduler)) {
+      decorated = new MPPrioritySchedulingHttpClient(decorated, priorityScheduler);
+    }
+    if (Objects.nonNull(rateLimiter)) {
+      decorated = new MPRateLimitHttpClient(decorated, rateLimiter);
+    }
+    if (Objects.nonNull(bulkheadPolicy)) {
+      decorated = new MPBulkheadHttpClient(decorated, bulkheadPolicy);
+    }
+    if (Objects.nonNull(hedgingPolicy)) {
+      decorated = new MPHedgingHttpClient(decorated, hedgingPolicy, hedgingExecutor());
+    }
+    if (Objects.nonNull(retryPolicy)) {
+      decorated = new MPRetryingHttpClient(decorated, retryPolicy);
+    }
+    return decorated;
+  }
+
+  private static Executor hedgingExecutor() {
+    Executor executor = hedgingExecutor;
+    if (Objects.nonNull(executor)) {
+      return executor;
+    }
+    CLIENT_LOCK.lock();
+    try {
+      if (Objects.isNull(defaultHedgingExecutor)) {
+        defaultHedgingExecutor = MPHedgingHttpClient.createExecutor(2 * maxConnections);
+      }
+      return defaultHedgingExecutor;
+    } finally {
+      CLIENT_LOCK.unlock();
+    }
+  }
+
+  /** Wraps a default async client, of this class or of a context, with the request policies. */
+  static MPAsyncHttpClient decorate(MPAsyncHttpClient client) {
+    MPAsyncHttpClient decorated = client;
+    if (Objects.nonNull(circuitBreakerPolicy)) {
+      decorated = new MPCircuitBreakerAsyncHttpClient(decorated, circuitBreakerPolicy);
+    }
+    if (Objects.nonNull(concurrencyLimiter)) {
+      decorated = new MPConcurrencyLimitAsyncHttpClient(decorated, concurrencyLimiter);
+    }
+    if (Objects.nonNull(priorityScheduler)) {
+      decorated = new MPPrioritySchedulingAsyncHttpClient(decorated, priorityScheduler);
+    }
+    if (Objects.nonNull(rateLimiter)) {
+      decorated = new MPRateLimitAsyncHttpClient(decorated, rateLimiter);
+    }
+    if (Objects.nonNull(bulkheadPolicy)) {
+      decorated = new MPBulkheadAsyncHttpClient(decorated, bulkheadPolicy);
+    }
+    if (Objects.nonNull(hedgingPolicy)) {
+      decorated = new MPHedgingAsyncHttpClient(decorated, hedgingPolicy);
+    }
+    if (Objects.nonNull(retryPolicy)) {
+      decorated = new MPRetryingAsyncHttpClient(decorated, retryPolicy);
     }
-    return httpClient;
+    return decorated;
   }
 
   /**
@@ -109,7 +568,7 @@ public class MercadoPagoConfig {
    *
    * @return java version
    */
-  public static synchronized String getJavaVersion() {
+  public static String getJavaVersion() {
     String version = System.getProperty("java.runtime.version");
     if (Objects.isNull(version)) {
       return null;
@@ -125,11 +584,12 @@ public class MercadoPagoConfig {
   }
 
   /**
-   * Method responsible for return StreamHandler.
+   * Method responsible for return StreamHandler. Returns the same console handler on every call
+   * while no logging handler is set.
    *
    * @return StreamHandler
    */
   public static StreamHandler getStreamHandler() {
-    return Objects.nonNull(loggingHandler) ? loggingHandler : new ConsoleHandler();
+    return Objects.nonNull(loggingHandler) ? loggingHandler : DEFAULT_LOGGING_HANDLER;
   }
 }
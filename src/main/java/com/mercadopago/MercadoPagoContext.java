@@ -0,0 +1,303 @@
+package com.mercadopago;
+
+import com.mercadopago.net.MPAsyncHttpClient;
+import com.mercadopago.net.MPHttp2HttpClient;
+import com.mercadopago.net.MPHttpClient;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.Builder;
+import org.apache.http.HttpHost;
+
+/**
+ * Immutable set of credentials, defaults and transports used by the resource clients, so a single
+ * JVM can talk to the API on behalf of several accounts, e.g. one per country, each with its own
+ * connection pool. Settings left unset fall back to {@link MercadoPagoConfig} when read. The
+ * default context, {@link #getDefault()}, reads everything from {@link MercadoPagoConfig},
+ * including its shared http clients.
+ *
+ * <p>Other contexts create their own default clients on first use, from their timeouts,
+ * connection limit, warm-up and proxy, and wrapped with the request policies of {@link
+ * MercadoPagoConfig}. Policies keep their state, such as the concurrency limit, shared across
+ * contexts. TLS, compression, HTTP/2 and eviction settings are read from {@link
+ * MercadoPagoConfig}. Close a context that is no longer needed to release those clients.
+ */
+public final class MercadoPagoContext implements Closeable {
+
+  private static final MercadoPagoContext DEFAULT = new MercadoPagoContext();
+
+  private final String accessToken;
+
+  private final String platformId;
+
+  private final String corporationId;
+
+  private final String integratorId;
+
+  private final int connectionTimeout;
+
+  private final int connectionRequestTimeout;
+
+  private final int socketTimeout;
+
+  private final int maxConnections;
+
+  private final int warmUpConnections;
+
+  private final HttpHost proxy;
+
+  private final boolean shared;
+
+  private final boolean ownsHttpClient;
+
+  private final boolean ownsAsyncHttpClient;
+
+  /** Guards the lazy creation of the clients owned by this context. */
+  private final ReentrantLock clientLock = new ReentrantLock();
+
+  private volatile MPHttpClient httpClient;
+
+  private volatile MPAsyncHttpClient asyncHttpClient;
+
+  /**
+   * Undecorated async transport, shared by the async client and, in HTTP/2 mode, the blocking
+   * client of this context, so each wraps it with the request policies once.
+   */
+  private volatile MPAsyncHttpClient asyncTransport;
+
+  private MercadoPagoContext() {
+    this.accessToken = null;
+    this.platformId = null;
+    this.corporationId = null;
+    this.integratorId = null;
+    this.connectionTimeout = 0;
+    this.connectionRequestTimeout = 0;
+    this.socketTimeout = 0;
+    this.maxConnections = 0;
+    this.warmUpConnections = 0;
+    this.proxy = null;
+    this.httpClient = null;
+    this.asyncHttpClient = null;
+    this.asyncTransport = null;
+    this.shared = true;
+    this.ownsHttpClient = false;
+    this.ownsAsyncHttpClient = false;
+  }
+
+  /**
+   * MercadoPagoContext constructor. Null or zero values fall back to {@link MercadoPagoConfig}.
+   *
+   * @param accessToken access token sent by the clients of this context
+   * @param platformId platform id header
+   * @param corporationId corporation id header
+   * @param integratorId integrator id header
+   * @param connectionTimeout connection timeout in milliseconds
+   * @param connectionRequestTimeout connection request timeout in milliseconds
+   * @param socketTimeout socket timeout in milliseconds
+   * @param maxConnections connection pool size of the clients owned by this context
+   * @param warmUpConnections connections the http client owned by this context opens on creation
+   * @param proxy proxy of the clients owned by this context
+   * @param httpClient http client, used as is instead of creating one
+   * @param asyncHttpClient async http client, used as is instead of creating one
+   */
+  @Builder
+  public MercadoPagoContext(
+      String accessToken,
+      String platformId,
+      String corporationId,
+      String integratorId,
+      int connectionTimeout,
+      int connectionRequestTimeout,
+      int socketTimeout,
+      int maxConnections,
+      int warmUpConnections,
+      HttpHost proxy,
+      MPHttpClient httpClient,
+      MPAsyncHttpClient asyncHttpClient) {
+    this.accessToken = accessToken;
+    this.platformId = platformId;
+    this.corporationId = corporationId;
+    this.integratorId = integratorId;
+    this.connectionTimeout = connectionTimeout;
+    this.connectionRequestTimeout = connectionRequestTimeout;
+    this.socketTimeout = socketTimeout;
+    this.maxConnections = maxConnections;
+    this.warmUpConnections = warmUpConnections;
+    this.proxy = proxy;
+    this.httpClient = httpClient;
+    this.asyncHttpClient = asyncHttpClient;
+    this.asyncTransport = asyncHttpClient;
+    this.shared = false;
+    this.ownsHttpClient = Objects.isNull(httpClient);
+    this.ownsAsyncHttpClient = Objects.isNull(asyncHttpClient);
+  }
+
+  /**
+   * Context backed by {@link MercadoPagoConfig}, used by clients built without one.
+   *
+   * @return default context
+   */
+  public static MercadoPagoContext getDefault() {
+    return DEFAULT;
+  }
+
+  public String getAccessToken() {
+    return Objects.nonNull(accessToken) ? accessToken : MercadoPagoConfig.getAccessToken();
+  }
+
+  public String getPlatformId() {
+    return Objects.nonNull(platformId) ? platformId : MercadoPagoConfig.getPlatformId();
+  }
+
+  public String getCorporationId() {
+    return Objects.nonNull(corporationId) ? corporationId : MercadoPagoConfig.getCorporationId();
+  }
+
+  public String getIntegratorId() {
+    return Objects.nonNull(integratorId) ? integratorId : MercadoPagoConfig.getIntegratorId();
+  }
+
+  public int getConnectionTimeout() {
+    return connectionTimeout > 0 ? connectionTimeout : MercadoPagoConfig.getConnectionTimeout();
+  }
+
+  public int getConnectionRequestTimeout() {
+    return connectionRequestTimeout > 0
+        ? connectionRequestTimeout
+        : MercadoPagoConfig.getConnectionRequestTimeout();
+  }
+
+  public int getSocketTimeout() {
+    return socketTimeout > 0 ? socketTimeout : MercadoPagoConfig.getSocketTimeout();
+  }
+
+  public int getMaxConnections() {
+    return maxConnections > 0 ? maxConnections : MercadoPagoConfig.getMaxConnections();
+  }
+
+  public int getWarmUpConnections() {
+    return warmUpConnections > 0 ? warmUpConnections : MercadoPagoConfig.getWarmUpConnections();
+  }
+
+  public HttpHost getProxy() {
+    return Objects.nonNull(proxy) ? proxy : MercadoPagoConfig.getProxy();
+  }
+
+  /**
+   * Http client of this context. Created on first use unless one was given.
+   *
+   * @return MPHttpClient
+   */
+  public MPHttpClient getHttpClient() {
+    if (shared) {
+      return MercadoPagoConfig.getHttpClient();
+    }
+    MPHttpClient client = httpClient;
+    if (Objects.nonNull(client)) {
+      return client;
+    }
+
+    clientLock.lock();
+    try {
+      if (Objects.isNull(httpClient)) {
+        httpClient = MercadoPagoConfig.decorate(HttpClientFactory.createHttpClient(this));
+      }
+      return httpClient;
+    } finally {
+      clientLock.unlock();
+    }
+  }
+
+  /**
+   * Async http client of this context. Created on first use unless one was given.
+   *
+   * @return MPAsyncHttpClient
+   */
+  public MPAsyncHttpClient getAsyncHttpClient() {
+    if (shared) {
+      return MercadoPagoConfig.getAsyncHttpClient();
+    }
+    MPAsyncHttpClient client = asyncHttpClient;
+    if (Objects.nonNull(client)) {
+      return client;
+    }
+
+    clientLock.lock();
+    try {
+      if (Objects.isNull(asyncHttpClient)) {
+        asyncHttpClient = MercadoPagoConfig.decorate(getAsyncTransport());
+      }
+      return asyncHttpClient;
+    } finally {
+      clientLock.unlock();
+    }
+  }
+
+  /** Async transport of this context, before the request policies are applied. */
+  MPAsyncHttpClient getAsyncTransport() {
+    if (shared) {
+      return MercadoPagoConfig.getAsyncTransport();
+    }
+    MPAsyncHttpClient transport = asyncTransport;
+    if (Objects.nonNull(transport)) {
+      return transport;
+    }
+
+    clientLock.lock();
+    try {
+      if (Objects.isNull(asyncTransport)) {
+        asyncTransport = HttpClientFactory.createAsyncHttpClient(this);
+      }
+      return asyncTransport;
+    } finally {
+      clientLock.unlock();
+    }
+  }
+
+  /**
+   * Closes the clients this context created, stopping their connection pools and background
+   * threads. An HTTP/2 blocking client sends through the async transport, which is closed with the
+   * async client. Clients given to the builder are left open, and the default context closes nothing
+   * since its clients belong to {@link MercadoPagoConfig}. Clients are created again if the context
+   * is used afterwards.
+   *
+   * @throws IOException if a client fails to close
+   */
+  @Override
+  public void close() throws IOException {
+    MPHttpClient ownedHttpClient = null;
+    MPAsyncHttpClient ownedAsyncHttpClient = null;
+    clientLock.lock();
+    try {
+      if (ownsHttpClient) {
+        ownedHttpClient = httpClient;
+        httpClient = null;
+      }
+      if (ownsAsyncHttpClient) {
+        ownedAsyncHttpClient = asyncTransport;
+        asyncHttpClient = null;
+        asyncTransport = null;
+      }
+    } finally {
+      clientLock.unlock();
+    }
+
+    try {
+      if (Objects.nonNull(ownedHttpClient)
+          && Objects.isNull(ownedHttpClient.unwrap(MPHttp2HttpClient.class))) {
+        close(ownedHttpClient.unwrap(Closeable.class));
+      }
+    } finally {
+      if (Objects.nonNull(ownedAsyncHttpClient)) {
+        close(ownedAsyncHttpClient.unwrap(Closeable.class));
+      }
+    }
+  }
+
+  private static void close(Closeable transport) throws IOException {
+    if (Objects.nonNull(transport)) {
+      transport.close();
+    }
+  }
+}
@@ -6,20 +6,40 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 import com.google.gson.JsonObject;
 import com.mercadopago.MercadoPagoConfig;
+import com.mercadopago.MercadoPagoContext;
+import com.mercadopago.core.MPDeadline;
+import com.mercadopago.core.MPInterceptor;
+import com.mercadopago.core.MPInterceptors;
+import com.mercadopago.core.MPRequestCoalescer;
 import com.mercadopago.core.MPRequestOptions;
+import com.mercadopago.core.MPRequestPriority;
 import com.mercadopago.exceptions.MPApiException;
 import com.mercadopago.exceptions.MPException;
+import com.mercadopago.exceptions.MPJsonParseException;
 import com.mercadopago.net.Headers;
 import com.mercadopago.net.HttpMethod;
+import com.mercadopago.net.MPAsyncHttpClient;
 import com.mercadopago.net.MPHttpClient;
 import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResource;
 import com.mercadopago.net.MPResponse;
 import com.mercadopago.net.MPSearchRequest;
 import com.mercadopago.net.UrlFormatter;
+import com.mercadopago.serialization.Serializer;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-
-/** Mercado Pago client class. */
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Mercado Pago client class. Clients hold no per-request state and are safe to share between
+ * threads, see {@link MercadoPagoClients} for cached instances.
+ */
 public abstract class MercadoPagoClient {
   private static final String ACCEPT_HEADER_VALUE = "application/json";
 
@@ -27,25 +47,104 @@ public abstract class MercadoPagoClient {
   private static final String BEARER = "Bearer %s";
   private static final String OAUTH_TOKEN = "/oauth/token";
 
+  private static final Map<String, String> DEFAULT_HEADERS = createDefaultHeaders();
+
   protected final MPHttpClient httpClient;
 
-  protected Map<String, String> defaultHeaders;
+  protected final MPAsyncHttpClient asyncHttpClient;
+
+  protected final MercadoPagoContext context;
+
+  /** Headers sent with every request, shared by every client and unmodifiable. */
+  protected final Map<String, String> defaultHeaders = DEFAULT_HEADERS;
+
+  private final List<MPInterceptor> interceptors = new CopyOnWriteArrayList<>();
 
   /**
-   * MercadoPagoClient constructor.
+   * MercadoPagoClient constructor. Non-blocking requests are sent with the same http client, on the
+   * async executor configured in MercadoPagoConfig.
    *
    * @param httpClient http client
    */
   public MercadoPagoClient(MPHttpClient httpClient) {
+    this(httpClient, null);
+  }
+
+  /**
+   * MercadoPagoClient constructor.
+   *
+   * @param httpClient http client
+   * @param asyncHttpClient async http client, when null non-blocking requests are sent with the
+   *     http client on the async executor configured in MercadoPagoConfig
+   */
+  public MercadoPagoClient(MPHttpClient httpClient, MPAsyncHttpClient asyncHttpClient) {
+    this(
+        httpClient,
+        nonNull(asyncHttpClient) || Objects.isNull(httpClient)
+            ? asyncHttpClient
+            : sendFromAsyncExecutor(httpClient),
+        MercadoPagoContext.getDefault());
+  }
+
+  /**
+   * MercadoPagoClient constructor. Requests are sent with the credentials, defaults and http
+   * clients of the context, the http clients being looked up when a request is sent.
+   *
+   * @param context context
+   */
+  public MercadoPagoClient(MercadoPagoContext context) {
+    this(null, null, context);
+  }
+
+  private MercadoPagoClient(
+      MPHttpClient httpClient, MPAsyncHttpClient asyncHttpClient, MercadoPagoContext context) {
     this.httpClient = httpClient;
-    this.defaultHeaders = new HashMap<>();
-    defaultHeaders.put(Headers.ACCEPT, ACCEPT_HEADER_VALUE);
-    defaultHeaders.put(Headers.PRODUCT_ID, MercadoPagoConfig.PRODUCT_ID);
-    defaultHeaders.put(
+    this.asyncHttpClient = asyncHttpClient;
+    this.context = Objects.requireNonNull(context);
+  }
+
+  private static MPAsyncHttpClient sendFromAsyncExecutor(MPHttpClient httpClient) {
+    return request ->
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return httpClient.send(request);
+              } catch (MPException | MPApiException ex) {
+                throw new CompletionException(ex);
+              }
+            },
+            MercadoPagoConfig.getAsyncExecutor());
+  }
+
+  private static Map<String, String> createDefaultHeaders() {
+    Map<String, String> headers = new HashMap<>();
+    headers.put(Headers.ACCEPT, ACCEPT_HEADER_VALUE);
+    headers.put(Headers.PRODUCT_ID, MercadoPagoConfig.PRODUCT_ID);
+    headers.put(
         Headers.USER_AGENT,
         String.format("MercadoPago Java SDK/%s", MercadoPagoConfig.CURRENT_VERSION));
-    defaultHeaders.put(Headers.TRACKING_ID, MercadoPagoConfig.TRACKING_ID);
-    defaultHeaders.put(Headers.CONTENT_TYPE, CONTENT_TYPE_HEADER_VALUE);
+    headers.put(Headers.TRACKING_ID, MercadoPagoConfig.TRACKING_ID);
+    headers.put(Headers.CONTENT_TYPE, CONTENT_TYPE_HEADER_VALUE);
+    return Collections.unmodifiableMap(headers);
+  }
+
+  /**
+   * Registers an interceptor run by this client only, after the ones registered in
+   * MercadoPagoConfig.
+   *
+   * @param interceptor interceptor
+   */
+  public void addInterceptor(MPInterceptor interceptor) {
+    interceptors.add(Objects.requireNonNull(interceptor));
+  }
+
+  /**
+   * Unregisters an interceptor added with {@link #addInterceptor(MPInterceptor)}.
+   *
+   * @param interceptor interceptor
+   */
+  public void removeInterceptor(MPInterceptor interceptor) {
+    interceptors.remove(interceptor);
   }
 
   /**
@@ -69,19 +168,206 @@ public abstract class MercadoPagoClient {
    */
   protected MPResponse send(MPRequest request, MPRequestOptions requestOptions)
       throws MPException, MPApiException {
+    MPRequest preparedRequest = prepareRequest(request, requestOptions);
+    MPHttpClient transport = nonNull(httpClient) ? httpClient : context.getHttpClient();
+    MPRequestCoalescer coalescer = MercadoPagoConfig.getRequestCoalescer();
+    MPHttpClient client =
+        nonNull(coalescer) ? coalesced -> coalescer.send(coalesced, transport) : transport;
+    List<MPInterceptor> chain = activeInterceptors();
+    if (!chain.isEmpty()) {
+      return MPInterceptors.execute(chain, preparedRequest, client);
+    }
+    return client.send(preparedRequest);
+  }
+
+  /**
+   * Method used directly or by other methods to make non-blocking requests with request options.
+   * Headers, timeouts and errors follow the same rules as {@link #send(MPRequest,
+   * MPRequestOptions)}, errors being delivered through the returned future.
+   *
+   * @param request request
+   * @param requestOptions requestOptions
+   * @return future of the response
+   */
+  protected CompletableFuture<MPResponse> sendAsync(
+      MPRequest request, MPRequestOptions requestOptions) {
+    MPRequest preparedRequest;
+    try {
+      preparedRequest = prepareRequest(request, requestOptions);
+    } catch (MPException ex) {
+      CompletableFuture<MPResponse> future = new CompletableFuture<>();
+      future.completeExceptionally(ex);
+      return future;
+    }
+
+    MPAsyncHttpClient client =
+        nonNull(asyncHttpClient) ? asyncHttpClient : context.getAsyncHttpClient();
+    MPRequestCoalescer coalescer = MercadoPagoConfig.getRequestCoalescer();
+    MPAsyncHttpClient target =
+        nonNull(coalescer) ? coalesced -> coalescer.sendAsync(coalesced, client) : client;
+    List<MPInterceptor> chain = activeInterceptors();
+    if (!chain.isEmpty()) {
+      return MPInterceptors.executeAsync(chain, preparedRequest, target);
+    }
+    return target.sendAsync(preparedRequest);
+  }
+
+  /**
+   * Method used directly or by other methods to make non-blocking requests.
+   *
+   * @param path path of request url
+   * @param method http method used in the request
+   * @param payload request body
+   * @param queryParams query string params
+   * @param requestOptions extra data used to override configuration passed to MercadoPagoConfig for
+   *     a single request
+   * @return future of the response
+   */
+  protected CompletableFuture<MPResponse> sendAsync(
+      String path,
+      HttpMethod method,
+      JsonObject payload,
+      Map<String, Object> queryParams,
+      MPRequestOptions requestOptions) {
+    MPRequest mpRequest = buildRequest(path, method, payload, queryParams, requestOptions);
+    return this.sendAsync(mpRequest, null);
+  }
+
+  /**
+   * Convenience method to perform non-blocking searches.
+   *
+   * @param path path of searchRequest url
+   * @param searchRequest parameters for performing search searchRequest
+   * @param requestOptions extra data used to override configuration passed to MercadoPagoConfig for
+   *     a single searchRequest
+   * @return future of the response
+   */
+  protected CompletableFuture<MPResponse> searchAsync(
+      String path, MPSearchRequest searchRequest, MPRequestOptions requestOptions) {
+    Map<String, Object> queryParams =
+        nonNull(searchRequest) ? searchRequest.getParameters() : null;
+
+    return this.sendAsync(path, HttpMethod.GET, null, queryParams, requestOptions);
+  }
+
+  /**
+   * Deserializes a pending response into a resource on the executor configured in
+   * MercadoPagoConfig, so parsing does not run on the transport I/O threads.
+   *
+   * @param response pending response
+   * @param clazz resource class
+   * @param <T> resource type
+   * @return future of the resource, completed exceptionally with an MPException or MPApiException
+   *     cause on failure
+   */
+  protected <T extends MPResource> CompletableFuture<T> deserializeAsync(
+      CompletableFuture<MPResponse> response, Class<T> clazz) {
+    return mapAsync(
+        response,
+        mpResponse -> {
+          T result = Serializer.deserializeFromJson(clazz, mpResponse);
+          result.setResponse(mpResponse);
+          return result;
+        });
+  }
+
+  /**
+   * Deserializes a response into a resource and notifies the interceptors that observe results.
+   *
+   * @param clazz resource class
+   * @param response response
+   * @param <T> resource type
+   * @return the resource
+   * @throws MPJsonParseException if the response cannot be parsed
+   */
+  protected <T extends MPResource> T deserialize(Class<T> clazz, MPResponse response)
+      throws MPJsonParseException {
+    return attach(Serializer.deserializeFromJson(clazz, response), response);
+  }
+
+  /**
+   * Attaches the response to a resource mapped from it and notifies the interceptors that observe
+   * results.
+   *
+   * @param result resource mapped from the response
+   * @param response response
+   * @param <T> resource type
+   * @return the resource
+   */
+  protected <T extends MPResource> T attach(T result, MPResponse response) {
+    result.setResponse(response);
+    response.resultDeserialized(result);
+    return result;
+  }
+
+  /**
+   * Maps a pending response on the executor configured in MercadoPagoConfig and notifies the
+   * interceptors that observe results.
+   *
+   * @param response pending response
+   * @param mapper function turning the response into the result
+   * @param <T> result type
+   * @return future of the result, completed exceptionally with an MPException or MPApiException
+   *     cause on failure
+   */
+  protected <T> CompletableFuture<T> mapAsync(
+      CompletableFuture<MPResponse> response, ResponseMapper<T> mapper) {
+    return response.thenApplyAsync(
+        mpResponse -> {
+          try {
+            T result = mapper.map(mpResponse);
+            mpResponse.resultDeserialized(result);
+            return result;
+          } catch (MPException ex) {
+            throw new CompletionException(ex);
+          }
+        },
+        MercadoPagoConfig.getAsyncExecutor());
+  }
+
+  /**
+   * Function turning an MPResponse into a result.
+   *
+   * @param <T> result type
+   */
+  @FunctionalInterface
+  protected interface ResponseMapper<T> {
+    /**
+     * Maps the response.
+     *
+     * @param response response
+     * @return result
+     * @throws MPException if the response cannot be mapped
+     */
+    T map(MPResponse response) throws MPException;
+  }
+
+  private List<MPInterceptor> activeInterceptors() {
+    List<MPInterceptor> global = MercadoPagoConfig.getInterceptors();
+    if (interceptors.isEmpty()) {
+      return global;
+    }
+    List<MPInterceptor> chain = new ArrayList<>(global);
+    chain.addAll(interceptors);
+    return chain;
+  }
+
+  private MPRequest prepareRequest(MPRequest request, MPRequestOptions requestOptions)
+      throws MPException {
     String uri = UrlFormatter.format(request.getUri(), request.getQueryParams());
 
-    return httpClient.send(
-        MPRequest.builder()
-            .uri(uri)
-            .accessToken(getAccessToken(requestOptions))
-            .method(request.getMethod())
-            .headers(addRequestHeaders(request, requestOptions))
-            .payload(request.getPayload())
-            .connectionRequestTimeout(addConnectionRequestTimeout(request, requestOptions))
-            .connectionTimeout(addConnectionTimeout(request, requestOptions))
-            .socketTimeout(addSocketTimeout(request, requestOptions))
-            .build());
+    return MPRequest.builder()
+        .uri(uri)
+        .accessToken(getAccessToken(requestOptions))
+        .method(request.getMethod())
+        .headers(addRequestHeaders(request, requestOptions))
+        .payload(request.getPayload())
+        .connectionRequestTimeout(addConnectionRequestTimeout(request, requestOptions))
+        .connectionTimeout(addConnectionTimeout(request, requestOptions))
+        .socketTimeout(addSocketTimeout(request, requestOptions))
+        .deadline(addDeadline(request, requestOptions))
+        .priority(addPriority(request, requestOptions))
+        .build();
   }
 
   /**
@@ -208,9 +494,24 @@ public abstract class MercadoPagoClient {
         .connectionRequestTimeout(addConnectionRequestTimeout(null, requestOptions))
         .connectionTimeout(addConnectionTimeout(null, requestOptions))
         .socketTimeout(addSocketTimeout(null, requestOptions))
+        .deadline(addDeadline(null, requestOptions))
+        .priority(addPriority(null, requestOptions))
         .build();
   }
 
+  private MPDeadline addDeadline(MPRequest request, MPRequestOptions requestOptions) {
+    return MPDeadline.earliest(
+        nonNull(request) ? request.getDeadline() : null,
+        nonNull(requestOptions) ? requestOptions.getDeadline() : null);
+  }
+
+  private MPRequestPriority addPriority(MPRequest request, MPRequestOptions requestOptions) {
+    if (nonNull(requestOptions) && nonNull(requestOptions.getPriority())) {
+      return requestOptions.getPriority();
+    }
+    return nonNull(request) ? request.getPriority() : null;
+  }
+
   private int addSocketTimeout(MPRequest request, MPRequestOptions requestOptions) {
     if (nonNull(requestOptions) && requestOptions.getSocketTimeout() > 0) {
       return requestOptions.getSocketTimeout();
@@ -220,7 +521,7 @@ public abstract class MercadoPagoClient {
       return request.getSocketTimeout();
     }
 
-    return MercadoPagoConfig.getSocketTimeout();
+    return context.getSocketTimeout();
   }
 
   private int addConnectionTimeout(MPRequest request, MPRequestOptions requestOptions) {
@@ -232,7 +533,7 @@ public abstract class MercadoPagoClient {
       return request.getConnectionTimeout();
     }
 
-    return MercadoPagoConfig.getConnectionTimeout();
+    return context.getConnectionTimeout();
   }
 
   private int addConnectionRequestTimeout(MPRequest request, MPRequestOptions requestOptions) {
@@ -244,7 +545,7 @@ public abstract class MercadoPagoClient {
       return request.getConnectionRequestTimeout();
     }
 
-    return MercadoPagoConfig.getConnectionRequestTimeout();
+    return context.getConnectionRequestTimeout();
   }
 
   private Map<String, String> addRequestHeaders(MPRequest request, MPRequestOptions requestOptions) {
@@ -254,16 +555,16 @@ public abstract class MercadoPagoClient {
 
     headers.putAll(addDefaultHeaders(request));
 
-    if (isNotBlank(MercadoPagoConfig.getCorporationId())) {
-      headers.put(Headers.CORPORATION_ID, MercadoPagoConfig.getCorporationId());
+    if (isNotBlank(context.getCorporationId())) {
+      headers.put(Headers.CORPORATION_ID, context.getCorporationId());
     }
 
-    if (isNotBlank(MercadoPagoConfig.getIntegratorId())) {
-      headers.put(Headers.INTEGRATOR_ID, MercadoPagoConfig.getIntegratorId());
+    if (isNotBlank(context.getIntegratorId())) {
+      headers.put(Headers.INTEGRATOR_ID, context.getIntegratorId());
     }
 
-    if (isNotBlank(MercadoPagoConfig.getPlatformId())) {
-      headers.put(Headers.PLATFORM_ID, MercadoPagoConfig.getPlatformId());
+    if (isNotBlank(context.getPlatformId())) {
+      headers.put(Headers.PLATFORM_ID, context.getPlatformId());
     }
 
     if (nonNull(requestOptions) && isNotEmpty(requestOptions.getCustomHeaders()) ) {
@@ -292,7 +593,7 @@ public abstract class MercadoPagoClient {
   }
 
   private String chooseAccessToken(MPRequest request) {
-    return request.getAccessToken() != null ? request.getAccessToken() : MercadoPagoConfig.getAccessToken();
+    return request.getAccessToken() != null ? request.getAccessToken() : context.getAccessToken();
   }
 
   private Map<String, String> addCustomHeaders(String uri, MPRequestOptions requestOptions) {
@@ -329,6 +630,6 @@ public abstract class MercadoPagoClient {
             && nonNull(requestOptions.getAccessToken())
             && !requestOptions.getAccessToken().isEmpty()
         ? requestOptions.getAccessToken()
-        : MercadoPagoConfig.getAccessToken();
+        : context.getAccessToken();
   }
 }
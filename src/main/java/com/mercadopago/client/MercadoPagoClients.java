@@ -0,0 +1,158 @@
+package com.mercadopago.client;
+
+import com.mercadopago.MercadoPagoContext;
+import com.mercadopago.client.cardtoken.CardTokenClient;
+import com.mercadopago.client.customer.CustomerCardClient;
+import com.mercadopago.client.customer.CustomerClient;
+import com.mercadopago.client.identificationtype.IdentificationTypeClient;
+import com.mercadopago.client.merchantorder.MerchantOrderClient;
+import com.mercadopago.client.oauth.OauthClient;
+import com.mercadopago.client.order.OrderClient;
+import com.mercadopago.client.payment.PaymentClient;
+import com.mercadopago.client.payment.PaymentRefundClient;
+import com.mercadopago.client.paymentmethod.PaymentMethodClient;
+import com.mercadopago.client.point.PointClient;
+import com.mercadopago.client.preapproval.PreapprovalClient;
+import com.mercadopago.client.preference.PreferenceClient;
+import com.mercadopago.client.user.UserClient;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Factory of the resource clients of a context. Each client is created on first use and the same
+ * thread-safe instance is returned afterwards, so callers can fetch a client per request without
+ * paying its constructor again. Keep one factory per context, e.g. {@link #getDefault()} for
+ * {@link com.mercadopago.MercadoPagoConfig}. Interceptors added to a cached client apply to
+ * every caller of this factory. Closing the factory closes its context too.
+ */
+public final class MercadoPagoClients implements Closeable {
+  private static final MercadoPagoClients DEFAULT =
+      new MercadoPagoClients(MercadoPagoContext.getDefault());
+
+  private final MercadoPagoContext context;
+
+  private final Map<Class<?>, MercadoPagoClient> clients = new ConcurrentHashMap<>();
+
+  /** Guards client creation. A lock instead of synchronized so virtual threads do not pin. */
+  private final ReentrantLock lock = new ReentrantLock();
+
+  /**
+   * MercadoPagoClients constructor.
+   *
+   * @param context context of the created clients
+   */
+  public MercadoPagoClients(MercadoPagoContext context) {
+    this.context = Objects.requireNonNull(context);
+  }
+
+  /**
+   * Factory of the clients of the default context, backed by MercadoPagoConfig.
+   *
+   * @return default factory
+   */
+  public static MercadoPagoClients getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * Context of the created clients.
+   *
+   * @return context
+   */
+  public MercadoPagoContext getContext() {
+    return context;
+  }
+
+  public CardTokenClient getCardTokenClient() {
+    return get(CardTokenClient.class, CardTokenClient::new);
+  }
+
+  public CustomerClient getCustomerClient() {
+    return get(CustomerClient.class, CustomerClient::new);
+  }
+
+  public CustomerCardClient getCustomerCardClient() {
+    return get(CustomerCardClient.class, CustomerCardClient::new);
+  }
+
+  public IdentificationTypeClient getIdentificationTypeClient() {
+    return get(IdentificationTypeClient.class, IdentificationTypeClient::new);
+  }
+
+  public MerchantOrderClient getMerchantOrderClient() {
+    return get(MerchantOrderClient.class, MerchantOrderClient::new);
+  }
+
+  public OauthClient getOauthClient() {
+    return get(OauthClient.class, OauthClient::new);
+  }
+
+  public OrderClient getOrderClient() {
+    return get(OrderClient.class, OrderClient::new);
+  }
+
+  public PaymentClient getPaymentClient() {
+    return get(PaymentClient.class, PaymentClient::new);
+  }
+
+  public PaymentRefundClient getPaymentRefundClient() {
+    return get(PaymentRefundClient.class, PaymentRefundClient::new);
+  }
+
+  public PaymentMethodClient getPaymentMethodClient() {
+    return get(PaymentMethodClient.class, PaymentMethodClient::new);
+  }
+
+  public PointClient getPointClient() {
+    return get(PointClient.class, PointClient::new);
+  }
+
+  public PreapprovalClient getPreapprovalClient() {
+    return get(PreapprovalClient.class, PreapprovalClient::new);
+  }
+
+  public PreferenceClient getPreferenceClient() {
+    return get(PreferenceClient.class, PreferenceClient::new);
+  }
+
+  public UserClient getUserClient() {
+    return get(UserClient.class, UserClient::new);
+  }
+
+  /**
+   * Drops the cached clients and closes the context, releasing the http clients it created.
+   * Closing the default factory leaves the clients of MercadoPagoConfig open.
+   *
+   * @throws IOException if an http client fails to close
+   */
+  @Override
+  public void close() throws IOException {
+    clients.clear();
+    context.close();
+  }
+
+  private <T extends MercadoPagoClient> T get(
+      Class<T> type, Function<MercadoPagoContext, T> constructor) {
+    MercadoPagoClient client = clients.get(type);
+    if (Objects.nonNull(client)) {
+      return type.cast(client);
+    }
+
+    lock.lock();
+    try {
+      client = clients.get(type);
+      if (Objects.isNull(client)) {
+        client = constructor.apply(context);
+        clients.put(type, client);
+      }
+      return type.cast(client);
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -1,9 +1,9 @@
 package com.mercadopago.client.cardtoken;
 
-import static com.mercadopago.MercadoPagoConfig.getStreamHandler;
-
 import com.mercadopago.MercadoPagoConfig;
+import com.mercadopago.MercadoPagoContext;
 import com.mercadopago.client.MercadoPagoClient;
+import com.mercadopago.core.MPLogging;
 import com.mercadopago.core.MPRequestOptions;
 import com.mercadopago.exceptions.MPApiException;
 import com.mercadopago.exceptions.MPException;
@@ -12,8 +12,8 @@ import com.mercadopago.net.MPHttpClient;
 import com.mercadopago.net.MPResponse;
 import com.mercadopago.resources.CardToken;
 import com.mercadopago.serialization.Serializer;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
-import java.util.logging.StreamHandler;
 
 /** Client for retrieving the token for a card. */
 public class CardTokenClient extends MercadoPagoClient {
@@ -21,7 +21,7 @@ public class CardTokenClient extends MercadoPagoClient {
 
   /** Default constructor. Uses http client provided by MercadoPagoConfig. */
   public CardTokenClient() {
-    this(MercadoPagoConfig.getHttpClient());
+    this(MercadoPagoContext.getDefault());
   }
 
   /**
@@ -31,10 +31,17 @@ public class CardTokenClient extends MercadoPagoClient {
    */
   public CardTokenClient(MPHttpClient httpClient) {
     super(httpClient);
-    StreamHandler streamHandler = getStreamHandler();
-    streamHandler.setLevel(MercadoPagoConfig.getLoggingLevel());
-    LOGGER.addHandler(streamHandler);
-    LOGGER.setLevel(MercadoPagoConfig.getLoggingLevel());
+    MPLogging.configure(LOGGER);
+  }
+
+  /**
+   * Constructor used for sending requests with the credentials and http clients of a context.
+   *
+   * @param context context
+   */
+  public CardTokenClient(MercadoPagoContext context) {
+    super(context);
+    MPLogging.configure(LOGGER);
   }
 
   /**
@@ -58,9 +65,7 @@ public class CardTokenClient extends MercadoPagoClient {
       throws MPException, MPApiException {
     MPResponse response =
         send(String.format("/v1/card_tokens/%s", id), HttpMethod.GET, null, null, requestOptions);
-    CardToken cardToken = Serializer.deserializeFromJson(CardToken.class, response.getContent());
-    cardToken.setResponse(response);
-    return cardToken;
+    return deserialize(CardToken.class, response);
   }
 
   /**
@@ -91,8 +96,59 @@ public class CardTokenClient extends MercadoPagoClient {
             Serializer.serializeToJson(request),
             null,
             requestOptions);
-    CardToken cardToken = Serializer.deserializeFromJson(CardToken.class, response.getContent());
-    cardToken.setResponse(response);
-    return cardToken;
+    return deserialize(CardToken.class, response);
+  }
+
+  /**
+   * Get card token without blocking the calling thread.
+   *
+   * @param id card id
+   * @return future of the card token information
+   */
+  public CompletableFuture<CardToken> getAsync(String id) {
+    return this.getAsync(id, null);
+  }
+
+  /**
+   * Get card token without blocking the calling thread.
+   *
+   * @param id card id
+   * @param requestOptions metadata to customize the request
+   * @return future of the card token information
+   */
+  public CompletableFuture<CardToken> getAsync(String id, MPRequestOptions requestOptions) {
+    return deserializeAsync(
+        sendAsync(
+            String.format("/v1/card_tokens/%s", id), HttpMethod.GET, null, null, requestOptions),
+        CardToken.class);
+  }
+
+  /**
+   * Create token associated with a card without blocking the calling thread.
+   *
+   * @param request attributes used to perform the request
+   * @return future of the card token information
+   */
+  public CompletableFuture<CardToken> createAsync(CardTokenRequest request) {
+    return this.createAsync(request, null);
+  }
+
+  /**
+   * Create token associated with a card without blocking the calling thread.
+   *
+   * @param request attributes used to perform the request
+   * @param requestOptions metadata to customize the request
+   * @return future of the card token information
+   */
+  public CompletableFuture<CardToken> createAsync(
+      CardTokenRequest request, MPRequestOptions requestOptions) {
+    return deserializeAsync(
+        sendAsync(
+            "/v1/card_tokens",
+            HttpMethod.POST,
+            Serializer.serializeToJson(request),
+            null,
+            requestOptions),
+        CardToken.class);
   }
 }
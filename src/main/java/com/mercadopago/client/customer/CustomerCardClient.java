@@ -1,10 +1,9 @@
 package com.mercadopago.client.customer;
 
-import static com.mercadopago.MercadoPagoConfig.getStreamHandler;
-
 import com.google.gson.JsonObject;
-import com.mercadopago.MercadoPagoConfig;
+import com.mercadopago.MercadoPagoContext;
 import com.mercadopago.client.MercadoPagoClient;
+import com.mercadopago.core.MPLogging;
 import com.mercadopago.core.MPRequestOptions;
 import com.mercadopago.exceptions.MPApiException;
 import com.mercadopago.exceptions.MPException;
@@ -16,7 +15,6 @@ import com.mercadopago.net.MPResponse;
 import com.mercadopago.resources.customer.CustomerCard;
 import com.mercadopago.serialization.Serializer;
 import java.util.logging.Logger;
-import java.util.logging.StreamHandler;
 
 /** Client responsible for performing customer card actions. */
 public class CustomerCardClient extends MercadoPagoClient {
@@ -24,7 +22,7 @@ public class CustomerCardClient extends MercadoPagoClient {
 
   /** Default constructor. Uses the default http client used by the SDK */
   public CustomerCardClient() {
-    this(MercadoPagoConfig.getHttpClient());
+    this(MercadoPagoContext.getDefault());
   }
 
   /**
@@ -34,10 +32,17 @@ public class CustomerCardClient extends MercadoPagoClient {
    */
   public CustomerCardClient(MPHttpClient httpClient) {
     super(httpClient);
-    StreamHandler streamHandler = getStreamHandler();
-    streamHandler.setLevel(MercadoPagoConfig.getLoggingLevel());
-    LOGGER.addHandler(streamHandler);
-    LOGGER.setLevel(MercadoPagoConfig.getLoggingLevel());
+    MPLogging.configure(LOGGER);
+  }
+
+  /**
+   * Constructor used for sending requests with the credentials and http clients of a context.
+   *
+   * @param context context
+   */
+  public CustomerCardClient(MercadoPagoContext context) {
+    super(context);
+    MPLogging.configure(LOGGER);
   }
 
   /**
@@ -71,9 +76,7 @@ public class CustomerCardClient extends MercadoPagoClient {
             null,
             requestOptions);
 
-    CustomerCard card = Serializer.deserializeFromJson(CustomerCard.class, response.getContent());
-    card.setResponse(response);
-    return card;
+    return deserialize(CustomerCard.class, response);
   }
 
   /**
@@ -112,9 +115,7 @@ public class CustomerCardClient extends MercadoPagoClient {
             requestOptions);
     MPResponse response = send(mpRequest);
 
-    CustomerCard card = Serializer.deserializeFromJson(CustomerCard.class, response.getContent());
-    card.setResponse(response);
-    return card;
+    return deserialize(CustomerCard.class, response);
   }
 
   /**
@@ -150,9 +151,7 @@ public class CustomerCardClient extends MercadoPagoClient {
             null,
             requestOptions);
 
-    CustomerCard card = Serializer.deserializeFromJson(CustomerCard.class, response.getContent());
-    card.setResponse(response);
-    return card;
+    return deserialize(CustomerCard.class, response);
   }
 
   /**
@@ -187,8 +186,7 @@ public class CustomerCardClient extends MercadoPagoClient {
             requestOptions);
 
     MPResourceList<CustomerCard> cards =
-        Serializer.deserializeListFromJson(CustomerCard.class, response.getContent());
-    cards.setResponse(response);
-    return cards;
+        Serializer.deserializeListFromJson(CustomerCard.class, response);
+    return attach(cards, response);
   }
 }
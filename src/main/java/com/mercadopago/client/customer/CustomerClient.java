@@ -1,12 +1,12 @@
 package com.mercadopago.client.customer;
 
-import static com.mercadopago.MercadoPagoConfig.getStreamHandler;
 import static com.mercadopago.serialization.Serializer.deserializeResultsResourcesPageFromJson;
 
 import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
-import com.mercadopago.MercadoPagoConfig;
+import com.mercadopago.MercadoPagoContext;
 import com.mercadopago.client.MercadoPagoClient;
+import com.mercadopago.core.MPLogging;
 import com.mercadopago.core.MPRequestOptions;
 import com.mercadopago.exceptions.MPApiException;
 import com.mercadopago.exceptions.MPException;
@@ -21,8 +21,8 @@ import com.mercadopago.resources.customer.Customer;
 import com.mercadopago.resources.customer.CustomerCard;
 import com.mercadopago.serialization.Serializer;
 import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
-import java.util.logging.StreamHandler;
 
 /** Client responsible for performing customer actions. */
 public class CustomerClient extends MercadoPagoClient {
@@ -32,7 +32,7 @@ public class CustomerClient extends MercadoPagoClient {
 
   /** Default constructor. Uses the default http client used by the SDK */
   public CustomerClient() {
-    this(MercadoPagoConfig.getHttpClient());
+    this(MercadoPagoContext.getDefault());
   }
 
   /**
@@ -43,10 +43,18 @@ public class CustomerClient extends MercadoPagoClient {
   public CustomerClient(MPHttpClient httpClient) {
     super(httpClient);
     cardClient = new CustomerCardClient(httpClient);
-    StreamHandler streamHandler = getStreamHandler();
-    streamHandler.setLevel(MercadoPagoConfig.getLoggingLevel());
-    LOGGER.addHandler(streamHandler);
-    LOGGER.setLevel(MercadoPagoConfig.getLoggingLevel());
+    MPLogging.configure(LOGGER);
+  }
+
+  /**
+   * Constructor used for sending requests with the credentials and http clients of a context.
+   *
+   * @param context context
+   */
+  public CustomerClient(MercadoPagoContext context) {
+    super(context);
+    cardClient = new CustomerCardClient(context);
+    MPLogging.configure(LOGGER);
   }
 
   /**
@@ -86,9 +94,7 @@ public class CustomerClient extends MercadoPagoClient {
             null,
             requestOptions);
 
-    Customer customer = Serializer.deserializeFromJson(Customer.class, response.getContent());
-    customer.setResponse(response);
-    return customer;
+    return deserialize(Customer.class, response);
   }
 
   /**
@@ -125,9 +131,7 @@ public class CustomerClient extends MercadoPagoClient {
         MPRequest.buildRequest("/v1/customers", HttpMethod.POST, payload, null, requestOptions);
     MPResponse response = send(mpRequest);
 
-    Customer customer = Serializer.deserializeFromJson(Customer.class, response.getContent());
-    customer.setResponse(response);
-    return customer;
+    return deserialize(Customer.class, response);
   }
 
   /**
@@ -173,9 +177,7 @@ public class CustomerClient extends MercadoPagoClient {
             requestOptions);
     MPResponse response = send(mpRequest);
 
-    Customer customer = Serializer.deserializeFromJson(Customer.class, response.getContent());
-    customer.setResponse(response);
-    return customer;
+    return deserialize(Customer.class, response);
   }
 
   /**
@@ -210,9 +212,7 @@ public class CustomerClient extends MercadoPagoClient {
             requestOptions);
     MPResponse response = send(mpRequest);
 
-    Customer customer = Serializer.deserializeFromJson(Customer.class, response.getContent());
-    customer.setResponse(response);
-    return customer;
+    return deserialize(Customer.class, response);
   }
 
   /**
@@ -249,9 +249,8 @@ public class CustomerClient extends MercadoPagoClient {
 
     Type responseType = new TypeToken<MPResultsResourcesPage<Customer>>() {}.getType();
     MPResultsResourcesPage<Customer> result =
-        deserializeResultsResourcesPageFromJson(responseType, response.getContent());
-    result.setResponse(response);
-    return result;
+        deserializeResultsResourcesPageFromJson(responseType, response);
+    return attach(result, response);
   }
 
   /**
@@ -383,4 +382,93 @@ public class CustomerClient extends MercadoPagoClient {
       throws MPException, MPApiException {
     return cardClient.listAll(customerId, requestOptions);
   }
+
+  /**
+   * Get customer without blocking the calling thread.
+   *
+   * @param customerId id of the customer
+   * @return future of the requested customer
+   */
+  public CompletableFuture<Customer> getAsync(String customerId) {
+    return this.getAsync(customerId, null);
+  }
+
+  /**
+   * Get customer without blocking the calling thread.
+   *
+   * @param customerId id of the customer
+   * @param requestOptions metadata to customize the request
+   * @return future of the requested customer
+   */
+  public CompletableFuture<Customer> getAsync(
+      String customerId, MPRequestOptions requestOptions) {
+    LOGGER.info("Sending get customer request");
+    return deserializeAsync(
+        sendAsync(
+            String.format("/v1/customers/%s", customerId),
+            HttpMethod.GET,
+            null,
+            null,
+            requestOptions),
+        Customer.class);
+  }
+
+  /**
+   * Add new customer without blocking the calling thread.
+   *
+   * @param request attributes used to perform the request
+   * @return future of the customer just added
+   */
+  public CompletableFuture<Customer> createAsync(CustomerRequest request) {
+    return this.createAsync(request, null);
+  }
+
+  /**
+   * Add new customer without blocking the calling thread.
+   *
+   * @param request attributes used to perform the request
+   * @param requestOptions metadata to customize the request
+   * @return future of the customer just added
+   */
+  public CompletableFuture<Customer> createAsync(
+      CustomerRequest request, MPRequestOptions requestOptions) {
+    LOGGER.info("Sending create customer request");
+
+    JsonObject payload = Serializer.serializeToJson(request);
+    MPRequest mpRequest =
+        MPRequest.buildRequest("/v1/customers", HttpMethod.POST, payload, null, requestOptions);
+    return deserializeAsync(sendAsync(mpRequest, null), Customer.class);
+  }
+
+  /**
+   * Search customers without blocking the calling thread.
+   *
+   * @param request attributes used to perform the request
+   * @return future of the list of results
+   */
+  public CompletableFuture<MPResultsResourcesPage<Customer>> searchAsync(MPSearchRequest request) {
+    return this.searchAsync(request, null);
+  }
+
+  /**
+   * Search customers without blocking the calling thread.
+   *
+   * @param request attributes used to perform the request
+   * @param requestOptions metadata to customize the request
+   * @return future of the list of results
+   */
+  public CompletableFuture<MPResultsResourcesPage<Customer>> searchAsync(
+      MPSearchRequest request, MPRequestOptions requestOptions) {
+    LOGGER.info("Sending search customer request");
+    Type responseType = new TypeToken<MPResultsResourcesPage<Customer>>() {}.getType();
+
+    return mapAsync(
+        searchAsync("/v1/customers/search", request, requestOptions),
+        response -> {
+          MPResultsResourcesPage<Customer> result =
+              deserializeResultsResourcesPageFromJson(responseType, response);
+          result.setResponse(response);
+          return result;
+        });
+  }
 }
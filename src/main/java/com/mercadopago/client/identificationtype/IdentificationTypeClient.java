@@ -1,10 +1,10 @@
 package com.mercadopago.client.identificationtype;
 
-import static com.mercadopago.MercadoPagoConfig.getStreamHandler;
 import static com.mercadopago.serialization.Serializer.deserializeListFromJson;
 
-import com.mercadopago.MercadoPagoConfig;
+import com.mercadopago.MercadoPagoContext;
 import com.mercadopago.client.MercadoPagoClient;
+import com.mercadopago.core.MPLogging;
 import com.mercadopago.core.MPRequestOptions;
 import com.mercadopago.exceptions.MPApiException;
 import com.mercadopago.exceptions.MPException;
@@ -14,7 +14,6 @@ import com.mercadopago.net.MPResourceList;
 import com.mercadopago.net.MPResponse;
 import com.mercadopago.resources.identificationtype.IdentificationType;
 import java.util.logging.Logger;
-import java.util.logging.StreamHandler;
 
 /** Client with methods of Identification Type APIs. */
 public class IdentificationTypeClient extends MercadoPagoClient {
@@ -22,7 +21,7 @@ public class IdentificationTypeClient extends MercadoPagoClient {
 
   /** Default constructor. Uses the default http client used by the SDK. */
   public IdentificationTypeClient() {
-    this(MercadoPagoConfig.getHttpClient());
+    this(MercadoPagoContext.getDefault());
   }
 
   /**
@@ -32,10 +31,17 @@ public class IdentificationTypeClient extends MercadoPagoClient {
    */
   public IdentificationTypeClient(MPHttpClient httpClient) {
     super(httpClient);
-    StreamHandler streamHandler = getStreamHandler();
-    streamHandler.setLevel(MercadoPagoConfig.getLoggingLevel());
-    LOGGER.addHandler(streamHandler);
-    LOGGER.setLevel(MercadoPagoConfig.getLoggingLevel());
+    MPLogging.configure(LOGGER);
+  }
+
+  /**
+   * Constructor used for sending requests with the credentials and http clients of a context.
+   *
+   * @param context context
+   */
+  public IdentificationTypeClient(MercadoPagoContext context) {
+    super(context);
+    MPLogging.configure(LOGGER);
   }
 
   /**
@@ -69,9 +75,7 @@ public class IdentificationTypeClient extends MercadoPagoClient {
         list("/v1/identification_types", HttpMethod.GET, null, null, requestOptions);
 
     MPResourceList<IdentificationType> identificationTypes =
-        deserializeListFromJson(IdentificationType.class, response.getContent());
-    identificationTypes.setResponse(response);
-
-    return identificationTypes;
+        deserializeListFromJson(IdentificationType.class, response);
+    return attach(identificationTypes, response);
   }
 }
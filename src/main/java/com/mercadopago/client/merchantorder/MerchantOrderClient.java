@@ -1,12 +1,11 @@
 package com.mercadopago.client.merchantorder;
 
-import static com.mercadopago.MercadoPagoConfig.getStreamHandler;
 import static com.mercadopago.serialization.Serializer.deserializeElementsResourcesPageFromJson;
-import static com.mercadopago.serialization.Serializer.deserializeFromJson;
 
 import com.google.gson.reflect.TypeToken;
-import com.mercadopago.MercadoPagoConfig;
+import com.mercadopago.MercadoPagoContext;
 import com.mercadopago.client.MercadoPagoClient;
+import com.mercadopago.core.MPLogging;
 import com.mercadopago.core.MPRequestOptions;
 import com.mercadopago.exceptions.MPApiException;
 import com.mercadopago.exceptions.MPException;
@@ -19,8 +18,8 @@ import com.mercadopago.net.MPSearchRequest;
 import com.mercadopago.resources.merchantorder.MerchantOrder;
 import com.mercadopago.serialization.Serializer;
 import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
-import java.util.logging.StreamHandler;
 
 /** MerchantOrderClient class. */
 public class MerchantOrderClient extends MercadoPagoClient {
@@ -30,7 +29,7 @@ public class MerchantOrderClient extends MercadoPagoClient {
 
   /** Default constructor. Uses the default http client used by the SDK. */
   public MerchantOrderClient() {
-    this(MercadoPagoConfig.getHttpClient());
+    this(MercadoPagoContext.getDefault());
   }
 
   /**
@@ -40,10 +39,17 @@ public class MerchantOrderClient extends MercadoPagoClient {
    */
   public MerchantOrderClient(MPHttpClient httpClient) {
     super(httpClient);
-    StreamHandler streamHandler = getStreamHandler();
-    streamHandler.setLevel(MercadoPagoConfig.getLoggingLevel());
-    LOGGER.addHandler(streamHandler);
-    LOGGER.setLevel(MercadoPagoConfig.getLoggingLevel());
+    MPLogging.configure(LOGGER);
+  }
+
+  /**
+   * Constructor used for sending requests with the credentials and http clients of a context.
+   *
+   * @param context context
+   */
+  public MerchantOrderClient(MercadoPagoContext context) {
+    super(context);
+    MPLogging.configure(LOGGER);
   }
 
   /**
@@ -82,10 +88,7 @@ public class MerchantOrderClient extends MercadoPagoClient {
             .build();
 
     MPResponse response = send(mpRequest, requestOptions);
-    MerchantOrder result = deserializeFromJson(MerchantOrder.class, response.getContent());
-    result.setResponse(response);
-
-    return result;
+    return deserialize(MerchantOrder.class, response);
   }
 
   /**
@@ -126,10 +129,7 @@ public class MerchantOrderClient extends MercadoPagoClient {
             .build();
 
     MPResponse response = send(mpRequest, requestOptions);
-    MerchantOrder result = deserializeFromJson(MerchantOrder.class, response.getContent());
-    result.setResponse(response);
-
-    return result;
+    return deserialize(MerchantOrder.class, response);
   }
 
   /**
@@ -173,10 +173,7 @@ public class MerchantOrderClient extends MercadoPagoClient {
             .build();
 
     MPResponse response = send(mpRequest, requestOptions);
-    MerchantOrder result = deserializeFromJson(MerchantOrder.class, response.getContent());
-    result.setResponse(response);
-
-    return result;
+    return deserialize(MerchantOrder.class, response);
   }
 
   /**
@@ -213,9 +210,100 @@ public class MerchantOrderClient extends MercadoPagoClient {
 
     Type responseType = new TypeToken<MPElementsResourcesPage<MerchantOrder>>() {}.getType();
     MPElementsResourcesPage<MerchantOrder> result =
-        deserializeElementsResourcesPageFromJson(responseType, response.getContent());
-    result.setResponse(response);
+        deserializeElementsResourcesPageFromJson(responseType, response);
+    return attach(result, response);
+  }
+
+  /**
+   * Method responsible for getting merchant order without blocking the calling thread.
+   *
+   * @param id merchant order id
+   * @return future of the merchant order information
+   */
+  public CompletableFuture<MerchantOrder> getAsync(Long id) {
+    return this.getAsync(id, null);
+  }
+
+  /**
+   * Method responsible for getting merchant order without blocking the calling thread.
+   *
+   * @param id merchant order id
+   * @param requestOptions metadata to customize the request
+   * @return future of the merchant order information
+   */
+  public CompletableFuture<MerchantOrder> getAsync(Long id, MPRequestOptions requestOptions) {
+    LOGGER.info("Sending get merchant order request");
+
+    MPRequest mpRequest =
+        MPRequest.builder()
+            .uri(String.format(URL_WITH_ID, id.toString()))
+            .method(HttpMethod.GET)
+            .build();
+
+    return deserializeAsync(sendAsync(mpRequest, requestOptions), MerchantOrder.class);
+  }
+
+  /**
+   * Method responsible for creating merchant order without blocking the calling thread.
+   *
+   * @param request attributes used to create merchant order
+   * @return future of the merchant order information
+   */
+  public CompletableFuture<MerchantOrder> createAsync(MerchantOrderCreateRequest request) {
+    return this.createAsync(request, null);
+  }
+
+  /**
+   * Method responsible for creating merchant order without blocking the calling thread.
+   *
+   * @param request attributes used to create merchant order
+   * @param requestOptions metadata to customize the request
+   * @return future of the merchant order information
+   */
+  public CompletableFuture<MerchantOrder> createAsync(
+      MerchantOrderCreateRequest request, MPRequestOptions requestOptions) {
+    LOGGER.info("Sending create merchant order request");
+
+    MPRequest mpRequest =
+        MPRequest.builder()
+            .uri("/merchant_orders")
+            .method(HttpMethod.POST)
+            .payload(Serializer.serializeToJson(request))
+            .build();
+
+    return deserializeAsync(sendAsync(mpRequest, requestOptions), MerchantOrder.class);
+  }
+
+  /**
+   * Method responsible for search merchant orders without blocking the calling thread.
+   *
+   * @param request attributes used to search merchant order
+   * @return future of the list of results
+   */
+  public CompletableFuture<MPElementsResourcesPage<MerchantOrder>> searchAsync(
+      MPSearchRequest request) {
+    return this.searchAsync(request, null);
+  }
+
+  /**
+   * Method responsible for search merchant orders without blocking the calling thread.
+   *
+   * @param request attributes used to search merchant order
+   * @param requestOptions metadata to customize the request
+   * @return future of the list of results
+   */
+  public CompletableFuture<MPElementsResourcesPage<MerchantOrder>> searchAsync(
+      MPSearchRequest request, MPRequestOptions requestOptions) {
+    LOGGER.info("Sending search merchant order request");
+    Type responseType = new TypeToken<MPElementsResourcesPage<MerchantOrder>>() {}.getType();
 
-    return result;
+    return mapAsync(
+        searchAsync("/merchant_orders/search", request, requestOptions),
+        response -> {
+          MPElementsResourcesPage<MerchantOrder> result =
+              deserializeElementsResourcesPageFromJson(responseType, response);
+          result.setResponse(response);
+          return result;
+        });
   }
 }
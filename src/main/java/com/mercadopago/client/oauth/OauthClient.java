@@ -1,10 +1,9 @@
 package com.mercadopago.client.oauth;
 
-import static com.mercadopago.MercadoPagoConfig.getStreamHandler;
-
-import com.mercadopago.MercadoPagoConfig;
+import com.mercadopago.MercadoPagoContext;
 import com.mercadopago.client.MercadoPagoClient;
 import com.mercadopago.client.user.UserClient;
+import com.mercadopago.core.MPLogging;
 import com.mercadopago.core.MPRequestOptions;
 import com.mercadopago.exceptions.MPApiException;
 import com.mercadopago.exceptions.MPException;
@@ -19,8 +18,9 @@ import com.mercadopago.resources.user.User;
 import com.mercadopago.serialization.Serializer;
 import java.util.HashMap;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
-import java.util.logging.StreamHandler;
 
 /** Client responsible for performing oauth authorization. */
 public class OauthClient extends MercadoPagoClient {
@@ -34,11 +34,7 @@ public class OauthClient extends MercadoPagoClient {
 
   /** Default constructor. Uses the default http client used by the SDK. */
   public OauthClient() {
-    this(MercadoPagoConfig.getHttpClient());
-    StreamHandler streamHandler = getStreamHandler();
-    streamHandler.setLevel(MercadoPagoConfig.getLoggingLevel());
-    LOGGER.addHandler(streamHandler);
-    LOGGER.setLevel(MercadoPagoConfig.getLoggingLevel());
+    this(MercadoPagoContext.getDefault());
   }
 
   /**
@@ -49,6 +45,18 @@ public class OauthClient extends MercadoPagoClient {
   public OauthClient(MPHttpClient httpClient) {
     super(httpClient);
     userClient = new UserClient(httpClient);
+    MPLogging.configure(LOGGER);
+  }
+
+  /**
+   * Constructor used for sending requests with the credentials and http clients of a context.
+   *
+   * @param context context
+   */
+  public OauthClient(MercadoPagoContext context) {
+    super(context);
+    userClient = new UserClient(context);
+    MPLogging.configure(LOGGER);
   }
 
   /**
@@ -65,7 +73,8 @@ public class OauthClient extends MercadoPagoClient {
   }
 
   /**
-   * Get URL for Oauth authorization.
+   * Get URL for Oauth authorization. The user lookup it needs is sent with the same request
+   * options, so a deadline set on them bounds the whole call.
    *
    * @param appId Id of the app
    * @param redirectUri URL for redirection after authorization
@@ -80,19 +89,43 @@ public class OauthClient extends MercadoPagoClient {
 
     User user = userClient.get(requestOptions);
 
-    if (Objects.isNull(user) || user.getCountryId().isEmpty()) {
-      return null;
-    }
+    return buildAuthorizationURL(user, appId, redirectUri);
+  }
 
-    HashMap<String, Object> queryParams = new HashMap<>();
-    queryParams.put("client_id", appId);
-    queryParams.put("response_type", "code");
-    queryParams.put("platform_id", "mp");
-    queryParams.put("redirect_uri", redirectUri);
+  /**
+   * Get URL for Oauth authorization without blocking the calling thread.
+   *
+   * @param appId Id of the app
+   * @param redirectUri URL for redirection after authorization
+   * @return future of the URL to perform authorization
+   */
+  public CompletableFuture<String> getAuthorizationURLAsync(String appId, String redirectUri) {
+    return this.getAuthorizationURLAsync(appId, redirectUri, null);
+  }
 
-    return UrlFormatter.format(
-        String.format("%s.%s/authorization", authHost, user.getCountryId().toLowerCase()),
-        queryParams);
+  /**
+   * Get URL for Oauth authorization without blocking the calling thread. A deadline set on the
+   * request options bounds the whole call.
+   *
+   * @param appId Id of the app
+   * @param redirectUri URL for redirection after authorization
+   * @param requestOptions metadata to customize the request
+   * @return future of the URL to perform authorization
+   */
+  public CompletableFuture<String> getAuthorizationURLAsync(
+      String appId, String redirectUri, MPRequestOptions requestOptions) {
+    LOGGER.info("Sending get oauth authorization url request");
+
+    return userClient
+        .getAsync(requestOptions)
+        .thenApply(
+            user -> {
+              try {
+                return buildAuthorizationURL(user, appId, redirectUri);
+              } catch (MPException e) {
+                throw new CompletionException(e);
+              }
+            });
   }
 
   /**
@@ -140,11 +173,7 @@ public class OauthClient extends MercadoPagoClient {
             path, HttpMethod.POST, Serializer.serializeToJson(request), null, requestOptions);
     MPResponse response = send(mpRequest);
 
-    CreateOauthCredential credential =
-        Serializer.deserializeFromJson(CreateOauthCredential.class, response.getContent());
-    credential.setResponse(response);
-
-    return credential;
+    return deserialize(CreateOauthCredential.class, response);
   }
 
   /**
@@ -186,16 +215,98 @@ public class OauthClient extends MercadoPagoClient {
         MPRequest.buildRequest(
             path, HttpMethod.POST, Serializer.serializeToJson(request), null, requestOptions);
     MPResponse response = send(mpRequest);
-    RefreshOauthCredential credential =
-        Serializer.deserializeFromJson(RefreshOauthCredential.class, response.getContent());
-    credential.setResponse(response);
+    return deserialize(RefreshOauthCredential.class, response);
+  }
+
+  /**
+   * Create Oauth credentials to operate on behalf of a seller without blocking the calling thread.
+   *
+   * @param authorizationCode authorization code received from calling getAuthorizationURL
+   * @param redirectUri the redirectUri received from calling getAuthorizationURL
+   * @return future of the Oauth credentials
+   */
+  public CompletableFuture<CreateOauthCredential> createCredentialAsync(
+      String authorizationCode, String redirectUri) {
+    return this.createCredentialAsync(authorizationCode, redirectUri, null);
+  }
+
+  /**
+   * Create Oauth credentials to operate on behalf of a seller without blocking the calling thread.
+   *
+   * @param authorizationCode authorization code received from calling getAuthorizationURL
+   * @param redirectUri the redirectUri received from calling getAuthorizationURL
+   * @param requestOptions metadata to customize the request
+   * @return future of the Oauth credentials
+   */
+  public CompletableFuture<CreateOauthCredential> createCredentialAsync(
+      String authorizationCode, String redirectUri, MPRequestOptions requestOptions) {
+    LOGGER.info("Sending create oauth credential request");
+    CreateOauthCredentialRequest request =
+        CreateOauthCredentialRequest.builder()
+            .clientSecret(getAccessToken(requestOptions))
+            .code(authorizationCode)
+            .redirectUri(redirectUri)
+            .build();
+    MPRequest mpRequest =
+        MPRequest.buildRequest(
+            path, HttpMethod.POST, Serializer.serializeToJson(request), null, requestOptions);
 
-    return credential;
+    return deserializeAsync(sendAsync(mpRequest, null), CreateOauthCredential.class);
+  }
+
+  /**
+   * Refresh Oauth credentials without blocking the calling thread.
+   *
+   * @param refreshToken refresh token received when you create credentials
+   * @return future of the new Oauth credentials
+   */
+  public CompletableFuture<RefreshOauthCredential> refreshCredentialAsync(String refreshToken) {
+    return this.refreshCredentialAsync(refreshToken, null);
+  }
+
+  /**
+   * Refresh Oauth credentials without blocking the calling thread.
+   *
+   * @param refreshToken refresh token received when you create credentials
+   * @param requestOptions metadata to customize the request
+   * @return future of the new Oauth credentials
+   */
+  public CompletableFuture<RefreshOauthCredential> refreshCredentialAsync(
+      String refreshToken, MPRequestOptions requestOptions) {
+    LOGGER.info("Sending refresh oauth credential request");
+    RefreshOauthCredentialRequest request =
+        RefreshOauthCredentialRequest.builder()
+            .clientSecret(getAccessToken(requestOptions))
+            .refreshToken(refreshToken)
+            .build();
+
+    MPRequest mpRequest =
+        MPRequest.buildRequest(
+            path, HttpMethod.POST, Serializer.serializeToJson(request), null, requestOptions);
+
+    return deserializeAsync(sendAsync(mpRequest, null), RefreshOauthCredential.class);
+  }
+
+  private String buildAuthorizationURL(User user, String appId, String redirectUri)
+      throws MPException {
+    if (Objects.isNull(user) || user.getCountryId().isEmpty()) {
+      return null;
+    }
+
+    HashMap<String, Object> queryParams = new HashMap<>();
+    queryParams.put("client_id", appId);
+    queryParams.put("response_type", "code");
+    queryParams.put("platform_id", "mp");
+    queryParams.put("redirect_uri", redirectUri);
+
+    return UrlFormatter.format(
+        String.format("%s.%s/authorization", authHost, user.getCountryId().toLowerCase()),
+        queryParams);
   }
 
   private String getAccessToken(MPRequestOptions requestOptions) {
     return Objects.isNull(requestOptions)
-        ? MercadoPagoConfig.getAccessToken()
+        ? context.getAccessToken()
         : requestOptions.getAccessToken();
   }
 }
@@ -1,19 +1,20 @@
 package com.mercadopago.client.order;
 
 import com.google.gson.JsonObject;
-import com.mercadopago.MercadoPagoConfig;
+import com.mercadopago.MercadoPagoContext;
 import com.mercadopago.client.MercadoPagoClient;
+import com.mercadopago.core.MPLogging;
 import com.mercadopago.core.MPRequestOptions;
 import com.mercadopago.exceptions.MPApiException;
 import com.mercadopago.exceptions.MPException;
 import com.mercadopago.net.*;
 import com.mercadopago.resources.order.*;
 import com.mercadopago.serialization.Serializer;
+import java.util.concurrent.CompletableFuture;
 import org.apache.commons.lang.StringUtils;
 
+import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.logging.StreamHandler;
-import static com.mercadopago.MercadoPagoConfig.getStreamHandler;
 
 /** Client that use the Order API */
 public class OrderClient extends MercadoPagoClient {
@@ -29,7 +30,7 @@ public class OrderClient extends MercadoPagoClient {
 
     /** Default constructor. Uses the default http client used by the SDK. */
     public OrderClient() {
-        this(MercadoPagoConfig.getHttpClient());
+        this(MercadoPagoContext.getDefault());
     }
 
     /**
@@ -39,10 +40,17 @@ public class OrderClient extends MercadoPagoClient {
      */
     public OrderClient(MPHttpClient httpClient) {
         super(httpClient);
-        StreamHandler streamHandler = getStreamHandler();
-        streamHandler.setLevel(MercadoPagoConfig.getLoggingLevel());
-        LOGGER.addHandler(streamHandler);
-        LOGGER.setLevel(MercadoPagoConfig.getLoggingLevel());
+        MPLogging.configure(LOGGER);
+    }
+
+    /**
+     * Constructor used for sending requests with the credentials and http clients of a context.
+     *
+     * @param context context
+     */
+    public OrderClient(MercadoPagoContext context) {
+        super(context);
+        MPLogging.configure(LOGGER);
     }
 
     /**
@@ -65,10 +73,7 @@ public class OrderClient extends MercadoPagoClient {
                 .build();
 
         MPResponse response = send(mpRequest, requestOptions);
-        Order result = Serializer.deserializeFromJson(Order.class, response.getContent());
-        result.setResponse(response);
-
-        return result;
+        return deserialize(Order.class, response);
     }
 
     /**
@@ -112,10 +117,7 @@ public class OrderClient extends MercadoPagoClient {
         String url = String.format(URL_WITH_ID, id);
         MPResponse response = send(url, HttpMethod.GET, null, null, requestOptions);
 
-        Order order = Serializer.deserializeFromJson(Order.class, response.getContent());
-        order.setResponse(response);
-
-        return order;
+        return deserialize(Order.class, response);
     }
 
     /**
@@ -147,9 +149,7 @@ public class OrderClient extends MercadoPagoClient {
         String url = String.format(URL_PROCESS, id);
         MPResponse response = send(url, HttpMethod.POST, null, null, requestOptions);
 
-        Order order = Serializer.deserializeFromJson(Order.class, response.getContent());
-        order.setResponse(response);
-        return order;
+        return deserialize(Order.class, response);
     }
 
     /**
@@ -174,10 +174,7 @@ public class OrderClient extends MercadoPagoClient {
 
         MPResponse response = send(mpRequest, requestOptions);
 
-        OrderTransaction order = Serializer.deserializeFromJson(OrderTransaction.class, response.getContent());
-        order.setResponse(response);
-
-        return order;
+        return deserialize(OrderTransaction.class, response);
     }
 
      /**
@@ -211,7 +208,7 @@ public class OrderClient extends MercadoPagoClient {
         validateTransactionID(transactionId);
 
         String url = String.format(URL_TRANSACTION_WITH_ID, orderId, transactionId);
-        LOGGER.fine("Update transaction URL: " + url);
+        LOGGER.log(Level.FINE, "Update transaction URL: {0}", url);
 
         MPRequest mpRequest = MPRequest.builder()
                 .uri(url)
@@ -220,9 +217,7 @@ public class OrderClient extends MercadoPagoClient {
                 .build();
 
         MPResponse response = send(mpRequest, requestOptions);
-        UpdateOrderTransaction order = Serializer.deserializeFromJson(UpdateOrderTransaction.class, response.getContent());
-        order.setResponse(response);
-        return order;
+        return deserialize(UpdateOrderTransaction.class, response);
     }
 
     /**
@@ -267,10 +262,7 @@ public class OrderClient extends MercadoPagoClient {
         String url = String.format(URL_CANCEL, orderId);
         MPResponse response = send(url, HttpMethod.POST, null, null, requestOptions);
         
-        Order order = Serializer.deserializeFromJson(Order.class, response.getContent());
-        order.setResponse(response);
-        
-        return order;
+        return deserialize(Order.class, response);
     }
 
     /**
@@ -301,10 +293,7 @@ public class OrderClient extends MercadoPagoClient {
         String url = String.format(URL_CAPTURE, orderId);
         MPResponse response = send(url, HttpMethod.POST, null, null, requestOptions);
 
-        Order order = Serializer.deserializeFromJson(Order.class, response.getContent());
-        order.setResponse(response);
-
-        return order;
+        return deserialize(Order.class, response);
     }
 
      /** Method responsible for deleting a transaction from the Order
@@ -324,12 +313,11 @@ public class OrderClient extends MercadoPagoClient {
         validateTransactionID(transactionId);
 
         String url = String.format(URL_TRANSACTION_WITH_ID, orderId, transactionId);
-        LOGGER.fine("Delete transaction URL: " + url);
+        LOGGER.log(Level.FINE, "Delete transaction URL: {0}", url);
 
         MPResponse response = send(url, HttpMethod.DELETE, null, null, requestOptions);
         OrderTransaction order = new OrderTransaction();
-        order.setResponse(response);
-        return order;
+        return attach(order, response);
     }
 
     /**
@@ -407,9 +395,7 @@ public class OrderClient extends MercadoPagoClient {
 
         MPResponse response = send(mpRequest, requestOptions);
 
-        Order order = Serializer.deserializeFromJson(Order.class, response.getContent());
-        order.setResponse(response);
-        return order;
+        return deserialize(Order.class, response);
     }
 
     void validateOrderID(String id) {
@@ -423,4 +409,59 @@ public class OrderClient extends MercadoPagoClient {
             throw new IllegalArgumentException("Transaction id cannot be null or empty");
         }
     }
+
+    /**
+     * Method responsible for creating order without blocking the calling thread
+     *
+     * @param request request
+     * @return future of the order response
+     */
+    public CompletableFuture<Order> createAsync(OrderCreateRequest request) {
+        return this.createAsync(request, null);
+    }
+
+    /**
+     * Method responsible for creating order with request options without blocking the calling thread
+     *
+     * @param request request
+     * @param requestOptions metadata to customize the request
+     * @return future of the order response
+     */
+    public CompletableFuture<Order> createAsync(OrderCreateRequest request, MPRequestOptions requestOptions) {
+        LOGGER.info("Sending order creation request");
+
+        MPRequest mpRequest = MPRequest.builder()
+                .uri("/v1/orders")
+                .method(HttpMethod.POST)
+                .payload(Serializer.serializeToJson(request))
+                .build();
+
+        return deserializeAsync(sendAsync(mpRequest, requestOptions), Order.class);
+    }
+
+    /**
+     * Method responsible for obtaining order by id without blocking the calling thread
+     *
+     * @param id orderId
+     * @return future of the order response
+     */
+    public CompletableFuture<Order> getAsync(String id) {
+        return this.getAsync(id, null);
+    }
+
+    /**
+     * Method responsible for obtaining order by id with request options without blocking the calling thread
+     *
+     * @param id orderId
+     * @param requestOptions metadata to customize the request
+     * @return future of the order response
+     */
+    public CompletableFuture<Order> getAsync(String id, MPRequestOptions requestOptions) {
+        LOGGER.info("Sending order get request");
+
+        validateOrderID(id);
+
+        String url = String.format(URL_WITH_ID, id);
+        return deserializeAsync(sendAsync(url, HttpMethod.GET, null, null, requestOptions), Order.class);
+    }
 }
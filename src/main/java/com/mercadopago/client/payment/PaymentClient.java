@@ -1,12 +1,11 @@
 package com.mercadopago.client.payment;
 
-import static com.mercadopago.MercadoPagoConfig.getStreamHandler;
-import static com.mercadopago.serialization.Serializer.deserializeFromJson;
 import static com.mercadopago.serialization.Serializer.deserializeResultsResourcesPageFromJson;
 
 import com.google.gson.reflect.TypeToken;
-import com.mercadopago.MercadoPagoConfig;
+import com.mercadopago.MercadoPagoContext;
 import com.mercadopago.client.MercadoPagoClient;
+import com.mercadopago.core.MPLogging;
 import com.mercadopago.core.MPRequestOptions;
 import com.mercadopago.exceptions.MPApiException;
 import com.mercadopago.exceptions.MPException;
@@ -23,8 +22,8 @@ import com.mercadopago.serialization.Serializer;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
-import java.util.logging.StreamHandler;
 
 /** Client responsible for performing payment actions. */
 public class PaymentClient extends MercadoPagoClient {
@@ -36,7 +35,7 @@ public class PaymentClient extends MercadoPagoClient {
 
   /** Default constructor. Uses the default http client used by the SDK. */
   public PaymentClient() {
-    this(MercadoPagoConfig.getHttpClient());
+    this(MercadoPagoContext.getDefault());
   }
 
   /**
@@ -47,10 +46,18 @@ public class PaymentClient extends MercadoPagoClient {
   public PaymentClient(MPHttpClient httpClient) {
     super(httpClient);
     refundClient = new PaymentRefundClient(httpClient);
-    StreamHandler streamHandler = getStreamHandler();
-    streamHandler.setLevel(MercadoPagoConfig.getLoggingLevel());
-    LOGGER.addHandler(streamHandler);
-    LOGGER.setLevel(MercadoPagoConfig.getLoggingLevel());
+    MPLogging.configure(LOGGER);
+  }
+
+  /**
+   * Constructor used for sending requests with the credentials and http clients of a context.
+   *
+   * @param context context
+   */
+  public PaymentClient(MercadoPagoContext context) {
+    super(context);
+    refundClient = new PaymentRefundClient(context);
+    MPLogging.configure(LOGGER);
   }
 
   /**
@@ -77,10 +84,7 @@ public class PaymentClient extends MercadoPagoClient {
     MPResponse response =
         send(String.format(URL_WITH_ID, id.toString()), HttpMethod.GET, null, null, requestOptions);
 
-    Payment result = deserializeFromJson(Payment.class, response.getContent());
-    result.setResponse(response);
-
-    return result;
+    return deserialize(Payment.class, response);
   }
 
   /**
@@ -114,10 +118,7 @@ public class PaymentClient extends MercadoPagoClient {
             .build();
 
     MPResponse response = send(mpRequest, requestOptions);
-    Payment result = deserializeFromJson(Payment.class, response.getContent());
-    result.setResponse(response);
-
-    return result;
+    return deserialize(Payment.class, response);
   }
 
   /**
@@ -151,10 +152,7 @@ public class PaymentClient extends MercadoPagoClient {
             new HashMap<>(),
             requestOptions);
 
-    Payment result = deserializeFromJson(Payment.class, response.getContent());
-    result.setResponse(response);
-
-    return result;
+    return deserialize(Payment.class, response);
   }
 
   /**
@@ -216,10 +214,7 @@ public class PaymentClient extends MercadoPagoClient {
             new HashMap<>(),
             requestOptions);
 
-    Payment result = deserializeFromJson(Payment.class, response.getContent());
-    result.setResponse(response);
-
-    return result;
+    return deserialize(Payment.class, response);
   }
 
   /**
@@ -249,10 +244,8 @@ public class PaymentClient extends MercadoPagoClient {
 
     Type responseType = new TypeToken<MPResultsResourcesPage<Payment>>() {}.getType();
     MPResultsResourcesPage<Payment> result =
-        deserializeResultsResourcesPageFromJson(responseType, response.getContent());
-    result.setResponse(response);
-
-    return result;
+        deserializeResultsResourcesPageFromJson(responseType, response);
+    return attach(result, response);
   }
 
   /**
@@ -356,4 +349,93 @@ public class PaymentClient extends MercadoPagoClient {
       throws MPException, MPApiException {
     return refundClient.list(paymentId, requestOptions);
   }
+
+  /**
+   * Method responsible for getting payment without blocking the calling thread.
+   *
+   * @param id paymentId
+   * @return future of the payment
+   */
+  public CompletableFuture<Payment> getAsync(Long id) {
+    return this.getAsync(id, null);
+  }
+
+  /**
+   * Method responsible for getting payment without blocking the calling thread.
+   *
+   * @param id paymentId
+   * @param requestOptions metadata to customize the request
+   * @return future of the payment
+   */
+  public CompletableFuture<Payment> getAsync(Long id, MPRequestOptions requestOptions) {
+    LOGGER.info("Sending get payment request");
+    return deserializeAsync(
+        sendAsync(
+            String.format(URL_WITH_ID, id.toString()), HttpMethod.GET, null, null, requestOptions),
+        Payment.class);
+  }
+
+  /**
+   * Method responsible for creating payment without blocking the calling thread.
+   *
+   * @param request request
+   * @return future of the payment response
+   */
+  public CompletableFuture<Payment> createAsync(PaymentCreateRequest request) {
+    return this.createAsync(request, null);
+  }
+
+  /**
+   * Method responsible for creating payment with request options without blocking the calling
+   * thread.
+   *
+   * @param request request
+   * @param requestOptions metadata to customize the request
+   * @return future of the payment response
+   */
+  public CompletableFuture<Payment> createAsync(
+      PaymentCreateRequest request, MPRequestOptions requestOptions) {
+    LOGGER.info("Sending create payment request");
+
+    MPRequest mpRequest =
+        MPRequest.builder()
+            .uri("/v1/payments")
+            .method(HttpMethod.POST)
+            .payload(Serializer.serializeToJson(request))
+            .build();
+
+    return deserializeAsync(sendAsync(mpRequest, requestOptions), Payment.class);
+  }
+
+  /**
+   * Method responsible for search payments without blocking the calling thread.
+   *
+   * @param request search request information
+   * @return future of the list of results
+   */
+  public CompletableFuture<MPResultsResourcesPage<Payment>> searchAsync(MPSearchRequest request) {
+    return this.searchAsync(request, null);
+  }
+
+  /**
+   * Method responsible for search payments without blocking the calling thread.
+   *
+   * @param request search request information
+   * @param requestOptions metadata to customize the request
+   * @return future of the list of results
+   */
+  public CompletableFuture<MPResultsResourcesPage<Payment>> searchAsync(
+      MPSearchRequest request, MPRequestOptions requestOptions) {
+    LOGGER.info("Sending search payment request");
+    Type responseType = new TypeToken<MPResultsResourcesPage<Payment>>() {}.getType();
+
+    return mapAsync(
+        searchAsync("/v1/payments/search", request, requestOptions),
+        response -> {
+          MPResultsResourcesPage<Payment> result =
+              deserializeResultsResourcesPageFromJson(responseType, response);
+          result.setResponse(response);
+          return result;
+        });
+  }
 }
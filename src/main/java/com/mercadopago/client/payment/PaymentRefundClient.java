@@ -1,12 +1,11 @@
 package com.mercadopago.client.payment;
 
-import static com.mercadopago.MercadoPagoConfig.getStreamHandler;
-import static com.mercadopago.serialization.Serializer.deserializeFromJson;
 import static com.mercadopago.serialization.Serializer.deserializeListFromJson;
 import static com.mercadopago.serialization.Serializer.serializeToJson;
 
-import com.mercadopago.MercadoPagoConfig;
+import com.mercadopago.MercadoPagoContext;
 import com.mercadopago.client.MercadoPagoClient;
+import com.mercadopago.core.MPLogging;
 import com.mercadopago.core.MPRequestOptions;
 import com.mercadopago.exceptions.MPApiException;
 import com.mercadopago.exceptions.MPException;
@@ -16,8 +15,8 @@ import com.mercadopago.net.MPResourceList;
 import com.mercadopago.net.MPResponse;
 import com.mercadopago.resources.payment.PaymentRefund;
 import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
-import java.util.logging.StreamHandler;
 
 /** Client that use the Payment Refunds APIs. */
 public class PaymentRefundClient extends MercadoPagoClient {
@@ -28,7 +27,7 @@ public class PaymentRefundClient extends MercadoPagoClient {
 
   /** Default constructor. Uses the default http client used by the SDK. */
   public PaymentRefundClient() {
-    this(MercadoPagoConfig.getHttpClient());
+    this(MercadoPagoContext.getDefault());
   }
 
   /**
@@ -38,10 +37,17 @@ public class PaymentRefundClient extends MercadoPagoClient {
    */
   public PaymentRefundClient(MPHttpClient httpClient) {
     super(httpClient);
-    StreamHandler streamHandler = getStreamHandler();
-    streamHandler.setLevel(MercadoPagoConfig.getLoggingLevel());
-    LOGGER.addHandler(streamHandler);
-    LOGGER.setLevel(MercadoPagoConfig.getLoggingLevel());
+    MPLogging.configure(LOGGER);
+  }
+
+  /**
+   * Constructor used for sending requests with the credentials and http clients of a context.
+   *
+   * @param context context
+   */
+  public PaymentRefundClient(MercadoPagoContext context) {
+    super(context);
+    MPLogging.configure(LOGGER);
   }
 
   /**
@@ -115,10 +121,7 @@ public class PaymentRefundClient extends MercadoPagoClient {
             serializeToJson(request),
             null,
             requestOptions);
-    PaymentRefund result = deserializeFromJson(PaymentRefund.class, response.getContent());
-    result.setResponse(response);
-
-    return result;
+    return deserialize(PaymentRefund.class, response);
   }
 
   /**
@@ -158,10 +161,7 @@ public class PaymentRefundClient extends MercadoPagoClient {
             null,
             null,
             requestOptions);
-    PaymentRefund result = deserializeFromJson(PaymentRefund.class, response.getContent());
-    result.setResponse(response);
-
-    return result;
+    return deserialize(PaymentRefund.class, response);
   }
 
   /**
@@ -200,9 +200,109 @@ public class PaymentRefundClient extends MercadoPagoClient {
             null,
             requestOptions);
     MPResourceList<PaymentRefund> result =
-        deserializeListFromJson(PaymentRefund.class, response.getContent());
-    result.setResponse(response);
+        deserializeListFromJson(PaymentRefund.class, response);
+    return attach(result, response);
+  }
 
-    return result;
+  /**
+   * Creates a refund for payment without blocking the calling thread.
+   *
+   * @param paymentId payment id
+   * @param amount refund amount, or null for a total refund
+   * @return future of the refund information
+   */
+  public CompletableFuture<PaymentRefund> refundAsync(Long paymentId, BigDecimal amount) {
+    return this.refundAsync(paymentId, amount, null);
+  }
+
+  /**
+   * Creates a refund for payment without blocking the calling thread.
+   *
+   * @param paymentId payment id
+   * @param amount refund amount, or null for a total refund
+   * @param requestOptions metadata to customize the request
+   * @return future of the refund information
+   */
+  public CompletableFuture<PaymentRefund> refundAsync(
+      Long paymentId, BigDecimal amount, MPRequestOptions requestOptions) {
+    LOGGER.info("Sending refund payment request");
+    PaymentRefundCreateRequest request =
+        PaymentRefundCreateRequest.builder().amount(amount).build();
+
+    return deserializeAsync(
+        sendAsync(
+            String.format(URL_WITH_PAYMENT_ID, paymentId),
+            HttpMethod.POST,
+            serializeToJson(request),
+            null,
+            requestOptions),
+        PaymentRefund.class);
+  }
+
+  /**
+   * Gets refund information by id from the payment without blocking the calling thread.
+   *
+   * @param paymentId payment id
+   * @param refundId refund id
+   * @return future of the refund information
+   */
+  public CompletableFuture<PaymentRefund> getAsync(Long paymentId, Long refundId) {
+    return this.getAsync(paymentId, refundId, null);
+  }
+
+  /**
+   * Gets refund information by id from the payment without blocking the calling thread.
+   *
+   * @param paymentId payment id
+   * @param refundId refund id
+   * @param requestOptions metadata to customize the request
+   * @return future of the refund information
+   */
+  public CompletableFuture<PaymentRefund> getAsync(
+      Long paymentId, Long refundId, MPRequestOptions requestOptions) {
+    LOGGER.info("Sending get refund payment request");
+    return deserializeAsync(
+        sendAsync(
+            String.format("/v1/payments/%s/refunds/%s", paymentId, refundId),
+            HttpMethod.GET,
+            null,
+            null,
+            requestOptions),
+        PaymentRefund.class);
+  }
+
+  /**
+   * Lists the refunds of the payment without blocking the calling thread.
+   *
+   * @param paymentId payment id
+   * @return future of the list of PaymentRefund
+   */
+  public CompletableFuture<MPResourceList<PaymentRefund>> listAsync(Long paymentId) {
+    return this.listAsync(paymentId, null);
+  }
+
+  /**
+   * Lists the refunds of the payment without blocking the calling thread.
+   *
+   * @param paymentId payment id
+   * @param requestOptions metadata to customize the request
+   * @return future of the list of PaymentRefund
+   */
+  public CompletableFuture<MPResourceList<PaymentRefund>> listAsync(
+      Long paymentId, MPRequestOptions requestOptions) {
+    LOGGER.info("Sending list refund payment request");
+    return mapAsync(
+        sendAsync(
+            String.format(URL_WITH_PAYMENT_ID, paymentId),
+            HttpMethod.GET,
+            null,
+            null,
+            requestOptions),
+        response -> {
+          MPResourceList<PaymentRefund> result =
+              deserializeListFromJson(PaymentRefund.class, response);
+          result.setResponse(response);
+          return result;
+        });
   }
 }
@@ -1,10 +1,10 @@
 package com.mercadopago.client.paymentmethod;
 
-import static com.mercadopago.MercadoPagoConfig.getStreamHandler;
 import static com.mercadopago.serialization.Serializer.deserializeListFromJson;
 
-import com.mercadopago.MercadoPagoConfig;
+import com.mercadopago.MercadoPagoContext;
 import com.mercadopago.client.MercadoPagoClient;
+import com.mercadopago.core.MPLogging;
 import com.mercadopago.core.MPRequestOptions;
 import com.mercadopago.exceptions.MPApiException;
 import com.mercadopago.exceptions.MPException;
@@ -14,7 +14,6 @@ import com.mercadopago.net.MPResourceList;
 import com.mercadopago.net.MPResponse;
 import com.mercadopago.resources.paymentmethod.PaymentMethod;
 import java.util.logging.Logger;
-import java.util.logging.StreamHandler;
 
 /** Client with methods of Payment Method APIs. */
 public class PaymentMethodClient extends MercadoPagoClient {
@@ -22,7 +21,7 @@ public class PaymentMethodClient extends MercadoPagoClient {
 
   /** Default constructor. Uses the default http client used by the SDK. */
   public PaymentMethodClient() {
-    this(MercadoPagoConfig.getHttpClient());
+    this(MercadoPagoContext.getDefault());
   }
 
   /**
@@ -32,10 +31,17 @@ public class PaymentMethodClient extends MercadoPagoClient {
    */
   public PaymentMethodClient(MPHttpClient httpClient) {
     super(httpClient);
-    StreamHandler streamHandler = getStreamHandler();
-    streamHandler.setLevel(MercadoPagoConfig.getLoggingLevel());
-    LOGGER.addHandler(streamHandler);
-    LOGGER.setLevel(MercadoPagoConfig.getLoggingLevel());
+    MPLogging.configure(LOGGER);
+  }
+
+  /**
+   * Constructor used for sending requests with the credentials and http clients of a context.
+   *
+   * @param context context
+   */
+  public PaymentMethodClient(MercadoPagoContext context) {
+    super(context);
+    MPLogging.configure(LOGGER);
   }
 
   /**
@@ -68,9 +74,7 @@ public class PaymentMethodClient extends MercadoPagoClient {
     MPResponse response = list("/v1/payment_methods", HttpMethod.GET, null, null, requestOptions);
 
     MPResourceList<PaymentMethod> paymentMethods =
-        deserializeListFromJson(PaymentMethod.class, response.getContent());
-    paymentMethods.setResponse(response);
-
-    return paymentMethods;
+        deserializeListFromJson(PaymentMethod.class, response);
+    return attach(paymentMethods, response);
   }
 }
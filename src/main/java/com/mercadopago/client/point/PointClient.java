@@ -1,10 +1,8 @@
 package com.mercadopago.client.point;
 
-import static com.mercadopago.MercadoPagoConfig.getStreamHandler;
-import static com.mercadopago.serialization.Serializer.deserializeFromJson;
-
-import com.mercadopago.MercadoPagoConfig;
+import com.mercadopago.MercadoPagoContext;
 import com.mercadopago.client.MercadoPagoClient;
+import com.mercadopago.core.MPLogging;
 import com.mercadopago.core.MPRequestOptions;
 import com.mercadopago.exceptions.MPApiException;
 import com.mercadopago.exceptions.MPException;
@@ -21,8 +19,8 @@ import com.mercadopago.resources.point.PointPaymentIntentList;
 import com.mercadopago.resources.point.PointSearchPaymentIntent;
 import com.mercadopago.resources.point.PointStatusPaymentIntent;
 import com.mercadopago.serialization.Serializer;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
-import java.util.logging.StreamHandler;
 
 /** Client that use the Point APIs. */
 public class PointClient extends MercadoPagoClient {
@@ -49,7 +47,7 @@ public class PointClient extends MercadoPagoClient {
 
   /** Default constructor. Uses the default http client used by the SDK. */
   public PointClient() {
-    this(MercadoPagoConfig.getHttpClient());
+    this(MercadoPagoContext.getDefault());
   }
 
   /**
@@ -59,10 +57,17 @@ public class PointClient extends MercadoPagoClient {
    */
   public PointClient(MPHttpClient httpClient) {
     super(httpClient);
-    StreamHandler streamHandler = getStreamHandler();
-    streamHandler.setLevel(MercadoPagoConfig.getLoggingLevel());
-    LOGGER.addHandler(streamHandler);
-    LOGGER.setLevel(MercadoPagoConfig.getLoggingLevel());
+    MPLogging.configure(LOGGER);
+  }
+
+  /**
+   * Constructor used for sending requests with the credentials and http clients of a context.
+   *
+   * @param context context
+   */
+  public PointClient(MercadoPagoContext context) {
+    super(context);
+    MPLogging.configure(LOGGER);
   }
 
   /**
@@ -106,11 +111,7 @@ public class PointClient extends MercadoPagoClient {
             .build();
 
     MPResponse response = send(mpRequest, requestOptions);
-    PointPaymentIntent result =
-        deserializeFromJson(PointPaymentIntent.class, response.getContent());
-    result.setResponse(response);
-
-    return result;
+    return deserialize(PointPaymentIntent.class, response);
   }
 
   /**
@@ -154,11 +155,7 @@ public class PointClient extends MercadoPagoClient {
             .build();
 
     MPResponse response = send(mpRequest, requestOptions);
-    PointPaymentIntentList result =
-        deserializeFromJson(PointPaymentIntentList.class, response.getContent());
-    result.setResponse(response);
-
-    return result;
+    return deserialize(PointPaymentIntentList.class, response);
   }
 
   /**
@@ -201,11 +198,7 @@ public class PointClient extends MercadoPagoClient {
             .build();
 
     MPResponse response = send(mpRequest, requestOptions);
-    PointCancelPaymentIntent result =
-        deserializeFromJson(PointCancelPaymentIntent.class, response.getContent());
-    result.setResponse(response);
-
-    return result;
+    return deserialize(PointCancelPaymentIntent.class, response);
   }
 
   /**
@@ -245,11 +238,7 @@ public class PointClient extends MercadoPagoClient {
             .build();
 
     MPResponse response = send(mpRequest, requestOptions);
-    PointSearchPaymentIntent result =
-        deserializeFromJson(PointSearchPaymentIntent.class, response.getContent());
-    result.setResponse(response);
-
-    return result;
+    return deserialize(PointSearchPaymentIntent.class, response);
   }
 
   /**
@@ -289,11 +278,7 @@ public class PointClient extends MercadoPagoClient {
             .build();
 
     MPResponse response = send(mpRequest, requestOptions);
-    PointStatusPaymentIntent result =
-        deserializeFromJson(PointStatusPaymentIntent.class, response.getContent());
-    result.setResponse(response);
-
-    return result;
+    return deserialize(PointStatusPaymentIntent.class, response);
   }
 
   /**
@@ -334,10 +319,7 @@ public class PointClient extends MercadoPagoClient {
             .build();
 
     MPResponse response = send(mpRequest, requestOptions);
-    PointDevices result = deserializeFromJson(PointDevices.class, response.getContent());
-    result.setResponse(response);
-
-    return result;
+    return deserialize(PointDevices.class, response);
   }
 
   /**
@@ -381,10 +363,105 @@ public class PointClient extends MercadoPagoClient {
             .build();
 
     MPResponse response = send(mpRequest, requestOptions);
-    PointDeviceOperatingMode result =
-        deserializeFromJson(PointDeviceOperatingMode.class, response.getContent());
-    result.setResponse(response);
+    return deserialize(PointDeviceOperatingMode.class, response);
+  }
+
+  /**
+   * Method responsible for creating a payment intent without blocking the calling thread.
+   *
+   * @param deviceId device id
+   * @param request attributes used to create a payment intent
+   * @return future of the payment intent information
+   */
+  public CompletableFuture<PointPaymentIntent> createPaymentIntentAsync(
+      String deviceId, PointPaymentIntentRequest request) {
+    return this.createPaymentIntentAsync(deviceId, request, null);
+  }
+
+  /**
+   * Method responsible for creating payment intent with request options without blocking the
+   * calling thread.
+   *
+   * @param deviceId device id
+   * @param request attributes used to create a payment intent
+   * @param requestOptions metadata to customize the request
+   * @return future of the payment intent information
+   */
+  public CompletableFuture<PointPaymentIntent> createPaymentIntentAsync(
+      String deviceId, PointPaymentIntentRequest request, MPRequestOptions requestOptions) {
+    LOGGER.info("Sending create point payment intent request");
+
+    MPRequest mpRequest =
+        MPRequest.builder()
+            .uri(String.format(PAYMENT_INTENT_URL, deviceId))
+            .method(HttpMethod.POST)
+            .payload(Serializer.serializeToJson(request))
+            .build();
+
+    return deserializeAsync(sendAsync(mpRequest, requestOptions), PointPaymentIntent.class);
+  }
+
+  /**
+   * Method responsible for getting a payment intent without blocking the calling thread.
+   *
+   * @param paymentIntentId payment intent id
+   * @return future of the payment intent
+   */
+  public CompletableFuture<PointSearchPaymentIntent> searchPaymentIntentAsync(
+      String paymentIntentId) {
+    return this.searchPaymentIntentAsync(paymentIntentId, null);
+  }
+
+  /**
+   * Method responsible for getting a payment intent without blocking the calling thread.
+   *
+   * @param paymentIntentId payment intent id
+   * @param requestOptions metadata to customize the request
+   * @return future of the payment intent
+   */
+  public CompletableFuture<PointSearchPaymentIntent> searchPaymentIntentAsync(
+      String paymentIntentId, MPRequestOptions requestOptions) {
+    LOGGER.info("Sending search point payment intent request");
+
+    MPRequest mpRequest =
+        MPRequest.builder()
+            .uri(String.format(PAYMENT_INTENT_SEARCH_URL, paymentIntentId))
+            .method(HttpMethod.GET)
+            .build();
+
+    return deserializeAsync(sendAsync(mpRequest, requestOptions), PointSearchPaymentIntent.class);
+  }
+
+  /**
+   * Method responsible for finding the last state of a payment intent without blocking the calling
+   * thread.
+   *
+   * @param paymentIntentId payment intent id
+   * @return future of the payment intent status
+   */
+  public CompletableFuture<PointStatusPaymentIntent> getPaymentIntentStatusAsync(
+      String paymentIntentId) {
+    return this.getPaymentIntentStatusAsync(paymentIntentId, null);
+  }
+
+  /**
+   * Method responsible for finding the last state of a payment intent without blocking the calling
+   * thread.
+   *
+   * @param paymentIntentId payment intent id
+   * @param requestOptions metadata to customize the request
+   * @return future of the payment intent status
+   */
+  public CompletableFuture<PointStatusPaymentIntent> getPaymentIntentStatusAsync(
+      String paymentIntentId, MPRequestOptions requestOptions) {
+    LOGGER.info("Sending get point payment intent status request");
+
+    MPRequest mpRequest =
+        MPRequest.builder()
+            .uri(String.format(PAYMENT_INTENT_STATUS_URL, paymentIntentId))
+            .method(HttpMethod.GET)
+            .build();
 
-    return result;
+    return deserializeAsync(sendAsync(mpRequest, requestOptions), PointStatusPaymentIntent.class);
   }
 }
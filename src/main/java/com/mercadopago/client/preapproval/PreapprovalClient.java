@@ -1,13 +1,12 @@
 package com.mercadopago.client.preapproval;
 
-import static com.mercadopago.MercadoPagoConfig.getStreamHandler;
-import static com.mercadopago.serialization.Serializer.deserializeFromJson;
 import static com.mercadopago.serialization.Serializer.deserializeResultsResourcesPageFromJson;
 import static com.mercadopago.serialization.Serializer.serializeToJson;
 
 import com.google.gson.reflect.TypeToken;
-import com.mercadopago.MercadoPagoConfig;
+import com.mercadopago.MercadoPagoContext;
 import com.mercadopago.client.MercadoPagoClient;
+import com.mercadopago.core.MPLogging;
 import com.mercadopago.core.MPRequestOptions;
 import com.mercadopago.exceptions.MPApiException;
 import com.mercadopago.exceptions.MPException;
@@ -18,8 +17,8 @@ import com.mercadopago.net.MPResultsResourcesPage;
 import com.mercadopago.net.MPSearchRequest;
 import com.mercadopago.resources.preapproval.Preapproval;
 import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
-import java.util.logging.StreamHandler;
 
 /** Client that use the Preapproval APIs. */
 public class PreapprovalClient extends MercadoPagoClient {
@@ -29,7 +28,7 @@ public class PreapprovalClient extends MercadoPagoClient {
 
   /** Default constructor. Uses the default http client used by the SDK. */
   public PreapprovalClient() {
-    this(MercadoPagoConfig.getHttpClient());
+    this(MercadoPagoContext.getDefault());
   }
 
   /**
@@ -39,10 +38,17 @@ public class PreapprovalClient extends MercadoPagoClient {
    */
   public PreapprovalClient(MPHttpClient httpClient) {
     super(httpClient);
-    StreamHandler streamHandler = getStreamHandler();
-    streamHandler.setLevel(MercadoPagoConfig.getLoggingLevel());
-    LOGGER.addHandler(streamHandler);
-    LOGGER.setLevel(MercadoPagoConfig.getLoggingLevel());
+    MPLogging.configure(LOGGER);
+  }
+
+  /**
+   * Constructor used for sending requests with the credentials and http clients of a context.
+   *
+   * @param context context
+   */
+  public PreapprovalClient(MercadoPagoContext context) {
+    super(context);
+    MPLogging.configure(LOGGER);
   }
 
   /**
@@ -70,10 +76,7 @@ public class PreapprovalClient extends MercadoPagoClient {
     MPResponse response =
         send(String.format(URL_WITH_ID, id), HttpMethod.GET, null, null, requestOptions);
 
-    Preapproval result = deserializeFromJson(Preapproval.class, response.getContent());
-    result.setResponse(response);
-
-    return result;
+    return deserialize(Preapproval.class, response);
   }
 
   /**
@@ -101,10 +104,7 @@ public class PreapprovalClient extends MercadoPagoClient {
     MPResponse response =
         send("/preapproval", HttpMethod.POST, serializeToJson(request), null, requestOptions);
 
-    Preapproval result = deserializeFromJson(Preapproval.class, response.getContent());
-    result.setResponse(response);
-
-    return result;
+    return deserialize(Preapproval.class, response);
   }
 
   /**
@@ -141,10 +141,7 @@ public class PreapprovalClient extends MercadoPagoClient {
             null,
             requestOptions);
 
-    Preapproval result = deserializeFromJson(Preapproval.class, response.getContent());
-    result.setResponse(response);
-
-    return result;
+    return deserialize(Preapproval.class, response);
   }
 
   /**
@@ -174,9 +171,89 @@ public class PreapprovalClient extends MercadoPagoClient {
 
     Type responseType = new TypeToken<MPResultsResourcesPage<Preapproval>>() {}.getType();
     MPResultsResourcesPage<Preapproval> result =
-        deserializeResultsResourcesPageFromJson(responseType, response.getContent());
-    result.setResponse(response);
+        deserializeResultsResourcesPageFromJson(responseType, response);
+    return attach(result, response);
+  }
+
+  /**
+   * Get a Preapproval by your ID without blocking the calling thread.
+   *
+   * @param id preapprovalId.
+   * @return future of the pre approval information
+   */
+  public CompletableFuture<Preapproval> getAsync(String id) {
+    return this.getAsync(id, null);
+  }
+
+  /**
+   * Get a Preapproval by your ID without blocking the calling thread.
+   *
+   * @param id preapprovalId.
+   * @param requestOptions metadata to customize the request
+   * @return future of the pre approval information
+   */
+  public CompletableFuture<Preapproval> getAsync(String id, MPRequestOptions requestOptions) {
+    LOGGER.info("Sending get preapproval request");
+    return deserializeAsync(
+        sendAsync(String.format(URL_WITH_ID, id), HttpMethod.GET, null, null, requestOptions),
+        Preapproval.class);
+  }
+
+  /**
+   * Creates a Preapproval without blocking the calling thread.
+   *
+   * @param request attributes used to create a preapproval
+   * @return future of the pre approval information
+   */
+  public CompletableFuture<Preapproval> createAsync(PreapprovalCreateRequest request) {
+    return this.createAsync(request, null);
+  }
+
+  /**
+   * Creates a Preapproval without blocking the calling thread.
+   *
+   * @param request attributes used to create a preapproval
+   * @param requestOptions metadata to customize the request
+   * @return future of the pre approval information
+   */
+  public CompletableFuture<Preapproval> createAsync(
+      PreapprovalCreateRequest request, MPRequestOptions requestOptions) {
+    LOGGER.info("Sending create preapproval request");
+    return deserializeAsync(
+        sendAsync("/preapproval", HttpMethod.POST, serializeToJson(request), null, requestOptions),
+        Preapproval.class);
+  }
+
+  /**
+   * Searches for Preapprovals without blocking the calling thread.
+   *
+   * @param request attributes used for the search
+   * @return future of the list of results
+   */
+  public CompletableFuture<MPResultsResourcesPage<Preapproval>> searchAsync(
+      MPSearchRequest request) {
+    return this.searchAsync(request, null);
+  }
+
+  /**
+   * Searches for Preapprovals without blocking the calling thread.
+   *
+   * @param request attributes used for the search
+   * @param requestOptions metadata to customize the request
+   * @return future of the list of results
+   */
+  public CompletableFuture<MPResultsResourcesPage<Preapproval>> searchAsync(
+      MPSearchRequest request, MPRequestOptions requestOptions) {
+    LOGGER.info("Sending search preapproval request");
+    Type responseType = new TypeToken<MPResultsResourcesPage<Preapproval>>() {}.getType();
 
-    return result;
+    return mapAsync(
+        searchAsync("/preapproval/search", request, requestOptions),
+        response -> {
+          MPResultsResourcesPage<Preapproval> result =
+              deserializeResultsResourcesPageFromJson(responseType, response);
+          result.setResponse(response);
+          return result;
+        });
   }
 }
@@ -1,12 +1,11 @@
 package com.mercadopago.client.preference;
 
-import static com.mercadopago.MercadoPagoConfig.getStreamHandler;
 import static com.mercadopago.serialization.Serializer.deserializeElementsResourcesPageFromJson;
-import static com.mercadopago.serialization.Serializer.deserializeFromJson;
 
 import com.google.gson.reflect.TypeToken;
-import com.mercadopago.MercadoPagoConfig;
+import com.mercadopago.MercadoPagoContext;
 import com.mercadopago.client.MercadoPagoClient;
+import com.mercadopago.core.MPLogging;
 import com.mercadopago.core.MPRequestOptions;
 import com.mercadopago.exceptions.MPApiException;
 import com.mercadopago.exceptions.MPException;
@@ -20,8 +19,8 @@ import com.mercadopago.resources.preference.Preference;
 import com.mercadopago.resources.preference.PreferenceSearch;
 import com.mercadopago.serialization.Serializer;
 import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
-import java.util.logging.StreamHandler;
 
 /** Client that use the Preferences APIs. */
 public class PreferenceClient extends MercadoPagoClient {
@@ -31,7 +30,7 @@ public class PreferenceClient extends MercadoPagoClient {
 
   /** Default constructor. Uses the default http client used by the SDK. */
   public PreferenceClient() {
-    this(MercadoPagoConfig.getHttpClient());
+    this(MercadoPagoContext.getDefault());
   }
 
   /**
@@ -41,10 +40,17 @@ public class PreferenceClient extends MercadoPagoClient {
    */
   public PreferenceClient(MPHttpClient httpClient) {
     super(httpClient);
-    StreamHandler streamHandler = getStreamHandler();
-    streamHandler.setLevel(MercadoPagoConfig.getLoggingLevel());
-    LOGGER.addHandler(streamHandler);
-    LOGGER.setLevel(MercadoPagoConfig.getLoggingLevel());
+    MPLogging.configure(LOGGER);
+  }
+
+  /**
+   * Constructor used for sending requests with the credentials and http clients of a context.
+   *
+   * @param context context
+   */
+  public PreferenceClient(MercadoPagoContext context) {
+    super(context);
+    MPLogging.configure(LOGGER);
   }
 
   /**
@@ -78,10 +84,7 @@ public class PreferenceClient extends MercadoPagoClient {
     MPResponse response =
         send(String.format(URL_WITH_ID, id), HttpMethod.GET, null, null, requestOptions);
 
-    Preference result = deserializeFromJson(Preference.class, response.getContent());
-    result.setResponse(response);
-
-    return result;
+    return deserialize(Preference.class, response);
   }
 
   /**
@@ -121,10 +124,7 @@ public class PreferenceClient extends MercadoPagoClient {
             .build();
 
     MPResponse response = send(mpRequest, requestOptions);
-    Preference result = deserializeFromJson(Preference.class, response.getContent());
-    result.setResponse(response);
-
-    return result;
+    return deserialize(Preference.class, response);
   }
 
   /**
@@ -167,10 +167,7 @@ public class PreferenceClient extends MercadoPagoClient {
             .build();
 
     MPResponse response = send(mpRequest, requestOptions);
-    Preference result = deserializeFromJson(Preference.class, response.getContent());
-    result.setResponse(response);
-
-    return result;
+    return deserialize(Preference.class, response);
   }
 
   /**
@@ -207,9 +204,95 @@ public class PreferenceClient extends MercadoPagoClient {
 
     Type responseType = new TypeToken<MPElementsResourcesPage<PreferenceSearch>>() {}.getType();
     MPElementsResourcesPage<PreferenceSearch> result =
-        deserializeElementsResourcesPageFromJson(responseType, response.getContent());
-    result.setResponse(response);
+        deserializeElementsResourcesPageFromJson(responseType, response);
+    return attach(result, response);
+  }
+
+  /**
+   * Method responsible for getting preference without blocking the calling thread.
+   *
+   * @param id preference id
+   * @return future of the preference information
+   */
+  public CompletableFuture<Preference> getAsync(String id) {
+    return this.getAsync(id, null);
+  }
+
+  /**
+   * Method responsible for getting preference without blocking the calling thread.
+   *
+   * @param id preference id
+   * @param requestOptions metadata to customize the request
+   * @return future of the preference information
+   */
+  public CompletableFuture<Preference> getAsync(String id, MPRequestOptions requestOptions) {
+    LOGGER.info("Sending get preference request");
+    return deserializeAsync(
+        sendAsync(String.format(URL_WITH_ID, id), HttpMethod.GET, null, null, requestOptions),
+        Preference.class);
+  }
+
+  /**
+   * Method responsible for creating preference without blocking the calling thread.
+   *
+   * @param request attributes used to create a preference
+   * @return future of the preference information
+   */
+  public CompletableFuture<Preference> createAsync(PreferenceRequest request) {
+    return this.createAsync(request, null);
+  }
+
+  /**
+   * Method responsible for creating preference without blocking the calling thread.
+   *
+   * @param request attributes used to create a preference
+   * @param requestOptions metadata to customize the request
+   * @return future of the preference information
+   */
+  public CompletableFuture<Preference> createAsync(
+      PreferenceRequest request, MPRequestOptions requestOptions) {
+    LOGGER.info("Sending create preference request");
+
+    MPRequest mpRequest =
+        MPRequest.builder()
+            .uri("/checkout/preferences")
+            .method(HttpMethod.POST)
+            .payload(Serializer.serializeToJson(request))
+            .build();
+
+    return deserializeAsync(sendAsync(mpRequest, requestOptions), Preference.class);
+  }
+
+  /**
+   * Method responsible for search preferences without blocking the calling thread.
+   *
+   * @param request attributes used to search preferences
+   * @return future of the list of results
+   */
+  public CompletableFuture<MPElementsResourcesPage<PreferenceSearch>> searchAsync(
+      MPSearchRequest request) {
+    return this.searchAsync(request, null);
+  }
+
+  /**
+   * Method responsible for search preferences without blocking the calling thread.
+   *
+   * @param request attributes used to search preferences
+   * @param requestOptions metadata to customize the request
+   * @return future of the list of results
+   */
+  public CompletableFuture<MPElementsResourcesPage<PreferenceSearch>> searchAsync(
+      MPSearchRequest request, MPRequestOptions requestOptions) {
+    LOGGER.info("Sending search preference request");
+    Type responseType = new TypeToken<MPElementsResourcesPage<PreferenceSearch>>() {}.getType();
 
-    return result;
+    return mapAsync(
+        searchAsync("/checkout/preferences/search", request, requestOptions),
+        response -> {
+          MPElementsResourcesPage<PreferenceSearch> result =
+              deserializeElementsResourcesPageFromJson(responseType, response);
+          result.setResponse(response);
+          return result;
+        });
   }
 }
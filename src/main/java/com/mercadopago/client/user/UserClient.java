@@ -1,9 +1,8 @@
 package com.mercadopago.client.user;
 
-import static com.mercadopago.MercadoPagoConfig.getStreamHandler;
-
-import com.mercadopago.MercadoPagoConfig;
+import com.mercadopago.MercadoPagoContext;
 import com.mercadopago.client.MercadoPagoClient;
+import com.mercadopago.core.MPLogging;
 import com.mercadopago.core.MPRequestOptions;
 import com.mercadopago.exceptions.MPApiException;
 import com.mercadopago.exceptions.MPException;
@@ -11,9 +10,8 @@ import com.mercadopago.net.HttpMethod;
 import com.mercadopago.net.MPHttpClient;
 import com.mercadopago.net.MPResponse;
 import com.mercadopago.resources.user.User;
-import com.mercadopago.serialization.Serializer;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
-import java.util.logging.StreamHandler;
 
 /** Client to get user information. */
 public class UserClient extends MercadoPagoClient {
@@ -21,7 +19,7 @@ public class UserClient extends MercadoPagoClient {
 
   /** Default constructor. Uses the default http client used by the SDK */
   public UserClient() {
-    this(MercadoPagoConfig.getHttpClient());
+    this(MercadoPagoContext.getDefault());
   }
 
   /**
@@ -31,10 +29,17 @@ public class UserClient extends MercadoPagoClient {
    */
   public UserClient(MPHttpClient httpClient) {
     super(httpClient);
-    StreamHandler streamHandler = getStreamHandler();
-    streamHandler.setLevel(MercadoPagoConfig.getLoggingLevel());
-    LOGGER.addHandler(streamHandler);
-    LOGGER.setLevel(MercadoPagoConfig.getLoggingLevel());
+    MPLogging.configure(LOGGER);
+  }
+
+  /**
+   * Constructor used for sending requests with the credentials and http clients of a context.
+   *
+   * @param context context
+   */
+  public UserClient(MercadoPagoContext context) {
+    super(context);
+    MPLogging.configure(LOGGER);
   }
 
   /**
@@ -57,8 +62,27 @@ public class UserClient extends MercadoPagoClient {
   public User get(MPRequestOptions requestOptions) throws MPException, MPApiException {
     LOGGER.info("Sending get user request");
     MPResponse response = send("/users/me", HttpMethod.GET, null, null, requestOptions);
-    User user = Serializer.deserializeFromJson(User.class, response.getContent());
-    user.setResponse(response);
-    return user;
+    return deserialize(User.class, response);
+  }
+
+  /**
+   * Get user information without blocking the calling thread.
+   *
+   * @return future of the user information
+   */
+  public CompletableFuture<User> getAsync() {
+    return this.getAsync(null);
+  }
+
+  /**
+   * Get user information with custom attributes on request without blocking the calling thread.
+   *
+   * @param requestOptions metadata to customize the request
+   * @return future of the user information
+   */
+  public CompletableFuture<User> getAsync(MPRequestOptions requestOptions) {
+    LOGGER.info("Sending get user request");
+    return deserializeAsync(
+        sendAsync("/users/me", HttpMethod.GET, null, null, requestOptions), User.class);
   }
 }
@@ -0,0 +1,112 @@
+package com.mercadopago.core;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * Handler publishing records to another handler from a background daemon thread, so the threads
+ * sending requests never wait on the delegate's stream. Records are dropped, and counted, while
+ * the queue is full. The worker thread starts with the first published record. The delegate may be
+ * replaced, so a single worker serves every handler configured in turn.
+ */
+final class AsyncLogHandler extends Handler {
+  private volatile Handler delegate;
+
+  private final BlockingQueue<LogRecord> queue;
+
+  private final LongAdder droppedRecords = new LongAdder();
+
+  private final ReentrantLock startLock = new ReentrantLock();
+
+  private volatile Thread worker;
+
+  AsyncLogHandler(Handler delegate, int capacity) {
+    this.delegate = delegate;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+  }
+
+  Handler getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * Publishes the following records, and those still queued, to another handler. The previous
+   * delegate is flushed and left open.
+   *
+   * @param delegate handler
+   */
+  void setDelegate(Handler delegate) {
+    Handler previous = this.delegate;
+    this.delegate = delegate;
+    previous.flush();
+  }
+
+  long getDroppedRecords() {
+    return droppedRecords.sum();
+  }
+
+  @Override
+  public void publish(LogRecord record) {
+    if (!isLoggable(record)) {
+      return;
+    }
+    // The caller is inferred from the stack on first access, which must happen on this thread.
+    record.getSourceMethodName();
+    if (!queue.offer(record)) {
+      droppedRecords.increment();
+      return;
+    }
+    if (Objects.isNull(worker)) {
+      start();
+    }
+  }
+
+  @Override
+  public void flush() {
+    delegate.flush();
+  }
+
+  /** Publishes the queued records on the calling thread. The delegate is left open. */
+  @Override
+  public void close() {
+    LogRecord record;
+    while (Objects.nonNull(record = queue.poll())) {
+      delegate.publish(record);
+    }
+    delegate.flush();
+  }
+
+  private void start() {
+    startLock.lock();
+    try {
+      if (Objects.isNull(worker)) {
+        Thread thread = new Thread(this::drain, "mercadopago-logging");
+        thread.setDaemon(true);
+        thread.start();
+        worker = thread;
+      }
+    } finally {
+      startLock.unlock();
+    }
+  }
+
+  private void drain() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        LogRecord record = queue.take();
+        Handler handler = delegate;
+        handler.publish(record);
+        if (queue.isEmpty()) {
+          handler.flush();
+        }
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.mercadopago.core;
+
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.util.concurrent.CompletableFuture;
+
+/** Rest of the interceptor chain of a non-blocking request. */
+public interface MPAsyncInterceptorChain {
+
+  /**
+   * Request as passed by the previous interceptor.
+   *
+   * @return request
+   */
+  MPRequest getRequest();
+
+  /**
+   * Calls the next interceptor, or sends the request after the last one.
+   *
+   * @param request request to pass along, possibly rewritten
+   * @return future of the response
+   */
+  CompletableFuture<MPResponse> proceed(MPRequest request);
+}
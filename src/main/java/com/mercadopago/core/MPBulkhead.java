@@ -0,0 +1,170 @@
+package com.mercadopago.core;
+
+import com.mercadopago.exceptions.MPBulkheadFullException;
+import com.mercadopago.exceptions.MPConcurrencyLimitExceededException;
+import com.mercadopago.exceptions.MPDeadlineExceededException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+
+/**
+ * Named cap on the concurrent calls of a group of operations, with its own bounded queue. Created
+ * by {@link MPBulkheadPolicy}, so a slow group of operations only exhausts its own slots.
+ */
+public class MPBulkhead {
+  @Getter private final String name;
+
+  @Getter private final int maxConcurrentCalls;
+
+  /** Fixed limit: the slots are always released without adjusting it. */
+  private final MPConcurrencyLimiter slots;
+
+  private final LongAdder acceptedCalls = new LongAdder();
+
+  private final LongAdder queueTimeMillis = new LongAdder();
+
+  private final LongAccumulator maxQueueTimeMillis = new LongAccumulator(Math::max, 0);
+
+  MPBulkhead(String name, int maxConcurrentCalls, int maxQueueSize, long maxQueueWaitMillis) {
+    this.name = name;
+    this.maxConcurrentCalls = maxConcurrentCalls;
+    this.slots =
+        MPConcurrencyLimiter.builder()
+            .initialLimit(maxConcurrentCalls)
+            .minLimit(maxConcurrentCalls)
+            .maxLimit(maxConcurrentCalls)
+            .maxQueueSize(maxQueueSize)
+            .maxQueueWaitMillis(maxQueueWaitMillis)
+            .build();
+  }
+
+  /**
+   * Calls running.
+   *
+   * @return in-flight calls
+   */
+  public int getInFlight() {
+    return slots.getInFlight();
+  }
+
+  /**
+   * Calls waiting for a slot.
+   *
+   * @return queue depth
+   */
+  public int getQueueDepth() {
+    return slots.getQueueDepth();
+  }
+
+  /**
+   * Calls that got a slot.
+   *
+   * @return accepted calls
+   */
+  public long getAcceptedCalls() {
+    return acceptedCalls.sum();
+  }
+
+  /**
+   * Calls rejected with an {@link MPBulkheadFullException}.
+   *
+   * @return rejected calls
+   */
+  public long getRejectedCalls() {
+    return slots.getRejected();
+  }
+
+  /**
+   * Average time accepted calls waited for their slot.
+   *
+   * @return average queue time in milliseconds
+   */
+  public double getAverageQueueTimeMillis() {
+    long accepted = acceptedCalls.sum();
+    return accepted == 0 ? 0 : (double) queueTimeMillis.sum() / accepted;
+  }
+
+  /**
+   * Longest time a call waited for its slot.
+   *
+   * @return max queue time in milliseconds
+   */
+  public long getMaxQueueTimeMillis() {
+    return maxQueueTimeMillis.get();
+  }
+
+  /**
+   * Takes a slot, waiting in the queue if needed, for no longer than the deadline allows.
+   *
+   * @param deadline deadline of the call, may be null
+   * @throws MPBulkheadFullException if no slot frees up within the queue wait
+   * @throws MPDeadlineExceededException if the deadline passed while waiting
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  void acquire(MPDeadline deadline)
+      throws MPBulkheadFullException, MPDeadlineExceededException, InterruptedException {
+    long start = System.nanoTime();
+    try {
+      slots.acquire(deadline);
+    } catch (MPConcurrencyLimitExceededException ex) {
+      throw new MPBulkheadFullException(name, maxConcurrentCalls);
+    }
+    accepted(start);
+  }
+
+  /**
+   * Takes a slot without blocking.
+   *
+   * @param deadline deadline of the call, may be null
+   * @return future completed once a slot is granted, or exceptionally with an {@link
+   *     MPBulkheadFullException} or, when the deadline passes first, an {@link
+   *     MPDeadlineExceededException}
+   */
+  CompletableFuture<Void> acquireAsync(MPDeadline deadline) {
+    long start = System.nanoTime();
+    CompletableFuture<Void> slot = slots.acquireAsync(deadline);
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    slot.whenComplete(
+        (granted, throwable) -> {
+          if (throwable == null) {
+            accepted(start);
+            if (!result.complete(null)) {
+              release();
+            }
+          } else if (unwrap(throwable) instanceof MPConcurrencyLimitExceededException) {
+            result.completeExceptionally(new MPBulkheadFullException(name, maxConcurrentCalls));
+          } else {
+            result.completeExceptionally(unwrap(throwable));
+          }
+        });
+    result.whenComplete(
+        (granted, throwable) -> {
+          if (result.isCancelled()) {
+            slot.cancel(false);
+          }
+        });
+    return result;
+  }
+
+  /** Frees a slot. */
+  void release() {
+    slots.releaseWithoutSample();
+  }
+
+  private void accepted(long start) {
+    long waited = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    acceptedCalls.increment();
+    queueTimeMillis.add(waited);
+    maxQueueTimeMillis.accumulate(waited);
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    if (throwable instanceof CompletionException && throwable.getCause() != null) {
+      return throwable.getCause();
+    }
+    return throwable;
+  }
+}
@@ -0,0 +1,92 @@
+package com.mercadopago.core;
+
+import com.mercadopago.net.MPAsyncHttpClient;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Async Http Client that runs the requests of another client in the bulkheads of a {@link
+ * MPBulkheadPolicy}. Requests waiting for a slot do not block the caller, and complete
+ * exceptionally with an {@link com.mercadopago.exceptions.MPBulkheadFullException} when none frees
+ * up in time. Cancelling the returned future gives up the place in the queue or cancels the
+ * request.
+ */
+public class MPBulkheadAsyncHttpClient implements MPAsyncHttpClient {
+  private final MPAsyncHttpClient delegate;
+
+  private final MPBulkheadPolicy bulkheadPolicy;
+
+  /**
+   * MPBulkheadAsyncHttpClient constructor.
+   *
+   * @param delegate client sending the requests
+   * @param bulkheadPolicy bulkhead policy
+   */
+  public MPBulkheadAsyncHttpClient(MPAsyncHttpClient delegate, MPBulkheadPolicy bulkheadPolicy) {
+    this.delegate = delegate;
+    this.bulkheadPolicy = bulkheadPolicy;
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> type) {
+    return type.isInstance(this) ? type.cast(this) : delegate.unwrap(type);
+  }
+
+  @Override
+  public CompletableFuture<MPResponse> sendAsync(MPRequest request) {
+    MPBulkhead bulkhead = bulkheadPolicy.bulkheadFor(request);
+    if (Objects.isNull(bulkhead)) {
+      return delegate.sendAsync(request);
+    }
+
+    CompletableFuture<MPResponse> result = new CompletableFuture<>();
+    CompletableFuture<Void> slot = bulkhead.acquireAsync(request.getDeadline());
+    slot.whenComplete(
+        (granted, rejection) -> {
+          if (rejection != null) {
+            result.completeExceptionally(unwrap(rejection));
+          } else if (result.isDone()) {
+            bulkhead.release();
+          } else {
+            send(request, bulkhead, result);
+          }
+        });
+    result.whenComplete(
+        (response, throwable) -> {
+          if (result.isCancelled()) {
+            slot.cancel(false);
+          }
+        });
+    return result;
+  }
+
+  private void send(
+      MPRequest request, MPBulkhead bulkhead, CompletableFuture<MPResponse> result) {
+    CompletableFuture<MPResponse> execution = delegate.sendAsync(request);
+    execution.whenComplete(
+        (response, throwable) -> {
+          bulkhead.release();
+          if (throwable != null) {
+            result.completeExceptionally(unwrap(throwable));
+          } else {
+            result.complete(response);
+          }
+        });
+    result.whenComplete(
+        (response, throwable) -> {
+          if (result.isCancelled()) {
+            execution.cancel(true);
+          }
+        });
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    if (throwable instanceof CompletionException && throwable.getCause() != null) {
+      return throwable.getCause();
+    }
+    return throwable;
+  }
+}
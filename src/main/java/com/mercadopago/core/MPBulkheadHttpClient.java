@@ -0,0 +1,55 @@
+package com.mercadopago.core;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPException;
+import com.mercadopago.net.MPHttpClient;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.util.Objects;
+
+/**
+ * Http Client that runs the requests of another client in the bulkheads of a {@link
+ * MPBulkheadPolicy}, failing with an {@link com.mercadopago.exceptions.MPBulkheadFullException}
+ * when the bulkhead of a request stays full for the whole queue wait.
+ */
+public class MPBulkheadHttpClient implements MPHttpClient {
+  private final MPHttpClient delegate;
+
+  private final MPBulkheadPolicy bulkheadPolicy;
+
+  /**
+   * MPBulkheadHttpClient constructor.
+   *
+   * @param delegate client sending the requests
+   * @param bulkheadPolicy bulkhead policy
+   */
+  public MPBulkheadHttpClient(MPHttpClient delegate, MPBulkheadPolicy bulkheadPolicy) {
+    this.delegate = delegate;
+    this.bulkheadPolicy = bulkheadPolicy;
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> type) {
+    return type.isInstance(this) ? type.cast(this) : delegate.unwrap(type);
+  }
+
+  @Override
+  public MPResponse send(MPRequest request) throws MPException, MPApiException {
+    MPBulkhead bulkhead = bulkheadPolicy.bulkheadFor(request);
+    if (Objects.isNull(bulkhead)) {
+      return delegate.send(request);
+    }
+
+    try {
+      bulkhead.acquire(request.getDeadline());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new MPException(ex);
+    }
+    try {
+      return delegate.send(request);
+    } finally {
+      bulkhead.release();
+    }
+  }
+}
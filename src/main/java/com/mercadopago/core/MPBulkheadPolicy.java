@@ -0,0 +1,163 @@
+package com.mercadopago.core;
+
+import com.mercadopago.net.HttpMethod;
+import com.mercadopago.net.MPRequest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Bulkheads applied by {@link MPBulkheadHttpClient} and {@link MPBulkheadAsyncHttpClient}, declared
+ * as a list of names and concurrent call limits, e.g. "search: 4, create: 32, point: 8".
+ *
+ * <p>A name is an operation, a resource, or both joined by a dot, e.g. "payments.search". The
+ * resource is the first segment of the path after the API version, e.g. "payments", "point" or
+ * "checkout". The operation is "search" for search endpoints, "get" or "list" for other GET
+ * requests, "create" for POST, "update" for PUT and PATCH, and "delete" for DELETE. A request goes
+ * to the first bulkhead declared for, in order, its resource and operation, its operation, its
+ * resource, or "default". Requests matching none are not limited.
+ */
+public class MPBulkheadPolicy {
+  /** Bulkhead of the requests matching no other bulkhead, when declared. */
+  public static final String DEFAULT_BULKHEAD = "default";
+
+  private static final int DEFAULT_MAX_QUEUE_SIZE = 16;
+
+  private static final long DEFAULT_MAX_QUEUE_WAIT_MS = 1000;
+
+  private static final String SEARCH = "search";
+
+  private final Map<String, MPBulkhead> bulkheads;
+
+  @Getter private final int maxQueueSize;
+
+  @Getter private final long maxQueueWaitMillis;
+
+  /**
+   * MPBulkheadPolicy constructor. Zero values use the defaults.
+   *
+   * @param bulkheads comma separated "name: limit" pairs, e.g. "search: 4, create: 32"
+   * @param maxQueueSize calls allowed to wait for a slot in each bulkhead, 16 by default
+   * @param maxQueueWaitMillis longest wait for a slot, 1000 by default
+   * @throws IllegalArgumentException if the bulkheads are not valid "name: limit" pairs
+   */
+  @Builder
+  public MPBulkheadPolicy(String bulkheads, int maxQueueSize, long maxQueueWaitMillis) {
+    this.maxQueueSize = maxQueueSize > 0 ? maxQueueSize : DEFAULT_MAX_QUEUE_SIZE;
+    this.maxQueueWaitMillis =
+        maxQueueWaitMillis > 0 ? maxQueueWaitMillis : DEFAULT_MAX_QUEUE_WAIT_MS;
+    Map<String, MPBulkhead> parsed = new LinkedHashMap<>();
+    for (Map.Entry<String, Integer> limit : parse(bulkheads).entrySet()) {
+      parsed.put(
+          limit.getKey(),
+          new MPBulkhead(
+              limit.getKey(), limit.getValue(), this.maxQueueSize, this.maxQueueWaitMillis));
+    }
+    this.bulkheads = Collections.unmodifiableMap(parsed);
+  }
+
+  /**
+   * Bulkheads of this policy, in declaration order.
+   *
+   * @return map of name to bulkhead
+   */
+  public Map<String, MPBulkhead> getBulkheads() {
+    return bulkheads;
+  }
+
+  /**
+   * Bulkhead the request goes to.
+   *
+   * @param request request
+   * @return bulkhead, or null if the request is not limited
+   */
+  MPBulkhead bulkheadFor(MPRequest request) {
+    for (String name : namesOf(request)) {
+      MPBulkhead bulkhead = bulkheads.get(name);
+      if (Objects.nonNull(bulkhead)) {
+        return bulkhead;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Bulkhead names a request matches, most specific first.
+   *
+   * @param request request
+   * @return candidate names
+   */
+  static List<String> namesOf(MPRequest request) {
+    List<String> segments = new ArrayList<>();
+    String endpoint = MPCircuitBreakerPolicy.endpointOf(request);
+    for (String segment : endpoint.substring(endpoint.indexOf(' ') + 1).split("/")) {
+      if (!segment.isEmpty() && !segment.matches("v\\d+")) {
+        segments.add(segment);
+      }
+    }
+
+    String operation = operationOf(request.getMethod(), segments);
+    List<String> names = new ArrayList<>();
+    if (!segments.isEmpty()) {
+      names.add(segments.get(0) + '.' + operation);
+    }
+    names.add(operation);
+    if (!segments.isEmpty()) {
+      names.add(segments.get(0));
+    }
+    names.add(DEFAULT_BULKHEAD);
+    return names;
+  }
+
+  private static String operationOf(HttpMethod method, List<String> segments) {
+    String last = segments.isEmpty() ? "" : segments.get(segments.size() - 1);
+    if (SEARCH.equals(last)) {
+      return SEARCH;
+    }
+    if (Objects.isNull(method)) {
+      return "";
+    }
+    switch (method) {
+      case GET:
+        return "{id}".equals(last) ? "get" : "list";
+      case POST:
+        return "create";
+      case PUT:
+      case PATCH:
+        return "update";
+      default:
+        return "delete";
+    }
+  }
+
+  private static Map<String, Integer> parse(String bulkheads) {
+    Map<String, Integer> limits = new LinkedHashMap<>();
+    if (Objects.isNull(bulkheads)) {
+      return limits;
+    }
+    for (String entry : bulkheads.split(",")) {
+      if (entry.trim().isEmpty()) {
+        continue;
+      }
+      String[] pair = entry.split(":", 2);
+      String name = pair[0].trim();
+      int limit;
+      try {
+        limit = pair.length == 2 ? Integer.parseInt(pair[1].trim()) : 0;
+      } catch (NumberFormatException ex) {
+        limit = 0;
+      }
+      if (name.isEmpty() || limit <= 0) {
+        throw new IllegalArgumentException(
+            String.format("Invalid bulkhead \"%s\", expected \"name: limit\"", entry.trim()));
+      }
+      limits.put(name, limit);
+    }
+    return limits;
+  }
+}
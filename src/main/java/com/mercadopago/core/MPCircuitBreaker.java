@@ -0,0 +1,320 @@
+package com.mercadopago.core;
+
+import com.mercadopago.exceptions.MPCircuitBreakerOpenException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Circuit breaker of one endpoint. Closed, it records the outcome of the last calls and opens when
+ * the failure or slow call rate reaches its threshold. Open, it rejects every call until the open
+ * duration elapses. Half-open, it lets a few probe calls through: any failure opens it again, and
+ * when every probe succeeds it closes.
+ *
+ * <p>Failures are 5xx responses and transport errors. Other error responses mean the endpoint is
+ * up, so they count as successes.
+ */
+public class MPCircuitBreaker {
+  private static final Logger LOGGER = Logger.getLogger(MPCircuitBreaker.class.getName());
+
+  /** Circuit breaker states. */
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final String endpoint;
+
+  private final MPCircuitBreakerPolicy policy;
+
+  /** A lock instead of synchronized so virtual threads waiting on it do not pin their carrier. */
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final byte[] window;
+
+  private final LongAdder calls = new LongAdder();
+
+  private final LongAdder failures = new LongAdder();
+
+  private final LongAdder slowCalls = new LongAdder();
+
+  private final LongAdder rejectedCalls = new LongAdder();
+
+  private final LongAdder transitions = new LongAdder();
+
+  private State state = State.CLOSED;
+
+  private long generation;
+
+  private int windowIndex;
+
+  private int windowCount;
+
+  private int windowFailures;
+
+  private int windowSlowCalls;
+
+  private long openedAtNanos;
+
+  private int probesLeft;
+
+  private int probesSucceeded;
+
+  MPCircuitBreaker(String endpoint, MPCircuitBreakerPolicy policy) {
+    this.endpoint = endpoint;
+    this.policy = policy;
+    this.window = new byte[Math.max(1, policy.getSlidingWindowSize())];
+    MPLogging.configure(LOGGER);
+  }
+
+  /**
+   * Endpoint guarded by this breaker, method plus path template.
+   *
+   * @return endpoint
+   */
+  public String getEndpoint() {
+    return endpoint;
+  }
+
+  /**
+   * Current state. An open breaker whose open duration elapsed reports OPEN until the next call
+   * moves it to HALF_OPEN.
+   *
+   * @return state
+   */
+  public State getState() {
+    lock.lock();
+    try {
+      return state;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Failure rate of the calls in the window.
+   *
+   * @return percentage of failed calls
+   */
+  public float getFailureRate() {
+    lock.lock();
+    try {
+      return windowCount == 0 ? 0 : windowFailures * 100f / windowCount;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Slow call rate of the calls in the window.
+   *
+   * @return percentage of slow calls
+   */
+  public float getSlowCallRate() {
+    lock.lock();
+    try {
+      return windowCount == 0 ? 0 : windowSlowCalls * 100f / windowCount;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Calls let through since creation.
+   *
+   * @return calls
+   */
+  public long getCalls() {
+    return calls.sum();
+  }
+
+  /**
+   * Calls that failed since creation.
+   *
+   * @return failures
+   */
+  public long getFailures() {
+    return failures.sum();
+  }
+
+  /**
+   * Calls slower than the slow call duration since creation.
+   *
+   * @return slow calls
+   */
+  public long getSlowCalls() {
+    return slowCalls.sum();
+  }
+
+  /**
+   * Calls rejected without being sent since creation.
+   *
+   * @return rejected calls
+   */
+  public long getRejectedCalls() {
+    return rejectedCalls.sum();
+  }
+
+  /**
+   * State transitions since creation.
+   *
+   * @return transitions
+   */
+  public long getTransitions() {
+    return transitions.sum();
+  }
+
+  /**
+   * Lets a call through or rejects it.
+   *
+   * @return permit to pass to {@link #onResult(long, long, boolean)}
+   * @throws MPCircuitBreakerOpenException if the breaker is open or out of probes
+   */
+  long acquire() throws MPCircuitBreakerOpenException {
+    State from = null;
+    long permit;
+    lock.lock();
+    try {
+      if (state == State.OPEN) {
+        long elapsed = System.nanoTime() - openedAtNanos;
+        long openDuration = TimeUnit.MILLISECONDS.toNanos(policy.getOpenDurationMillis());
+        if (elapsed < openDuration) {
+          rejectedCalls.increment();
+          throw new MPCircuitBreakerOpenException(
+              endpoint, TimeUnit.NANOSECONDS.toMillis(openDuration - elapsed));
+        }
+        from = transition(State.HALF_OPEN);
+      }
+      if (state == State.HALF_OPEN) {
+        if (probesLeft == 0) {
+          rejectedCalls.increment();
+          throw new MPCircuitBreakerOpenException(endpoint, 0);
+        }
+        probesLeft--;
+      }
+      permit = generation;
+    } finally {
+      lock.unlock();
+    }
+    notifyTransition(from, State.HALF_OPEN);
+    return permit;
+  }
+
+  /**
+   * Records the outcome of a call let through by {@link #acquire()}. Outcomes of calls acquired
+   * before the last transition are ignored.
+   *
+   * @param permit value returned by acquire
+   * @param durationNanos call duration
+   * @param failed whether the call failed
+   */
+  void onResult(long permit, long durationNanos, boolean failed) {
+    boolean slow =
+        durationNanos >= TimeUnit.MILLISECONDS.toNanos(policy.getSlowCallDurationMillis());
+    calls.increment();
+    if (failed) {
+      failures.increment();
+    }
+    if (slow) {
+      slowCalls.increment();
+    }
+
+    State from = null;
+    State to = null;
+    lock.lock();
+    try {
+      if (permit != generation) {
+        return;
+      }
+      if (state == State.HALF_OPEN) {
+        if (failed || slow) {
+          to = State.OPEN;
+        } else if (++probesSucceeded >= policy.getHalfOpenProbes()) {
+          to = State.CLOSED;
+        }
+      } else if (state == State.CLOSED) {
+        record(failed, slow);
+        if (windowCount >= policy.getMinimumCalls()
+            && (windowFailures * 100 >= policy.getFailureRateThreshold() * windowCount
+                || windowSlowCalls * 100 >= policy.getSlowCallRateThreshold() * windowCount)) {
+          to = State.OPEN;
+        }
+      }
+      if (Objects.nonNull(to)) {
+        from = transition(to);
+      }
+    } finally {
+      lock.unlock();
+    }
+    notifyTransition(from, to);
+  }
+
+  /**
+   * Releases a call let through by {@link #acquire()} that was cancelled, e.g. a hedge that lost
+   * the race, without recording an outcome. A probe of a half-open breaker is handed back.
+   *
+   * @param permit value returned by acquire
+   */
+  void onCancelled(long permit) {
+    lock.lock();
+    try {
+      if (permit == generation && state == State.HALF_OPEN) {
+        probesLeft++;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void record(boolean failed, boolean slow) {
+    byte outcome = (byte) ((failed ? 1 : 0) | (slow ? 2 : 0));
+    if (windowCount == window.length) {
+      byte evicted = window[windowIndex];
+      windowFailures -= evicted & 1;
+      windowSlowCalls -= (evicted >> 1) & 1;
+    } else {
+      windowCount++;
+    }
+    window[windowIndex] = outcome;
+    windowIndex = (windowIndex + 1) % window.length;
+    windowFailures += outcome & 1;
+    windowSlowCalls += (outcome >> 1) & 1;
+  }
+
+  /** Must be called holding the lock. */
+  private State transition(State to) {
+    State from = state;
+    state = to;
+    generation++;
+    transitions.increment();
+    windowIndex = 0;
+    windowCount = 0;
+    windowFailures = 0;
+    windowSlowCalls = 0;
+    probesSucceeded = 0;
+    probesLeft = to == State.HALF_OPEN ? Math.max(1, policy.getHalfOpenProbes()) : 0;
+    if (to == State.OPEN) {
+      openedAtNanos = System.nanoTime();
+    }
+    return from;
+  }
+
+  private void notifyTransition(State from, State to) {
+    if (Objects.isNull(from)) {
+      return;
+    }
+    LOGGER.log(Level.INFO, "Circuit breaker {0}: {1} -> {2}", new Object[] {endpoint, from, to});
+    MPCircuitBreakerListener listener = policy.getListener();
+    if (Objects.nonNull(listener)) {
+      try {
+        listener.onStateTransition(this, from, to);
+      } catch (RuntimeException ex) {
+        LOGGER.fine(String.format("Circuit breaker listener failed: %s", ex.getMessage()));
+      }
+    }
+  }
+}
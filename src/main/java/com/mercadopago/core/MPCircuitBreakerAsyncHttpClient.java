@@ -0,0 +1,73 @@
+package com.mercadopago.core;
+
+import com.mercadopago.exceptions.MPCircuitBreakerOpenException;
+import com.mercadopago.net.MPAsyncHttpClient;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Async Http Client that guards another client with the circuit breakers of a {@link
+ * MPCircuitBreakerPolicy}. Rejected requests complete exceptionally with an {@link
+ * MPCircuitBreakerOpenException} without being sent.
+ */
+public class MPCircuitBreakerAsyncHttpClient implements MPAsyncHttpClient {
+  private final MPAsyncHttpClient delegate;
+
+  private final MPCircuitBreakerPolicy circuitBreakerPolicy;
+
+  /**
+   * MPCircuitBreakerAsyncHttpClient constructor.
+   *
+   * @param delegate client sending the requests let through
+   * @param circuitBreakerPolicy circuit breaker policy
+   */
+  public MPCircuitBreakerAsyncHttpClient(
+      MPAsyncHttpClient delegate, MPCircuitBreakerPolicy circuitBreakerPolicy) {
+    this.delegate = delegate;
+    this.circuitBreakerPolicy = circuitBreakerPolicy;
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> type) {
+    return type.isInstance(this) ? type.cast(this) : delegate.unwrap(type);
+  }
+
+  @Override
+  public CompletableFuture<MPResponse> sendAsync(MPRequest request) {
+    MPCircuitBreaker circuitBreaker = circuitBreakerPolicy.circuitBreakerFor(request);
+    long permit;
+    try {
+      permit = circuitBreaker.acquire();
+    } catch (MPCircuitBreakerOpenException ex) {
+      CompletableFuture<MPResponse> future = new CompletableFuture<>();
+      future.completeExceptionally(ex);
+      return future;
+    }
+
+    long start = System.nanoTime();
+    CompletableFuture<MPResponse> execution = delegate.sendAsync(request);
+    execution.whenComplete(
+        (response, throwable) -> {
+          Throwable failure = throwable != null ? unwrap(throwable) : null;
+          if (failure instanceof CancellationException) {
+            circuitBreaker.onCancelled(permit);
+            return;
+          }
+          circuitBreaker.onResult(
+              permit,
+              System.nanoTime() - start,
+              failure != null && MPCircuitBreakerHttpClient.isFailure(failure));
+        });
+    return execution;
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    if (throwable instanceof CompletionException && throwable.getCause() != null) {
+      return throwable.getCause();
+    }
+    return throwable;
+  }
+}
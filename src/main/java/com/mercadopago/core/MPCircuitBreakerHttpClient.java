@@ -0,0 +1,99 @@
+package com.mercadopago.core;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPDeadlineExceededException;
+import com.mercadopago.exceptions.MPException;
+import com.mercadopago.exceptions.MPMalformedRequestException;
+import com.mercadopago.exceptions.MPPriorityQueueFullException;
+import com.mercadopago.exceptions.MPTransportException;
+import com.mercadopago.exceptions.MPTransportException.Category;
+import com.mercadopago.net.MPHttpClient;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Http Client that guards another client with the circuit breakers of a {@link
+ * MPCircuitBreakerPolicy}, failing fast with an {@link
+ * com.mercadopago.exceptions.MPCircuitBreakerOpenException} while an endpoint is known to fail.
+ */
+public class MPCircuitBreakerHttpClient implements MPHttpClient {
+  private static final int SERVER_ERROR = 500;
+
+  private final MPHttpClient delegate;
+
+  private final MPCircuitBreakerPolicy circuitBreakerPolicy;
+
+  /**
+   * MPCircuitBreakerHttpClient constructor.
+   *
+   * @param delegate client sending the requests let through
+   * @param circuitBreakerPolicy circuit breaker policy
+   */
+  public MPCircuitBreakerHttpClient(
+      MPHttpClient delegate, MPCircuitBreakerPolicy circuitBreakerPolicy) {
+    this.delegate = delegate;
+    this.circuitBreakerPolicy = circuitBreakerPolicy;
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> type) {
+    return type.isInstance(this) ? type.cast(this) : delegate.unwrap(type);
+  }
+
+  @Override
+  public MPResponse send(MPRequest request) throws MPException, MPApiException {
+    MPCircuitBreaker circuitBreaker = circuitBreakerPolicy.circuitBreakerFor(request);
+    long permit = circuitBreaker.acquire();
+    long start = System.nanoTime();
+    boolean failed = true;
+    try {
+      MPResponse response = delegate.send(request);
+      failed = false;
+      return response;
+    } catch (MPException | MPApiException | RuntimeException ex) {
+      failed = isFailure(ex);
+      throw ex;
+    } finally {
+      circuitBreaker.onResult(permit, System.nanoTime() - start, failed);
+    }
+  }
+
+  /**
+   * Whether an error means the endpoint is failing: 5xx responses and transport errors, except
+   * pool timeouts, which only mean this client is saturated. Cancelled calls, such as hedges that
+   * lost the race, and requests rejected or interrupted while queued for a priority slot are not
+   * failures.
+   *
+   * @param throwable error of the call
+   * @return true if it counts as a failure
+   */
+  static boolean isFailure(Throwable throwable) {
+    if (throwable instanceof CancellationException) {
+      return false;
+    }
+    if (throwable instanceof MPApiException) {
+      return ((MPApiException) throwable).getStatusCode() >= SERVER_ERROR;
+    }
+    if (throwable instanceof MPTransportException) {
+      return ((MPTransportException) throwable).getCategory() != Category.POOL_TIMEOUT;
+    }
+    if (throwable instanceof MPPriorityQueueFullException || isInterrupted(throwable)) {
+      return false;
+    }
+    return !(throwable instanceof MPMalformedRequestException)
+        && !(throwable instanceof MPDeadlineExceededException);
+  }
+
+  /**
+   * Whether an error is the {@link MPException} thrown when the calling thread is interrupted
+   * while waiting, e.g. for a priority or concurrency slot.
+   *
+   * @param throwable error of the call
+   * @return true if the wait was interrupted
+   */
+  static boolean isInterrupted(Throwable throwable) {
+    return throwable instanceof MPException
+        && throwable.getCause() instanceof InterruptedException;
+  }
+}
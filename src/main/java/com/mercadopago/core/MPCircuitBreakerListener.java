@@ -0,0 +1,16 @@
+package com.mercadopago.core;
+
+/** Receives the state transitions of the circuit breakers of a {@link MPCircuitBreakerPolicy}. */
+@FunctionalInterface
+public interface MPCircuitBreakerListener {
+
+  /**
+   * Called after a circuit breaker changed state, outside of its lock.
+   *
+   * @param circuitBreaker circuit breaker that changed state
+   * @param from previous state
+   * @param to new state
+   */
+  void onStateTransition(
+      MPCircuitBreaker circuitBreaker, MPCircuitBreaker.State from, MPCircuitBreaker.State to);
+}
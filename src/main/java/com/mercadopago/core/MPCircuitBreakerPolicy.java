@@ -0,0 +1,115 @@
+package com.mercadopago.core;
+
+import com.mercadopago.net.MPRequest;
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Circuit breaker policy applied by {@link MPCircuitBreakerHttpClient} and {@link
+ * MPCircuitBreakerAsyncHttpClient}. Keeps one {@link MPCircuitBreaker} per endpoint, an endpoint
+ * being the http method plus the path with its ids replaced by "{id}", e.g. "GET
+ * /v1/payments/{id}".
+ */
+@Getter
+@Builder
+public class MPCircuitBreakerPolicy {
+  private static final Pattern VERSION_SEGMENT = Pattern.compile("v\\d+");
+
+  private static final Pattern ID_SEGMENT = Pattern.compile(".*\\d.*");
+
+  /** Number of most recent calls the failure and slow call rates are computed on. */
+  @Builder.Default private final int slidingWindowSize = 20;
+
+  /** Calls needed in the window before the rates are evaluated. */
+  @Builder.Default private final int minimumCalls = 10;
+
+  /** Percentage of failed calls that opens the breaker. */
+  @Builder.Default private final int failureRateThreshold = 50;
+
+  /** Percentage of slow calls that opens the breaker. */
+  @Builder.Default private final int slowCallRateThreshold = 80;
+
+  /** Duration from which a call counts as slow. */
+  @Builder.Default private final long slowCallDurationMillis = 5000;
+
+  /** Time the breaker stays open before letting probe requests through. */
+  @Builder.Default private final long openDurationMillis = 30000;
+
+  /** Probe requests let through while half-open. All must succeed to close the breaker. */
+  @Builder.Default private final int halfOpenProbes = 3;
+
+  private final MPCircuitBreakerListener listener;
+
+  private final Map<String, MPCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+  /**
+   * Create default MPCircuitBreakerPolicy.
+   *
+   * @return MPCircuitBreakerPolicy
+   */
+  public static MPCircuitBreakerPolicy createDefault() {
+    return MPCircuitBreakerPolicy.builder().build();
+  }
+
+  /**
+   * Circuit breakers created so far.
+   *
+   * @return map of endpoint to circuit breaker
+   */
+  public Map<String, MPCircuitBreaker> getCircuitBreakers() {
+    return Collections.unmodifiableMap(new HashMap<>(circuitBreakers));
+  }
+
+  /**
+   * Circuit breaker of the request endpoint, created on first use.
+   *
+   * @param request request
+   * @return circuit breaker
+   */
+  MPCircuitBreaker circuitBreakerFor(MPRequest request) {
+    return circuitBreakers.computeIfAbsent(
+        endpointOf(request), endpoint -> new MPCircuitBreaker(endpoint, this));
+  }
+
+  /**
+   * Endpoint key of a request: method plus path template.
+   *
+   * @param request request
+   * @return endpoint key
+   */
+  static String endpointOf(MPRequest request) {
+    String path = request.getUri();
+    try {
+      String parsed = URI.create(request.getUri()).getRawPath();
+      if (Objects.nonNull(parsed)) {
+        path = parsed;
+      }
+    } catch (IllegalArgumentException ex) {
+      int query = path.indexOf('?');
+      if (query >= 0) {
+        path = path.substring(0, query);
+      }
+    }
+
+    StringBuilder template = new StringBuilder();
+    for (String segment : path.split("/")) {
+      if (segment.isEmpty()) {
+        continue;
+      }
+      template.append('/');
+      if (ID_SEGMENT.matcher(segment).matches() && !VERSION_SEGMENT.matcher(segment).matches()) {
+        template.append("{id}");
+      } else {
+        template.append(segment);
+      }
+    }
+    return String.format("%s %s", request.getMethod(), template);
+  }
+}
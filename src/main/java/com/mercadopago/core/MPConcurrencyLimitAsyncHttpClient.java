@@ -0,0 +1,92 @@
+package com.mercadopago.core;
+
+import com.mercadopago.net.MPAsyncHttpClient;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Async Http Client that caps the requests another client has in flight with a {@link
+ * MPConcurrencyLimiter}. Requests over the limit are sent once a slot frees up, without blocking
+ * the caller, and complete exceptionally with an {@link
+ * com.mercadopago.exceptions.MPConcurrencyLimitExceededException} when none frees up in time.
+ * Cancelling the returned future gives up the place in the queue or cancels the request.
+ */
+public class MPConcurrencyLimitAsyncHttpClient implements MPAsyncHttpClient {
+  private final MPAsyncHttpClient delegate;
+
+  private final MPConcurrencyLimiter concurrencyLimiter;
+
+  /**
+   * MPConcurrencyLimitAsyncHttpClient constructor.
+   *
+   * @param delegate client sending the requests
+   * @param concurrencyLimiter concurrency limiter
+   */
+  public MPConcurrencyLimitAsyncHttpClient(
+      MPAsyncHttpClient delegate, MPConcurrencyLimiter concurrencyLimiter) {
+    this.delegate = delegate;
+    this.concurrencyLimiter = concurrencyLimiter;
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> type) {
+    return type.isInstance(this) ? type.cast(this) : delegate.unwrap(type);
+  }
+
+  @Override
+  public CompletableFuture<MPResponse> sendAsync(MPRequest request) {
+    CompletableFuture<MPResponse> result = new CompletableFuture<>();
+    CompletableFuture<Void> slot = concurrencyLimiter.acquireAsync(request.getDeadline());
+    slot.whenComplete(
+        (granted, rejection) -> {
+          if (rejection != null) {
+            result.completeExceptionally(unwrap(rejection));
+          } else if (result.isDone()) {
+            concurrencyLimiter.releaseWithoutSample();
+          } else {
+            send(request, result);
+          }
+        });
+    result.whenComplete(
+        (response, throwable) -> {
+          if (result.isCancelled()) {
+            slot.cancel(false);
+          }
+        });
+    return result;
+  }
+
+  private void send(MPRequest request, CompletableFuture<MPResponse> result) {
+    long start = System.nanoTime();
+    CompletableFuture<MPResponse> execution = delegate.sendAsync(request);
+    execution.whenComplete(
+        (response, throwable) -> {
+          Throwable failure = throwable != null ? unwrap(throwable) : null;
+          if (MPConcurrencyLimitHttpClient.isSample(failure)) {
+            concurrencyLimiter.release(start, MPConcurrencyLimitHttpClient.isDropped(failure));
+          } else {
+            concurrencyLimiter.releaseWithoutSample();
+          }
+          if (failure != null) {
+            result.completeExceptionally(failure);
+          } else {
+            result.complete(response);
+          }
+        });
+    result.whenComplete(
+        (response, throwable) -> {
+          if (result.isCancelled()) {
+            execution.cancel(true);
+          }
+        });
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    if (throwable instanceof CompletionException && throwable.getCause() != null) {
+      return throwable.getCause();
+    }
+    return throwable;
+  }
+}
@@ -0,0 +1,97 @@
+package com.mercadopago.core;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPException;
+import com.mercadopago.exceptions.MPTransportException;
+import com.mercadopago.net.MPHttpClient;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+
+/**
+ * Http Client that caps the requests another client has in flight with a {@link
+ * MPConcurrencyLimiter}, waiting for a slot and failing with an {@link
+ * com.mercadopago.exceptions.MPConcurrencyLimitExceededException} when none frees up in time.
+ */
+public class MPConcurrencyLimitHttpClient implements MPHttpClient {
+  private static final int TOO_MANY_REQUESTS = 429;
+
+  private static final int SERVER_ERROR = 500;
+
+  private final MPHttpClient delegate;
+
+  private final MPConcurrencyLimiter concurrencyLimiter;
+
+  /**
+   * MPConcurrencyLimitHttpClient constructor.
+   *
+   * @param delegate client sending the requests
+   * @param concurrencyLimiter concurrency limiter
+   */
+  public MPConcurrencyLimitHttpClient(
+      MPHttpClient delegate, MPConcurrencyLimiter concurrencyLimiter) {
+    this.delegate = delegate;
+    this.concurrencyLimiter = concurrencyLimiter;
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> type) {
+    return type.isInstance(this) ? type.cast(this) : delegate.unwrap(type);
+  }
+
+  @Override
+  public MPResponse send(MPRequest request) throws MPException, MPApiException {
+    long start;
+    try {
+      start = concurrencyLimiter.acquire(request.getDeadline());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new MPException(ex);
+    }
+
+    Throwable failure = null;
+    try {
+      return delegate.send(request);
+    } catch (MPException | MPApiException | RuntimeException ex) {
+      failure = ex;
+      throw ex;
+    } finally {
+      if (isSample(failure)) {
+        concurrencyLimiter.release(start, isDropped(failure));
+      } else {
+        concurrencyLimiter.releaseWithoutSample();
+      }
+    }
+  }
+
+  /**
+   * Whether the outcome of a call says something about the API latency: responses, and transport
+   * errors. Anything else, such as requests rejected or interrupted before being sent, malformed
+   * requests, deadlines or cancelled hedges, is released without a sample.
+   *
+   * @param throwable error of the call, or null
+   * @return true if the call should adjust the limit
+   */
+  static boolean isSample(Throwable throwable) {
+    return throwable == null
+        || throwable instanceof MPApiException
+        || throwable instanceof MPTransportException;
+  }
+
+  /**
+   * Whether an error means the API is overloaded: 429 and 5xx responses, and transport errors,
+   * pool timeouts included.
+   *
+   * @param throwable error of the call, or null
+   * @return true if the limit should shrink
+   */
+  static boolean isDropped(Throwable throwable) {
+    if (throwable == null) {
+      return false;
+    }
+    if (throwable instanceof MPApiException) {
+      int statusCode = ((MPApiException) throwable).getStatusCode();
+      return statusCode == TOO_MANY_REQUESTS || statusCode >= SERVER_ERROR;
+    }
+    return throwable instanceof MPTransportException;
+  }
+}
@@ -0,0 +1,366 @@
+package com.mercadopago.core;
+
+import com.mercadopago.exceptions.MPConcurrencyLimitExceededException;
+import com.mercadopago.exceptions.MPDeadlineExceededException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.Builder;
+
+/**
+ * Adaptive limit of in-flight requests, used by {@link MPConcurrencyLimitHttpClient} and {@link
+ * MPConcurrencyLimitAsyncHttpClient}.
+ *
+ * <p>The limit follows an AIMD scheme driven by latency and errors. It grows by one for every
+ * limit's worth of requests completed while at least half of it is in use. It shrinks by the
+ * backoff ratio when a request fails with a 429, a 5xx or a transport error. It also shrinks when a
+ * request takes longer than the latency tolerance times the lowest latency recently seen. At most
+ * one decrease happens per round trip, so a burst of failures does not collapse the limit.
+ *
+ * <p>Requests over the limit wait in a bounded queue for up to the maximum queue wait and are
+ * rejected with an {@link MPConcurrencyLimitExceededException} when the queue is full or the wait
+ * elapses. The wait is capped to the time left before the request deadline, and a request whose
+ * deadline passes while queued fails with an {@link MPDeadlineExceededException}.
+ */
+public class MPConcurrencyLimiter {
+  private static final int DEFAULT_INITIAL_LIMIT = 20;
+
+  private static final int DEFAULT_MIN_LIMIT = 1;
+
+  private static final int DEFAULT_MAX_LIMIT = 200;
+
+  private static final int DEFAULT_MAX_QUEUE_SIZE = 100;
+
+  private static final long DEFAULT_MAX_QUEUE_WAIT_MS = 1000;
+
+  private static final double DEFAULT_LATENCY_TOLERANCE = 2.0;
+
+  private static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+  /** Samples after which the lowest latency is recomputed, so it follows the API over time. */
+  private static final int MIN_LATENCY_WINDOW = 500;
+
+  private final int minLimit;
+
+  private final int maxLimit;
+
+  private final int maxQueueSize;
+
+  private final long maxQueueWaitMillis;
+
+  private final double latencyTolerance;
+
+  private final double backoffRatio;
+
+  /** A lock instead of synchronized so virtual threads waiting on it do not pin their carrier. */
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final Deque<CompletableFuture<Void>> queue = new ArrayDeque<>();
+
+  private final LongAdder rejected = new LongAdder();
+
+  private final LongAdder decreases = new LongAdder();
+
+  private double limit;
+
+  private int inFlight;
+
+  private long minLatencyNanos = Long.MAX_VALUE;
+
+  private long windowMinLatencyNanos = Long.MAX_VALUE;
+
+  private int windowSamples;
+
+  private long lastDecreaseNanos = System.nanoTime();
+
+  /**
+   * MPConcurrencyLimiter constructor. Zero values use the defaults.
+   *
+   * @param initialLimit starting in-flight limit, 20 by default
+   * @param minLimit lowest limit, 1 by default
+   * @param maxLimit highest limit, 200 by default
+   * @param maxQueueSize requests allowed to wait for a slot, 100 by default
+   * @param maxQueueWaitMillis longest wait for a slot, 1000 by default
+   * @param latencyTolerance latency over the lowest recent latency that shrinks the limit, 2.0 by
+   *     default
+   * @param backoffRatio factor applied to the limit when it shrinks, 0.9 by default
+   */
+  @Builder
+  public MPConcurrencyLimiter(
+      int initialLimit,
+      int minLimit,
+      int maxLimit,
+      int maxQueueSize,
+      long maxQueueWaitMillis,
+      double latencyTolerance,
+      double backoffRatio) {
+    this.minLimit = minLimit > 0 ? minLimit : DEFAULT_MIN_LIMIT;
+    this.maxLimit = Math.max(this.minLimit, maxLimit > 0 ? maxLimit : DEFAULT_MAX_LIMIT);
+    this.maxQueueSize = maxQueueSize > 0 ? maxQueueSize : DEFAULT_MAX_QUEUE_SIZE;
+    this.maxQueueWaitMillis =
+        maxQueueWaitMillis > 0 ? maxQueueWaitMillis : DEFAULT_MAX_QUEUE_WAIT_MS;
+    this.latencyTolerance = latencyTolerance > 1 ? latencyTolerance : DEFAULT_LATENCY_TOLERANCE;
+    this.backoffRatio =
+        backoffRatio > 0 && backoffRatio < 1 ? backoffRatio : DEFAULT_BACKOFF_RATIO;
+    int initial = initialLimit > 0 ? initialLimit : DEFAULT_INITIAL_LIMIT;
+    this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initial));
+  }
+
+  /**
+   * Create default MPConcurrencyLimiter.
+   *
+   * @return MPConcurrencyLimiter
+   */
+  public static MPConcurrencyLimiter createDefault() {
+    return MPConcurrencyLimiter.builder().build();
+  }
+
+  /**
+   * Current in-flight limit.
+   *
+   * @return limit
+   */
+  public int getLimit() {
+    lock.lock();
+    try {
+      return (int) limit;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Requests currently sent and not finished.
+   *
+   * @return in-flight requests
+   */
+  public int getInFlight() {
+    lock.lock();
+    try {
+      return inFlight;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Requests waiting for a slot.
+   *
+   * @return queue depth
+   */
+  public int getQueueDepth() {
+    lock.lock();
+    try {
+      return queue.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Requests rejected because the queue was full or their wait elapsed.
+   *
+   * @return rejected requests
+   */
+  public long getRejected() {
+    return rejected.sum();
+  }
+
+  /**
+   * Times the limit was decreased.
+   *
+   * @return decreases
+   */
+  public long getDecreases() {
+    return decreases.sum();
+  }
+
+  /**
+   * Takes a slot, waiting for up to the maximum queue wait or the deadline, whichever comes first.
+   *
+   * @param deadline deadline of the request, may be null
+   * @return start time to pass to {@link #release(long, boolean)}
+   * @throws MPConcurrencyLimitExceededException if no slot was available within the queue wait
+   * @throws MPDeadlineExceededException if the deadline passed while waiting
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  long acquire(MPDeadline deadline)
+      throws MPConcurrencyLimitExceededException, MPDeadlineExceededException,
+          InterruptedException {
+    CompletableFuture<Void> slot = enqueue();
+    long waitMillis = MPDeadline.capWait(deadline, maxQueueWaitMillis);
+    try {
+      slot.get(waitMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException ex) {
+      expire(slot, deadline, waitMillis);
+      joinSlot(slot);
+    } catch (InterruptedException ex) {
+      if (!slot.cancel(false) && !slot.isCompletedExceptionally()) {
+        releaseWithoutSample();
+      }
+      removeFromQueue(slot);
+      throw ex;
+    } catch (ExecutionException ex) {
+      rethrow(ex.getCause());
+    }
+    return System.nanoTime();
+  }
+
+  /**
+   * Takes a slot without blocking. The future completes once a slot is granted, or exceptionally
+   * with an {@link MPConcurrencyLimitExceededException} or, when the deadline passes first, an
+   * {@link MPDeadlineExceededException}.
+   *
+   * @param deadline deadline of the request, may be null
+   * @return future of the slot
+   */
+  CompletableFuture<Void> acquireAsync(MPDeadline deadline) {
+    CompletableFuture<Void> slot = enqueue();
+    if (!slot.isDone()) {
+      long waitMillis = MPDeadline.capWait(deadline, maxQueueWaitMillis);
+      PolicyScheduler.get()
+          .schedule(() -> expire(slot, deadline, waitMillis), waitMillis, TimeUnit.MILLISECONDS);
+    }
+    return slot;
+  }
+
+  /**
+   * Frees a slot and adjusts the limit from the outcome of the request.
+   *
+   * @param startNanos time the slot was granted
+   * @param dropped whether the request failed in a way that shows the API is overloaded
+   */
+  void release(long startNanos, boolean dropped) {
+    long now = System.nanoTime();
+    long latency = now - startNanos;
+    lock.lock();
+    try {
+      inFlight--;
+      boolean slow = updateMinLatency(latency);
+      if ((dropped || slow) && startNanos > lastDecreaseNanos) {
+        limit = Math.max(minLimit, limit * backoffRatio);
+        lastDecreaseNanos = now;
+        decreases.increment();
+      } else if (!dropped && !slow && inFlight + 1 >= limit / 2) {
+        limit = Math.min(maxLimit, limit + 1 / limit);
+      }
+      grant();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Frees a slot without adjusting the limit, for requests that were not sent or failed before
+   * reaching the API.
+   */
+  void releaseWithoutSample() {
+    lock.lock();
+    try {
+      inFlight--;
+      grant();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private CompletableFuture<Void> enqueue() {
+    CompletableFuture<Void> slot = new CompletableFuture<>();
+    lock.lock();
+    try {
+      if (queue.isEmpty() && inFlight < (int) limit) {
+        inFlight++;
+        slot.complete(null);
+      } else if (queue.size() >= maxQueueSize) {
+        rejected.increment();
+        slot.completeExceptionally(
+            new MPConcurrencyLimitExceededException(
+                "Concurrency limit queue is full", (int) limit));
+      } else {
+        queue.addLast(slot);
+      }
+    } finally {
+      lock.unlock();
+    }
+    return slot;
+  }
+
+  /** Must be called holding the lock. Hands free slots to the oldest waiting requests. */
+  private void grant() {
+    while (inFlight < (int) limit && !queue.isEmpty()) {
+      CompletableFuture<Void> slot = queue.pollFirst();
+      if (slot.complete(null)) {
+        inFlight++;
+      }
+    }
+  }
+
+  /** Rejects a request still queued once its wait, capped to the deadline, elapsed. */
+  private void expire(CompletableFuture<Void> slot, MPDeadline deadline, long waitMillis) {
+    lock.lock();
+    try {
+      if (!queue.remove(slot)) {
+        return;
+      }
+      if (waitMillis < maxQueueWaitMillis) {
+        slot.completeExceptionally(
+            new MPDeadlineExceededException(Math.max(0, -deadline.remainingMillis())));
+        return;
+      }
+      rejected.increment();
+      slot.completeExceptionally(
+          new MPConcurrencyLimitExceededException(
+              String.format("No concurrency slot within %sms", maxQueueWaitMillis), (int) limit));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static void joinSlot(CompletableFuture<Void> slot)
+      throws MPConcurrencyLimitExceededException, MPDeadlineExceededException {
+    try {
+      slot.join();
+    } catch (RuntimeException ex) {
+      if (ex.getCause() instanceof MPConcurrencyLimitExceededException
+          || ex.getCause() instanceof MPDeadlineExceededException) {
+        rethrow(ex.getCause());
+      }
+      throw ex;
+    }
+  }
+
+  private static void rethrow(Throwable rejection)
+      throws MPConcurrencyLimitExceededException, MPDeadlineExceededException {
+    if (rejection instanceof MPDeadlineExceededException) {
+      throw (MPDeadlineExceededException) rejection;
+    }
+    throw (MPConcurrencyLimitExceededException) rejection;
+  }
+
+  private void removeFromQueue(CompletableFuture<Void> slot) {
+    lock.lock();
+    try {
+      queue.remove(slot);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Must be called holding the lock. Returns whether the latency is over the tolerance. */
+  private boolean updateMinLatency(long latency) {
+    windowMinLatencyNanos = Math.min(windowMinLatencyNanos, latency);
+    if (++windowSamples >= MIN_LATENCY_WINDOW) {
+      minLatencyNanos = windowMinLatencyNanos;
+      windowMinLatencyNanos = Long.MAX_VALUE;
+      windowSamples = 0;
+    } else {
+      minLatencyNanos = Math.min(minLatencyNanos, latency);
+    }
+    return latency > minLatencyNanos * latencyTolerance;
+  }
+}
@@ -0,0 +1,133 @@
+package com.mercadopago.core;
+
+import com.mercadopago.exceptions.MPDeadlineExceededException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point in time by which a call must complete, pool lease, connection, retries and response
+ * included. Every attempt gets its lease, connect and socket timeouts capped to the time left, and
+ * no attempt or retry starts past the deadline. The same deadline can be passed to several calls,
+ * so a composite call spends a single budget.
+ */
+public final class MPDeadline {
+  private final long deadlineNanos;
+
+  private MPDeadline(long deadlineNanos) {
+    this.deadlineNanos = deadlineNanos;
+  }
+
+  /**
+   * Deadline relative to now.
+   *
+   * @param timeout time allowed from now
+   * @return MPDeadline
+   */
+  public static MPDeadline after(Duration timeout) {
+    return new MPDeadline(System.nanoTime() + timeout.toNanos());
+  }
+
+  /**
+   * Deadline relative to now.
+   *
+   * @param timeoutMillis time allowed from now in milliseconds
+   * @return MPDeadline
+   */
+  public static MPDeadline afterMillis(long timeoutMillis) {
+    return new MPDeadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+  }
+
+  /**
+   * Absolute deadline, e.g. the one of an upstream request.
+   *
+   * @param instant wall clock time by which the call must complete
+   * @return MPDeadline
+   */
+  public static MPDeadline at(Instant instant) {
+    return afterMillis(instant.toEpochMilli() - System.currentTimeMillis());
+  }
+
+  /**
+   * The earliest of two deadlines, any of which may be null.
+   *
+   * @param first a deadline
+   * @param second another deadline
+   * @return earliest deadline, or null if both are null
+   */
+  public static MPDeadline earliest(MPDeadline first, MPDeadline second) {
+    if (Objects.isNull(first)) {
+      return second;
+    }
+    if (Objects.isNull(second)) {
+      return first;
+    }
+    return first.deadlineNanos - second.deadlineNanos <= 0 ? first : second;
+  }
+
+  /**
+   * Time left until the deadline.
+   *
+   * @return milliseconds left, zero or negative once the deadline has passed
+   */
+  public long remainingMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+  }
+
+  /**
+   * Whether the deadline has passed.
+   *
+   * @return true if no time is left
+   */
+  public boolean isExpired() {
+    return deadlineNanos - System.nanoTime() <= 0;
+  }
+
+  /**
+   * Caps a timeout of an attempt to the time left before the deadline.
+   *
+   * @param deadline deadline of the request, may be null
+   * @param timeoutMillis configured timeout, 0 meaning none
+   * @return timeout to use in milliseconds, at least 1 when there is a deadline
+   */
+  public static int capTimeout(MPDeadline deadline, int timeoutMillis) {
+    if (Objects.isNull(deadline)) {
+      return timeoutMillis;
+    }
+    long remaining = Math.max(1, Math.min(Integer.MAX_VALUE, deadline.remainingMillis()));
+    return timeoutMillis > 0 ? (int) Math.min(timeoutMillis, remaining) : (int) remaining;
+  }
+
+  /**
+   * Caps a wait before sending, e.g. for a queue slot or a permit, to the time left before the
+   * deadline.
+   *
+   * @param deadline deadline of the request, may be null
+   * @param waitMillis configured wait
+   * @return wait to use in milliseconds, zero once the deadline has passed
+   */
+  public static long capWait(MPDeadline deadline, long waitMillis) {
+    if (Objects.isNull(deadline)) {
+      return waitMillis;
+    }
+    return Math.max(0, Math.min(waitMillis, deadline.remainingMillis()));
+  }
+
+  /**
+   * Fails when the deadline of a request has passed, so no attempt starts past it.
+   *
+   * @param deadline deadline of the request, may be null
+   * @throws MPDeadlineExceededException if the deadline has passed
+   */
+  public static void check(MPDeadline deadline) throws MPDeadlineExceededException {
+    if (Objects.nonNull(deadline) && deadline.isExpired()) {
+      throw new MPDeadlineExceededException(-deadline.remainingMillis());
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format("MPDeadline(remainingMillis=%s)", remainingMillis());
+  }
+}
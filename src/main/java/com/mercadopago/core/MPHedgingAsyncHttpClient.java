@@ -0,0 +1,164 @@
+package com.mercadopago.core;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPTransportException;
+import com.mercadopago.net.MPAsyncHttpClient;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Async Http Client that hedges the GET requests of another client following a {@link
+ * MPHedgingPolicy}. The hedge is scheduled on a timer thread, the first response completes the
+ * returned future and the other request is cancelled.
+ */
+public class MPHedgingAsyncHttpClient implements MPAsyncHttpClient {
+  private static final int TOO_MANY_REQUESTS = 429;
+
+  private static final int SERVER_ERROR = 500;
+
+  private final MPAsyncHttpClient delegate;
+
+  private final MPHedgingPolicy hedgingPolicy;
+
+  /**
+   * MPHedgingAsyncHttpClient constructor.
+   *
+   * @param delegate client sending the requests and their hedges
+   * @param hedgingPolicy hedging policy
+   */
+  public MPHedgingAsyncHttpClient(MPAsyncHttpClient delegate, MPHedgingPolicy hedgingPolicy) {
+    this.delegate = delegate;
+    this.hedgingPolicy = hedgingPolicy;
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> type) {
+    return type.isInstance(this) ? type.cast(this) : delegate.unwrap(type);
+  }
+
+  @Override
+  public CompletableFuture<MPResponse> sendAsync(MPRequest request) {
+    if (!hedgingPolicy.isHedgeable(request)) {
+      return delegate.sendAsync(request);
+    }
+    return hedge(() -> delegate.sendAsync(request), hedgingPolicy);
+  }
+
+  /**
+   * Sends a request and, if still pending after the hedge delay, a hedge of it. A response, or an
+   * error that is not a transient failure, completes the result right away. A transient failure
+   * only completes it once no other attempt is pending.
+   *
+   * @param attempt sends one attempt of the request without blocking. A hedge it rejects with
+   *     RejectedExecutionException is not sent
+   * @param hedgingPolicy hedging policy
+   * @return future of the first response
+   */
+  static CompletableFuture<MPResponse> hedge(
+      Supplier<CompletableFuture<MPResponse>> attempt, MPHedgingPolicy hedgingPolicy) {
+    long start = System.nanoTime();
+    CompletableFuture<MPResponse> result = new CompletableFuture<>();
+    List<CompletableFuture<MPResponse>> attempts = new CopyOnWriteArrayList<>();
+    AtomicInteger pending = new AtomicInteger(1);
+    AtomicBoolean succeeded = new AtomicBoolean();
+
+    CompletableFuture<MPResponse> primary = attempt.get();
+    hedgingPolicy.requestStarted();
+    attempts.add(primary);
+    listen(primary, false, start, pending, succeeded, result, hedgingPolicy);
+
+    long delay = hedgingPolicy.getCurrentHedgeDelayMillis();
+    if (delay >= 0 && !result.isDone()) {
+      Future<?> timer =
+          PolicyScheduler.get()
+              .schedule(
+                  () -> {
+                    if (result.isDone() || !hedgingPolicy.tryStartHedge()) {
+                      return;
+                    }
+                    pending.incrementAndGet();
+                    CompletableFuture<MPResponse> hedge;
+                    try {
+                      hedge = attempt.get();
+                    } catch (RejectedExecutionException ex) {
+                      // No thread is left to send the hedge from, the request goes on unhedged.
+                      if (pending.decrementAndGet() == 0) {
+                        primary.whenComplete(
+                            (response, throwable) ->
+                                result.completeExceptionally(unwrap(throwable)));
+                      }
+                      return;
+                    }
+                    attempts.add(hedge);
+                    listen(hedge, true, start, pending, succeeded, result, hedgingPolicy);
+                    if (result.isDone()) {
+                      hedge.cancel(true);
+                    }
+                  },
+                  delay,
+                  TimeUnit.MILLISECONDS);
+      result.whenComplete((response, throwable) -> timer.cancel(false));
+    }
+    result.whenComplete(
+        (response, throwable) -> {
+          for (CompletableFuture<MPResponse> execution : attempts) {
+            execution.cancel(true);
+          }
+        });
+    return result;
+  }
+
+  private static void listen(
+      CompletableFuture<MPResponse> execution,
+      boolean isHedge,
+      long start,
+      AtomicInteger pending,
+      AtomicBoolean succeeded,
+      CompletableFuture<MPResponse> result,
+      MPHedgingPolicy hedgingPolicy) {
+    execution.whenComplete(
+        (response, throwable) -> {
+          if (throwable == null) {
+            if (!result.isDone() && succeeded.compareAndSet(false, true)) {
+              hedgingPolicy.requestSucceeded(System.nanoTime() - start, isHedge);
+              result.complete(response);
+            }
+            return;
+          }
+          Throwable cause = unwrap(throwable);
+          if (pending.decrementAndGet() == 0
+              || !isTransient(cause)) {
+            result.completeExceptionally(cause);
+          }
+        });
+  }
+
+  /**
+   * Whether another attempt of the request may still succeed: transport errors, and 429 and 5xx
+   * responses. Local rejections and interrupts are not transient.
+   */
+  private static boolean isTransient(Throwable throwable) {
+    if (throwable instanceof MPApiException) {
+      int statusCode = ((MPApiException) throwable).getStatusCode();
+      return statusCode == TOO_MANY_REQUESTS || statusCode >= SERVER_ERROR;
+    }
+    return throwable instanceof MPTransportException;
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    if (throwable instanceof CompletionException && throwable.getCause() != null) {
+      return throwable.getCause();
+    }
+    return throwable;
+  }
+}
@@ -0,0 +1,123 @@
+package com.mercadopago.core;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPException;
+import com.mercadopago.net.MPHttpClient;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Http Client that hedges the GET requests of another client following a {@link MPHedgingPolicy}.
+ * Hedgeable requests are sent from the executor so the caller can return on the first response. A
+ * blocking send cannot be interrupted, so the losing request runs to completion on its thread and
+ * its response is discarded.
+ *
+ * <p>Each hedgeable request holds a thread of the executor while it is sent, so it should be a
+ * bounded pool dedicated to it, such as {@link #createExecutor(int)}, rather than a shared pool
+ * like the common ForkJoinPool. While the executor rejects tasks, requests are sent unhedged from
+ * the calling thread and hedges are not sent.
+ */
+public class MPHedgingHttpClient implements MPHttpClient {
+  private static final long EXECUTOR_KEEP_ALIVE_SECONDS = 60;
+
+  private final MPHttpClient delegate;
+
+  private final MPHedgingPolicy hedgingPolicy;
+
+  private final Executor executor;
+
+  /**
+   * MPHedgingHttpClient constructor.
+   *
+   * @param delegate client sending the requests and their hedges
+   * @param hedgingPolicy hedging policy
+   * @param executor bounded executor the hedgeable requests are sent from
+   */
+  public MPHedgingHttpClient(
+      MPHttpClient delegate, MPHedgingPolicy hedgingPolicy, Executor executor) {
+    this.delegate = delegate;
+    this.hedgingPolicy = hedgingPolicy;
+    this.executor = executor;
+  }
+
+  /**
+   * Creates a pool for the hedgeable requests of the blocking client. Its daemon threads are
+   * started on demand and stop after a minute idle, and tasks are rejected while all of them are
+   * busy.
+   *
+   * @param maxThreads highest number of requests and hedges sent at the same time
+   * @return executor
+   */
+  public static ExecutorService createExecutor(int maxThreads) {
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            maxThreads,
+            maxThreads,
+            EXECUTOR_KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new SynchronousQueue<>(),
+            runnable -> {
+              Thread thread = new Thread(runnable, "mercadopago-hedging");
+              thread.setDaemon(true);
+              return thread;
+            });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> type) {
+    return type.isInstance(this) ? type.cast(this) : delegate.unwrap(type);
+  }
+
+  @Override
+  public MPResponse send(MPRequest request) throws MPException, MPApiException {
+    if (!hedgingPolicy.isHedgeable(request)) {
+      return delegate.send(request);
+    }
+
+    CompletableFuture<MPResponse> result;
+    try {
+      result = MPHedgingAsyncHttpClient.hedge(() -> sendFromExecutor(request), hedgingPolicy);
+    } catch (RejectedExecutionException ex) {
+      return delegate.send(request);
+    }
+    try {
+      return result.get();
+    } catch (InterruptedException ex) {
+      result.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new MPException(ex);
+    } catch (ExecutionException ex) {
+      Throwable cause = ex.getCause();
+      if (cause instanceof MPApiException) {
+        throw (MPApiException) cause;
+      }
+      if (cause instanceof MPException) {
+        throw (MPException) cause;
+      }
+      throw new MPException(cause);
+    }
+  }
+
+  private CompletableFuture<MPResponse> sendFromExecutor(MPRequest request) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          try {
+            return delegate.send(request);
+          } catch (MPException | MPApiException ex) {
+            throw new CompletionException(ex);
+          }
+        },
+        executor);
+  }
+}
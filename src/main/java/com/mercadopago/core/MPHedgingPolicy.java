@@ -0,0 +1,218 @@
+package com.mercadopago.core;
+
+import com.mercadopago.net.HttpMethod;
+import com.mercadopago.net.MPRequest;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Hedging policy applied by {@link MPHedgingHttpClient} and {@link MPHedgingAsyncHttpClient}. A
+ * GET request still pending after the hedge delay is sent a second time, the first response wins
+ * and the other request is cancelled. The hedge delay is either fixed or the configured percentile
+ * of the latencies recently observed, and hedges are capped to a ratio of the requests.
+ *
+ * <p>With pooled HTTP/1.1 connections the hedge necessarily runs on another connection. In HTTP/2
+ * mode it is another stream, which may share the connection of the first request.
+ */
+public class MPHedgingPolicy {
+  /** Latencies needed before an observed hedge delay is used. No request is hedged until then. */
+  static final int MIN_SAMPLES = 20;
+
+  private static final double DEFAULT_LATENCY_PERCENTILE = 95;
+
+  private static final long DEFAULT_MIN_HEDGE_DELAY_MS = 10;
+
+  private static final int DEFAULT_LATENCY_WINDOW_SIZE = 200;
+
+  private static final double DEFAULT_MAX_HEDGE_RATIO = 0.1;
+
+  @Getter private final long hedgeDelayMillis;
+
+  @Getter private final double latencyPercentile;
+
+  @Getter private final long minHedgeDelayMillis;
+
+  @Getter private final double maxHedgeRatio;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final LongAdder hedgeableRequests = new LongAdder();
+
+  private final LongAdder hedgedRequests = new LongAdder();
+
+  private final LongAdder hedgeWins = new LongAdder();
+
+  private final LongAdder skippedHedges = new LongAdder();
+
+  private final long[] latencies;
+
+  private long samples;
+
+  /**
+   * MPHedgingPolicy constructor. Zero values use the defaults.
+   *
+   * @param hedgeDelayMillis fixed delay after which a pending request is hedged. Zero, the
+   *     default, uses the latency percentile instead
+   * @param latencyPercentile percentile of the recent latencies used as hedge delay, 95 by default
+   * @param minHedgeDelayMillis lowest hedge delay, so fast endpoints are not hedged on noise, 10 by
+   *     default
+   * @param latencyWindowSize number of recent latencies the percentile is computed on, 200 by
+   *     default
+   * @param maxHedgeRatio highest ratio of hedges to hedgeable requests, 0.1 by default
+   */
+  @Builder
+  public MPHedgingPolicy(
+      long hedgeDelayMillis,
+      double latencyPercentile,
+      long minHedgeDelayMillis,
+      int latencyWindowSize,
+      double maxHedgeRatio) {
+    this.hedgeDelayMillis = Math.max(0, hedgeDelayMillis);
+    this.latencyPercentile =
+        latencyPercentile > 0 && latencyPercentile <= 100
+            ? latencyPercentile
+            : DEFAULT_LATENCY_PERCENTILE;
+    this.minHedgeDelayMillis =
+        minHedgeDelayMillis > 0 ? minHedgeDelayMillis : DEFAULT_MIN_HEDGE_DELAY_MS;
+    this.latencies =
+        new long[latencyWindowSize > 0 ? latencyWindowSize : DEFAULT_LATENCY_WINDOW_SIZE];
+    this.maxHedgeRatio = maxHedgeRatio > 0 ? maxHedgeRatio : DEFAULT_MAX_HEDGE_RATIO;
+  }
+
+  /**
+   * Create default MPHedgingPolicy.
+   *
+   * @return MPHedgingPolicy
+   */
+  public static MPHedgingPolicy createDefault() {
+    return MPHedgingPolicy.builder().build();
+  }
+
+  /**
+   * GET requests seen by the hedging clients.
+   *
+   * @return hedgeable requests
+   */
+  public long getHedgeableRequests() {
+    return hedgeableRequests.sum();
+  }
+
+  /**
+   * Requests that were sent a second time.
+   *
+   * @return hedged requests
+   */
+  public long getHedgedRequests() {
+    return hedgedRequests.sum();
+  }
+
+  /**
+   * Hedges whose response arrived before the one of the first request.
+   *
+   * @return hedge wins
+   */
+  public long getHedgeWins() {
+    return hedgeWins.sum();
+  }
+
+  /**
+   * Hedges not sent because the hedge ratio was reached.
+   *
+   * @return skipped hedges
+   */
+  public long getSkippedHedges() {
+    return skippedHedges.sum();
+  }
+
+  /**
+   * Ratio of hedged requests to hedgeable requests.
+   *
+   * @return hedge rate, between 0 and 1
+   */
+  public double getHedgeRate() {
+    long requests = hedgeableRequests.sum();
+    return requests == 0 ? 0 : (double) hedgedRequests.sum() / requests;
+  }
+
+  /**
+   * Delay after which the next pending request would be hedged.
+   *
+   * @return delay in milliseconds, or -1 while there are not enough latencies observed
+   */
+  public long getCurrentHedgeDelayMillis() {
+    if (hedgeDelayMillis > 0) {
+      return hedgeDelayMillis;
+    }
+    long[] window;
+    lock.lock();
+    try {
+      if (samples < MIN_SAMPLES) {
+        return -1;
+      }
+      window = Arrays.copyOf(latencies, (int) Math.min(samples, latencies.length));
+    } finally {
+      lock.unlock();
+    }
+    Arrays.sort(window);
+    int index = (int) Math.ceil(latencyPercentile / 100 * window.length) - 1;
+    long percentile = window[Math.max(0, Math.min(window.length - 1, index))];
+    return Math.max(minHedgeDelayMillis, TimeUnit.NANOSECONDS.toMillis(percentile));
+  }
+
+  /**
+   * Whether the request may be hedged. Only GET requests are, since they are safe to send twice.
+   *
+   * @param request request
+   * @return true if the request is hedgeable
+   */
+  boolean isHedgeable(MPRequest request) {
+    return request.getMethod() == HttpMethod.GET;
+  }
+
+  /** Counts a hedgeable request, which adds to the hedge budget. */
+  void requestStarted() {
+    hedgeableRequests.increment();
+  }
+
+  /**
+   * Takes a hedge from the budget.
+   *
+   * @return true if the hedge may be sent
+   */
+  boolean tryStartHedge() {
+    lock.lock();
+    try {
+      if (hedgedRequests.sum() + 1 > maxHedgeRatio * hedgeableRequests.sum()) {
+        skippedHedges.increment();
+        return false;
+      }
+      hedgedRequests.increment();
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Records the latency of a successful request, from the first send to the winning response.
+   *
+   * @param latencyNanos latency
+   * @param hedgeWon whether the response of the hedge won
+   */
+  void requestSucceeded(long latencyNanos, boolean hedgeWon) {
+    if (hedgeWon) {
+      hedgeWins.increment();
+    }
+    lock.lock();
+    try {
+      latencies[(int) (samples % latencies.length)] = latencyNanos;
+      samples++;
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.mercadopago.core;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPException;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interceptor around the requests sent by the resource clients, registered globally with {@link
+ * com.mercadopago.MercadoPagoConfig#addInterceptor(MPInterceptor)} or per client with {@link
+ * com.mercadopago.client.MercadoPagoClient#addInterceptor(MPInterceptor)}. Interceptors run in
+ * registration order, global ones first, and see the request with its final headers and timeouts.
+ *
+ * <p>An interceptor may rewrite the request before calling {@code proceed}, return a response
+ * without calling it, e.g. from a cache, or time and inspect the call. Every method has a default
+ * that passes the request along, so an interceptor only overrides what it needs.
+ */
+public interface MPInterceptor {
+
+  /**
+   * Intercepts a blocking request.
+   *
+   * @param chain rest of the chain
+   * @return response
+   * @throws MPException if the request fails
+   * @throws MPApiException if the API answers with an error
+   */
+  default MPResponse intercept(MPInterceptorChain chain) throws MPException, MPApiException {
+    return chain.proceed(chain.getRequest());
+  }
+
+  /**
+   * Intercepts a non-blocking request. Must not block.
+   *
+   * @param chain rest of the chain
+   * @return future of the response
+   */
+  default CompletableFuture<MPResponse> interceptAsync(MPAsyncInterceptorChain chain) {
+    return chain.proceed(chain.getRequest());
+  }
+
+  /**
+   * Called once the resource client deserialized the response into its result. Errors thrown
+   * here are logged and do not fail the call.
+   *
+   * @param request request as it entered the chain
+   * @param result deserialized result, e.g. a Payment
+   */
+  default void onResult(MPRequest request, Object result) {}
+}
@@ -0,0 +1,27 @@
+package com.mercadopago.core;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPException;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+
+/** Rest of the interceptor chain of a blocking request. */
+public interface MPInterceptorChain {
+
+  /**
+   * Request as passed by the previous interceptor.
+   *
+   * @return request
+   */
+  MPRequest getRequest();
+
+  /**
+   * Calls the next interceptor, or sends the request after the last one.
+   *
+   * @param request request to pass along, possibly rewritten
+   * @return response
+   * @throws MPException if the request fails
+   * @throws MPApiException if the API answers with an error
+   */
+  MPResponse proceed(MPRequest request) throws MPException, MPApiException;
+}
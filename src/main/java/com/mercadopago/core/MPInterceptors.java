@@ -0,0 +1,144 @@
+package com.mercadopago.core;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPException;
+import com.mercadopago.net.MPAsyncHttpClient;
+import com.mercadopago.net.MPHttpClient;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/** Runs requests through a list of {@link MPInterceptor}. */
+public final class MPInterceptors {
+  private static final Logger LOGGER = Logger.getLogger(MPInterceptors.class.getName());
+
+  static {
+    MPLogging.configure(LOGGER);
+  }
+
+  private MPInterceptors() {}
+
+  /**
+   * Runs a blocking request through the interceptors.
+   *
+   * @param interceptors interceptors, outermost first
+   * @param request request
+   * @param httpClient client sending the request after the last interceptor
+   * @return response, notifying the interceptors when deserialized
+   * @throws MPException if the request fails
+   * @throws MPApiException if the API answers with an error
+   */
+  public static MPResponse execute(
+      List<MPInterceptor> interceptors, MPRequest request, MPHttpClient httpClient)
+      throws MPException, MPApiException {
+    MPResponse response = new Chain(interceptors, 0, request, httpClient).proceed(request);
+    return withResultListener(interceptors, request, response);
+  }
+
+  /**
+   * Runs a non-blocking request through the interceptors.
+   *
+   * @param interceptors interceptors, outermost first
+   * @param request request
+   * @param asyncHttpClient client sending the request after the last interceptor
+   * @return future of the response, notifying the interceptors when deserialized
+   */
+  public static CompletableFuture<MPResponse> executeAsync(
+      List<MPInterceptor> interceptors, MPRequest request, MPAsyncHttpClient asyncHttpClient) {
+    return new AsyncChain(interceptors, 0, request, asyncHttpClient)
+        .proceed(request)
+        .thenApply(response -> withResultListener(interceptors, request, response));
+  }
+
+  private static MPResponse withResultListener(
+      List<MPInterceptor> interceptors, MPRequest request, MPResponse response) {
+    if (Objects.isNull(response)) {
+      return null;
+    }
+    Consumer<Object> listener =
+        result -> {
+          for (MPInterceptor interceptor : interceptors) {
+            try {
+              interceptor.onResult(request, result);
+            } catch (RuntimeException ex) {
+              LOGGER.log(Level.WARNING, "Interceptor failed observing a result", ex);
+            }
+          }
+        };
+    return response.withResultListener(listener);
+  }
+
+  private static final class Chain implements MPInterceptorChain {
+    private final List<MPInterceptor> interceptors;
+
+    private final int index;
+
+    private final MPRequest request;
+
+    private final MPHttpClient httpClient;
+
+    private Chain(
+        List<MPInterceptor> interceptors, int index, MPRequest request, MPHttpClient httpClient) {
+      this.interceptors = interceptors;
+      this.index = index;
+      this.request = request;
+      this.httpClient = httpClient;
+    }
+
+    @Override
+    public MPRequest getRequest() {
+      return request;
+    }
+
+    @Override
+    public MPResponse proceed(MPRequest request) throws MPException, MPApiException {
+      if (index >= interceptors.size()) {
+        return httpClient.send(request);
+      }
+      return interceptors
+          .get(index)
+          .intercept(new Chain(interceptors, index + 1, request, httpClient));
+    }
+  }
+
+  private static final class AsyncChain implements MPAsyncInterceptorChain {
+    private final List<MPInterceptor> interceptors;
+
+    private final int index;
+
+    private final MPRequest request;
+
+    private final MPAsyncHttpClient asyncHttpClient;
+
+    private AsyncChain(
+        List<MPInterceptor> interceptors,
+        int index,
+        MPRequest request,
+        MPAsyncHttpClient asyncHttpClient) {
+      this.interceptors = interceptors;
+      this.index = index;
+      this.request = request;
+      this.asyncHttpClient = asyncHttpClient;
+    }
+
+    @Override
+    public MPRequest getRequest() {
+      return request;
+    }
+
+    @Override
+    public CompletableFuture<MPResponse> proceed(MPRequest request) {
+      if (index >= interceptors.size()) {
+        return asyncHttpClient.sendAsync(request);
+      }
+      return interceptors
+          .get(index)
+          .interceptAsync(new AsyncChain(interceptors, index + 1, request, asyncHttpClient));
+    }
+  }
+}
@@ -0,0 +1,201 @@
+package com.mercadopago.core;
+
+import com.mercadopago.MercadoPagoConfig;
+import com.mercadopago.net.Headers;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.logging.StreamHandler;
+
+/**
+ * Logging facility of the SDK. Attaches the handler and level configured in MercadoPagoConfig to
+ * the SDK loggers, and logs requests and responses at FINE. Nothing is formatted unless FINE is
+ * enabled: the Authorization header is then redacted, and bodies are sampled and truncated as
+ * configured.
+ */
+public final class MPLogging {
+  private static final String REDACTED = "[REDACTED]";
+
+  private static final String HEADER_LOG_FORMAT = "%s: %s%s";
+
+  private static final int ASYNC_QUEUE_CAPACITY = 1024;
+
+  private static final ReentrantLock HANDLER_LOCK = new ReentrantLock();
+
+  /**
+   * Wrapper of the current stream handler when async logging is enabled. Created once and pointed
+   * at the new stream handler when it changes, so loggers never hold two of them.
+   */
+  private static volatile AsyncLogHandler asyncHandler;
+
+  private MPLogging() {}
+
+  /**
+   * Applies the configured level to the logger and attaches the configured handler unless it is
+   * already attached, so loggers of classes instantiated many times do not collect handlers. With
+   * async logging enabled, the handler is fed from a background thread. Switching async logging on
+   * or off detaches the other form of the handler, so records are not published twice.
+   *
+   * @param logger logger
+   */
+  public static void configure(Logger logger) {
+    Level level = MercadoPagoConfig.getLoggingLevel();
+    StreamHandler streamHandler = MercadoPagoConfig.getStreamHandler();
+    streamHandler.setLevel(level);
+    HANDLER_LOCK.lock();
+    try {
+      Handler handler;
+      if (MercadoPagoConfig.isAsyncLoggingEnabled()) {
+        handler = asyncHandler(streamHandler);
+        logger.removeHandler(streamHandler);
+      } else {
+        handler = streamHandler;
+        if (Objects.nonNull(asyncHandler)) {
+          logger.removeHandler(asyncHandler);
+        }
+      }
+      handler.setLevel(level);
+      if (!hasHandler(logger, handler)) {
+        logger.addHandler(handler);
+      }
+    } finally {
+      HANDLER_LOCK.unlock();
+    }
+    logger.setLevel(level);
+  }
+
+  /**
+   * Records dropped because the async logging queue was full.
+   *
+   * @return dropped records
+   */
+  public static long getDroppedRecords() {
+    AsyncLogHandler handler = asyncHandler;
+    return Objects.nonNull(handler) ? handler.getDroppedRecords() : 0;
+  }
+
+  /**
+   * Logs the headers and, when sampled, the body of a request.
+   *
+   * @param logger logger
+   * @param request request
+   */
+  public static void logRequest(Logger logger, MPRequest request) {
+    if (!logger.isLoggable(Level.FINE)) {
+      return;
+    }
+    if (Objects.nonNull(request.getPayload()) && isBodySampled()) {
+      logger.fine("Request body: " + truncate(request.getPayload().toString()));
+    }
+
+    StringBuilder message =
+        new StringBuilder("Request Headers:").append(System.lineSeparator());
+    if (Objects.nonNull(request.getHeaders())) {
+      for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+        appendHeader(message, header.getKey(), header.getValue());
+      }
+    }
+    logger.fine(message.toString());
+  }
+
+  /**
+   * Logs the headers, status code and, when sampled, the body of a response.
+   *
+   * @param logger logger
+   * @param response response
+   */
+  public static void logResponse(Logger logger, MPResponse response) {
+    if (!logger.isLoggable(Level.FINE)) {
+      return;
+    }
+    StringBuilder message =
+        new StringBuilder("Response headers:").append(System.lineSeparator());
+    if (Objects.nonNull(response.getHeaders())) {
+      for (Map.Entry<String, List<String>> header : response.getHeaders().entrySet()) {
+        for (String value : header.getValue()) {
+          appendHeader(message, header.getKey(), value);
+        }
+      }
+    }
+    logger.fine(message.toString());
+    logger.fine("Response status code: " + response.getStatusCode());
+    if (isBodySampled()) {
+      logger.fine("Response body: " + truncate(response.getContent()));
+    }
+  }
+
+  /**
+   * Logs a transport failure.
+   *
+   * @param logger logger
+   * @param ex failure
+   */
+  public static void logFailure(Logger logger, Throwable ex) {
+    if (logger.isLoggable(Level.FINE)) {
+      logger.fine(ex.getClass().getSimpleName() + ": " + ex.getMessage());
+    }
+  }
+
+  /**
+   * Value of a header as it may be logged.
+   *
+   * @param name header name
+   * @param value header value
+   * @return value, or a placeholder for credentials
+   */
+  static String redact(String name, String value) {
+    return Headers.AUTHORIZATION.equalsIgnoreCase(name) ? REDACTED : value;
+  }
+
+  /**
+   * Body cut to the configured length.
+   *
+   * @param body body
+   * @return body as it may be logged
+   */
+  static String truncate(String body) {
+    int maxLength = MercadoPagoConfig.getLogBodyMaxLength();
+    if (Objects.isNull(body) || maxLength <= 0 || body.length() <= maxLength) {
+      return body;
+    }
+    return String.format(
+        "%s... (%d more characters)", body.substring(0, maxLength), body.length() - maxLength);
+  }
+
+  private static boolean isBodySampled() {
+    double sampleRate = MercadoPagoConfig.getLogBodySampleRate();
+    return sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+  }
+
+  private static void appendHeader(StringBuilder message, String name, String value) {
+    message.append(
+        String.format(HEADER_LOG_FORMAT, name, redact(name, value), System.lineSeparator()));
+  }
+
+  private static Handler asyncHandler(StreamHandler streamHandler) {
+    AsyncLogHandler handler = asyncHandler;
+    if (Objects.isNull(handler)) {
+      handler = new AsyncLogHandler(streamHandler, ASYNC_QUEUE_CAPACITY);
+      asyncHandler = handler;
+    } else if (handler.getDelegate() != streamHandler) {
+      handler.setDelegate(streamHandler);
+    }
+    return handler;
+  }
+
+  private static boolean hasHandler(Logger logger, Handler handler) {
+    for (Handler attached : logger.getHandlers()) {
+      if (attached == handler) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,94 @@
+package com.mercadopago.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+
+/** Queue counters of one priority class of a {@link MPPriorityScheduler}. */
+public class MPPriorityClassMetrics {
+  @Getter private final MPRequestPriority priority;
+
+  @Getter private final int weight;
+
+  private final AtomicInteger queueDepth = new AtomicInteger();
+
+  private final LongAdder acceptedRequests = new LongAdder();
+
+  private final LongAdder rejectedRequests = new LongAdder();
+
+  private final LongAdder queueWaitMillis = new LongAdder();
+
+  private final LongAccumulator maxQueueWaitMillis = new LongAccumulator(Math::max, 0);
+
+  MPPriorityClassMetrics(MPRequestPriority priority, int weight) {
+    this.priority = priority;
+    this.weight = weight;
+  }
+
+  /**
+   * Requests of this class waiting for a slot.
+   *
+   * @return queue depth
+   */
+  public int getQueueDepth() {
+    return queueDepth.get();
+  }
+
+  /**
+   * Requests of this class that got a slot.
+   *
+   * @return accepted requests
+   */
+  public long getAcceptedRequests() {
+    return acceptedRequests.sum();
+  }
+
+  /**
+   * Requests of this class rejected because the queue was full or their wait elapsed.
+   *
+   * @return rejected requests
+   */
+  public long getRejectedRequests() {
+    return rejectedRequests.sum();
+  }
+
+  /**
+   * Average time accepted requests of this class waited for their slot.
+   *
+   * @return average queue wait in milliseconds
+   */
+  public double getAverageQueueWaitMillis() {
+    long accepted = acceptedRequests.sum();
+    return accepted == 0 ? 0 : (double) queueWaitMillis.sum() / accepted;
+  }
+
+  /**
+   * Longest time a request of this class waited for its slot.
+   *
+   * @return max queue wait in milliseconds
+   */
+  public long getMaxQueueWaitMillis() {
+    return maxQueueWaitMillis.get();
+  }
+
+  void enqueued() {
+    queueDepth.incrementAndGet();
+  }
+
+  void dequeued() {
+    queueDepth.decrementAndGet();
+  }
+
+  void accepted(long enqueuedNanos) {
+    long waited = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - enqueuedNanos);
+    acceptedRequests.increment();
+    queueWaitMillis.add(waited);
+    maxQueueWaitMillis.accumulate(waited);
+  }
+
+  void rejected() {
+    rejectedRequests.increment();
+  }
+}
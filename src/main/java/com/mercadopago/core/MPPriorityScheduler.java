@@ -0,0 +1,428 @@
+package com.mercadopago.core;
+
+import com.mercadopago.MercadoPagoConfig;
+import com.mercadopago.exceptions.MPDeadlineExceededException;
+import com.mercadopago.exceptions.MPPriorityQueueFullException;
+import com.mercadopago.net.MPRequest;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Scheduler in front of the transport, used by {@link MPPrioritySchedulingHttpClient} and {@link
+ * MPPrioritySchedulingAsyncHttpClient}, that orders the requests waiting for a connection by
+ * priority class instead of the pool's FIFO lease queue. The default clients place it outside the
+ * circuit breakers and the concurrency limit, so their latency clocks start once a slot is
+ * granted.
+ *
+ * <p>Up to the maximum concurrent requests, by default the connection pool size, are let through
+ * right away. Once they are all in use, requests wait in one queue per {@link MPRequestPriority}
+ * and free slots are handed out with weighted fair queuing: each class gets a share of the slots
+ * proportional to its weight, so a Point payment intent jumps ahead of a backlog of searches while
+ * low priority requests still progress. The wait for a slot is capped to the time left before the
+ * request deadline, and a request whose deadline passes while queued fails with an {@link
+ * MPDeadlineExceededException}.
+ *
+ * <p>The priority is the one set in {@link MPRequestOptions#getPriority()} or, when absent,
+ * derived from the operation. Operations are named like in {@link MPBulkheadPolicy}, e.g.
+ * "point", "payments.create" or "search", and mapped to a priority with a list such as "point:
+ * critical, search: low". Requests matching no entry are {@link MPRequestPriority#NORMAL}.
+ */
+public class MPPriorityScheduler {
+  /** Operations mapped to a priority when none are declared. */
+  public static final String DEFAULT_PRIORITIES =
+      "point: critical, payments.create: high, payments.update: high, payments.list: low,"
+          + " search: low";
+
+  private static final int DEFAULT_MAX_QUEUE_SIZE = 256;
+
+  private static final long DEFAULT_MAX_QUEUE_WAIT_MS = 5000;
+
+  private static final Map<MPRequestPriority, Integer> DEFAULT_WEIGHTS = defaultWeights();
+
+  @Getter private final int maxConcurrentRequests;
+
+  @Getter private final int maxQueueSize;
+
+  @Getter private final long maxQueueWaitMillis;
+
+  private final Map<String, MPRequestPriority> priorities;
+
+  private final Map<MPRequestPriority, MPPriorityClassMetrics> metrics;
+
+  /** A lock instead of synchronized so virtual threads waiting on it do not pin their carrier. */
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final Map<MPRequestPriority, Deque<Waiter>> queues =
+      new EnumMap<>(MPRequestPriority.class);
+
+  /** Virtual finish time of the last request queued in each class. */
+  private final double[] lastTags = new double[MPRequestPriority.values().length];
+
+  private double virtualTime;
+
+  private int inFlight;
+
+  private int queued;
+
+  /**
+   * MPPriorityScheduler constructor. Zero and null values use the defaults.
+   *
+   * @param maxConcurrentRequests requests let through at once, {@link
+   *     MercadoPagoConfig#getMaxConnections()} by default
+   * @param maxQueueSize requests allowed to wait for a slot across every class, 256 by default
+   * @param maxQueueWaitMillis longest wait for a slot, 5000 by default
+   * @param weights comma separated "priority: weight" pairs overriding the default weights of 16,
+   *     8, 4 and 1, e.g. "critical: 32, low: 2"
+   * @param priorities comma separated "operation: priority" pairs replacing {@link
+   *     #DEFAULT_PRIORITIES}
+   * @throws IllegalArgumentException if the weights or priorities are not valid pairs
+   */
+  @Builder
+  public MPPriorityScheduler(
+      int maxConcurrentRequests,
+      int maxQueueSize,
+      long maxQueueWaitMillis,
+      String weights,
+      String priorities) {
+    this.maxConcurrentRequests =
+        maxConcurrentRequests > 0 ? maxConcurrentRequests : MercadoPagoConfig.getMaxConnections();
+    this.maxQueueSize = maxQueueSize > 0 ? maxQueueSize : DEFAULT_MAX_QUEUE_SIZE;
+    this.maxQueueWaitMillis =
+        maxQueueWaitMillis > 0 ? maxQueueWaitMillis : DEFAULT_MAX_QUEUE_WAIT_MS;
+
+    Map<MPRequestPriority, Integer> classWeights = new EnumMap<>(DEFAULT_WEIGHTS);
+    for (Map.Entry<String, String> weight : parse(weights, "priority: weight").entrySet()) {
+      int value = parseWeight(weight.getValue());
+      if (value <= 0) {
+        throw new IllegalArgumentException(
+            String.format("Invalid weight \"%s\" of %s", weight.getValue(), weight.getKey()));
+      }
+      classWeights.put(parsePriority(weight.getKey()), value);
+    }
+    Map<MPRequestPriority, MPPriorityClassMetrics> classMetrics =
+        new EnumMap<>(MPRequestPriority.class);
+    for (MPRequestPriority priority : MPRequestPriority.values()) {
+      classMetrics.put(priority, new MPPriorityClassMetrics(priority, classWeights.get(priority)));
+      queues.put(priority, new ArrayDeque<>());
+    }
+    this.metrics = Collections.unmodifiableMap(classMetrics);
+
+    Map<String, MPRequestPriority> operations = new LinkedHashMap<>();
+    String declared = Objects.nonNull(priorities) ? priorities : DEFAULT_PRIORITIES;
+    for (Map.Entry<String, String> entry : parse(declared, "operation: priority").entrySet()) {
+      operations.put(entry.getKey(), parsePriority(entry.getValue()));
+    }
+    this.priorities = Collections.unmodifiableMap(operations);
+  }
+
+  /**
+   * Create default MPPriorityScheduler.
+   *
+   * @return MPPriorityScheduler
+   */
+  public static MPPriorityScheduler createDefault() {
+    return MPPriorityScheduler.builder().build();
+  }
+
+  /**
+   * Queue counters of every priority class.
+   *
+   * @return map of priority to metrics
+   */
+  public Map<MPRequestPriority, MPPriorityClassMetrics> getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Operations mapped to a priority, in declaration order.
+   *
+   * @return map of operation name to priority
+   */
+  public Map<String, MPRequestPriority> getPriorities() {
+    return priorities;
+  }
+
+  /**
+   * Requests let through and not finished.
+   *
+   * @return in-flight requests
+   */
+  public int getInFlight() {
+    lock.lock();
+    try {
+      return inFlight;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Priority class of a request: the explicit one, or the one of its operation.
+   *
+   * @param request request
+   * @return priority
+   */
+  public MPRequestPriority priorityOf(MPRequest request) {
+    if (Objects.nonNull(request.getPriority())) {
+      return request.getPriority();
+    }
+    for (String name : MPBulkheadPolicy.namesOf(request)) {
+      MPRequestPriority priority = priorities.get(name);
+      if (Objects.nonNull(priority)) {
+        return priority;
+      }
+    }
+    return MPRequestPriority.NORMAL;
+  }
+
+  /**
+   * Takes a slot, waiting for up to the maximum queue wait or the deadline, whichever comes first.
+   *
+   * @param priority priority class of the request
+   * @param deadline deadline of the request, may be null
+   * @throws MPPriorityQueueFullException if no slot was available within the queue wait
+   * @throws MPDeadlineExceededException if the deadline passed while waiting
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  void acquire(MPRequestPriority priority, MPDeadline deadline)
+      throws MPPriorityQueueFullException, MPDeadlineExceededException, InterruptedException {
+    Waiter waiter = enqueue(priority);
+    long waitMillis = MPDeadline.capWait(deadline, maxQueueWaitMillis);
+    try {
+      waiter.slot.get(waitMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException ex) {
+      expire(waiter, deadline, waitMillis);
+      joinSlot(waiter.slot);
+    } catch (InterruptedException ex) {
+      if (!waiter.slot.cancel(false) && !waiter.slot.isCompletedExceptionally()) {
+        release();
+      }
+      removeFromQueue(waiter);
+      throw ex;
+    } catch (ExecutionException ex) {
+      rethrow(ex.getCause());
+    }
+  }
+
+  /**
+   * Takes a slot without blocking. The future completes once a slot is granted, or exceptionally
+   * with an {@link MPPriorityQueueFullException} or, when the deadline passes first, an {@link
+   * MPDeadlineExceededException}. Cancelling it gives up the place in the queue.
+   *
+   * @param priority priority class of the request
+   * @param deadline deadline of the request, may be null
+   * @return future of the slot
+   */
+  CompletableFuture<Void> acquireAsync(MPRequestPriority priority, MPDeadline deadline) {
+    Waiter waiter = enqueue(priority);
+    if (!waiter.slot.isDone()) {
+      long waitMillis = MPDeadline.capWait(deadline, maxQueueWaitMillis);
+      PolicyScheduler.get()
+          .schedule(
+              () -> expire(waiter, deadline, waitMillis), waitMillis, TimeUnit.MILLISECONDS);
+      waiter.slot.whenComplete(
+          (granted, throwable) -> {
+            if (waiter.slot.isCancelled()) {
+              removeFromQueue(waiter);
+            }
+          });
+    }
+    return waiter.slot;
+  }
+
+  /** Frees a slot and hands it to the next waiting request. */
+  void release() {
+    lock.lock();
+    try {
+      inFlight--;
+      grant();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private Waiter enqueue(MPRequestPriority priority) {
+    Waiter waiter = new Waiter(priority);
+    MPPriorityClassMetrics classMetrics = metrics.get(priority);
+    lock.lock();
+    try {
+      if (queued == 0 && inFlight < maxConcurrentRequests) {
+        inFlight++;
+        classMetrics.accepted(waiter.enqueuedNanos);
+        waiter.slot.complete(null);
+      } else if (queued >= maxQueueSize) {
+        classMetrics.rejected();
+        waiter.slot.completeExceptionally(
+            new MPPriorityQueueFullException("Priority scheduler queue is full", priority));
+      } else {
+        int index = priority.ordinal();
+        waiter.tag = Math.max(virtualTime, lastTags[index]) + 1.0 / classMetrics.getWeight();
+        lastTags[index] = waiter.tag;
+        queues.get(priority).addLast(waiter);
+        queued++;
+        classMetrics.enqueued();
+      }
+    } finally {
+      lock.unlock();
+    }
+    return waiter;
+  }
+
+  /**
+   * Must be called holding the lock. Hands free slots to the waiting request with the lowest
+   * virtual finish time across the classes.
+   */
+  private void grant() {
+    while (inFlight < maxConcurrentRequests && queued > 0) {
+      Waiter next = null;
+      for (Deque<Waiter> queue : queues.values()) {
+        Waiter head = queue.peekFirst();
+        if (Objects.nonNull(head) && (Objects.isNull(next) || head.tag < next.tag)) {
+          next = head;
+        }
+      }
+      queues.get(next.priority).pollFirst();
+      queued--;
+      MPPriorityClassMetrics classMetrics = metrics.get(next.priority);
+      classMetrics.dequeued();
+      virtualTime = Math.max(virtualTime, next.tag);
+      if (next.slot.complete(null)) {
+        inFlight++;
+        classMetrics.accepted(next.enqueuedNanos);
+      }
+    }
+  }
+
+  /** Rejects a request still queued once its wait, capped to the deadline, elapsed. */
+  private void expire(Waiter waiter, MPDeadline deadline, long waitMillis) {
+    lock.lock();
+    try {
+      if (!remove(waiter)) {
+        return;
+      }
+      if (waitMillis < maxQueueWaitMillis) {
+        waiter.slot.completeExceptionally(
+            new MPDeadlineExceededException(Math.max(0, -deadline.remainingMillis())));
+        return;
+      }
+      metrics.get(waiter.priority).rejected();
+      waiter.slot.completeExceptionally(
+          new MPPriorityQueueFullException(
+              String.format("No scheduler slot within %sms", maxQueueWaitMillis),
+              waiter.priority));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void removeFromQueue(Waiter waiter) {
+    lock.lock();
+    try {
+      remove(waiter);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Must be called holding the lock. */
+  private boolean remove(Waiter waiter) {
+    if (!queues.get(waiter.priority).remove(waiter)) {
+      return false;
+    }
+    queued--;
+    metrics.get(waiter.priority).dequeued();
+    return true;
+  }
+
+  private static void joinSlot(CompletableFuture<Void> slot)
+      throws MPPriorityQueueFullException, MPDeadlineExceededException {
+    try {
+      slot.join();
+    } catch (RuntimeException ex) {
+      if (ex.getCause() instanceof MPPriorityQueueFullException
+          || ex.getCause() instanceof MPDeadlineExceededException) {
+        rethrow(ex.getCause());
+      }
+      throw ex;
+    }
+  }
+
+  private static void rethrow(Throwable rejection)
+      throws MPPriorityQueueFullException, MPDeadlineExceededException {
+    if (rejection instanceof MPDeadlineExceededException) {
+      throw (MPDeadlineExceededException) rejection;
+    }
+    throw (MPPriorityQueueFullException) rejection;
+  }
+
+  private static Map<String, String> parse(String pairs, String format) {
+    Map<String, String> parsed = new LinkedHashMap<>();
+    if (Objects.isNull(pairs)) {
+      return parsed;
+    }
+    for (String entry : pairs.split(",")) {
+      if (entry.trim().isEmpty()) {
+        continue;
+      }
+      String[] pair = entry.split(":", 2);
+      if (pair.length != 2 || pair[0].trim().isEmpty() || pair[1].trim().isEmpty()) {
+        throw new IllegalArgumentException(
+            String.format("Invalid entry \"%s\", expected \"%s\"", entry.trim(), format));
+      }
+      parsed.put(pair[0].trim(), pair[1].trim());
+    }
+    return parsed;
+  }
+
+  private static MPRequestPriority parsePriority(String name) {
+    try {
+      return MPRequestPriority.valueOf(name.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException ex) {
+      throw new IllegalArgumentException(String.format("Unknown priority \"%s\"", name), ex);
+    }
+  }
+
+  private static int parseWeight(String weight) {
+    try {
+      return Integer.parseInt(weight);
+    } catch (NumberFormatException ex) {
+      return 0;
+    }
+  }
+
+  private static Map<MPRequestPriority, Integer> defaultWeights() {
+    Map<MPRequestPriority, Integer> weights = new EnumMap<>(MPRequestPriority.class);
+    weights.put(MPRequestPriority.CRITICAL, 16);
+    weights.put(MPRequestPriority.HIGH, 8);
+    weights.put(MPRequestPriority.NORMAL, 4);
+    weights.put(MPRequestPriority.LOW, 1);
+    return Collections.unmodifiableMap(weights);
+  }
+
+  private static final class Waiter {
+    private final MPRequestPriority priority;
+
+    private final long enqueuedNanos = System.nanoTime();
+
+    private final CompletableFuture<Void> slot = new CompletableFuture<>();
+
+    private double tag;
+
+    private Waiter(MPRequestPriority priority) {
+      this.priority = priority;
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.mercadopago.core;
+
+import com.mercadopago.net.MPAsyncHttpClient;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Async Http Client that lets the requests of another client through a {@link
+ * MPPriorityScheduler}. Requests waiting for a slot do not block the caller, and complete
+ * exceptionally with an {@link com.mercadopago.exceptions.MPPriorityQueueFullException} when none
+ * frees up in time. Cancelling the returned future gives up the place in the queue or cancels the
+ * request.
+ */
+public class MPPrioritySchedulingAsyncHttpClient implements MPAsyncHttpClient {
+  private final MPAsyncHttpClient delegate;
+
+  private final MPPriorityScheduler scheduler;
+
+  /**
+   * MPPrioritySchedulingAsyncHttpClient constructor.
+   *
+   * @param delegate client sending the requests
+   * @param scheduler priority scheduler
+   */
+  public MPPrioritySchedulingAsyncHttpClient(
+      MPAsyncHttpClient delegate, MPPriorityScheduler scheduler) {
+    this.delegate = delegate;
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> type) {
+    return type.isInstance(this) ? type.cast(this) : delegate.unwrap(type);
+  }
+
+  @Override
+  public CompletableFuture<MPResponse> sendAsync(MPRequest request) {
+    CompletableFuture<MPResponse> result = new CompletableFuture<>();
+    CompletableFuture<Void> slot =
+        scheduler.acquireAsync(scheduler.priorityOf(request), request.getDeadline());
+    slot.whenComplete(
+        (granted, rejection) -> {
+          if (rejection != null) {
+            result.completeExceptionally(unwrap(rejection));
+          } else if (result.isDone()) {
+            scheduler.release();
+          } else {
+            send(request, result);
+          }
+        });
+    result.whenComplete(
+        (response, throwable) -> {
+          if (result.isCancelled()) {
+            slot.cancel(false);
+          }
+        });
+    return result;
+  }
+
+  private void send(MPRequest request, CompletableFuture<MPResponse> result) {
+    CompletableFuture<MPResponse> execution = delegate.sendAsync(request);
+    execution.whenComplete(
+        (response, throwable) -> {
+          scheduler.release();
+          if (throwable != null) {
+            result.completeExceptionally(unwrap(throwable));
+          } else {
+            result.complete(response);
+          }
+        });
+    result.whenComplete(
+        (response, throwable) -> {
+          if (result.isCancelled()) {
+            execution.cancel(true);
+          }
+        });
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    if (throwable instanceof CompletionException && throwable.getCause() != null) {
+      return throwable.getCause();
+    }
+    return throwable;
+  }
+}
@@ -0,0 +1,49 @@
+package com.mercadopago.core;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPException;
+import com.mercadopago.net.MPHttpClient;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+
+/**
+ * Http Client that lets the requests of another client through a {@link MPPriorityScheduler},
+ * failing with an {@link com.mercadopago.exceptions.MPPriorityQueueFullException} when a request
+ * gets no slot within the queue wait.
+ */
+public class MPPrioritySchedulingHttpClient implements MPHttpClient {
+  private final MPHttpClient delegate;
+
+  private final MPPriorityScheduler scheduler;
+
+  /**
+   * MPPrioritySchedulingHttpClient constructor.
+   *
+   * @param delegate client sending the requests
+   * @param scheduler priority scheduler
+   */
+  public MPPrioritySchedulingHttpClient(MPHttpClient delegate, MPPriorityScheduler scheduler) {
+    this.delegate = delegate;
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> type) {
+    return type.isInstance(this) ? type.cast(this) : delegate.unwrap(type);
+  }
+
+  @Override
+  public MPResponse send(MPRequest request) throws MPException, MPApiException {
+    try {
+      scheduler.acquire(scheduler.priorityOf(request), request.getDeadline());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new MPException(ex);
+    }
+    try {
+      return delegate.send(request);
+    } finally {
+      scheduler.release();
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.mercadopago.core;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPRateLimitExceededException;
+import com.mercadopago.net.MPAsyncHttpClient;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Async Http Client that paces the requests sent through another client with a {@link
+ * MPRateLimiter}. Requests waiting for a permit are scheduled instead of blocking the caller, and
+ * complete exceptionally with an {@link MPRateLimitExceededException} when no permit is available
+ * in time. Cancelling the returned future cancels the scheduled or in-flight request.
+ */
+public class MPRateLimitAsyncHttpClient implements MPAsyncHttpClient {
+  private final MPAsyncHttpClient delegate;
+
+  private final MPRateLimiter rateLimiter;
+
+  /**
+   * MPRateLimitAsyncHttpClient constructor.
+   *
+   * @param delegate client sending the requests
+   * @param rateLimiter rate limiter
+   */
+  public MPRateLimitAsyncHttpClient(MPAsyncHttpClient delegate, MPRateLimiter rateLimiter) {
+    this.delegate = delegate;
+    this.rateLimiter = rateLimiter;
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> type) {
+    return type.isInstance(this) ? type.cast(this) : delegate.unwrap(type);
+  }
+
+  @Override
+  public CompletableFuture<MPResponse> sendAsync(MPRequest request) {
+    CompletableFuture<MPResponse> result = new CompletableFuture<>();
+    long wait;
+    try {
+      wait = rateLimiter.reserveOrReject(request);
+    } catch (MPRateLimitExceededException ex) {
+      result.completeExceptionally(ex);
+      return result;
+    }
+
+    if (wait == 0) {
+      send(request, result);
+      return result;
+    }
+    Future<?> scheduled =
+        PolicyScheduler.get().schedule(() -> send(request, result), wait, TimeUnit.NANOSECONDS);
+    result.whenComplete(
+        (response, throwable) -> {
+          if (result.isCancelled()) {
+            scheduled.cancel(false);
+          }
+        });
+    return result;
+  }
+
+  private void send(MPRequest request, CompletableFuture<MPResponse> result) {
+    if (result.isDone()) {
+      return;
+    }
+    CompletableFuture<MPResponse> execution = delegate.sendAsync(request);
+    execution.whenComplete(
+        (response, throwable) -> {
+          if (throwable == null) {
+            rateLimiter.onResponse(request, response);
+            result.complete(response);
+            return;
+          }
+          Throwable cause = unwrap(throwable);
+          if (cause instanceof MPApiException) {
+            rateLimiter.onResponse(request, ((MPApiException) cause).getApiResponse());
+          }
+          result.completeExceptionally(cause);
+        });
+    result.whenComplete(
+        (response, throwable) -> {
+          if (result.isCancelled()) {
+            execution.cancel(true);
+          }
+        });
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    if (throwable instanceof CompletionException && throwable.getCause() != null) {
+      return throwable.getCause();
+    }
+    return throwable;
+  }
+}
@@ -0,0 +1,57 @@
+package com.mercadopago.core;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPException;
+import com.mercadopago.net.MPHttpClient;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Http Client that paces the requests sent through another client with a {@link MPRateLimiter},
+ * waiting for a permit of the request access token or failing with an {@link
+ * com.mercadopago.exceptions.MPRateLimitExceededException}.
+ */
+public class MPRateLimitHttpClient implements MPHttpClient {
+  private final MPHttpClient delegate;
+
+  private final MPRateLimiter rateLimiter;
+
+  /**
+   * MPRateLimitHttpClient constructor.
+   *
+   * @param delegate client sending the requests
+   * @param rateLimiter rate limiter
+   */
+  public MPRateLimitHttpClient(MPHttpClient delegate, MPRateLimiter rateLimiter) {
+    this.delegate = delegate;
+    this.rateLimiter = rateLimiter;
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> type) {
+    return type.isInstance(this) ? type.cast(this) : delegate.unwrap(type);
+  }
+
+  @Override
+  public MPResponse send(MPRequest request) throws MPException, MPApiException {
+    long wait = rateLimiter.reserveOrReject(request);
+    if (wait > 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(wait);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new MPException(ex);
+      }
+    }
+
+    try {
+      MPResponse response = delegate.send(request);
+      rateLimiter.onResponse(request, response);
+      return response;
+    } catch (MPApiException ex) {
+      rateLimiter.onResponse(request, ex.getApiResponse());
+      throw ex;
+    }
+  }
+}
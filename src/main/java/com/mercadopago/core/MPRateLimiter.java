@@ -0,0 +1,346 @@
+package com.mercadopago.core;
+
+import com.mercadopago.MercadoPagoConfig;
+import com.mercadopago.exceptions.MPRateLimitExceededException;
+import com.mercadopago.net.Headers;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Client-side token bucket rate limiter applied by {@link MPRateLimitHttpClient} and {@link
+ * MPRateLimitAsyncHttpClient}. Keeps one bucket per access token, and optionally per endpoint, so
+ * a burst of requests with one seller token is smoothed locally instead of spending the API rate
+ * limit shared with other sellers.
+ *
+ * <p>Buckets also learn from responses: a 429 with a Retry-After header, or an
+ * X-RateLimit-Remaining of zero with an X-RateLimit-Reset, pauses the bucket until then, and a
+ * lower X-RateLimit-Remaining caps the permits left.
+ */
+@Getter
+@Builder
+public class MPRateLimiter {
+  static final String RATE_LIMIT_REMAINING = "X-RateLimit-Remaining";
+
+  static final String RATE_LIMIT_RESET = "X-RateLimit-Reset";
+
+  private static final int TOO_MANY_REQUESTS = 429;
+
+  /** Reset values above this are epoch seconds instead of seconds from now. */
+  private static final long EPOCH_SECONDS_THRESHOLD = 1_000_000_000L;
+
+  /** Buckets created between two sweeps of the buckets back to full, which are dropped. */
+  private static final int SWEEP_INTERVAL = 256;
+
+  /** Permits added to every bucket per second. */
+  @Builder.Default private final double permitsPerSecond = 10;
+
+  /** Permits a bucket holds when full, i.e. the largest burst sent at once. */
+  @Builder.Default private final int burstSize = 10;
+
+  /** Whether each endpoint of an access token gets its own bucket. */
+  private final boolean perEndpoint;
+
+  /**
+   * Whether requests wait for a permit. When false, requests without a permit available fail
+   * right away with an {@link MPRateLimitExceededException}.
+   */
+  @Builder.Default private final boolean blocking = true;
+
+  /**
+   * Longest wait for a permit in blocking mode, capped to the time left before the request
+   * deadline. Longer waits fail right away instead.
+   */
+  @Builder.Default private final long maxWaitMillis = 5000;
+
+  @Getter(AccessLevel.NONE)
+  private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+  @Getter(AccessLevel.NONE)
+  private final AtomicLong createdBuckets = new AtomicLong();
+
+  @Getter(AccessLevel.NONE)
+  private final LongAdder acquired = new LongAdder();
+
+  @Getter(AccessLevel.NONE)
+  private final LongAdder throttled = new LongAdder();
+
+  @Getter(AccessLevel.NONE)
+  private final LongAdder rejected = new LongAdder();
+
+  @Getter(AccessLevel.NONE)
+  private final LongAdder waitMillis = new LongAdder();
+
+  /**
+   * Create default MPRateLimiter.
+   *
+   * @return MPRateLimiter
+   */
+  public static MPRateLimiter createDefault() {
+    return MPRateLimiter.builder().build();
+  }
+
+  /**
+   * Permits granted, with or without waiting.
+   *
+   * @return acquired permits
+   */
+  public long getAcquiredPermits() {
+    return acquired.sum();
+  }
+
+  /**
+   * Requests that had to wait for their permit.
+   *
+   * @return throttled requests
+   */
+  public long getThrottledRequests() {
+    return throttled.sum();
+  }
+
+  /**
+   * Requests failed with an {@link MPRateLimitExceededException}.
+   *
+   * @return rejected requests
+   */
+  public long getRejectedRequests() {
+    return rejected.sum();
+  }
+
+  /**
+   * Total time requests waited for their permit.
+   *
+   * @return wait in milliseconds
+   */
+  public long getTotalWaitMillis() {
+    return waitMillis.sum();
+  }
+
+  /**
+   * Buckets currently tracked. Buckets that refilled completely are dropped from time to time.
+   *
+   * @return bucket count
+   */
+  public int getBucketCount() {
+    return buckets.size();
+  }
+
+  /**
+   * Takes a permit for the request without waiting.
+   *
+   * @param request request
+   * @return true if a permit was available
+   */
+  public boolean tryAcquire(MPRequest request) {
+    return reserve(request, 0) == 0;
+  }
+
+  /**
+   * Takes a permit for the request, waiting for up to the maximum wait for it.
+   *
+   * @param request request
+   * @throws MPRateLimitExceededException if no permit is available within the maximum wait
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  public void acquire(MPRequest request)
+      throws MPRateLimitExceededException, InterruptedException {
+    long wait = reserveOrReject(request);
+    if (wait > 0) {
+      TimeUnit.NANOSECONDS.sleep(wait);
+    }
+  }
+
+  /**
+   * Reserves a permit for the request, following the blocking mode of this limiter.
+   *
+   * @param request request
+   * @return nanoseconds to wait before sending the request
+   * @throws MPRateLimitExceededException if no permit is available in time
+   */
+  long reserveOrReject(MPRequest request) throws MPRateLimitExceededException {
+    long maxWait = MPDeadline.capWait(request.getDeadline(), blocking ? maxWaitMillis : 0);
+    long maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWait);
+    long wait = reserve(request, maxWaitNanos);
+    if (wait < 0) {
+      rejected.increment();
+      throw new MPRateLimitExceededException(TimeUnit.NANOSECONDS.toMillis(-wait));
+    }
+    return wait;
+  }
+
+  /**
+   * Adjusts the bucket of the request from the rate limit headers of its response.
+   *
+   * @param request request
+   * @param response response, successful or not
+   */
+  void onResponse(MPRequest request, MPResponse response) {
+    if (Objects.isNull(response) || Objects.isNull(response.getHeaders())) {
+      return;
+    }
+    TokenBucket bucket = buckets.get(keyOf(request));
+    if (Objects.isNull(bucket)) {
+      return;
+    }
+
+    long pauseMillis = -1;
+    if (Objects.equals(response.getStatusCode(), TOO_MANY_REQUESTS)) {
+      pauseMillis = Math.max(0, MPRetryPolicy.retryAfterMillis(response));
+    }
+    long remaining = parseLong(header(response, RATE_LIMIT_REMAINING));
+    if (remaining == 0) {
+      pauseMillis = Math.max(pauseMillis, resetMillis(header(response, RATE_LIMIT_RESET)));
+    }
+    bucket.learn(remaining, pauseMillis);
+  }
+
+  private long reserve(MPRequest request, long maxWaitNanos) {
+    String key = keyOf(request);
+    TokenBucket bucket = buckets.get(key);
+    if (Objects.isNull(bucket)) {
+      bucket = buckets.computeIfAbsent(key, k -> new TokenBucket());
+      if (createdBuckets.incrementAndGet() % SWEEP_INTERVAL == 0) {
+        buckets.values().removeIf(TokenBucket::isFull);
+      }
+    }
+    long wait = bucket.reserve(maxWaitNanos);
+    if (wait >= 0) {
+      acquired.increment();
+      if (wait > 0) {
+        throttled.increment();
+        waitMillis.add(TimeUnit.NANOSECONDS.toMillis(wait));
+      }
+    }
+    return wait;
+  }
+
+  private String keyOf(MPRequest request) {
+    String token = null;
+    if (Objects.nonNull(request.getHeaders())) {
+      for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+        if (Headers.AUTHORIZATION.equalsIgnoreCase(header.getKey())) {
+          token = header.getValue();
+        }
+      }
+    }
+    if (Objects.isNull(token)) {
+      token =
+          Objects.nonNull(request.getAccessToken())
+              ? request.getAccessToken()
+              : MercadoPagoConfig.getAccessToken();
+    }
+    String key = String.valueOf(token);
+    return perEndpoint ? key + ' ' + MPCircuitBreakerPolicy.endpointOf(request) : key;
+  }
+
+  private static String header(MPResponse response, String name) {
+    for (Map.Entry<String, List<String>> header : response.getHeaders().entrySet()) {
+      if (name.equalsIgnoreCase(header.getKey())
+          && Objects.nonNull(header.getValue())
+          && !header.getValue().isEmpty()) {
+        return header.getValue().get(0);
+      }
+    }
+    return null;
+  }
+
+  private static long resetMillis(String value) {
+    long reset = parseLong(value);
+    if (reset < 0) {
+      return -1;
+    }
+    if (reset > EPOCH_SECONDS_THRESHOLD) {
+      return Math.max(0, reset * 1000 - System.currentTimeMillis());
+    }
+    return reset * 1000;
+  }
+
+  private static long parseLong(String value) {
+    if (Objects.isNull(value)) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(value.trim());
+    } catch (NumberFormatException ex) {
+      return -1;
+    }
+  }
+
+  /**
+   * Token bucket refilled lazily from the elapsed time. Permits may be reserved ahead, leaving the
+   * bucket negative, so waiting requests are spaced at the refill rate.
+   */
+  private class TokenBucket {
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double permits = burstSize;
+
+    /** Time permits were last added. May be in the future while the bucket is paused. */
+    private long refilledAt = System.nanoTime();
+
+    private long reserve(long maxWaitNanos) {
+      lock.lock();
+      try {
+        long now = System.nanoTime();
+        refill(now);
+        long wait = Math.max(0, refilledAt - now);
+        if (permits < 1) {
+          wait += (long) ((1 - permits) / permitsPerSecond * TimeUnit.SECONDS.toNanos(1));
+        }
+        if (wait > maxWaitNanos) {
+          return -Math.max(1, wait);
+        }
+        permits -= 1;
+        return wait;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void learn(long remaining, long pauseMillis) {
+      lock.lock();
+      try {
+        long now = System.nanoTime();
+        refill(now);
+        if (remaining >= 0) {
+          permits = Math.min(permits, remaining);
+        }
+        if (pauseMillis >= 0) {
+          permits = Math.min(permits, 0);
+          refilledAt = Math.max(refilledAt, now + TimeUnit.MILLISECONDS.toNanos(pauseMillis));
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private boolean isFull() {
+      lock.lock();
+      try {
+        refill(System.nanoTime());
+        return permits >= burstSize;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void refill(long now) {
+      if (now <= refilledAt) {
+        return;
+      }
+      double added = (now - refilledAt) * permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+      permits = Math.min(burstSize, permits + added);
+      refilledAt = now;
+    }
+  }
+}
@@ -0,0 +1,258 @@
+package com.mercadopago.core;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPDeadlineExceededException;
+import com.mercadopago.exceptions.MPException;
+import com.mercadopago.net.Headers;
+import com.mercadopago.net.HttpMethod;
+import com.mercadopago.net.MPAsyncHttpClient;
+import com.mercadopago.net.MPHttpClient;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Single-flight coalescing of identical GET requests, used by {@link
+ * com.mercadopago.client.MercadoPagoClient}. While a GET is in flight, other GETs for the same URI
+ * and access token wait for it instead of being sent, and get the same response or error. Requests
+ * sent through the blocking and the async clients coalesce with each other.
+ *
+ * <p>Errors of the sent request alone, its deadline passing or its thread being interrupted, are
+ * not shared: the waiting requests send again instead. Each waiting request gives up once its own
+ * deadline passes.
+ */
+public class MPRequestCoalescer {
+  /**
+   * Flights by request key. A flight completes with null when the sent request failed for reasons
+   * of its own, so its followers send again.
+   */
+  private final Map<String, CompletableFuture<MPResponse>> inFlight = new ConcurrentHashMap<>();
+
+  private final LongAdder sentRequests = new LongAdder();
+
+  private final LongAdder coalescedRequests = new LongAdder();
+
+  /**
+   * GET requests sent on behalf of every identical request in flight.
+   *
+   * @return sent requests
+   */
+  public long getSentRequests() {
+    return sentRequests.sum();
+  }
+
+  /**
+   * GET requests that were not sent because an identical one was in flight.
+   *
+   * @return coalesced requests
+   */
+  public long getCoalescedRequests() {
+    return coalescedRequests.sum();
+  }
+
+  /**
+   * Distinct GET requests in flight.
+   *
+   * @return in-flight requests
+   */
+  public int getInFlight() {
+    return inFlight.size();
+  }
+
+  /**
+   * Sends the request, or waits for the identical request in flight.
+   *
+   * @param request prepared request
+   * @param httpClient client sending the request
+   * @return response
+   * @throws MPException if the request fails
+   * @throws MPApiException if the API answers with an error
+   */
+  public MPResponse send(MPRequest request, MPHttpClient httpClient)
+      throws MPException, MPApiException {
+    if (request.getMethod() != HttpMethod.GET) {
+      return httpClient.send(request);
+    }
+
+    String key = keyOf(request);
+    CompletableFuture<MPResponse> flight = new CompletableFuture<>();
+    CompletableFuture<MPResponse> existing = inFlight.putIfAbsent(key, flight);
+    if (Objects.nonNull(existing)) {
+      coalescedRequests.increment();
+      MPResponse response = await(existing, request.getDeadline());
+      if (Objects.nonNull(response)) {
+        return response;
+      }
+      coalescedRequests.decrement();
+      return send(request, httpClient);
+    }
+
+    sentRequests.increment();
+    try {
+      MPResponse response = httpClient.send(request);
+      flight.complete(response);
+      return response;
+    } catch (MPException | MPApiException | RuntimeException ex) {
+      fail(flight, request, ex);
+      throw ex;
+    } finally {
+      inFlight.remove(key, flight);
+    }
+  }
+
+  /**
+   * Sends the request without blocking, or joins the identical request in flight. Cancelling the
+   * returned future does not cancel the shared request. A joining request fails with an {@link
+   * MPDeadlineExceededException} once its deadline passes.
+   *
+   * @param request prepared request
+   * @param asyncHttpClient client sending the request
+   * @return future of the response
+   */
+  public CompletableFuture<MPResponse> sendAsync(
+      MPRequest request, MPAsyncHttpClient asyncHttpClient) {
+    if (request.getMethod() != HttpMethod.GET) {
+      return asyncHttpClient.sendAsync(request);
+    }
+
+    String key = keyOf(request);
+    CompletableFuture<MPResponse> flight = new CompletableFuture<>();
+    CompletableFuture<MPResponse> existing = inFlight.putIfAbsent(key, flight);
+    if (Objects.nonNull(existing)) {
+      coalescedRequests.increment();
+      return join(existing, request, asyncHttpClient);
+    }
+
+    sentRequests.increment();
+    CompletableFuture<MPResponse> sent;
+    try {
+      sent = asyncHttpClient.sendAsync(request);
+    } catch (RuntimeException ex) {
+      inFlight.remove(key, flight);
+      flight.completeExceptionally(ex);
+      return flight.thenApply(response -> response);
+    }
+    CompletableFuture<MPResponse> result = new CompletableFuture<>();
+    sent.whenComplete(
+        (response, throwable) -> {
+          inFlight.remove(key, flight);
+          if (throwable != null) {
+            Throwable failure = unwrap(throwable);
+            fail(flight, request, failure);
+            result.completeExceptionally(failure);
+          } else {
+            flight.complete(response);
+            result.complete(response);
+          }
+        });
+    return result;
+  }
+
+  /** Waits for a flight without blocking, sending again if it failed for reasons of its own. */
+  private CompletableFuture<MPResponse> join(
+      CompletableFuture<MPResponse> flight, MPRequest request, MPAsyncHttpClient asyncHttpClient) {
+    CompletableFuture<MPResponse> result = new CompletableFuture<>();
+    flight.whenComplete(
+        (response, throwable) -> {
+          if (throwable != null) {
+            result.completeExceptionally(unwrap(throwable));
+          } else if (Objects.nonNull(response)) {
+            result.complete(response);
+          } else if (!result.isDone()) {
+            coalescedRequests.decrement();
+            sendAsync(request, asyncHttpClient)
+                .whenComplete(
+                    (resent, failure) -> {
+                      if (failure != null) {
+                        result.completeExceptionally(unwrap(failure));
+                      } else {
+                        result.complete(resent);
+                      }
+                    });
+          }
+        });
+
+    MPDeadline deadline = request.getDeadline();
+    if (Objects.nonNull(deadline) && !result.isDone()) {
+      ScheduledFuture<?> timer =
+          PolicyScheduler.get()
+              .schedule(
+                  () ->
+                      result.completeExceptionally(
+                          new MPDeadlineExceededException(
+                              Math.max(0, -deadline.remainingMillis()))),
+                  Math.max(0, deadline.remainingMillis()),
+                  TimeUnit.MILLISECONDS);
+      result.whenComplete((response, throwable) -> timer.cancel(false));
+    }
+    return result;
+  }
+
+  /**
+   * Completes a flight with the error of the sent request, or with null when the error belongs to
+   * that request alone: its deadline passed or its thread was interrupted.
+   */
+  private static void fail(
+      CompletableFuture<MPResponse> flight, MPRequest request, Throwable failure) {
+    MPDeadline deadline = request.getDeadline();
+    if (failure instanceof MPDeadlineExceededException
+        || MPCircuitBreakerHttpClient.isInterrupted(failure)
+        || (Objects.nonNull(deadline) && deadline.isExpired())) {
+      flight.complete(null);
+    } else {
+      flight.completeExceptionally(failure);
+    }
+  }
+
+  private static MPResponse await(CompletableFuture<MPResponse> flight, MPDeadline deadline)
+      throws MPException, MPApiException {
+    try {
+      if (Objects.isNull(deadline)) {
+        return flight.get();
+      }
+      return flight.get(Math.max(0, deadline.remainingMillis()), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException ex) {
+      throw new MPDeadlineExceededException(-deadline.remainingMillis());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new MPException(ex);
+    } catch (ExecutionException ex) {
+      Throwable cause = ex.getCause();
+      if (cause instanceof MPApiException) {
+        throw (MPApiException) cause;
+      }
+      if (cause instanceof MPException) {
+        throw (MPException) cause;
+      }
+      throw new MPException(cause);
+    }
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    if (throwable instanceof CompletionException && throwable.getCause() != null) {
+      return throwable.getCause();
+    }
+    return throwable;
+  }
+
+  private static String keyOf(MPRequest request) {
+    String authorization = null;
+    if (Objects.nonNull(request.getHeaders())) {
+      for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+        if (Headers.AUTHORIZATION.equalsIgnoreCase(header.getKey())) {
+          authorization = header.getValue();
+        }
+      }
+    }
+    return request.getUri() + '\n' + authorization;
+  }
+}
@@ -18,6 +18,18 @@ public class MPRequestOptions {
 
   private Map<String, String> customHeaders;
 
+  /**
+   * Deadline of the whole call, retries included. Pass the same deadline to every call of a
+   * composite operation so they share one budget.
+   */
+  private MPDeadline deadline;
+
+  /**
+   * Priority class of the request, used by the priority scheduler when one is configured. Null
+   * derives it from the operation.
+   */
+  private MPRequestPriority priority;
+
   /**
    * Create default MPRequestOptions.
    *
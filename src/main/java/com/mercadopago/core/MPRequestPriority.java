@@ -0,0 +1,17 @@
+package com.mercadopago.core;
+
+/**
+ * Priority class of a request, used by {@link MPPriorityScheduler} to order the requests waiting
+ * for a connection. Set it explicitly in {@link MPRequestOptions}, or let the scheduler derive it
+ * from the operation.
+ */
+public enum MPRequestPriority {
+  /** Calls with someone waiting on them, e.g. Point payment intents at a terminal. */
+  CRITICAL,
+  /** Money movement such as payment creation, capture and refunds. */
+  HIGH,
+  /** Requests with no other priority. */
+  NORMAL,
+  /** Bulk traffic such as searches, listings and exports. */
+  LOW
+}
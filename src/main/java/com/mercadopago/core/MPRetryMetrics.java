@@ -0,0 +1,140 @@
+package com.mercadopago.core;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPTransportException;
+import com.mercadopago.exceptions.MPTransportException.Category;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Per-attempt counters of a {@link MPRetryPolicy}, shared by every client using the policy. */
+public class MPRetryMetrics {
+  private final LongAdder attempts = new LongAdder();
+
+  private final LongAdder retries = new LongAdder();
+
+  private final LongAdder recoveredRequests = new LongAdder();
+
+  private final LongAdder exhaustedRequests = new LongAdder();
+
+  private final LongAdder backoffMillis = new LongAdder();
+
+  private final Map<Integer, LongAdder> retriesByStatusCode = new ConcurrentHashMap<>();
+
+  private final Map<Category, LongAdder> retriesByTransportFailure = new ConcurrentHashMap<>();
+
+  private final Map<Integer, LongAdder> requestsByAttempts = new ConcurrentHashMap<>();
+
+  /**
+   * Attempts sent, first attempts included.
+   *
+   * @return attempts
+   */
+  public long getAttempts() {
+    return attempts.sum();
+  }
+
+  /**
+   * Attempts that were a retry of a failed one.
+   *
+   * @return retries
+   */
+  public long getRetries() {
+    return retries.sum();
+  }
+
+  /**
+   * Requests that succeeded after at least one retry.
+   *
+   * @return recovered requests
+   */
+  public long getRecoveredRequests() {
+    return recoveredRequests.sum();
+  }
+
+  /**
+   * Requests that still failed with a retryable status after their last allowed attempt.
+   *
+   * @return exhausted requests
+   */
+  public long getExhaustedRequests() {
+    return exhaustedRequests.sum();
+  }
+
+  /**
+   * Total time spent waiting between attempts.
+   *
+   * @return backoff in milliseconds
+   */
+  public long getBackoffMillis() {
+    return backoffMillis.sum();
+  }
+
+  /**
+   * Retries by the status code of the attempt that failed.
+   *
+   * @return map of status code to retries
+   */
+  public Map<Integer, Long> getRetriesByStatusCode() {
+    return snapshot(retriesByStatusCode);
+  }
+
+  /**
+   * Retries by the transport failure of the attempt that failed.
+   *
+   * @return map of failure category to retries
+   */
+  public Map<Category, Long> getRetriesByTransportFailure() {
+    Map<Category, Long> snapshot = new EnumMap<>(Category.class);
+    for (Map.Entry<Category, LongAdder> entry : retriesByTransportFailure.entrySet()) {
+      snapshot.put(entry.getKey(), entry.getValue().sum());
+    }
+    return Collections.unmodifiableMap(snapshot);
+  }
+
+  /**
+   * Finished requests by the number of attempts they took.
+   *
+   * @return map of attempts to requests
+   */
+  public Map<Integer, Long> getRequestsByAttempts() {
+    return snapshot(requestsByAttempts);
+  }
+
+  void attemptStarted() {
+    attempts.increment();
+  }
+
+  void retryScheduled(Exception failure, long delayMillis) {
+    retries.increment();
+    backoffMillis.add(delayMillis);
+    if (failure instanceof MPApiException) {
+      int statusCode = ((MPApiException) failure).getStatusCode();
+      retriesByStatusCode.computeIfAbsent(statusCode, code -> new LongAdder()).increment();
+    } else if (failure instanceof MPTransportException) {
+      Category category = ((MPTransportException) failure).getCategory();
+      retriesByTransportFailure.computeIfAbsent(category, key -> new LongAdder()).increment();
+    }
+  }
+
+  void requestFinished(int attemptCount, boolean succeeded, boolean exhausted) {
+    requestsByAttempts.computeIfAbsent(attemptCount, count -> new LongAdder()).increment();
+    if (succeeded && attemptCount > 1) {
+      recoveredRequests.increment();
+    }
+    if (exhausted) {
+      exhaustedRequests.increment();
+    }
+  }
+
+  private static Map<Integer, Long> snapshot(Map<Integer, LongAdder> counters) {
+    Map<Integer, Long> snapshot = new TreeMap<>();
+    for (Map.Entry<Integer, LongAdder> entry : counters.entrySet()) {
+      snapshot.put(entry.getKey(), entry.getValue().sum());
+    }
+    return Collections.unmodifiableMap(snapshot);
+  }
+}
@@ -0,0 +1,206 @@
+package com.mercadopago.core;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPTransportException;
+import com.mercadopago.exceptions.MPTransportException.Category;
+import com.mercadopago.net.Headers;
+import com.mercadopago.net.HttpMethod;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Retry policy applied by {@link MPRetryingHttpClient} and {@link MPRetryingAsyncHttpClient}.
+ *
+ * <p>Retries the configured status codes, 429 and 5xx by default. Waits follow an exponential
+ * backoff with full jitter, so clients that failed together do not retry together, unless the
+ * response carries a Retry-After header. GET and DELETE are always retried, while POST, PUT and
+ * PATCH are only retried when they carry an X-Idempotency-Key, so the API can recognize a repeated
+ * request.
+ *
+ * <p>Transport failures of a request that was never sent, e.g. a connect or pool timeout, are
+ * retried whatever the method, as the API never saw the request. Connect and TLS failures are
+ * retried right away, while others, such as a pool timeout, wait for the backoff so the retry does
+ * not go straight back into a saturated pool. Failures after the request was sent, e.g. a read
+ * timeout, follow the method rule above, since the API may have processed the request. Protocol
+ * failures after sending are not retried.
+ */
+@Getter
+@Builder
+public class MPRetryPolicy {
+  private static final String RETRY_AFTER = "Retry-After";
+
+  private static final String HTTP_DATE_FORMAT = "EEE, dd MMM yyyy HH:mm:ss zzz";
+
+  /** Attempts per request, including the first one. */
+  @Builder.Default private final int maxAttempts = 3;
+
+  /** Backoff ceiling of the first retry, doubled on every retry. */
+  @Builder.Default private final long initialBackoffMillis = 100;
+
+  /** Highest backoff ceiling. */
+  @Builder.Default private final long maxBackoffMillis = 5000;
+
+  /** Longest Retry-After honoured. A response asking for a longer wait is not retried. */
+  @Builder.Default private final long maxRetryAfterMillis = 10000;
+
+  @Builder.Default
+  private final Set<Integer> retryableStatusCodes =
+      Collections.unmodifiableSet(new HashSet<>(Arrays.asList(429, 500, 502, 503, 504)));
+
+  private final MPRetryMetrics metrics = new MPRetryMetrics();
+
+  /**
+   * Create default MPRetryPolicy.
+   *
+   * @return MPRetryPolicy
+   */
+  public static MPRetryPolicy createDefault() {
+    return MPRetryPolicy.builder().build();
+  }
+
+  /**
+   * Whether the request may be sent again without risking a duplicate side effect.
+   *
+   * @param request request
+   * @return true if the request can be retried
+   */
+  public boolean isRetryable(MPRequest request) {
+    HttpMethod method = request.getMethod();
+    if (method == HttpMethod.GET || method == HttpMethod.DELETE) {
+      return true;
+    }
+    return Objects.nonNull(findHeader(request.getHeaders(), Headers.IDEMPOTENCY_KEY));
+  }
+
+  /**
+   * Whether the failure is retryable and the request can be retried.
+   *
+   * @param request request that failed
+   * @param exception failure of the attempt, an MPApiException or MPTransportException
+   * @return true if another attempt may succeed
+   */
+  boolean isRetryableFailure(MPRequest request, Exception exception) {
+    if (exception instanceof MPTransportException) {
+      MPTransportException transportException = (MPTransportException) exception;
+      if (!transportException.isRequestSent()) {
+        return true;
+      }
+      return transportException.getCategory() != Category.PROTOCOL && isRetryable(request);
+    }
+    return exception instanceof MPApiException
+        && retryableStatusCodes.contains(((MPApiException) exception).getStatusCode())
+        && isRetryable(request);
+  }
+
+  /**
+   * Time to wait before the next attempt.
+   *
+   * @param request request that failed
+   * @param exception failure of the attempt, an MPApiException or MPTransportException
+   * @param attempt number of the attempt that failed, starting at 1
+   * @return delay in milliseconds, or -1 if the request must not be retried, including when the
+   *     request deadline would pass during the wait
+   */
+  long nextDelayMillis(MPRequest request, Exception exception, int attempt) {
+    if (attempt >= maxAttempts || !isRetryableFailure(request, exception)) {
+      return -1;
+    }
+
+    long delay;
+    long retryAfter =
+        exception instanceof MPApiException
+            ? retryAfterMillis(((MPApiException) exception).getApiResponse())
+            : -1;
+    if (isConnectionRefusal(exception)) {
+      delay = 0;
+    } else if (retryAfter >= 0) {
+      if (retryAfter > maxRetryAfterMillis) {
+        return -1;
+      }
+      delay = retryAfter;
+    } else {
+      long ceiling = maxBackoffMillis;
+      if (attempt - 1 < Long.SIZE - 2) {
+        ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << (attempt - 1));
+      }
+      delay = ThreadLocalRandom.current().nextLong(Math.max(ceiling, 0) + 1);
+    }
+
+    MPDeadline deadline = request.getDeadline();
+    if (Objects.nonNull(deadline) && deadline.remainingMillis() <= delay) {
+      return -1;
+    }
+    return delay;
+  }
+
+  private static boolean isConnectionRefusal(Exception exception) {
+    if (!(exception instanceof MPTransportException)) {
+      return false;
+    }
+    MPTransportException transportException = (MPTransportException) exception;
+    Category category = transportException.getCategory();
+    return !transportException.isRequestSent()
+        && (category == Category.CONNECT || category == Category.TLS);
+  }
+
+  /**
+   * Parses the Retry-After header, given either in seconds or as an HTTP date.
+   *
+   * @param response response
+   * @return wait in milliseconds, or -1 when the header is missing or invalid
+   */
+  static long retryAfterMillis(MPResponse response) {
+    if (Objects.isNull(response) || Objects.isNull(response.getHeaders())) {
+      return -1;
+    }
+    String value = null;
+    for (Map.Entry<String, List<String>> header : response.getHeaders().entrySet()) {
+      if (RETRY_AFTER.equalsIgnoreCase(header.getKey())
+          && Objects.nonNull(header.getValue())
+          && !header.getValue().isEmpty()) {
+        value = header.getValue().get(0);
+      }
+    }
+    if (Objects.isNull(value)) {
+      return -1;
+    }
+
+    try {
+      return Math.max(0, Long.parseLong(value.trim()) * 1000);
+    } catch (NumberFormatException ex) {
+      SimpleDateFormat format = new SimpleDateFormat(HTTP_DATE_FORMAT, Locale.US);
+      format.setTimeZone(TimeZone.getTimeZone("GMT"));
+      try {
+        return Math.max(0, format.parse(value.trim()).getTime() - System.currentTimeMillis());
+      } catch (ParseException parseEx) {
+        return -1;
+      }
+    }
+  }
+
+  private static String findHeader(Map<String, String> headers, String name) {
+    if (Objects.isNull(headers)) {
+      return null;
+    }
+    for (Map.Entry<String, String> header : headers.entrySet()) {
+      if (name.equalsIgnoreCase(header.getKey())) {
+        return header.getValue();
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,102 @@
+package com.mercadopago.core;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPTransportException;
+import com.mercadopago.net.MPAsyncHttpClient;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Async Http Client that retries failed requests of another client following a {@link
+ * MPRetryPolicy}. Waits are scheduled on a timer thread, so no thread is blocked between attempts.
+ */
+public class MPRetryingAsyncHttpClient implements MPAsyncHttpClient {
+  private final MPAsyncHttpClient delegate;
+
+  private final MPRetryPolicy retryPolicy;
+
+  /**
+   * MPRetryingAsyncHttpClient constructor.
+   *
+   * @param delegate client sending every attempt
+   * @param retryPolicy retry policy
+   */
+  public MPRetryingAsyncHttpClient(MPAsyncHttpClient delegate, MPRetryPolicy retryPolicy) {
+    this.delegate = delegate;
+    this.retryPolicy = retryPolicy;
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> type) {
+    return type.isInstance(this) ? type.cast(this) : delegate.unwrap(type);
+  }
+
+  @Override
+  public CompletableFuture<MPResponse> sendAsync(MPRequest request) {
+    CompletableFuture<MPResponse> result = new CompletableFuture<>();
+    AtomicReference<CompletableFuture<MPResponse>> current = new AtomicReference<>();
+    result.whenComplete(
+        (response, throwable) -> {
+          CompletableFuture<MPResponse> inFlight = current.get();
+          if (result.isCancelled() && inFlight != null) {
+            inFlight.cancel(true);
+          }
+        });
+    attempt(request, 1, result, current);
+    return result;
+  }
+
+  private void attempt(
+      MPRequest request,
+      int attempt,
+      CompletableFuture<MPResponse> result,
+      AtomicReference<CompletableFuture<MPResponse>> current) {
+    if (result.isDone()) {
+      return;
+    }
+    MPRetryMetrics metrics = retryPolicy.getMetrics();
+    metrics.attemptStarted();
+    CompletableFuture<MPResponse> execution = delegate.sendAsync(request);
+    current.set(execution);
+    execution.whenComplete(
+        (response, throwable) -> {
+          if (throwable == null) {
+            metrics.requestFinished(attempt, true, false);
+            result.complete(response);
+            return;
+          }
+
+          Throwable cause = unwrap(throwable);
+          if (!(cause instanceof MPApiException) && !(cause instanceof MPTransportException)) {
+            metrics.requestFinished(attempt, false, false);
+            result.completeExceptionally(cause);
+            return;
+          }
+
+          Exception failure = (Exception) cause;
+          long delay = retryPolicy.nextDelayMillis(request, failure, attempt);
+          if (delay < 0) {
+            metrics.requestFinished(
+                attempt, false, retryPolicy.isRetryableFailure(request, failure));
+            result.completeExceptionally(failure);
+            return;
+          }
+          metrics.retryScheduled(failure, delay);
+          PolicyScheduler.get().schedule(
+              () -> attempt(request, attempt + 1, result, current),
+              delay,
+              TimeUnit.MILLISECONDS);
+        });
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    if (throwable instanceof CompletionException && throwable.getCause() != null) {
+      return throwable.getCause();
+    }
+    return throwable;
+  }
+}
@@ -0,0 +1,66 @@
+package com.mercadopago.core;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPException;
+import com.mercadopago.exceptions.MPTransportException;
+import com.mercadopago.net.MPHttpClient;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+
+/** Http Client that retries failed requests of another client following a {@link MPRetryPolicy}. */
+public class MPRetryingHttpClient implements MPHttpClient {
+  private final MPHttpClient delegate;
+
+  private final MPRetryPolicy retryPolicy;
+
+  /**
+   * MPRetryingHttpClient constructor.
+   *
+   * @param delegate client sending every attempt
+   * @param retryPolicy retry policy
+   */
+  public MPRetryingHttpClient(MPHttpClient delegate, MPRetryPolicy retryPolicy) {
+    this.delegate = delegate;
+    this.retryPolicy = retryPolicy;
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> type) {
+    return type.isInstance(this) ? type.cast(this) : delegate.unwrap(type);
+  }
+
+  @Override
+  public MPResponse send(MPRequest request) throws MPException, MPApiException {
+    MPRetryMetrics metrics = retryPolicy.getMetrics();
+    int attempt = 1;
+    while (true) {
+      metrics.attemptStarted();
+      try {
+        MPResponse response = delegate.send(request);
+        metrics.requestFinished(attempt, true, false);
+        return response;
+      } catch (MPApiException | MPTransportException ex) {
+        long delay = retryPolicy.nextDelayMillis(request, ex, attempt);
+        if (delay < 0) {
+          metrics.requestFinished(attempt, false, retryPolicy.isRetryableFailure(request, ex));
+          throw ex;
+        }
+        metrics.retryScheduled(ex, delay);
+        sleep(delay);
+        attempt++;
+      } catch (MPException ex) {
+        metrics.requestFinished(attempt, false, false);
+        throw ex;
+      }
+    }
+  }
+
+  private static void sleep(long delayMillis) throws MPException {
+    try {
+      Thread.sleep(delayMillis);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new MPException(ex);
+    }
+  }
+}
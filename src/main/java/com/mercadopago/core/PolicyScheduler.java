@@ -0,0 +1,26 @@
+package com.mercadopago.core;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/** Timer thread shared by the async policies to wait without blocking a thread. */
+final class PolicyScheduler {
+  private static final ScheduledExecutorService SCHEDULER =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "mercadopago-policy-scheduler");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private PolicyScheduler() {}
+
+  /**
+   * Shared scheduler. Tasks must be short and never block.
+   *
+   * @return scheduler
+   */
+  static ScheduledExecutorService get() {
+    return SCHEDULER;
+  }
+}
@@ -0,0 +1,23 @@
+package com.mercadopago.exceptions;
+
+import lombok.Getter;
+
+/**
+ * MPBulkheadFullException class. Thrown without sending the request when its bulkhead has no free
+ * slot and none frees up within the queue wait.
+ */
+@Getter
+public class MPBulkheadFullException extends MPException {
+  private final String bulkhead;
+
+  /**
+   * MPBulkheadFullException constructor.
+   *
+   * @param bulkhead name of the bulkhead
+   * @param maxConcurrentCalls concurrent calls allowed by the bulkhead
+   */
+  public MPBulkheadFullException(String bulkhead, int maxConcurrentCalls) {
+    super(String.format("Bulkhead %s is full (%s concurrent calls)", bulkhead, maxConcurrentCalls));
+    this.bulkhead = bulkhead;
+  }
+}
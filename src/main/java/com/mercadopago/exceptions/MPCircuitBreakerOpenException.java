@@ -0,0 +1,26 @@
+package com.mercadopago.exceptions;
+
+import lombok.Getter;
+
+/**
+ * MPCircuitBreakerOpenException class. Thrown without sending the request when the circuit breaker
+ * of its endpoint is open.
+ */
+@Getter
+public class MPCircuitBreakerOpenException extends MPException {
+  private final String endpoint;
+
+  private final long remainingOpenMillis;
+
+  /**
+   * MPCircuitBreakerOpenException constructor.
+   *
+   * @param endpoint method and path template of the rejected request
+   * @param remainingOpenMillis time until the breaker lets probe requests through
+   */
+  public MPCircuitBreakerOpenException(String endpoint, long remainingOpenMillis) {
+    super(String.format("Circuit breaker open for %s", endpoint));
+    this.endpoint = endpoint;
+    this.remainingOpenMillis = remainingOpenMillis;
+  }
+}
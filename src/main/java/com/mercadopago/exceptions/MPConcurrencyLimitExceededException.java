@@ -0,0 +1,23 @@
+package com.mercadopago.exceptions;
+
+import lombok.Getter;
+
+/**
+ * MPConcurrencyLimitExceededException class. Thrown without sending the request when the
+ * concurrency limit is reached and the request could not get a slot within the queue wait.
+ */
+@Getter
+public class MPConcurrencyLimitExceededException extends MPException {
+  private final int limit;
+
+  /**
+   * MPConcurrencyLimitExceededException constructor.
+   *
+   * @param message message
+   * @param limit in-flight limit when the request was rejected
+   */
+  public MPConcurrencyLimitExceededException(String message, int limit) {
+    super(message);
+    this.limit = limit;
+  }
+}
@@ -0,0 +1,22 @@
+package com.mercadopago.exceptions;
+
+import lombok.Getter;
+
+/**
+ * MPDeadlineExceededException class. Thrown without sending the request, or retrying it, when the
+ * deadline set in the request options has passed.
+ */
+@Getter
+public class MPDeadlineExceededException extends MPException {
+  private final long exceededByMillis;
+
+  /**
+   * MPDeadlineExceededException constructor.
+   *
+   * @param exceededByMillis time elapsed since the deadline
+   */
+  public MPDeadlineExceededException(long exceededByMillis) {
+    super(String.format("Deadline exceeded by %sms", exceededByMillis));
+    this.exceededByMillis = exceededByMillis;
+  }
+}
@@ -0,0 +1,24 @@
+package com.mercadopago.exceptions;
+
+import com.mercadopago.core.MPRequestPriority;
+import lombok.Getter;
+
+/**
+ * MPPriorityQueueFullException class. Thrown without sending the request when the priority
+ * scheduler queue is full, or the request waited its whole queue wait without getting a slot.
+ */
+@Getter
+public class MPPriorityQueueFullException extends MPException {
+  private final MPRequestPriority priority;
+
+  /**
+   * MPPriorityQueueFullException constructor.
+   *
+   * @param message message
+   * @param priority priority class of the rejected request
+   */
+  public MPPriorityQueueFullException(String message, MPRequestPriority priority) {
+    super(message);
+    this.priority = priority;
+  }
+}
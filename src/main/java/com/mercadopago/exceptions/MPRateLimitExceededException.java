@@ -0,0 +1,22 @@
+package com.mercadopago.exceptions;
+
+import lombok.Getter;
+
+/**
+ * MPRateLimitExceededException class. Thrown without sending the request when the client-side rate
+ * limit of its access token has no permit left and waiting for one is not allowed.
+ */
+@Getter
+public class MPRateLimitExceededException extends MPException {
+  private final long waitMillis;
+
+  /**
+   * MPRateLimitExceededException constructor.
+   *
+   * @param waitMillis time until a permit would be available
+   */
+  public MPRateLimitExceededException(long waitMillis) {
+    super(String.format("Rate limit exceeded, next permit in %sms", waitMillis));
+    this.waitMillis = waitMillis;
+  }
+}
@@ -0,0 +1,72 @@
+package com.mercadopago.exceptions;
+
+import lombok.Getter;
+
+/**
+ * MPTransportException class. Thrown when a request fails before an API response is received, e.g.
+ * on a connect or read timeout. The phase tells whether the request may have reached the API: a
+ * request that failed before {@link Phase#RESPONSE} was never sent, so it is safe to send again,
+ * while one that failed waiting for the response may have been processed and should be reconciled
+ * before being repeated.
+ */
+@Getter
+public class MPTransportException extends MPException {
+  private final Category category;
+
+  private final Phase phase;
+
+  /**
+   * MPTransportException constructor.
+   *
+   * @param category kind of failure
+   * @param phase phase of the exchange the failure happened in
+   * @param cause cause
+   */
+  public MPTransportException(Category category, Phase phase, Throwable cause) {
+    super(
+        String.format(
+            "Transport failure (%s) during %s: %s", category, phase, cause.getMessage()),
+        cause);
+    this.category = category;
+    this.phase = phase;
+  }
+
+  /**
+   * Whether the request was fully sent, so the API may have processed it.
+   *
+   * @return true if the failure happened waiting for the response
+   */
+  public boolean isRequestSent() {
+    return phase == Phase.RESPONSE;
+  }
+
+  /** Kind of transport failure. */
+  public enum Category {
+    /** No free connection in the pool within the connection request timeout. */
+    POOL_TIMEOUT,
+    /** The connection could not be opened: refused, unreachable, unknown host or timed out. */
+    CONNECT,
+    /** The TLS handshake failed or the server certificate was not trusted. */
+    TLS,
+    /** No data was received within the socket timeout. */
+    READ_TIMEOUT,
+    /** The server broke the HTTP protocol, or the request could not be framed. */
+    PROTOCOL,
+    /** Any other I/O failure, e.g. a connection reset. */
+    IO
+  }
+
+  /** Phase of the exchange, in the order they happen. */
+  public enum Phase {
+    /** Waiting for a connection from the pool. */
+    CONNECTION_LEASE,
+    /** Opening the TCP connection. */
+    CONNECT,
+    /** Negotiating TLS. */
+    TLS_HANDSHAKE,
+    /** Writing the request. */
+    REQUEST,
+    /** Waiting for or reading the response, after the request was sent. */
+    RESPONSE
+  }
+}
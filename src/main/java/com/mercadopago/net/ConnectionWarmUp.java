@@ -0,0 +1,117 @@
+package com.mercadopago.net;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+/**
+ * Opens pooled connections ahead of the first requests. Every connection is leased before any is
+ * released, otherwise the pool would hand the same connection back and only one would be opened.
+ */
+final class ConnectionWarmUp {
+  private static final Logger LOGGER = Logger.getLogger(ConnectionWarmUp.class.getName());
+
+  private ConnectionWarmUp() {}
+
+  /**
+   * Opens up to the given number of connections to a route in the background.
+   *
+   * @param connectionManager pool to fill
+   * @param route route to connect to
+   * @param connections number of connections, capped at the route limit
+   * @param connectTimeout connect timeout in milliseconds
+   * @param leaseTimeout time to wait for each pooled connection in milliseconds
+   * @param executor executor the connections are opened on
+   * @return future of the number of connections opened
+   */
+  static CompletableFuture<Integer> warmUp(
+      PoolingHttpClientConnectionManager connectionManager,
+      HttpRoute route,
+      int connections,
+      int connectTimeout,
+      int leaseTimeout,
+      Executor executor) {
+    int count = Math.min(connections, connectionManager.getMaxPerRoute(route));
+    return CompletableFuture.supplyAsync(
+            () -> lease(connectionManager, route, count, leaseTimeout), executor)
+        .thenCompose(
+            leased -> {
+              List<CompletableFuture<Boolean>> opened = new ArrayList<>();
+              for (HttpClientConnection connection : leased) {
+                opened.add(
+                    CompletableFuture.supplyAsync(
+                        () -> connect(connectionManager, route, connection, connectTimeout),
+                        executor));
+              }
+              return CompletableFuture.allOf(opened.toArray(new CompletableFuture<?>[0]))
+                  .thenApply(
+                      ignored -> {
+                        int total = 0;
+                        for (int i = 0; i < leased.size(); i++) {
+                          if (opened.get(i).join()) {
+                            total++;
+                          }
+                          connectionManager.releaseConnection(
+                              leased.get(i),
+                              null,
+                              KeepAliveStrategy.DEFAULT_KEEP_ALIVE_TIMEOUT_MS,
+                              TimeUnit.MILLISECONDS);
+                        }
+                        LOGGER.fine(String.format("Warmed up %s connections to %s", total, route));
+                        return total;
+                      });
+            });
+  }
+
+  private static List<HttpClientConnection> lease(
+      PoolingHttpClientConnectionManager connectionManager,
+      HttpRoute route,
+      int count,
+      int leaseTimeout) {
+    List<HttpClientConnection> leased = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      try {
+        leased.add(
+            connectionManager
+                .requestConnection(route, null)
+                .get(leaseTimeout, TimeUnit.MILLISECONDS));
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (ExecutionException | ConnectionPoolTimeoutException ex) {
+        LOGGER.fine(String.format("Connection warm-up lease failed: %s", ex.getMessage()));
+        break;
+      }
+    }
+    return leased;
+  }
+
+  private static boolean connect(
+      PoolingHttpClientConnectionManager connectionManager,
+      HttpRoute route,
+      HttpClientConnection connection,
+      int connectTimeout) {
+    if (connection.isOpen()) {
+      return false;
+    }
+    HttpClientContext context = HttpClientContext.create();
+    try {
+      connectionManager.connect(connection, route, connectTimeout, context);
+      connectionManager.routeComplete(connection, route, context);
+      return true;
+    } catch (IOException ex) {
+      LOGGER.fine(String.format("Connection warm-up failed: %s", ex.getMessage()));
+      return false;
+    }
+  }
+}
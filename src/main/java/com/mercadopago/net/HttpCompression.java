@@ -0,0 +1,162 @@
+package com.mercadopago.net;
+
+import com.mercadopago.MercadoPagoConfig;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+
+/** Request body compression and response body decompression shared by the http clients. */
+final class HttpCompression {
+  static final String ACCEPT_ENCODING = "Accept-Encoding";
+
+  static final String CONTENT_ENCODING = "Content-Encoding";
+
+  static final String ACCEPTED_ENCODINGS = "gzip, deflate";
+
+  static final String GZIP = "gzip";
+
+  private static final String X_GZIP = "x-gzip";
+
+  private static final String DEFLATE = "deflate";
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private HttpCompression() {}
+
+  /**
+   * Whether responses may be sent compressed, in which case Accept-Encoding is added.
+   *
+   * @return true to negotiate compressed responses
+   */
+  static boolean acceptsCompressedResponses() {
+    return MercadoPagoConfig.isResponseCompressionEnabled();
+  }
+
+  /**
+   * Whether the request headers already carry the given header, compared case-insensitively.
+   *
+   * @param headers request headers, may be null
+   * @param name header name
+   * @return true if present
+   */
+  static boolean hasHeader(Map<String, String> headers, String name) {
+    if (Objects.isNull(headers)) {
+      return false;
+    }
+    for (String key : headers.keySet()) {
+      if (name.equalsIgnoreCase(key)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Whether a request body of this size must be gzipped, according to the configured threshold.
+   *
+   * @param length body length in bytes
+   * @return true to compress
+   */
+  static boolean shouldCompress(int length) {
+    return MercadoPagoConfig.isRequestCompressionEnabled()
+        && length >= MercadoPagoConfig.getRequestCompressionThreshold();
+  }
+
+  /**
+   * Gzips a request body and records the compression ratio.
+   *
+   * @param body body bytes
+   * @param stats stats to update
+   * @return gzipped body
+   * @throws IOException if compression fails
+   */
+  static byte[] gzip(byte[] body, MPCompressionStats stats) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream(body.length / 2 + 32);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+      gzip.write(body);
+    }
+    byte[] compressed = output.toByteArray();
+    stats.recordRequest(body.length, compressed.length);
+    return compressed;
+  }
+
+  /**
+   * Decodes a response body according to its Content-Encoding header and records the compression
+   * ratio. Bodies without a known encoding are returned untouched.
+   *
+   * @param body body bytes as received
+   * @param contentEncoding Content-Encoding header value, may be null
+   * @param stats stats to update
+   * @return decoded body
+   * @throws IOException if the body cannot be decompressed
+   */
+  static byte[] decode(byte[] body, String contentEncoding, MPCompressionStats stats)
+      throws IOException {
+    if (Objects.isNull(body) || body.length == 0 || Objects.isNull(contentEncoding)) {
+      return body;
+    }
+
+    String encoding = contentEncoding.trim().toLowerCase();
+    byte[] decoded;
+    if (GZIP.equals(encoding) || X_GZIP.equals(encoding)) {
+      decoded = readFully(new GZIPInputStream(new ByteArrayInputStream(body)));
+    } else if (DEFLATE.equals(encoding)) {
+      decoded = inflate(body);
+    } else {
+      return body;
+    }
+    stats.recordResponse(body.length, decoded.length);
+    return decoded;
+  }
+
+  /** Servers disagree on deflate framing, so try zlib first and raw deflate second. */
+  private static byte[] inflate(byte[] body) throws IOException {
+    try {
+      return inflate(body, false);
+    } catch (DataFormatException ex) {
+      try {
+        return inflate(body, true);
+      } catch (DataFormatException rawEx) {
+        throw new IOException("Invalid deflate response body", rawEx);
+      }
+    }
+  }
+
+  private static byte[] inflate(byte[] body, boolean nowrap) throws DataFormatException {
+    Inflater inflater = new Inflater(nowrap);
+    try {
+      inflater.setInput(body);
+      ByteArrayOutputStream output = new ByteArrayOutputStream(body.length * 4);
+      byte[] buffer = new byte[BUFFER_SIZE];
+      while (!inflater.finished()) {
+        int count = inflater.inflate(buffer);
+        if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          break;
+        }
+        output.write(buffer, 0, count);
+      }
+      return output.toByteArray();
+    } finally {
+      inflater.end();
+    }
+  }
+
+  private static byte[] readFully(InputStream input) throws IOException {
+    try (InputStream stream = input) {
+      ByteArrayOutputStream output = new ByteArrayOutputStream(BUFFER_SIZE);
+      byte[] buffer = new byte[BUFFER_SIZE];
+      int count;
+      while ((count = stream.read(buffer)) != -1) {
+        output.write(buffer, 0, count);
+      }
+      return output.toByteArray();
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.mercadopago.net;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.config.Registry;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+/** Pooling connection manager that reports how long every lease waits for a connection. */
+class InstrumentedConnectionManager extends PoolingHttpClientConnectionManager {
+  private final MPHttpClientStats stats;
+
+  InstrumentedConnectionManager(
+      Registry<ConnectionSocketFactory> registry, MPHttpClientStats stats) {
+    super(registry);
+    this.stats = stats;
+  }
+
+  @Override
+  public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+    final ConnectionRequest request = super.requestConnection(route, state);
+    return new ConnectionRequest() {
+      @Override
+      public HttpClientConnection get(long timeout, TimeUnit timeUnit)
+          throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+        long start = stats.leaseStarted();
+        boolean timedOut = false;
+        try {
+          return request.get(timeout, timeUnit);
+        } catch (ConnectionPoolTimeoutException ex) {
+          timedOut = true;
+          throw ex;
+        } finally {
+          stats.leaseFinished(start, timedOut);
+        }
+      }
+
+      @Override
+      public boolean cancel() {
+        return request.cancel();
+      }
+    };
+  }
+}
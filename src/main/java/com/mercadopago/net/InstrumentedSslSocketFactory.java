@@ -0,0 +1,39 @@
+package com.mercadopago.net;
+
+import java.io.IOException;
+import java.net.Socket;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSocket;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * SSL socket factory that counts handshakes. A session created before the handshake started was
+ * taken from the session cache, so the handshake was a resumption.
+ */
+class InstrumentedSslSocketFactory extends SSLConnectionSocketFactory {
+  private final MPHttpClientStats stats;
+
+  InstrumentedSslSocketFactory(
+      SSLContext sslContext, String[] protocols, String[] cipherSuites, MPHttpClientStats stats) {
+    super(
+        sslContext,
+        protocols,
+        cipherSuites,
+        SSLConnectionSocketFactory.getDefaultHostnameVerifier());
+    this.stats = stats;
+  }
+
+  @Override
+  public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context)
+      throws IOException {
+    long start = System.currentTimeMillis();
+    Socket layered = super.createLayeredSocket(socket, target, port, context);
+    if (layered instanceof SSLSocket) {
+      SSLSession session = ((SSLSocket) layered).getSession();
+      stats.recordTlsHandshake(session.getCreationTime() < start);
+    }
+    return layered;
+  }
+}
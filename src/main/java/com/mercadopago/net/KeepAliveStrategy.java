@@ -11,7 +11,7 @@ import org.apache.http.protocol.HttpContext;
 /** KeepAliveStrategy class. */
 public class KeepAliveStrategy implements ConnectionKeepAliveStrategy {
 
-  private static final int DEFAULT_KEEP_ALIVE_TIMEOUT_MS = 10000;
+  static final int DEFAULT_KEEP_ALIVE_TIMEOUT_MS = 10000;
 
   private static final String KEEP_ALIVE_TIMEOUT_PARAM_NAME = "timeout";
 
@@ -0,0 +1,29 @@
+package com.mercadopago.net;
+
+import java.util.concurrent.CompletableFuture;
+
+/** MPAsyncHttpClient interface. */
+public interface MPAsyncHttpClient {
+
+  /**
+   * Method responsible to send a request without blocking the calling thread.
+   *
+   * @param request request
+   * @return future completed with the response, or completed exceptionally with an MPException or
+   *     MPApiException
+   */
+  CompletableFuture<MPResponse> sendAsync(MPRequest request);
+
+  /**
+   * This client, or the client it decorates, as the given type. Reaches the transport behind the
+   * request policies, e.g. {@code
+   * MercadoPagoConfig.getAsyncHttpClient().unwrap(MPDefaultAsyncHttpClient.class)}.
+   *
+   * @param type type of the client
+   * @param <T> type
+   * @return client of that type, or null if neither this client nor the ones it decorates are
+   */
+  default <T> T unwrap(Class<T> type) {
+    return type.isInstance(this) ? type.cast(this) : null;
+  }
+}
@@ -0,0 +1,110 @@
+package com.mercadopago.net;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compression counters of an http client. Request figures only cover bodies that were gzipped,
+ * response figures only cover bodies the API sent with a Content-Encoding.
+ */
+public class MPCompressionStats {
+  private final LongAdder compressedRequests = new LongAdder();
+
+  private final LongAdder requestBytesBeforeCompression = new LongAdder();
+
+  private final LongAdder requestBytesAfterCompression = new LongAdder();
+
+  private final LongAdder compressedResponses = new LongAdder();
+
+  private final LongAdder responseBytesBeforeDecompression = new LongAdder();
+
+  private final LongAdder responseBytesAfterDecompression = new LongAdder();
+
+  /**
+   * Number of request bodies sent gzipped.
+   *
+   * @return compressed requests
+   */
+  public long getCompressedRequests() {
+    return compressedRequests.sum();
+  }
+
+  /**
+   * Size of the gzipped request bodies before compression.
+   *
+   * @return bytes
+   */
+  public long getRequestBytesBeforeCompression() {
+    return requestBytesBeforeCompression.sum();
+  }
+
+  /**
+   * Size of the gzipped request bodies as sent on the wire.
+   *
+   * @return bytes
+   */
+  public long getRequestBytesAfterCompression() {
+    return requestBytesAfterCompression.sum();
+  }
+
+  /**
+   * Number of response bodies received compressed.
+   *
+   * @return compressed responses
+   */
+  public long getCompressedResponses() {
+    return compressedResponses.sum();
+  }
+
+  /**
+   * Size of the compressed response bodies as received on the wire.
+   *
+   * @return bytes
+   */
+  public long getResponseBytesBeforeDecompression() {
+    return responseBytesBeforeDecompression.sum();
+  }
+
+  /**
+   * Size of the compressed response bodies once decompressed.
+   *
+   * @return bytes
+   */
+  public long getResponseBytesAfterDecompression() {
+    return responseBytesAfterDecompression.sum();
+  }
+
+  /**
+   * Wire size divided by original size of the compressed request bodies, 1.0 when none was sent.
+   *
+   * @return request compression ratio
+   */
+  public double getRequestCompressionRatio() {
+    return ratio(getRequestBytesAfterCompression(), getRequestBytesBeforeCompression());
+  }
+
+  /**
+   * Wire size divided by decompressed size of the compressed response bodies, 1.0 when none was
+   * received.
+   *
+   * @return response compression ratio
+   */
+  public double getResponseCompressionRatio() {
+    return ratio(getResponseBytesBeforeDecompression(), getResponseBytesAfterDecompression());
+  }
+
+  void recordRequest(long originalBytes, long compressedBytes) {
+    compressedRequests.increment();
+    requestBytesBeforeCompression.add(originalBytes);
+    requestBytesAfterCompression.add(compressedBytes);
+  }
+
+  void recordResponse(long compressedBytes, long decompressedBytes) {
+    compressedResponses.increment();
+    responseBytesBeforeDecompression.add(compressedBytes);
+    responseBytesAfterDecompression.add(decompressedBytes);
+  }
+
+  private static double ratio(long wireBytes, long originalBytes) {
+    return originalBytes == 0 ? 1.0 : (double) wireBytes / originalBytes;
+  }
+}
@@ -0,0 +1,460 @@
+package com.mercadopago.net;
+
+import com.mercadopago.MercadoPagoConfig;
+import com.mercadopago.MercadoPagoContext;
+import com.mercadopago.core.MPDeadline;
+import com.mercadopago.core.MPLogging;
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPDeadlineExceededException;
+import com.mercadopago.exceptions.MPException;
+import com.mercadopago.exceptions.MPMalformedRequestException;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import javax.net.ssl.SSLContext;
+import org.apache.commons.lang.StringUtils;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.DefaultHttpRequestRetryStrategy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.ProtocolException;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.config.H2Config;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.reactor.IOReactorStatus;
+import org.apache.hc.core5.util.DeadlineTimeoutException;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+/**
+ * Mercado Pago default asynchronous Http Client class. Requests are multiplexed over the
+ * httpclient5 I/O reactor, so in-flight calls do not hold a thread while waiting for the API.
+ */
+public class MPDefaultAsyncHttpClient implements MPAsyncHttpClient, Closeable {
+  private static final int VALIDATE_INACTIVITY_INTERVAL_MS = 30000;
+
+  private static final int DEFAULT_KEEP_ALIVE_TIMEOUT_MS = 10000;
+
+  private static final int DEFAULT_RETRIES = 3;
+
+  private static final int HTTPS_PORT = 443;
+
+  private static final String PAYLOAD_NOT_SUPPORTED_MESSAGE =
+      "Payload not supported for this method.";
+
+  /** Context attribute set once the request is handed to the connection to be written. */
+  private static final String REQUEST_SENT_ATTRIBUTE = "mp.request-sent";
+
+  private static final Logger LOGGER = Logger.getLogger(MPDefaultAsyncHttpClient.class.getName());
+
+  private final CloseableHttpAsyncClient httpClient;
+
+  private final MercadoPagoContext context;
+
+  private final MPCompressionStats compressionStats = new MPCompressionStats();
+
+  private final MPHttp2StreamMetrics streamMetrics =
+      new MPHttp2StreamMetrics(MercadoPagoConfig.getHttp2MaxConcurrentStreams());
+
+  /** MPDefaultAsyncHttpClient constructor. */
+  public MPDefaultAsyncHttpClient() {
+    this(MercadoPagoContext.getDefault(), null);
+  }
+
+  /**
+   * MPDefaultAsyncHttpClient constructor with its own connection pool, sized and configured from
+   * the context.
+   *
+   * @param context context providing the timeouts, connection limit and proxy
+   */
+  public MPDefaultAsyncHttpClient(MercadoPagoContext context) {
+    this(context, null);
+  }
+
+  /** MPDefaultAsyncHttpClient constructor for testing only. */
+  protected MPDefaultAsyncHttpClient(CloseableHttpAsyncClient httpClient) {
+    this(MercadoPagoContext.getDefault(), httpClient);
+  }
+
+  private MPDefaultAsyncHttpClient(
+      MercadoPagoContext context, CloseableHttpAsyncClient httpClient) {
+    this.context = context;
+    MPLogging.configure(LOGGER);
+
+    if (Objects.isNull(httpClient)) {
+      this.httpClient = createHttpClient();
+    } else {
+      this.httpClient = httpClient;
+    }
+
+    if (this.httpClient.getStatus() == IOReactorStatus.INACTIVE) {
+      this.httpClient.start();
+    }
+  }
+
+  /**
+   * Request and response compression counters of this client.
+   *
+   * @return compression stats
+   */
+  public MPCompressionStats getCompressionStats() {
+    return compressionStats;
+  }
+
+  /**
+   * HTTP/2 stream metrics. Only populated when the client runs in HTTP/2 mode.
+   *
+   * @return stream metrics
+   */
+  public MPHttp2StreamMetrics getStreamMetrics() {
+    return streamMetrics;
+  }
+
+  private CloseableHttpAsyncClient createHttpClient() {
+    if (MercadoPagoConfig.isHttp2Enabled()) {
+      if (Objects.isNull(context.getProxy())) {
+        return createHttp2Client();
+      }
+      LOGGER.warning("HTTP/2 mode does not support proxies, falling back to HTTP/1.1");
+    }
+
+    SSLContext sslContext = TlsSettings.createSslContext();
+    String[] protocols = TlsSettings.protocols(sslContext);
+    RouteLimits routeLimits = RouteLimits.forContext(context);
+    PoolingAsyncClientConnectionManager connectionManager =
+        PoolingAsyncClientConnectionManagerBuilder.create()
+            .setTlsStrategy(
+                ClientTlsStrategyBuilder.create()
+                    .setSslContext(sslContext)
+                    .setTlsVersions(protocols)
+                    .setCiphers(TlsSettings.cipherSuites())
+                    .build())
+            .setDefaultTlsConfig(
+                TlsConfig.custom()
+                    .setSupportedProtocols(protocols)
+                    .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_1)
+                    .build())
+            .setDefaultConnectionConfig(
+                ConnectionConfig.custom()
+                    .setConnectTimeout(Timeout.ofMilliseconds(context.getConnectionTimeout()))
+                    .setSocketTimeout(Timeout.ofMilliseconds(context.getSocketTimeout()))
+                    .setValidateAfterInactivity(
+                        TimeValue.ofMilliseconds(VALIDATE_INACTIVITY_INTERVAL_MS))
+                    .build())
+            .setMaxConnTotal(routeLimits.getMaxTotal())
+            .setMaxConnPerRoute(routeLimits.getDefaultMaxPerRoute())
+            .build();
+    for (Map.Entry<String, Integer> hostLimit : routeLimits.getHostLimits().entrySet()) {
+      connectionManager.setMaxPerRoute(httpsRoute(hostLimit.getKey()), hostLimit.getValue());
+    }
+
+    HttpAsyncClientBuilder httpClientBuilder =
+        HttpAsyncClients.custom()
+            .setConnectionManager(connectionManager)
+            .addRequestInterceptorLast(
+                (request, entityDetails, httpContext) ->
+                    httpContext.setAttribute(REQUEST_SENT_ATTRIBUTE, Boolean.TRUE))
+            .setRetryStrategy(new IoFailureRetryStrategy())
+            .disableCookieManagement()
+            .disableRedirectHandling();
+
+    if (Objects.nonNull(context.getProxy())) {
+      org.apache.http.HttpHost proxy = context.getProxy();
+      httpClientBuilder.setProxy(
+          new HttpHost(proxy.getSchemeName(), proxy.getHostName(), proxy.getPort()));
+    }
+
+    return httpClientBuilder.build();
+  }
+
+  /** Same route the client plans for an https request to the host, so pool limits apply to it. */
+  private HttpRoute httpsRoute(String host) {
+    HttpHost target = new HttpHost("https", host, HTTPS_PORT);
+    org.apache.http.HttpHost proxy = context.getProxy();
+    if (Objects.nonNull(proxy)) {
+      return new HttpRoute(
+          target,
+          null,
+          new HttpHost(proxy.getSchemeName(), proxy.getHostName(), proxy.getPort()),
+          true);
+    }
+    return new HttpRoute(target, null, true);
+  }
+
+  /**
+   * HTTP/2 client keeping a single multiplexed connection per host, so concurrent requests become
+   * streams instead of waiting for a pooled connection lease.
+   */
+  private CloseableHttpAsyncClient createHttp2Client() {
+    SSLContext sslContext = TlsSettings.createSslContext();
+    return HttpAsyncClients.customHttp2()
+        .setTlsStrategy(
+            ClientTlsStrategyBuilder.create()
+                .setSslContext(sslContext)
+                .setTlsVersions(TlsSettings.protocols(sslContext))
+                .setCiphers(TlsSettings.cipherSuites())
+                .build())
+        .setH2Config(
+            H2Config.custom()
+                .setMaxConcurrentStreams(MercadoPagoConfig.getHttp2MaxConcurrentStreams())
+                .setPushEnabled(false)
+                .build())
+        .setIOReactorConfig(
+            IOReactorConfig.custom()
+                .setSoTimeout(Timeout.ofMilliseconds(context.getSocketTimeout()))
+                .build())
+        .setDefaultConnectionConfig(
+            ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(context.getConnectionTimeout()))
+                .setSocketTimeout(Timeout.ofMilliseconds(context.getSocketTimeout()))
+                .build())
+        .addRequestInterceptorLast(
+            (request, entityDetails, context) -> {
+              streamMetrics.streamOpened(context);
+              context.setAttribute(REQUEST_SENT_ATTRIBUTE, Boolean.TRUE);
+            })
+        .setIOSessionListener(streamMetrics)
+        .setRetryStrategy(new IoFailureRetryStrategy())
+        .disableCookieManagement()
+        .disableRedirectHandling()
+        .build();
+  }
+
+  @Override
+  public CompletableFuture<MPResponse> sendAsync(MPRequest mpRequest) {
+    CompletableFuture<MPResponse> future = new CompletableFuture<>();
+    SimpleHttpRequest request;
+    try {
+      MPDeadline.check(mpRequest.getDeadline());
+      request = createHttpRequest(mpRequest);
+    } catch (MPMalformedRequestException | MPDeadlineExceededException ex) {
+      future.completeExceptionally(ex);
+      return future;
+    }
+
+    MPLogging.logRequest(LOGGER, mpRequest);
+    HttpClientContext context = HttpClientContext.create();
+    Future<SimpleHttpResponse> execution;
+    try {
+      execution =
+          httpClient.execute(
+              request, context, new ResponseCallback(future, context, compressionStats));
+    } catch (RuntimeException ex) {
+      streamMetrics.streamClosed(context);
+      future.completeExceptionally(new MPException(ex));
+      return future;
+    }
+
+    future.whenComplete(
+        (response, throwable) -> {
+          streamMetrics.streamClosed(context);
+          if (future.isCancelled()) {
+            execution.cancel(true);
+          }
+        });
+    return future;
+  }
+
+  /** Shuts down the I/O reactor and closes every pooled connection. */
+  @Override
+  public void close() throws IOException {
+    httpClient.close();
+  }
+
+  @SuppressWarnings("deprecation")
+  private SimpleHttpRequest createHttpRequest(MPRequest mpRequest)
+      throws MPMalformedRequestException {
+    HttpMethod method = mpRequest.getMethod();
+    if (Objects.isNull(method)) {
+      throw new MPMalformedRequestException(
+          "HttpMethod must be either \"GET\", \"POST\", \"PUT\", \"PATCH\" or \"DELETE\".");
+    }
+
+    if (StringUtils.isEmpty(mpRequest.getUri())) {
+      throw new MPMalformedRequestException("Uri can not be an empty String.");
+    }
+
+    boolean hasPayload =
+        Objects.nonNull(mpRequest.getPayload()) && mpRequest.getPayload().size() != 0;
+    if ((method.equals(HttpMethod.GET) || method.equals(HttpMethod.DELETE)) && hasPayload) {
+      throw new MPMalformedRequestException(PAYLOAD_NOT_SUPPORTED_MESSAGE);
+    }
+
+    SimpleRequestBuilder builder =
+        SimpleRequestBuilder.create(method.name()).setUri(mpRequest.getUri());
+
+    if (Objects.nonNull(mpRequest.getHeaders())) {
+      for (Map.Entry<String, String> header : mpRequest.getHeaders().entrySet()) {
+        builder.addHeader(header.getKey(), header.getValue());
+      }
+    }
+
+    if (HttpCompression.acceptsCompressedResponses()
+        && !HttpCompression.hasHeader(mpRequest.getHeaders(), HttpCompression.ACCEPT_ENCODING)) {
+      builder.addHeader(HttpCompression.ACCEPT_ENCODING, HttpCompression.ACCEPTED_ENCODINGS);
+    }
+
+    if (hasPayload) {
+      byte[] body = mpRequest.getPayload().toString().getBytes(StandardCharsets.UTF_8);
+      if (HttpCompression.shouldCompress(body.length)) {
+        try {
+          body = HttpCompression.gzip(body, compressionStats);
+        } catch (IOException ex) {
+          throw new MPMalformedRequestException(ex);
+        }
+        builder.addHeader(HttpCompression.CONTENT_ENCODING, HttpCompression.GZIP);
+      }
+      builder.setBody(body, ContentType.APPLICATION_JSON);
+    }
+
+    int socketTimeout =
+        mpRequest.getSocketTimeout() != 0
+            ? mpRequest.getSocketTimeout()
+            : context.getSocketTimeout();
+    int connectionTimeout =
+        mpRequest.getConnectionTimeout() != 0
+            ? mpRequest.getConnectionTimeout()
+            : context.getConnectionTimeout();
+    int connectionRequestTimeout =
+        mpRequest.getConnectionRequestTimeout() != 0
+            ? mpRequest.getConnectionRequestTimeout()
+            : context.getConnectionRequestTimeout();
+    MPDeadline deadline = mpRequest.getDeadline();
+    builder.setRequestConfig(
+        RequestConfig.custom()
+            .setResponseTimeout(
+                Timeout.ofMilliseconds(MPDeadline.capTimeout(deadline, socketTimeout)))
+            .setConnectTimeout(
+                Timeout.ofMilliseconds(MPDeadline.capTimeout(deadline, connectionTimeout)))
+            .setConnectionRequestTimeout(
+                Timeout.ofMilliseconds(MPDeadline.capTimeout(deadline, connectionRequestTimeout)))
+            .setDefaultKeepAlive(DEFAULT_KEEP_ALIVE_TIMEOUT_MS, TimeUnit.MILLISECONDS)
+            .build());
+
+    return builder.build();
+  }
+
+  private static MPResponse toMPResponse(
+      SimpleHttpResponse response, MPCompressionStats compressionStats) throws IOException {
+    ContentType contentType = response.getContentType();
+    Charset charset =
+        Objects.nonNull(contentType) && Objects.nonNull(contentType.getCharset())
+            ? contentType.getCharset()
+            : StandardCharsets.UTF_8;
+    Header contentEncoding = response.getFirstHeader(HttpCompression.CONTENT_ENCODING);
+    byte[] body =
+        HttpCompression.decode(
+            response.getBodyBytes(),
+            Objects.nonNull(contentEncoding) ? contentEncoding.getValue() : null,
+            compressionStats);
+    return new MPResponse(response.getCode(), getHeaders(response), body, charset);
+  }
+
+  private static Map<String, List<String>> getHeaders(HttpResponse response) {
+    Map<String, List<String>> headers = new HashMap<>();
+    for (Header header : response.getHeaders()) {
+      if (!headers.containsKey(header.getName())) {
+        headers.put(header.getName(), new ArrayList<>());
+      }
+      headers.get(header.getName()).add(header.getValue());
+    }
+    return headers;
+  }
+
+  /** Completes the SDK future with the same outcomes MPDefaultHttpClient.send produces. */
+  private static class ResponseCallback implements FutureCallback<SimpleHttpResponse> {
+    private final CompletableFuture<MPResponse> future;
+
+    private final HttpClientContext context;
+
+    private final MPCompressionStats compressionStats;
+
+    ResponseCallback(
+        CompletableFuture<MPResponse> future,
+        HttpClientContext context,
+        MPCompressionStats compressionStats) {
+      this.future = future;
+      this.context = context;
+      this.compressionStats = compressionStats;
+    }
+
+    @Override
+    public void completed(SimpleHttpResponse response) {
+      try {
+        MPResponse mpResponse = toMPResponse(response, compressionStats);
+        if (mpResponse.getStatusCode() > 299) {
+          future.completeExceptionally(
+              new MPApiException("Api error. Check response for details", mpResponse));
+          return;
+        }
+
+        MPLogging.logResponse(LOGGER, mpResponse);
+        future.complete(mpResponse);
+      } catch (IOException ex) {
+        future.completeExceptionally(TransportFailures.classify(ex, true));
+      } catch (Exception ex) {
+        future.completeExceptionally(new MPException(ex));
+      }
+    }
+
+    @Override
+    public void failed(Exception ex) {
+      if (ex instanceof IOException
+          || ex instanceof ProtocolException
+          || ex instanceof DeadlineTimeoutException) {
+        MPLogging.logFailure(LOGGER, ex);
+        boolean requestSent = Objects.nonNull(context.getAttribute(REQUEST_SENT_ATTRIBUTE));
+        future.completeExceptionally(TransportFailures.classify(ex, requestSent));
+      } else {
+        future.completeExceptionally(new MPException(ex));
+      }
+    }
+
+    @Override
+    public void cancelled() {
+      future.cancel(false);
+    }
+  }
+
+  /**
+   * Retries I/O failures only, matching the DefaultHttpRequestRetryHandler used by the blocking
+   * client. Responses are never retried at this level.
+   */
+  private static class IoFailureRetryStrategy extends DefaultHttpRequestRetryStrategy {
+    IoFailureRetryStrategy() {
+      super(DEFAULT_RETRIES, TimeValue.ZERO_MILLISECONDS);
+    }
+
+    @Override
+    public boolean retryRequest(HttpResponse response, int execCount, HttpContext context) {
+      return false;
+    }
+  }
+}
@@ -1,30 +1,33 @@
 package com.mercadopago.net;
 
-import static com.mercadopago.MercadoPagoConfig.getStreamHandler;
-import static com.mercadopago.net.HttpStatus.BAD_REQUEST;
-import static com.mercadopago.net.HttpStatus.FORBIDDEN;
-import static com.mercadopago.net.HttpStatus.INTERNAL_SERVER_ERROR;
-
 import com.google.gson.JsonObject;
 import com.mercadopago.MercadoPagoConfig;
+import com.mercadopago.MercadoPagoContext;
+import com.mercadopago.core.MPDeadline;
+import com.mercadopago.core.MPLogging;
 import com.mercadopago.exceptions.MPApiException;
 import com.mercadopago.exceptions.MPException;
 import com.mercadopago.exceptions.MPMalformedRequestException;
+import com.mercadopago.exceptions.MPTransportException;
+import java.io.Closeable;
 import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
-import java.util.logging.StreamHandler;
 import javax.net.ssl.SSLContext;
-import javax.net.ssl.SSLPeerUnverifiedException;
 import org.apache.commons.lang.StringUtils;
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
 import org.apache.http.HttpResponse;
-import org.apache.http.client.ClientProtocolException;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.HttpDelete;
@@ -36,83 +39,181 @@ import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.config.Registry;
 import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.conn.socket.ConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.entity.StringEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.client.IdleConnectionEvictor;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicHeader;
-import org.apache.http.message.BasicHttpResponse;
-import org.apache.http.message.BasicStatusLine;
-import org.apache.http.ssl.SSLContexts;
 import org.apache.http.util.EntityUtils;
 
 /** Mercado Pago default Http Client class. */
-public class MPDefaultHttpClient implements MPHttpClient {
+public class MPDefaultHttpClient implements MPHttpClient, Closeable {
   private static final int VALIDATE_INACTIVITY_INTERVAL_MS = 30000;
 
   private static final int DEFAULT_RETRIES = 3;
 
-  private static final String UTF_8 = "UTF-8";
+  private static final int HTTPS_PORT = 443;
 
   private static final String PAYLOAD_NOT_SUPPORTED_MESSAGE =
       "Payload not supported for this method.";
 
-  private static final String HEADER_LOG_FORMAT = "%s: %s%s";
-
   private static final Logger LOGGER = Logger.getLogger(MPDefaultHttpClient.class.getName());
 
   private final HttpClient httpClient;
 
+  private final MercadoPagoContext context;
+
+  private final MPCompressionStats compressionStats = new MPCompressionStats();
+
+  private final MPHttpClientStats stats = new MPHttpClientStats();
+
+  private PoolingHttpClientConnectionManager connectionManager;
+
+  private IdleConnectionEvictor connectionEvictor;
+
   /** MPDefaultHttpClient constructor. */
   public MPDefaultHttpClient() {
-    this(null);
+    this(MercadoPagoContext.getDefault(), null);
+  }
+
+  /**
+   * MPDefaultHttpClient constructor with its own connection pool, sized and configured from the
+   * context.
+   *
+   * @param context context providing the timeouts, connection limit and proxy
+   */
+  public MPDefaultHttpClient(MercadoPagoContext context) {
+    this(context, null);
   }
 
   /** MPDefaultHttpClient constructor for testing only. */
   protected MPDefaultHttpClient(HttpClient httpClient) {
-    StreamHandler streamHandler = getStreamHandler();
-    streamHandler.setLevel(MercadoPagoConfig.getLoggingLevel());
-    LOGGER.addHandler(streamHandler);
-    LOGGER.setLevel(MercadoPagoConfig.getLoggingLevel());
+    this(MercadoPagoContext.getDefault(), httpClient);
+  }
+
+  private MPDefaultHttpClient(MercadoPagoContext context, HttpClient httpClient) {
+    this.context = context;
+    MPLogging.configure(LOGGER);
 
     if (Objects.isNull(httpClient)) {
       this.httpClient = createHttpClient();
+      if (context.getWarmUpConnections() > 0) {
+        warmUp(context.getWarmUpConnections());
+      }
     } else {
       this.httpClient = httpClient;
     }
   }
 
+  /**
+   * Opens connections to {@link MercadoPagoConfig#BASE_URL} in the background so the first
+   * requests skip the TCP and TLS handshake. Called on creation when {@link
+   * MercadoPagoContext#getWarmUpConnections()} is set. Does nothing when a proxy is configured or
+   * the client was built around a custom {@link HttpClient}.
+   *
+   * @param connections number of connections to open, capped at the per-route limit
+   * @return future of the number of connections opened
+   */
+  public CompletableFuture<Integer> warmUp(int connections) {
+    if (Objects.isNull(connectionManager) || Objects.nonNull(context.getProxy())) {
+      return CompletableFuture.completedFuture(0);
+    }
+    return ConnectionWarmUp.warmUp(
+        connectionManager,
+        httpsRoute(URI.create(MercadoPagoConfig.BASE_URL).getHost()),
+        connections,
+        context.getConnectionTimeout(),
+        context.getConnectionRequestTimeout(),
+        MercadoPagoConfig.getAsyncExecutor());
+  }
+
+  /**
+   * Request and response compression counters of this client.
+   *
+   * @return compression stats
+   */
+  public MPCompressionStats getCompressionStats() {
+    return compressionStats;
+  }
+
+  /**
+   * Connection pool statistics of this client. Pool counters are empty when the client was built
+   * around a custom {@link HttpClient}.
+   *
+   * @return client stats
+   */
+  public MPHttpClientStats getStats() {
+    return stats;
+  }
+
+  /** Stops the idle connection evictor and closes every pooled connection. */
+  @Override
+  public void close() throws IOException {
+    if (Objects.nonNull(connectionEvictor)) {
+      connectionEvictor.shutdown();
+    }
+    if (httpClient instanceof Closeable) {
+      ((Closeable) httpClient).close();
+    }
+  }
+
+  /** Same route the client plans for an https request to the host, so pool limits apply to it. */
+  private HttpRoute httpsRoute(String host) {
+    HttpHost target = new HttpHost(host, HTTPS_PORT, "https");
+    HttpHost proxy = context.getProxy();
+    if (Objects.nonNull(proxy)) {
+      return new HttpRoute(target, null, proxy, true);
+    }
+    return new HttpRoute(target, null, true);
+  }
+
   private HttpClient createHttpClient() {
-    SSLContext sslContext = SSLContexts.createDefault();
+    SSLContext sslContext = TlsSettings.createSslContext();
     SSLConnectionSocketFactory sslConnectionSocketFactory =
-        new SSLConnectionSocketFactory(
-            sslContext,
-            new String[] {"TLSv1.2"},
-            null,
-            SSLConnectionSocketFactory.getDefaultHostnameVerifier());
+        new InstrumentedSslSocketFactory(
+            sslContext, TlsSettings.protocols(sslContext), TlsSettings.cipherSuites(), stats);
     Registry<ConnectionSocketFactory> registry =
         RegistryBuilder.<ConnectionSocketFactory>create()
             .register("https", sslConnectionSocketFactory)
             .build();
 
-    PoolingHttpClientConnectionManager connectionManager =
-        new PoolingHttpClientConnectionManager(registry);
-    connectionManager.setMaxTotal(MercadoPagoConfig.getMaxConnections());
-    connectionManager.setDefaultMaxPerRoute(MercadoPagoConfig.getMaxConnections());
+    connectionManager = new InstrumentedConnectionManager(registry, stats);
+    stats.setConnectionPool(connectionManager);
+    RouteLimits routeLimits = RouteLimits.forContext(context);
+    connectionManager.setMaxTotal(routeLimits.getMaxTotal());
+    connectionManager.setDefaultMaxPerRoute(routeLimits.getDefaultMaxPerRoute());
+    for (Map.Entry<String, Integer> hostLimit : routeLimits.getHostLimits().entrySet()) {
+      connectionManager.setMaxPerRoute(httpsRoute(hostLimit.getKey()), hostLimit.getValue());
+    }
     connectionManager.setValidateAfterInactivity(VALIDATE_INACTIVITY_INTERVAL_MS);
 
+    if (MercadoPagoConfig.isConnectionEvictionEnabled()) {
+      connectionEvictor =
+          new IdleConnectionEvictor(
+              connectionManager,
+              MercadoPagoConfig.getConnectionEvictionInterval(),
+              TimeUnit.MILLISECONDS,
+              MercadoPagoConfig.getIdleConnectionTimeout(),
+              TimeUnit.MILLISECONDS);
+      connectionEvictor.start();
+    }
+
     HttpClientBuilder httpClientBuilder =
         HttpClients.custom()
             .setConnectionManager(connectionManager)
             .setKeepAliveStrategy(new KeepAliveStrategy())
+            .disableContentCompression()
             .disableCookieManagement()
             .disableRedirectHandling();
 
-    if (Objects.nonNull(MercadoPagoConfig.getProxy())) {
-      httpClientBuilder.setProxy(MercadoPagoConfig.getProxy());
+    if (Objects.nonNull(context.getProxy())) {
+      httpClientBuilder.setProxy(context.getProxy());
     }
 
     if (Objects.nonNull(MercadoPagoConfig.getRetryHandler())) {
@@ -128,41 +229,45 @@ public class MPDefaultHttpClient implements MPHttpClient {
 
   @Override
   public MPResponse send(MPRequest mpRequest) throws MPException, MPApiException {
+    MPDeadline.check(mpRequest.getDeadline());
     try {
       HttpRequestBase completeRequest = createHttpRequest(mpRequest);
       HttpClientContext context = HttpClientContext.create();
 
       HttpResponse response = executeHttpRequest(mpRequest, completeRequest, context);
 
-      String responseBody = "";
-      if (Objects.nonNull(response.getEntity())) {
-        responseBody = EntityUtils.toString(response.getEntity(), UTF_8);
+      byte[] responseBody = new byte[0];
+      Charset charset = StandardCharsets.UTF_8;
+      HttpEntity entity = response.getEntity();
+      if (Objects.nonNull(entity)) {
+        responseBody =
+            HttpCompression.decode(
+                EntityUtils.toByteArray(entity),
+                Objects.nonNull(entity.getContentEncoding())
+                    ? entity.getContentEncoding().getValue()
+                    : null,
+                compressionStats);
+        ContentType contentType = ContentType.get(entity);
+        if (Objects.nonNull(contentType) && Objects.nonNull(contentType.getCharset())) {
+          charset = contentType.getCharset();
+        }
       }
 
       Map<String, List<String>> headers = getHeaders(response);
       int statusCode = response.getStatusLine().getStatusCode();
-      MPResponse mpResponse = new MPResponse(statusCode, headers, responseBody);
+      MPResponse mpResponse = new MPResponse(statusCode, headers, responseBody, charset);
 
       if (statusCode > 299) {
         throw new MPApiException("Api error. Check response for details", mpResponse);
       }
 
-      StringBuilder responseHeaders =
-          new StringBuilder(String.format("Response headers:%s", System.lineSeparator()));
-      for (Header header : response.getAllHeaders()) {
-        responseHeaders.append(
-            String.format(
-                HEADER_LOG_FORMAT, header.getName(), header.getValue(), System.lineSeparator()));
-      }
-      LOGGER.fine(responseHeaders.toString());
-      LOGGER.fine(
-          String.format("Response status code: %s", response.getStatusLine().getStatusCode()));
-      LOGGER.fine(String.format("Response body: %s", responseBody));
-
+      MPLogging.logResponse(LOGGER, mpResponse);
       return mpResponse;
 
-    } catch (MPMalformedRequestException | MPApiException ex) {
+    } catch (MPMalformedRequestException | MPApiException | MPTransportException ex) {
       throw ex;
+    } catch (IOException ex) {
+      throw TransportFailures.classify(ex, true);
     } catch (Exception ex) {
       throw new MPException(ex);
     }
@@ -178,57 +283,48 @@ public class MPDefaultHttpClient implements MPHttpClient {
       request.addHeader(new BasicHeader(header.getKey(), header.getValue()));
     }
 
+    if (HttpCompression.acceptsCompressedResponses()
+        && !request.containsHeader(HttpCompression.ACCEPT_ENCODING)) {
+      request.addHeader(HttpCompression.ACCEPT_ENCODING, HttpCompression.ACCEPTED_ENCODINGS);
+    }
+    if (Objects.nonNull(entity) && Objects.nonNull(entity.getContentEncoding())) {
+      request.addHeader(entity.getContentEncoding());
+    }
+
     int socketTimeout =
         mpRequest.getSocketTimeout() != 0
             ? mpRequest.getSocketTimeout()
-            : MercadoPagoConfig.getSocketTimeout();
+            : context.getSocketTimeout();
     int connectionTimeout =
         mpRequest.getConnectionTimeout() != 0
             ? mpRequest.getConnectionTimeout()
-            : MercadoPagoConfig.getConnectionTimeout();
+            : context.getConnectionTimeout();
     int connectionRequestTimeout =
         mpRequest.getConnectionRequestTimeout() != 0
             ? mpRequest.getConnectionRequestTimeout()
-            : MercadoPagoConfig.getConnectionRequestTimeout();
+            : context.getConnectionRequestTimeout();
+    MPDeadline deadline = mpRequest.getDeadline();
     RequestConfig.Builder requestConfigBuilder =
         RequestConfig.custom()
-            .setSocketTimeout(socketTimeout)
-            .setConnectTimeout(connectionTimeout)
-            .setConnectionRequestTimeout(connectionRequestTimeout);
+            .setSocketTimeout(MPDeadline.capTimeout(deadline, socketTimeout))
+            .setConnectTimeout(MPDeadline.capTimeout(deadline, connectionTimeout))
+            .setConnectionRequestTimeout(
+                MPDeadline.capTimeout(deadline, connectionRequestTimeout));
 
     request.setConfig(requestConfigBuilder.build());
     return request;
   }
 
   private HttpResponse executeHttpRequest(
-      MPRequest mpRequest, HttpRequestBase completeRequest, HttpClientContext context) {
+      MPRequest mpRequest, HttpRequestBase completeRequest, HttpClientContext context)
+      throws MPTransportException {
+    MPLogging.logRequest(LOGGER, mpRequest);
     try {
-      if (Objects.nonNull(mpRequest.getPayload())) {
-        LOGGER.fine(String.format("Request body: %s", mpRequest.getPayload().toString()));
-      }
-
-      StringBuilder headersMessage =
-          new StringBuilder(String.format("Request Headers:%s", System.lineSeparator()));
-      for (Map.Entry<String, String> entry : mpRequest.getHeaders().entrySet()) {
-        headersMessage.append(
-            String.format(
-                HEADER_LOG_FORMAT, entry.getKey(), entry.getValue(), System.lineSeparator()));
-      }
-      LOGGER.fine(headersMessage.toString());
-
       return httpClient.execute(completeRequest, context);
-    } catch (ClientProtocolException e) {
-      LOGGER.fine(String.format("ClientProtocolException: %s", e.getMessage()));
-      return new BasicHttpResponse(
-          new BasicStatusLine(completeRequest.getProtocolVersion(), BAD_REQUEST, null));
-    } catch (SSLPeerUnverifiedException e) {
-      LOGGER.fine(String.format("SSLException: %s", e.getMessage()));
-      return new BasicHttpResponse(
-          new BasicStatusLine(completeRequest.getProtocolVersion(), FORBIDDEN, null));
     } catch (IOException e) {
-      LOGGER.fine(String.format("IOException: %s", e.getMessage()));
-      return new BasicHttpResponse(
-          new BasicStatusLine(completeRequest.getProtocolVersion(), INTERNAL_SERVER_ERROR, null));
+      stats.recordFailure(e);
+      MPLogging.logFailure(LOGGER, e);
+      throw TransportFailures.classify(e, context.isRequestSent());
     }
   }
 
@@ -295,7 +391,15 @@ public class MPDefaultHttpClient implements MPHttpClient {
   private HttpEntity normalizePayload(JsonObject payload) throws MPMalformedRequestException {
     if (payload != null && payload.size() != 0) {
       try {
-        return new StringEntity(payload.toString(), UTF_8);
+        byte[] body = payload.toString().getBytes(StandardCharsets.UTF_8);
+        if (!HttpCompression.shouldCompress(body.length)) {
+          return new ByteArrayEntity(body, ContentType.APPLICATION_JSON);
+        }
+        ByteArrayEntity entity =
+            new ByteArrayEntity(
+                HttpCompression.gzip(body, compressionStats), ContentType.APPLICATION_JSON);
+        entity.setContentEncoding(HttpCompression.GZIP);
+        return entity;
       } catch (Exception ex) {
         throw new MPMalformedRequestException(ex);
       }
@@ -0,0 +1,50 @@
+package com.mercadopago.net;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Blocking Http Client that sends every request through an async client. Used when HTTP/2 mode is
+ * enabled, so blocking callers share the multiplexed connections instead of leasing a pooled
+ * HTTP/1.1 connection each.
+ */
+public class MPHttp2HttpClient implements MPHttpClient {
+  private final MPAsyncHttpClient asyncHttpClient;
+
+  /**
+   * MPHttp2HttpClient constructor.
+   *
+   * @param asyncHttpClient async client used to send the requests
+   */
+  public MPHttp2HttpClient(MPAsyncHttpClient asyncHttpClient) {
+    this.asyncHttpClient = asyncHttpClient;
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> type) {
+    return type.isInstance(this) ? type.cast(this) : asyncHttpClient.unwrap(type);
+  }
+
+  @Override
+  public MPResponse send(MPRequest request) throws MPException, MPApiException {
+    CompletableFuture<MPResponse> future = asyncHttpClient.sendAsync(request);
+    try {
+      return future.get();
+    } catch (InterruptedException ex) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new MPException(ex);
+    } catch (ExecutionException ex) {
+      Throwable cause = ex.getCause();
+      if (cause instanceof MPApiException) {
+        throw (MPApiException) cause;
+      }
+      if (cause instanceof MPException) {
+        throw (MPException) cause;
+      }
+      throw new MPException(cause);
+    }
+  }
+}
@@ -0,0 +1,172 @@
+package com.mercadopago.net;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.hc.core5.http.EndpointDetails;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http.protocol.HttpCoreContext;
+import org.apache.hc.core5.reactor.IOSession;
+import org.apache.hc.core5.reactor.IOSessionListener;
+
+/**
+ * Per-connection stream metrics of the async client. In HTTP/2 mode every in-flight request is a
+ * stream multiplexed over a shared connection, so these numbers show how busy each connection is.
+ * Connections are keyed by their local socket address, which is unique for every open connection.
+ */
+public class MPHttp2StreamMetrics implements IOSessionListener {
+  private static final String STREAM_CONNECTION_ATTRIBUTE = "mp.stream-connection";
+
+  private final int maxConcurrentStreams;
+
+  private final Map<String, ConnectionStreams> connections = new ConcurrentHashMap<>();
+
+  private final LongAdder openedStreams = new LongAdder();
+
+  /**
+   * MPHttp2StreamMetrics constructor.
+   *
+   * @param maxConcurrentStreams concurrent streams limit advertised by the client
+   */
+  public MPHttp2StreamMetrics(int maxConcurrentStreams) {
+    this.maxConcurrentStreams = maxConcurrentStreams;
+  }
+
+  /**
+   * Concurrent streams limit advertised by the client in its SETTINGS frame. The server limit
+   * still applies to the streams the client opens.
+   *
+   * @return max concurrent streams
+   */
+  public int getMaxConcurrentStreams() {
+    return maxConcurrentStreams;
+  }
+
+  /**
+   * Number of open connections that carried at least one stream.
+   *
+   * @return connection count
+   */
+  public int getConnectionCount() {
+    return connections.size();
+  }
+
+  /**
+   * Total streams in flight across every connection.
+   *
+   * @return active streams
+   */
+  public int getActiveStreams() {
+    int total = 0;
+    for (ConnectionStreams streams : connections.values()) {
+      total += streams.activeStreams.get();
+    }
+    return total;
+  }
+
+  /**
+   * Total streams opened since the client was created.
+   *
+   * @return opened streams
+   */
+  public long getOpenedStreams() {
+    return openedStreams.sum();
+  }
+
+  /**
+   * Streams in flight per connection.
+   *
+   * @return map of connection local address to active streams
+   */
+  public Map<String, Integer> getActiveStreamsByConnection() {
+    Map<String, Integer> snapshot = new HashMap<>();
+    for (Map.Entry<String, ConnectionStreams> entry : connections.entrySet()) {
+      snapshot.put(entry.getKey(), entry.getValue().activeStreams.get());
+    }
+    return Collections.unmodifiableMap(snapshot);
+  }
+
+  /**
+   * Highest number of simultaneous streams observed per connection.
+   *
+   * @return map of connection local address to peak active streams
+   */
+  public Map<String, Integer> getPeakStreamsByConnection() {
+    Map<String, Integer> snapshot = new HashMap<>();
+    for (Map.Entry<String, ConnectionStreams> entry : connections.entrySet()) {
+      snapshot.put(entry.getKey(), entry.getValue().peakStreams.get());
+    }
+    return Collections.unmodifiableMap(snapshot);
+  }
+
+  /**
+   * Records a stream opened on the connection bound to the request context. A retried request
+   * releases the stream it held on its previous connection first.
+   *
+   * @param context request context
+   */
+  void streamOpened(HttpContext context) {
+    EndpointDetails endpoint = HttpCoreContext.adapt(context).getEndpointDetails();
+    if (Objects.isNull(endpoint)) {
+      return;
+    }
+    streamClosed(context);
+
+    String key = String.valueOf(endpoint.getLocalAddress());
+    ConnectionStreams streams =
+        connections.computeIfAbsent(key, address -> new ConnectionStreams());
+    int active = streams.activeStreams.incrementAndGet();
+    streams.peakStreams.accumulateAndGet(active, Math::max);
+    openedStreams.increment();
+    context.setAttribute(STREAM_CONNECTION_ATTRIBUTE, key);
+  }
+
+  /**
+   * Releases the stream held by the request context, if any.
+   *
+   * @param context request context
+   */
+  void streamClosed(HttpContext context) {
+    Object key = context.removeAttribute(STREAM_CONNECTION_ATTRIBUTE);
+    if (Objects.isNull(key)) {
+      return;
+    }
+    ConnectionStreams streams = connections.get(key);
+    if (Objects.nonNull(streams)) {
+      streams.activeStreams.decrementAndGet();
+    }
+  }
+
+  @Override
+  public void connected(IOSession session) {}
+
+  @Override
+  public void startTls(IOSession session) {}
+
+  @Override
+  public void inputReady(IOSession session) {}
+
+  @Override
+  public void outputReady(IOSession session) {}
+
+  @Override
+  public void timeout(IOSession session) {}
+
+  @Override
+  public void exception(IOSession session, Exception ex) {}
+
+  @Override
+  public void disconnected(IOSession session) {
+    connections.remove(String.valueOf(session.getLocalAddress()));
+  }
+
+  private static class ConnectionStreams {
+    private final AtomicInteger activeStreams = new AtomicInteger();
+
+    private final AtomicInteger peakStreams = new AtomicInteger();
+  }
+}
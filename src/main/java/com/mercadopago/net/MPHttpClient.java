@@ -14,4 +14,17 @@ public interface MPHttpClient {
    * @throws MPException exception
    */
   MPResponse send(MPRequest request) throws MPException, MPApiException;
+
+  /**
+   * This client, or the client it decorates, as the given type. Reaches the transport behind the
+   * request policies, e.g. {@code
+   * MercadoPagoConfig.getHttpClient().unwrap(MPDefaultHttpClient.class).getStats()}.
+   *
+   * @param type type of the client
+   * @param <T> type
+   * @return client of that type, or null if neither this client nor the ones it decorates are
+   */
+  default <T> T unwrap(Class<T> type) {
+    return type.isInstance(this) ? type.cast(this) : null;
+  }
 }
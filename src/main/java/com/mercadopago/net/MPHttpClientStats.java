@@ -0,0 +1,281 @@
+package com.mercadopago.net;
+
+import com.mercadopago.MercadoPagoConfig;
+import java.net.SocketTimeoutException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+/**
+ * Connection pool statistics of {@link MPDefaultHttpClient}. The Java 11 client only counts its
+ * timeouts, since the JDK does not expose its connections. Lease wait is the time a request
+ * spends waiting for a pooled connection before it is sent, so a growing wait with a full pool
+ * points to pool starvation while a short wait with slow responses points to the API.
+ */
+public class MPHttpClientStats {
+  /** Upper bounds, in milliseconds, of the lease wait histogram buckets. */
+  private static final long[] LEASE_WAIT_BUCKETS_MS = {
+    1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000
+  };
+
+  private static final Logger LOGGER = Logger.getLogger(MPHttpClientStats.class.getName());
+
+  private final LongAdder[] leaseWaitBuckets = new LongAdder[LEASE_WAIT_BUCKETS_MS.length + 1];
+
+  private final LongAdder leases = new LongAdder();
+
+  private final LongAdder totalLeaseWaitNanos = new LongAdder();
+
+  private final AtomicLong maxLeaseWaitNanos = new AtomicLong();
+
+  private final AtomicInteger pendingLeases = new AtomicInteger();
+
+  private final LongAdder leaseTimeouts = new LongAdder();
+
+  private final LongAdder connectTimeouts = new LongAdder();
+
+  private final LongAdder socketTimeouts = new LongAdder();
+
+  private final LongAdder tlsHandshakes = new LongAdder();
+
+  private final LongAdder resumedTlsHandshakes = new LongAdder();
+
+  private volatile PoolingHttpClientConnectionManager connectionPool;
+
+  /** MPHttpClientStats constructor. */
+  MPHttpClientStats() {
+    for (int i = 0; i < leaseWaitBuckets.length; i++) {
+      leaseWaitBuckets[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Totals of the whole pool. All zeros when the client was not built with its own pool.
+   *
+   * @return pool totals
+   */
+  public MPPoolStats getTotalStats() {
+    PoolingHttpClientConnectionManager pool = connectionPool;
+    if (Objects.isNull(pool)) {
+      return new MPPoolStats(0, 0, 0, 0);
+    }
+    return toPoolStats(pool.getTotalStats());
+  }
+
+  /**
+   * Pool counters of every route that has been used, keyed by target host, e.g.
+   * "https://api.mercadopago.com:443".
+   *
+   * @return map of route to pool counters
+   */
+  public Map<String, MPPoolStats> getRouteStats() {
+    PoolingHttpClientConnectionManager pool = connectionPool;
+    if (Objects.isNull(pool)) {
+      return Collections.emptyMap();
+    }
+    Map<String, MPPoolStats> snapshot = new HashMap<>();
+    for (HttpRoute route : pool.getRoutes()) {
+      snapshot.put(route.getTargetHost().toURI(), toPoolStats(pool.getStats(route)));
+    }
+    return Collections.unmodifiableMap(snapshot);
+  }
+
+  /**
+   * Requests currently waiting for a pooled connection, as seen by this client.
+   *
+   * @return pending leases
+   */
+  public int getPendingLeases() {
+    return pendingLeases.get();
+  }
+
+  /**
+   * Number of connection leases requested, including the ones that timed out.
+   *
+   * @return lease count
+   */
+  public long getLeaseCount() {
+    return leases.sum();
+  }
+
+  /**
+   * Average time spent waiting for a pooled connection.
+   *
+   * @return average lease wait in milliseconds
+   */
+  public double getAverageLeaseWaitMillis() {
+    long count = leases.sum();
+    if (count == 0) {
+      return 0;
+    }
+    return totalLeaseWaitNanos.sum() / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  /**
+   * Longest time spent waiting for a pooled connection.
+   *
+   * @return max lease wait in milliseconds
+   */
+  public long getMaxLeaseWaitMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(maxLeaseWaitNanos.get());
+  }
+
+  /**
+   * Lease wait histogram. Keys are bucket upper bounds in milliseconds, in ascending order, and the
+   * last key is {@link Long#MAX_VALUE} for waits longer than every bound.
+   *
+   * @return map of bucket upper bound to lease count
+   */
+  public Map<Long, Long> getLeaseWaitHistogram() {
+    Map<Long, Long> histogram = new LinkedHashMap<>();
+    for (int i = 0; i < LEASE_WAIT_BUCKETS_MS.length; i++) {
+      histogram.put(LEASE_WAIT_BUCKETS_MS[i], leaseWaitBuckets[i].sum());
+    }
+    histogram.put(Long.MAX_VALUE, leaseWaitBuckets[LEASE_WAIT_BUCKETS_MS.length].sum());
+    return Collections.unmodifiableMap(histogram);
+  }
+
+  /**
+   * Requests that gave up waiting for a pooled connection after the connection request timeout.
+   *
+   * @return lease timeouts
+   */
+  public long getLeaseTimeouts() {
+    return leaseTimeouts.sum();
+  }
+
+  /**
+   * Requests that could not open a connection within the connection timeout.
+   *
+   * @return connect timeouts
+   */
+  public long getConnectTimeouts() {
+    return connectTimeouts.sum();
+  }
+
+  /**
+   * Requests that did not get a response within the socket timeout.
+   *
+   * @return socket timeouts
+   */
+  public long getSocketTimeouts() {
+    return socketTimeouts.sum();
+  }
+
+  /**
+   * TLS handshakes performed by new connections, full and resumed.
+   *
+   * @return handshakes
+   */
+  public long getTlsHandshakes() {
+    return tlsHandshakes.sum();
+  }
+
+  /**
+   * TLS handshakes that resumed a cached session instead of a full key exchange.
+   *
+   * @return resumed handshakes
+   */
+  public long getResumedTlsHandshakes() {
+    return resumedTlsHandshakes.sum();
+  }
+
+  void setConnectionPool(PoolingHttpClientConnectionManager connectionPool) {
+    this.connectionPool = connectionPool;
+  }
+
+  /**
+   * Records a request starting to wait for a connection and notifies the saturation listener when
+   * pending leases cross the configured threshold.
+   *
+   * @return start time to pass to {@link #leaseFinished(long, boolean)}
+   */
+  long leaseStarted() {
+    int pending = pendingLeases.incrementAndGet();
+    MPPoolSaturationListener listener = MercadoPagoConfig.getPoolSaturationListener();
+    if (Objects.nonNull(listener) && pending == MercadoPagoConfig.getPoolPendingThreshold() + 1) {
+      try {
+        listener.onSaturation(this, pending);
+      } catch (RuntimeException ex) {
+        LOGGER.fine(String.format("Pool saturation listener failed: %s", ex.getMessage()));
+      }
+    }
+    return System.nanoTime();
+  }
+
+  /**
+   * Records the end of a connection wait.
+   *
+   * @param startNanos value returned by {@link #leaseStarted()}
+   * @param timedOut whether the wait ended with a lease timeout
+   */
+  void leaseFinished(long startNanos, boolean timedOut) {
+    pendingLeases.decrementAndGet();
+    long waitNanos = System.nanoTime() - startNanos;
+    leases.increment();
+    totalLeaseWaitNanos.add(waitNanos);
+    maxLeaseWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    leaseWaitBuckets[bucketOf(TimeUnit.NANOSECONDS.toMillis(waitNanos))].increment();
+    if (timedOut) {
+      leaseTimeouts.increment();
+    }
+  }
+
+  /**
+   * Counts connect and socket timeouts. Lease timeouts are counted by {@link #leaseFinished(long,
+   * boolean)}.
+   *
+   * @param ex failure raised while executing a request
+   */
+  void recordFailure(Exception ex) {
+    if (ex instanceof ConnectionPoolTimeoutException) {
+      return;
+    }
+    if (ex instanceof ConnectTimeoutException) {
+      recordConnectTimeout();
+    } else if (ex instanceof SocketTimeoutException) {
+      recordSocketTimeout();
+    }
+  }
+
+  void recordConnectTimeout() {
+    connectTimeouts.increment();
+  }
+
+  void recordSocketTimeout() {
+    socketTimeouts.increment();
+  }
+
+  void recordTlsHandshake(boolean resumed) {
+    tlsHandshakes.increment();
+    if (resumed) {
+      resumedTlsHandshakes.increment();
+    }
+  }
+
+  private static int bucketOf(long waitMillis) {
+    for (int i = 0; i < LEASE_WAIT_BUCKETS_MS.length; i++) {
+      if (waitMillis <= LEASE_WAIT_BUCKETS_MS[i]) {
+        return i;
+      }
+    }
+    return LEASE_WAIT_BUCKETS_MS.length;
+  }
+
+  private static MPPoolStats toPoolStats(PoolStats stats) {
+    return new MPPoolStats(
+        stats.getLeased(), stats.getPending(), stats.getAvailable(), stats.getMax());
+  }
+}
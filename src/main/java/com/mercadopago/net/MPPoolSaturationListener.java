@@ -0,0 +1,18 @@
+package com.mercadopago.net;
+
+/**
+ * Callback invoked when the number of requests waiting for a pooled connection goes above {@link
+ * com.mercadopago.MercadoPagoConfig#getPoolPendingThreshold()}. Runs on the request thread, so it
+ * must return quickly.
+ */
+@FunctionalInterface
+public interface MPPoolSaturationListener {
+
+  /**
+   * Called once every time pending leases cross the threshold.
+   *
+   * @param stats stats of the saturated client
+   * @param pendingLeases requests waiting for a connection, including the one that crossed it
+   */
+  void onSaturation(MPHttpClientStats stats, int pendingLeases);
+}
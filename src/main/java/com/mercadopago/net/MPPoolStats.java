@@ -0,0 +1,23 @@
+package com.mercadopago.net;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/** Snapshot of the connection pool counters, either for one route or for the whole pool. */
+@Getter
+@ToString
+@AllArgsConstructor
+public class MPPoolStats {
+  /** Connections currently leased to a request. */
+  private final int leased;
+
+  /** Requests waiting for a connection. */
+  private final int pending;
+
+  /** Idle connections kept alive in the pool. */
+  private final int available;
+
+  /** Connection limit. */
+  private final int max;
+}
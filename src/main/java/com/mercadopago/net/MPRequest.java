@@ -1,7 +1,9 @@
 package com.mercadopago.net;
 
 import com.google.gson.JsonObject;
+import com.mercadopago.core.MPDeadline;
 import com.mercadopago.core.MPRequestOptions;
+import com.mercadopago.core.MPRequestPriority;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
@@ -30,6 +32,10 @@ public class MPRequest {
 
   private final int socketTimeout;
 
+  private final MPDeadline deadline;
+
+  private final MPRequestPriority priority;
+
   /**
    * Method responsible for build MP request.
    *
@@ -60,6 +66,8 @@ public class MPRequest {
               .connectionRequestTimeout(requestOptions.getConnectionRequestTimeout())
               .connectionTimeout(requestOptions.getConnectionTimeout())
               .socketTimeout(requestOptions.getSocketTimeout())
+              .deadline(requestOptions.getDeadline())
+              .priority(requestOptions.getPriority())
               .build();
     } else {
       mpRequest = MPRequest.builder().uri(path).method(method).payload(payload).build();
@@ -1,18 +1,147 @@
 package com.mercadopago.net;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
-import lombok.AllArgsConstructor;
+import java.util.Objects;
+import java.util.function.Consumer;
 import lombok.Getter;
 
-/** MPResponse class. */
-@Getter
-@AllArgsConstructor
+/**
+ * MPResponse class. The body is kept as the bytes read from the wire and only decoded into a String
+ * when {@link #getContent()} is called, so deserializers can read it without an extra copy.
+ */
 public class MPResponse {
 
-  private final Integer statusCode;
+  @Getter private final Integer statusCode;
 
-  private final Map<String, List<String>> headers;
+  @Getter private final Map<String, List<String>> headers;
 
-  private final String content;
+  /** Transient so Gson skips it, and charset, when reflecting over a resource's response. */
+  private final transient byte[] body;
+
+  @Getter private final transient Charset charset;
+
+  private volatile String content;
+
+  /** Notified when a resource client attaches this response to its deserialized result. */
+  private final transient Consumer<Object> resultListener;
+
+  /**
+   * MPResponse constructor.
+   *
+   * @param statusCode status code
+   * @param headers headers
+   * @param content body
+   */
+  public MPResponse(Integer statusCode, Map<String, List<String>> headers, String content) {
+    this.statusCode = statusCode;
+    this.headers = headers;
+    this.body = null;
+    this.charset = StandardCharsets.UTF_8;
+    this.content = content;
+    this.resultListener = null;
+  }
+
+  /**
+   * MPResponse constructor for a body that has not been decoded yet.
+   *
+   * @param statusCode status code
+   * @param headers headers
+   * @param body body bytes, not copied
+   * @param charset charset used to decode the body
+   */
+  public MPResponse(
+      Integer statusCode, Map<String, List<String>> headers, byte[] body, Charset charset) {
+    this.statusCode = statusCode;
+    this.headers = headers;
+    this.body = Objects.nonNull(body) ? body : new byte[0];
+    this.charset = Objects.nonNull(charset) ? charset : StandardCharsets.UTF_8;
+    this.resultListener = null;
+  }
+
+  private MPResponse(MPResponse response, Consumer<Object> resultListener) {
+    this.statusCode = response.statusCode;
+    this.headers = response.headers;
+    this.body = response.body;
+    this.charset = response.charset;
+    this.content = response.content;
+    this.resultListener = resultListener;
+  }
+
+  /**
+   * Copy of this response sharing its body, whose listener is notified with the result the
+   * resource client deserializes it into.
+   *
+   * @param resultListener listener of the deserialized result
+   * @return response copy
+   */
+  public MPResponse withResultListener(Consumer<Object> resultListener) {
+    return new MPResponse(this, resultListener);
+  }
+
+  /**
+   * Notifies the result listener, if any, that this response was deserialized into a result.
+   * Called by the resource clients once they mapped the response.
+   *
+   * @param result deserialized result
+   */
+  public void resultDeserialized(Object result) {
+    if (Objects.nonNull(resultListener)) {
+      resultListener.accept(result);
+    }
+  }
+
+  /**
+   * Body decoded as a String. Decoded on first call when the response was built from bytes.
+   *
+   * @return body
+   */
+  public String getContent() {
+    String decoded = content;
+    if (Objects.isNull(decoded) && Objects.nonNull(body)) {
+      decoded = new String(body, charset);
+      content = decoded;
+    }
+    return decoded;
+  }
+
+  /**
+   * Body as bytes. The returned array is shared with this response and must not be modified.
+   *
+   * @return body bytes
+   */
+  public byte[] getBody() {
+    if (Objects.nonNull(body)) {
+      return body;
+    }
+    return Objects.nonNull(content) ? content.getBytes(charset) : new byte[0];
+  }
+
+  /**
+   * Body as a stream over the bytes held by this response.
+   *
+   * @return body stream
+   */
+  public InputStream getBodyAsStream() {
+    return new ByteArrayInputStream(getBody());
+  }
+
+  /**
+   * Body as a character stream, decoding the bytes as they are read.
+   *
+   * @return body reader
+   */
+  public Reader getBodyAsReader() {
+    if (Objects.isNull(body)) {
+      return new StringReader(Objects.nonNull(content) ? content : "");
+    }
+    return new InputStreamReader(new ByteArrayInputStream(body), charset);
+  }
 }
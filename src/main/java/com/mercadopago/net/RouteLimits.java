@@ -0,0 +1,79 @@
+package com.mercadopago.net;
+
+import com.mercadopago.MercadoPagoConfig;
+import com.mercadopago.MercadoPagoContext;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Logger;
+import lombok.Getter;
+
+/**
+ * Connection limits of the pooled clients. Hosts listed in {@link
+ * MercadoPagoConfig#getMaxConnectionsPerHost()} get their own limit, which is reserved out of the
+ * global maximum: the other hosts share what is left, so a burst on one host cannot take the
+ * connections another host was given.
+ */
+@Getter
+final class RouteLimits {
+  private static final Logger LOGGER = Logger.getLogger(RouteLimits.class.getName());
+
+  private final int maxTotal;
+
+  private final int defaultMaxPerRoute;
+
+  private final Map<String, Integer> hostLimits;
+
+  private RouteLimits(int maxTotal, int defaultMaxPerRoute, Map<String, Integer> hostLimits) {
+    this.maxTotal = maxTotal;
+    this.defaultMaxPerRoute = defaultMaxPerRoute;
+    this.hostLimits = hostLimits;
+  }
+
+  /**
+   * Computes the limits from the connection limit of the context and the configured host limits.
+   *
+   * @param context context of the client
+   * @return route limits
+   */
+  static RouteLimits forContext(MercadoPagoContext context) {
+    return compute(context.getMaxConnections(), MercadoPagoConfig.getMaxConnectionsPerHost());
+  }
+
+  /**
+   * Computes the limits. When the reserved connections leave nothing for the other hosts, the
+   * total is raised so each of them can still open one connection.
+   *
+   * @param maxConnections global maximum
+   * @param maxConnectionsPerHost limits by host name, may be null
+   * @return route limits
+   */
+  static RouteLimits compute(int maxConnections, Map<String, Integer> maxConnectionsPerHost) {
+    Map<String, Integer> hostLimits = new LinkedHashMap<>();
+    int reserved = 0;
+    if (Objects.nonNull(maxConnectionsPerHost)) {
+      for (Map.Entry<String, Integer> entry : maxConnectionsPerHost.entrySet()) {
+        if (Objects.nonNull(entry.getKey())
+            && Objects.nonNull(entry.getValue())
+            && entry.getValue() > 0) {
+          hostLimits.put(entry.getKey(), entry.getValue());
+          reserved += entry.getValue();
+        }
+      }
+    }
+    if (hostLimits.isEmpty()) {
+      return new RouteLimits(maxConnections, maxConnections, Collections.emptyMap());
+    }
+
+    int defaultMaxPerRoute = Math.max(1, maxConnections - reserved);
+    int maxTotal = Math.max(maxConnections, reserved + defaultMaxPerRoute);
+    if (maxTotal > maxConnections) {
+      LOGGER.warning(
+          String.format(
+              "Connections reserved per host (%s) exceed maxConnections (%s), using %s in total",
+              reserved, maxConnections, maxTotal));
+    }
+    return new RouteLimits(maxTotal, defaultMaxPerRoute, Collections.unmodifiableMap(hostLimits));
+  }
+}
@@ -0,0 +1,69 @@
+package com.mercadopago.net;
+
+import com.mercadopago.MercadoPagoConfig;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+import org.apache.http.ssl.SSLContexts;
+
+/** TLS context, protocols and cipher suites shared by the http clients. */
+final class TlsSettings {
+  /** Used when no protocols are configured. TLSv1.3 is only kept when the JVM supports it. */
+  private static final String[] PREFERRED_PROTOCOLS = {"TLSv1.3", "TLSv1.2"};
+
+  private TlsSettings() {}
+
+  /**
+   * Creates an SSL context whose client session cache follows the configured size and timeout, so
+   * new connections to the same host resume a cached session instead of a full handshake.
+   *
+   * @return ssl context
+   */
+  static SSLContext createSslContext() {
+    SSLContext sslContext = SSLContexts.createDefault();
+    SSLSessionContext sessionContext = sslContext.getClientSessionContext();
+    if (Objects.nonNull(sessionContext)) {
+      sessionContext.setSessionCacheSize(MercadoPagoConfig.getTlsSessionCacheSize());
+      sessionContext.setSessionTimeout(MercadoPagoConfig.getTlsSessionTimeoutSeconds());
+    }
+    return sslContext;
+  }
+
+  /**
+   * Configured protocols, or TLSv1.3 and TLSv1.2 keeping only the ones the context supports.
+   *
+   * @param sslContext context the protocols are enabled on
+   * @return protocols
+   */
+  static String[] protocols(SSLContext sslContext) {
+    String[] configured = MercadoPagoConfig.getTlsProtocols();
+    if (Objects.nonNull(configured) && configured.length > 0) {
+      return configured.clone();
+    }
+    List<String> supported =
+        Arrays.asList(sslContext.getSupportedSSLParameters().getProtocols());
+    List<String> protocols = new ArrayList<>();
+    for (String protocol : PREFERRED_PROTOCOLS) {
+      if (supported.contains(protocol)) {
+        protocols.add(protocol);
+      }
+    }
+    return protocols.toArray(new String[0]);
+  }
+
+  /**
+   * Configured cipher suites.
+   *
+   * @return cipher suites, or null for the JVM defaults
+   */
+  static String[] cipherSuites() {
+    String[] configured = MercadoPagoConfig.getTlsCipherSuites();
+    if (Objects.isNull(configured) || configured.length == 0) {
+      return null;
+    }
+    return configured.clone();
+  }
+}
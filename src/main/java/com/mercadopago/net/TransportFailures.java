@@ -0,0 +1,66 @@
+package com.mercadopago.net;
+
+import com.mercadopago.exceptions.MPTransportException;
+import com.mercadopago.exceptions.MPTransportException.Category;
+import com.mercadopago.exceptions.MPTransportException.Phase;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLHandshakeException;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+import org.apache.hc.core5.util.DeadlineTimeoutException;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+
+/** Maps the I/O failures of the http clients to {@link MPTransportException}. */
+final class TransportFailures {
+  private TransportFailures() {}
+
+  /**
+   * Classifies a failure raised while executing a request.
+   *
+   * @param ex failure
+   * @param requestSent whether the request was written before the failure, when known. Pass true
+   *     when unknown, so the request is not assumed safe to repeat.
+   * @return transport exception
+   */
+  static MPTransportException classify(Exception ex, boolean requestSent) {
+    if (ex instanceof ConnectionPoolTimeoutException
+        || ex instanceof ConnectionRequestTimeoutException
+        || ex instanceof DeadlineTimeoutException) {
+      return new MPTransportException(Category.POOL_TIMEOUT, Phase.CONNECTION_LEASE, ex);
+    }
+    if (ex instanceof ConnectTimeoutException
+        || ex instanceof org.apache.hc.client5.http.ConnectTimeoutException
+        || ex instanceof ConnectException
+        || ex instanceof NoRouteToHostException
+        || ex instanceof UnknownHostException) {
+      return new MPTransportException(Category.CONNECT, Phase.CONNECT, ex);
+    }
+    if (ex instanceof SSLHandshakeException || ex instanceof SSLPeerUnverifiedException) {
+      return new MPTransportException(Category.TLS, Phase.TLS_HANDSHAKE, ex);
+    }
+
+    Phase phase = requestSent ? Phase.RESPONSE : Phase.REQUEST;
+    if (ex instanceof SSLException) {
+      return new MPTransportException(Category.TLS, phase, ex);
+    }
+    if (ex instanceof SocketTimeoutException) {
+      return new MPTransportException(Category.READ_TIMEOUT, phase, ex);
+    }
+    if (isProtocolFailure(ex)) {
+      return new MPTransportException(Category.PROTOCOL, phase, ex);
+    }
+    return new MPTransportException(Category.IO, phase, ex);
+  }
+
+  private static boolean isProtocolFailure(Exception ex) {
+    return ex instanceof org.apache.http.client.ClientProtocolException
+        || ex instanceof org.apache.http.ProtocolException
+        || ex instanceof org.apache.hc.core5.http.ProtocolException
+        || ex instanceof java.net.ProtocolException;
+  }
+}
@@ -5,22 +5,26 @@ import static com.google.gson.stream.JsonToken.END_DOCUMENT;
 import com.google.gson.FieldNamingPolicy;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializer;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import com.google.gson.stream.MalformedJsonException;
 import com.mercadopago.exceptions.MPJsonParseException;
 import com.mercadopago.net.MPElementsResourcesPage;
 import com.mercadopago.net.MPResource;
 import com.mercadopago.net.MPResourceList;
+import com.mercadopago.net.MPResponse;
 import com.mercadopago.net.MPResultsResourcesPage;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 import java.lang.reflect.Type;
 import java.time.LocalDate;
@@ -29,6 +33,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 /** Serializer class, responsible for objects serialization and deserialization. */
 public class Serializer {
@@ -101,15 +106,22 @@ public class Serializer {
    */
   public static <T extends MPResource> T deserializeFromJson(Class<T> clazz, String jsonObject)
       throws MPJsonParseException {
-    try {
-      if (isJsonValid(jsonObject)) {
-        return GSON.fromJson(jsonObject, clazz);
-      } else {
-        throw new MPJsonParseException(String.format("Could not parse json: %s", jsonObject));
-      }
-    } catch (IOException e) {
-      throw new MPJsonParseException("Could not parse json", e);
-    }
+    return read(GSON.getAdapter(clazz), new StringReader(jsonObject), () -> jsonObject);
+  }
+
+  /**
+   * Method responsible for deserialize objects, reading the response body without decoding it
+   * into a String first.
+   *
+   * @param clazz class.
+   * @param response response.
+   * @param <T> class type.
+   * @return object.
+   * @throws MPJsonParseException if json cannot be deserialized to an MPResource
+   */
+  public static <T extends MPResource> T deserializeFromJson(Class<T> clazz, MPResponse response)
+      throws MPJsonParseException {
+    return read(GSON.getAdapter(clazz), response.getBodyAsReader(), response::getContent);
   }
 
   /**
@@ -124,15 +136,23 @@ public class Serializer {
   public static <T extends MPResource>
       MPResultsResourcesPage<T> deserializeResultsResourcesPageFromJson(
           Type type, String jsonObject) throws MPJsonParseException {
-    try {
-      if (isJsonValid(jsonObject)) {
-        return GSON.fromJson(jsonObject, type);
-      } else {
-        throw new MPJsonParseException(String.format("Could not parse json: %s", jsonObject));
-      }
-    } catch (IOException e) {
-      throw new MPJsonParseException("Could not parse json", e);
-    }
+    return read(pageAdapter(type), new StringReader(jsonObject), () -> jsonObject);
+  }
+
+  /**
+   * Method responsible for deserialize json to ResultsResources, reading the response body
+   * without decoding it into a String first.
+   *
+   * @param type type
+   * @param response response
+   * @param <T> generic type
+   * @return MPResultsResourcesPage deserialized MPResource
+   * @throws MPJsonParseException if json cannot be parsed to ResultsResourcesPage
+   */
+  public static <T extends MPResource>
+      MPResultsResourcesPage<T> deserializeResultsResourcesPageFromJson(
+          Type type, MPResponse response) throws MPJsonParseException {
+    return read(pageAdapter(type), response.getBodyAsReader(), response::getContent);
   }
 
   /**
@@ -147,15 +167,23 @@ public class Serializer {
   public static <T extends MPResource>
       MPElementsResourcesPage<T> deserializeElementsResourcesPageFromJson(
           Type type, String jsonObject) throws MPJsonParseException {
-    try {
-      if (isJsonValid(jsonObject)) {
-        return GSON.fromJson(jsonObject, type);
-      } else {
-        throw new MPJsonParseException(String.format("Could not parse json: %s", jsonObject));
-      }
-    } catch (IOException | MPJsonParseException e) {
-      throw new MPJsonParseException("Could not parse json", e);
-    }
+    return read(pageAdapter(type), new StringReader(jsonObject), () -> jsonObject);
+  }
+
+  /**
+   * Method responsible for deserialize json to ElementsResources, reading the response body
+   * without decoding it into a String first.
+   *
+   * @param type type
+   * @param response response
+   * @param <T> generic type
+   * @return MPElementsResourcesPage
+   * @throws MPJsonParseException if json cannot be parsed to MPElementsResourcesPage
+   */
+  public static <T extends MPResource>
+      MPElementsResourcesPage<T> deserializeElementsResourcesPageFromJson(
+          Type type, MPResponse response) throws MPJsonParseException {
+    return read(pageAdapter(type), response.getBodyAsReader(), response::getContent);
   }
 
   /**
@@ -169,24 +197,22 @@ public class Serializer {
    */
   public static <T extends MPResource> MPResourceList<T> deserializeListFromJson(
       Class<T> clazz, String jsonObject) throws MPJsonParseException {
-    try {
-      if (isJsonValid(jsonObject)) {
-        MPResourceList<T> resourceList = new MPResourceList<>();
-        List<T> results = new ArrayList<>();
-        JsonArray jsonArray = JsonParser.parseString(jsonObject).getAsJsonArray();
-        for (int i = 0; i < jsonArray.size(); i++) {
-          T resource = GSON.fromJson(jsonArray.get(i), clazz);
-          results.add(resource);
-        }
-        resourceList.setResults(results);
+    return read(listAdapter(clazz), new StringReader(jsonObject), () -> jsonObject);
+  }
 
-        return resourceList;
-      } else {
-        throw new MPJsonParseException(String.format("Could not parse json: %s", jsonObject));
-      }
-    } catch (IOException e) {
-      throw new MPJsonParseException("Could not parse json", e);
-    }
+  /**
+   * Method responsible for deserialize objects, reading the response body without decoding it
+   * into a String first.
+   *
+   * @param clazz clazz
+   * @param response response
+   * @param <T> type
+   * @return MPResourceList
+   * @throws MPJsonParseException if json cannot be parsed to ResultsResourcesPage
+   */
+  public static <T extends MPResource> MPResourceList<T> deserializeListFromJson(
+      Class<T> clazz, MPResponse response) throws MPJsonParseException {
+    return read(listAdapter(clazz), response.getBodyAsReader(), response::getContent);
   }
 
   /**
@@ -200,6 +226,60 @@ public class Serializer {
     return (JsonObject) GSON.toJsonTree(resource);
   }
 
+  /** Parses the whole document in a single strict pass, rejecting malformed or trailing content. */
+  private static <T> T read(TypeAdapter<T> adapter, Reader reader, Supplier<String> content)
+      throws MPJsonParseException {
+    try (JsonReader jsonReader = new JsonReader(reader)) {
+      T result = adapter.read(jsonReader);
+      if (jsonReader.peek() != END_DOCUMENT) {
+        throw new MPJsonParseException(String.format("Could not parse json: %s", content.get()));
+      }
+      return result;
+    } catch (MalformedJsonException | JsonSyntaxException e) {
+      throw new MPJsonParseException(String.format("Could not parse json: %s", content.get()), e);
+    } catch (IOException e) {
+      throw new MPJsonParseException("Could not parse json", e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> TypeAdapter<T> pageAdapter(Type type) {
+    return (TypeAdapter<T>) GSON.getAdapter(TypeToken.get(type));
+  }
+
+  /** Adapter of a list of resources, which is a bare JSON array of them. */
+  static <T extends MPResource> TypeAdapter<MPResourceList<T>> listAdapter(Class<T> clazz) {
+    TypeAdapter<T> elementAdapter = GSON.getAdapter(clazz);
+    return new TypeAdapter<MPResourceList<T>>() {
+      @Override
+      public void write(JsonWriter out, MPResourceList<T> value) throws IOException {
+        if (value == null || value.getResults() == null) {
+          out.nullValue();
+          return;
+        }
+        out.beginArray();
+        for (T result : value.getResults()) {
+          elementAdapter.write(out, result);
+        }
+        out.endArray();
+      }
+
+      @Override
+      public MPResourceList<T> read(JsonReader in) throws IOException {
+        List<T> results = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+          results.add(elementAdapter.read(in));
+        }
+        in.endArray();
+
+        MPResourceList<T> resourceList = new MPResourceList<>();
+        resourceList.setResults(results);
+        return resourceList;
+      }
+    };
+  }
+
   /**
    * Verify if json is valid.
    *
@@ -0,0 +1,43 @@
+package com.mercadopago;
+
+import com.mercadopago.net.MPAsyncHttpClient;
+import com.mercadopago.net.MPDefaultAsyncHttpClient;
+import com.mercadopago.net.MPDefaultHttpClient;
+import com.mercadopago.net.MPHttp2HttpClient;
+import com.mercadopago.net.MPHttpClient;
+import com.mercadopago.net.MPJavaHttpClient;
+import java.util.Objects;
+
+/**
+ * Creates the default http clients of a context on Java 11+. The JDK http client is used when
+ * enabled with {@link MercadoPagoConfig#setJavaHttpClientEnabled(boolean)}, unless the
+ * configuration relies on settings only the Apache HttpComponents clients understand: a proxy, a
+ * retry handler or the httpclient5 HTTP/2 mode.
+ */
+final class HttpClientFactory {
+
+  private HttpClientFactory() {}
+
+  static MPHttpClient createHttpClient(MercadoPagoContext context) {
+    if (MercadoPagoConfig.isHttp2Enabled() && Objects.isNull(context.getProxy())) {
+      return new MPHttp2HttpClient(context.getAsyncTransport());
+    }
+    if (usesHttpComponents(context)) {
+      return new MPDefaultHttpClient(context);
+    }
+    return new MPJavaHttpClient(context);
+  }
+
+  static MPAsyncHttpClient createAsyncHttpClient(MercadoPagoContext context) {
+    if (MercadoPagoConfig.isHttp2Enabled() || usesHttpComponents(context)) {
+      return new MPDefaultAsyncHttpClient(context);
+    }
+    return new MPJavaHttpClient(context);
+  }
+
+  private static boolean usesHttpComponents(MercadoPagoContext context) {
+    return !MercadoPagoConfig.isJavaHttpClientEnabled()
+        || Objects.nonNull(context.getProxy())
+        || Objects.nonNull(MercadoPagoConfig.getRetryHandler());
+  }
+}
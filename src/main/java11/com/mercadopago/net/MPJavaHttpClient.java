@@ -0,0 +1,314 @@
+package com.mercadopago.net;
+
+import com.mercadopago.MercadoPagoContext;
+import com.mercadopago.core.MPDeadline;
+import com.mercadopago.core.MPLogging;
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPDeadlineExceededException;
+import com.mercadopago.exceptions.MPException;
+import com.mercadopago.exceptions.MPMalformedRequestException;
+import com.mercadopago.exceptions.MPTransportException;
+import com.mercadopago.exceptions.MPTransportException.Category;
+import com.mercadopago.exceptions.MPTransportException.Phase;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Logger;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+
+/**
+ * Mercado Pago Http Client backed by {@link java.net.http.HttpClient}. Negotiates HTTP/2 with the
+ * API and sends async requests without the Apache HttpComponents stack. Only available on Java 11+.
+ */
+public class MPJavaHttpClient implements MPHttpClient, MPAsyncHttpClient {
+  private static final String PAYLOAD_NOT_SUPPORTED_MESSAGE =
+      "Payload not supported for this method.";
+
+  private static final Set<String> RESTRICTED_HEADERS = restrictedHeaders();
+
+  private static final Logger LOGGER = Logger.getLogger(MPJavaHttpClient.class.getName());
+
+  private final HttpClient httpClient;
+
+  private final MercadoPagoContext context;
+
+  private final MPCompressionStats compressionStats = new MPCompressionStats();
+
+  private final MPHttpClientStats stats = new MPHttpClientStats();
+
+  /** MPJavaHttpClient constructor. */
+  public MPJavaHttpClient() {
+    this(MercadoPagoContext.getDefault(), null);
+  }
+
+  /**
+   * MPJavaHttpClient constructor configured from the context.
+   *
+   * @param context context providing the timeouts
+   */
+  public MPJavaHttpClient(MercadoPagoContext context) {
+    this(context, null);
+  }
+
+  /** MPJavaHttpClient constructor for testing only. */
+  protected MPJavaHttpClient(HttpClient httpClient) {
+    this(MercadoPagoContext.getDefault(), httpClient);
+  }
+
+  private MPJavaHttpClient(MercadoPagoContext context, HttpClient httpClient) {
+    this.context = context;
+    MPLogging.configure(LOGGER);
+
+    if (Objects.isNull(httpClient)) {
+      this.httpClient = createHttpClient();
+    } else {
+      this.httpClient = httpClient;
+    }
+  }
+
+  /**
+   * Request and response compression counters of this client.
+   *
+   * @return compression stats
+   */
+  public MPCompressionStats getCompressionStats() {
+    return compressionStats;
+  }
+
+  /**
+   * Connect and socket timeouts of this client. The JDK client does not expose its connections,
+   * so the pool and lease counters stay at zero.
+   *
+   * @return stats
+   */
+  public MPHttpClientStats getStats() {
+    return stats;
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> type) {
+    return type.isInstance(this) ? type.cast(this) : null;
+  }
+
+  private HttpClient createHttpClient() {
+    SSLContext sslContext = TlsSettings.createSslContext();
+    SSLParameters sslParameters = new SSLParameters();
+    sslParameters.setProtocols(TlsSettings.protocols(sslContext));
+    String[] cipherSuites = TlsSettings.cipherSuites();
+    if (Objects.nonNull(cipherSuites)) {
+      sslParameters.setCipherSuites(cipherSuites);
+    }
+    return HttpClient.newBuilder()
+        .sslContext(sslContext)
+        .sslParameters(sslParameters)
+        .version(HttpClient.Version.HTTP_2)
+        .connectTimeout(Duration.ofMillis(context.getConnectionTimeout()))
+        .followRedirects(HttpClient.Redirect.NEVER)
+        .build();
+  }
+
+  @Override
+  public MPResponse send(MPRequest mpRequest) throws MPException, MPApiException {
+    MPDeadline.check(mpRequest.getDeadline());
+    HttpRequest request = createHttpRequest(mpRequest);
+    MPLogging.logRequest(LOGGER, mpRequest);
+
+    HttpResponse<byte[]> response;
+    try {
+      response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new MPException(ex);
+    } catch (IOException ex) {
+      throw transportException(ex);
+    }
+    return toMPResponse(response);
+  }
+
+  @Override
+  public CompletableFuture<MPResponse> sendAsync(MPRequest mpRequest) {
+    HttpRequest request;
+    try {
+      MPDeadline.check(mpRequest.getDeadline());
+      request = createHttpRequest(mpRequest);
+    } catch (MPMalformedRequestException | MPDeadlineExceededException ex) {
+      return failedFuture(ex);
+    }
+    MPLogging.logRequest(LOGGER, mpRequest);
+
+    return httpClient
+        .sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+        .handle(
+            (response, throwable) -> {
+              Throwable cause = unwrap(throwable);
+              if (cause instanceof IOException) {
+                throw new CompletionException(transportException((IOException) cause));
+              }
+              if (Objects.nonNull(cause)) {
+                throw new CompletionException(new MPException(cause));
+              }
+              try {
+                return toMPResponse(response);
+              } catch (MPException | MPApiException ex) {
+                throw new CompletionException(ex);
+              }
+            });
+  }
+
+  private HttpRequest createHttpRequest(MPRequest mpRequest) throws MPMalformedRequestException {
+    HttpMethod method = mpRequest.getMethod();
+    if (Objects.isNull(method)) {
+      throw new MPMalformedRequestException(
+          "HttpMethod must be either \"GET\", \"POST\", \"PUT\", \"PATCH\" or \"DELETE\".");
+    }
+
+    if (Objects.isNull(mpRequest.getUri()) || mpRequest.getUri().isEmpty()) {
+      throw new MPMalformedRequestException("Uri can not be an empty String.");
+    }
+
+    boolean hasPayload =
+        Objects.nonNull(mpRequest.getPayload()) && mpRequest.getPayload().size() != 0;
+    if ((method.equals(HttpMethod.GET) || method.equals(HttpMethod.DELETE)) && hasPayload) {
+      throw new MPMalformedRequestException(PAYLOAD_NOT_SUPPORTED_MESSAGE);
+    }
+
+    HttpRequest.Builder builder;
+    try {
+      builder = HttpRequest.newBuilder(URI.create(mpRequest.getUri()));
+    } catch (IllegalArgumentException ex) {
+      throw new MPMalformedRequestException(ex);
+    }
+
+    HttpRequest.BodyPublisher body = HttpRequest.BodyPublishers.noBody();
+    if (hasPayload) {
+      byte[] payload = mpRequest.getPayload().toString().getBytes(StandardCharsets.UTF_8);
+      if (HttpCompression.shouldCompress(payload.length)) {
+        try {
+          payload = HttpCompression.gzip(payload, compressionStats);
+        } catch (IOException ex) {
+          throw new MPMalformedRequestException(ex);
+        }
+        builder.header(HttpCompression.CONTENT_ENCODING, HttpCompression.GZIP);
+      }
+      body = HttpRequest.BodyPublishers.ofByteArray(payload);
+    }
+    builder.method(method.name(), body);
+
+    if (HttpCompression.acceptsCompressedResponses()
+        && !HttpCompression.hasHeader(mpRequest.getHeaders(), HttpCompression.ACCEPT_ENCODING)) {
+      builder.header(HttpCompression.ACCEPT_ENCODING, HttpCompression.ACCEPTED_ENCODINGS);
+    }
+
+    if (Objects.nonNull(mpRequest.getHeaders())) {
+      for (Map.Entry<String, String> header : mpRequest.getHeaders().entrySet()) {
+        if (!RESTRICTED_HEADERS.contains(header.getKey())) {
+          builder.header(header.getKey(), header.getValue());
+        }
+      }
+    }
+
+    int socketTimeout =
+        mpRequest.getSocketTimeout() != 0
+            ? mpRequest.getSocketTimeout()
+            : context.getSocketTimeout();
+    builder.timeout(
+        Duration.ofMillis(MPDeadline.capTimeout(mpRequest.getDeadline(), socketTimeout)));
+
+    return builder.build();
+  }
+
+  private MPResponse toMPResponse(HttpResponse<byte[]> response)
+      throws MPException, MPApiException {
+    Map<String, List<String>> headers = new HashMap<>();
+    for (Map.Entry<String, List<String>> header : response.headers().map().entrySet()) {
+      headers.put(header.getKey(), new ArrayList<>(header.getValue()));
+    }
+    byte[] body;
+    try {
+      body =
+          HttpCompression.decode(
+              response.body(),
+              response.headers().firstValue(HttpCompression.CONTENT_ENCODING).orElse(null),
+              compressionStats);
+    } catch (IOException ex) {
+      throw new MPException(ex);
+    }
+    MPResponse mpResponse = new MPResponse(response.statusCode(), headers, body, charset(response));
+
+    if (mpResponse.getStatusCode() > 299) {
+      throw new MPApiException("Api error. Check response for details", mpResponse);
+    }
+
+    MPLogging.logResponse(LOGGER, mpResponse);
+    return mpResponse;
+  }
+
+  private static Charset charset(HttpResponse<?> response) {
+    String contentType = response.headers().firstValue("Content-Type").orElse("");
+    for (String parameter : contentType.split(";")) {
+      String[] pair = parameter.trim().split("=", 2);
+      if (pair.length == 2 && "charset".equalsIgnoreCase(pair[0].trim())) {
+        try {
+          return Charset.forName(pair[1].trim().replace("\"", ""));
+        } catch (IllegalArgumentException ex) {
+          return StandardCharsets.UTF_8;
+        }
+      }
+    }
+    return StandardCharsets.UTF_8;
+  }
+
+  /**
+   * Maps I/O failures like MPDefaultHttpClient.send does. The JDK client does not tell whether the
+   * request was written, so failures past the handshake are reported as possibly sent.
+   */
+  private MPTransportException transportException(IOException ex) {
+    MPLogging.logFailure(LOGGER, ex);
+    if (ex instanceof HttpConnectTimeoutException) {
+      stats.recordConnectTimeout();
+      return new MPTransportException(Category.CONNECT, Phase.CONNECT, ex);
+    }
+    if (ex instanceof HttpTimeoutException) {
+      stats.recordSocketTimeout();
+      return new MPTransportException(Category.READ_TIMEOUT, Phase.RESPONSE, ex);
+    }
+    return TransportFailures.classify(ex, true);
+  }
+
+  private static Throwable unwrap(Throwable throwable) {
+    if (throwable instanceof CompletionException && Objects.nonNull(throwable.getCause())) {
+      return throwable.getCause();
+    }
+    return throwable;
+  }
+
+  private static CompletableFuture<MPResponse> failedFuture(Throwable throwable) {
+    CompletableFuture<MPResponse> future = new CompletableFuture<>();
+    future.completeExceptionally(throwable);
+    return future;
+  }
+
+  private static Set<String> restrictedHeaders() {
+    Set<String> headers = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    Collections.addAll(headers, "connection", "content-length", "expect", "host", "upgrade");
+    return Collections.unmodifiableSet(headers);
+  }
+}
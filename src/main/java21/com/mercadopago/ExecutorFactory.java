@@ -0,0 +1,17 @@
+package com.mercadopago;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates the default executor for async continuations on Java 21+. Every task gets its own virtual
+ * thread, so continuations that block do not hold a carrier thread.
+ */
+final class ExecutorFactory {
+
+  private ExecutorFactory() {}
+
+  static Executor createAsyncExecutor() {
+    return Executors.newVirtualThreadPerTaskExecutor();
+  }
+}
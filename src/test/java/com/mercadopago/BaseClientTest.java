@@ -1,9 +1,23 @@
 package com.mercadopago;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import com.mercadopago.core.MPRequestOptions;
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.helper.MockHelper;
+import com.mercadopago.mock.HttpAsyncClientMock;
 import com.mercadopago.mock.HttpClientMock;
+import com.mercadopago.mock.MPDefaultAsyncHttpClientMock;
 import com.mercadopago.mock.MPDefaultHttpClientMock;
+import java.io.IOException;
 import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.http.client.HttpClient;
 import org.junit.jupiter.api.BeforeAll;
 
@@ -15,6 +29,8 @@ public abstract class BaseClientTest {
 
   protected static final HttpClient HTTP_CLIENT = HTTP_CLIENT_MOCK.getHttpClient();
 
+  protected static final HttpAsyncClientMock HTTP_ASYNC_CLIENT_MOCK = new HttpAsyncClientMock();
+
   protected static final int DEFAULT_TIMEOUT = 1000;
 
   @BeforeAll
@@ -23,6 +39,7 @@ public abstract class BaseClientTest {
     String accessToken = "token";
     MercadoPagoConfig.setAccessToken(accessToken);
     MercadoPagoConfig.setHttpClient(new MPDefaultHttpClientMock(HTTP_CLIENT_MOCK));
+    MercadoPagoConfig.setAsyncHttpClient(new MPDefaultAsyncHttpClientMock(HTTP_ASYNC_CLIENT_MOCK));
   }
 
   protected static MPRequestOptions buildRequestOptions() {
@@ -33,4 +50,40 @@ public abstract class BaseClientTest {
         .socketTimeout(DEFAULT_TIMEOUT)
         .build();
   }
+
+  /**
+   * Makes the async http client mock answer every request with a response file, sent as JSON.
+   *
+   * @param mockFile response file
+   * @param statusCode status code
+   * @throws IOException exception
+   */
+  protected static void mockAsyncResponse(String mockFile, int statusCode) throws IOException {
+    SimpleHttpResponse response =
+        SimpleHttpResponse.create(
+            statusCode, MockHelper.readResponseFile(mockFile), ContentType.APPLICATION_JSON);
+    response.setHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON);
+    HTTP_ASYNC_CLIENT_MOCK.setFailure(null);
+    HTTP_ASYNC_CLIENT_MOCK.setResponse(response);
+  }
+
+  /** Makes the async http client mock answer every request with a 400 error. */
+  protected static void mockAsyncApiError() {
+    HTTP_ASYNC_CLIENT_MOCK.setFailure(null);
+    HTTP_ASYNC_CLIENT_MOCK.setResponse(
+        SimpleHttpResponse.create(
+            400, "{\"message\": \"invalid\"}", ContentType.APPLICATION_JSON));
+  }
+
+  /**
+   * Asserts that a future fails with the 400 error of {@link #mockAsyncApiError()}.
+   *
+   * @param future future
+   */
+  protected static void assertAsyncApiError(CompletableFuture<?> future) {
+    ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+
+    assertTrue(exception.getCause() instanceof MPApiException);
+    assertEquals(400, ((MPApiException) exception.getCause()).getStatusCode());
+  }
 }
@@ -0,0 +1,169 @@
+package com.mercadopago;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.mercadopago.client.user.UserClient;
+import com.mercadopago.core.MPRateLimiter;
+import com.mercadopago.core.MPRetryPolicy;
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPException;
+import com.mercadopago.exceptions.MPTransportException;
+import com.mercadopago.net.Headers;
+import com.mercadopago.net.HttpMethod;
+import com.mercadopago.net.MPAsyncHttpClient;
+import com.mercadopago.net.MPDefaultHttpClient;
+import com.mercadopago.net.MPHttpClient;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/** MercadoPagoContextTest class. */
+public class MercadoPagoContextTest extends BaseClientTest {
+
+  @Test
+  public void defaultContextReadsConfig() {
+    MercadoPagoContext context = MercadoPagoContext.getDefault();
+
+    assertEquals(MercadoPagoConfig.getAccessToken(), context.getAccessToken());
+    assertEquals(MercadoPagoConfig.getSocketTimeout(), context.getSocketTimeout());
+    assertSame(MercadoPagoConfig.getHttpClient(), context.getHttpClient());
+    assertSame(MercadoPagoConfig.getAsyncHttpClient(), context.getAsyncHttpClient());
+  }
+
+  @Test
+  public void unsetSettingsFallBackToConfig() {
+    MercadoPagoContext context = MercadoPagoContext.builder().accessToken("tenant").build();
+
+    assertEquals("tenant", context.getAccessToken());
+    assertEquals(MercadoPagoConfig.getConnectionTimeout(), context.getConnectionTimeout());
+    assertEquals(MercadoPagoConfig.getMaxConnections(), context.getMaxConnections());
+    assertEquals(MercadoPagoConfig.getWarmUpConnections(), context.getWarmUpConnections());
+  }
+
+  @Test
+  public void warmUpIsReadFromTheContext() {
+    MercadoPagoConfig.setWarmUpConnections(2);
+    try {
+      MercadoPagoContext context = MercadoPagoContext.builder().warmUpConnections(4).build();
+
+      assertEquals(4, context.getWarmUpConnections());
+      assertEquals(2, MercadoPagoContext.getDefault().getWarmUpConnections());
+    } finally {
+      MercadoPagoConfig.setWarmUpConnections(0);
+    }
+  }
+
+  @Test
+  public void clientSendsWithContextCredentialsAndTimeouts() throws MPException, MPApiException {
+    List<MPRequest> requests = new ArrayList<>();
+    MPHttpClient httpClient =
+        request -> {
+          requests.add(request);
+          return new MPResponse(200, new HashMap<>(), "{}");
+        };
+    MercadoPagoContext context =
+        MercadoPagoContext.builder()
+            .accessToken("tenant")
+            .platformId("platform")
+            .socketTimeout(1234)
+            .httpClient(httpClient)
+            .build();
+
+    new UserClient(context).get();
+
+    assertEquals(1, requests.size());
+    MPRequest request = requests.get(0);
+    assertEquals("Bearer tenant", request.getHeaders().get(Headers.AUTHORIZATION));
+    assertEquals("platform", request.getHeaders().get(Headers.PLATFORM_ID));
+    assertEquals(1234, request.getSocketTimeout());
+    assertEquals(MercadoPagoConfig.getConnectionTimeout(), request.getConnectionTimeout());
+  }
+
+  @Test
+  public void closeReleasesOnlyTheClientsTheContextCreated() throws IOException {
+    MPHttpClient givenClient = request -> new MPResponse(200, new HashMap<>(), "{}");
+    MercadoPagoContext context = MercadoPagoContext.builder().httpClient(givenClient).build();
+    MPAsyncHttpClient asyncClient = context.getAsyncHttpClient();
+
+    context.close();
+
+    assertSame(givenClient, context.getHttpClient());
+    assertNotSame(asyncClient, context.getAsyncHttpClient());
+    context.close();
+  }
+
+  @Test
+  public void closingTheDefaultContextKeepsTheConfigClients() throws IOException {
+    MPHttpClient client = MercadoPagoConfig.getHttpClient();
+
+    MercadoPagoContext.getDefault().close();
+
+    assertSame(client, MercadoPagoContext.getDefault().getHttpClient());
+  }
+
+  @Test
+  public void transportStatsAreReachableBehindThePolicies() throws IOException {
+    MercadoPagoConfig.setRetryPolicy(MPRetryPolicy.createDefault());
+    MercadoPagoContext context = MercadoPagoContext.builder().build();
+    try {
+      MPHttpClient client = context.getHttpClient();
+
+      assertNotSame(client, client.unwrap(MPDefaultHttpClient.class));
+      assertNotNull(client.unwrap(MPDefaultHttpClient.class).getStats().getTotalStats());
+    } finally {
+      MercadoPagoConfig.setRetryPolicy(null);
+      context.close();
+    }
+  }
+
+  @Test
+  public void http2BlockingClientAppliesThePoliciesOnce() throws IOException {
+    MPRetryPolicy retryPolicy = MPRetryPolicy.builder().maxAttempts(3).build();
+    MPRateLimiter rateLimiter = MPRateLimiter.builder().permitsPerSecond(1000).build();
+    MercadoPagoConfig.setHttp2Enabled(true);
+    MercadoPagoConfig.setRetryPolicy(retryPolicy);
+    MercadoPagoConfig.setRateLimiter(rateLimiter);
+    MercadoPagoContext context = MercadoPagoContext.builder().connectionTimeout(1000).build();
+    try {
+      Map<String, String> headers = new HashMap<>();
+      headers.put(Headers.AUTHORIZATION, "Bearer tenant");
+      MPRequest request =
+          MPRequest.builder()
+              .uri("http://localhost:1/v1/payments/123")
+              .method(HttpMethod.GET)
+              .headers(headers)
+              .build();
+
+      assertThrows(MPTransportException.class, () -> context.getHttpClient().send(request));
+
+      assertEquals(3, retryPolicy.getMetrics().getAttempts());
+      assertEquals(3, rateLimiter.getAcquiredPermits());
+    } finally {
+      MercadoPagoConfig.setHttp2Enabled(false);
+      MercadoPagoConfig.setRetryPolicy(null);
+      MercadoPagoConfig.setRateLimiter(null);
+      context.close();
+    }
+  }
+
+  @Test
+  public void contextsOwnSeparateClients() {
+    MercadoPagoContext first = MercadoPagoContext.builder().maxConnections(2).build();
+    MercadoPagoContext second = MercadoPagoContext.builder().maxConnections(2).build();
+
+    MPHttpClient client = first.getHttpClient();
+
+    assertSame(client, first.getHttpClient());
+    assertNotSame(client, second.getHttpClient());
+    assertNotSame(client, MercadoPagoConfig.getHttpClient());
+  }
+}
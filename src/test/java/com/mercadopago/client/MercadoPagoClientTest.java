@@ -2,17 +2,21 @@ package com.mercadopago.client;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.mercadopago.BaseClientTest;
+import com.mercadopago.core.MPDeadline;
 import com.mercadopago.core.MPRequestOptions;
 import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPDeadlineExceededException;
 import com.mercadopago.exceptions.MPException;
 import com.mercadopago.helper.MockHelper;
 import com.mercadopago.mock.MPDefaultHttpClientMock;
@@ -24,8 +28,11 @@ import com.mercadopago.net.MPSearchRequest;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.protocol.HttpContext;
@@ -292,6 +299,71 @@ public class MercadoPagoClientTest extends BaseClientTest {
     assertEquals(200, (int) mpResponse.getStatusCode());
   }
 
+  @Test
+  public void sendWithDeadlineCapsAttemptTimeouts()
+      throws IOException, MPException, MPApiException {
+    HttpResponse httpResponse = MockHelper.generateHttpResponseFromFile(responseFile, 200);
+    doReturn(httpResponse)
+        .when(httpClientMock)
+        .execute(any(HttpRequestBase.class), any(HttpContext.class));
+    MPRequestOptions requestOptions =
+        MPRequestOptions.builder()
+            .socketTimeout(20000)
+            .deadline(MPDeadline.afterMillis(500))
+            .build();
+
+    testClient.sendRequest("/test", HttpMethod.GET, null, null, requestOptions);
+
+    ArgumentCaptor<HttpRequestBase> httpBaseCaptor = ArgumentCaptor.forClass(HttpRequestBase.class);
+    verify(httpClientMock).execute(httpBaseCaptor.capture(), any(HttpContext.class));
+    RequestConfig config = httpBaseCaptor.getValue().getConfig();
+    assertTrue(config.getSocketTimeout() > 0 && config.getSocketTimeout() <= 500);
+    assertTrue(config.getConnectTimeout() <= 500);
+    assertTrue(config.getConnectionRequestTimeout() <= 500);
+  }
+
+  @Test
+  public void sendPastDeadlineFailsWithoutSending() throws IOException {
+    MPRequestOptions requestOptions =
+        MPRequestOptions.builder().deadline(MPDeadline.afterMillis(-10)).build();
+
+    assertThrows(
+        MPDeadlineExceededException.class,
+        () -> testClient.sendRequest("/test", HttpMethod.GET, null, null, requestOptions));
+    verify(httpClientMock, never()).execute(any(HttpRequestBase.class), any(HttpContext.class));
+  }
+
+  @Test
+  public void sendAsyncUsesTheCustomHttpClient()
+      throws IOException, ExecutionException, InterruptedException {
+    HttpResponse httpResponse = MockHelper.generateHttpResponseFromFile(responseFile, 200);
+    doReturn(httpResponse)
+        .when(httpClientMock)
+        .execute(any(HttpRequestBase.class), any(HttpContext.class));
+
+    MPResponse mpResponse =
+        testClient.sendRequestAsync("/test", HttpMethod.GET, null, null, null).get();
+
+    assertEquals(200, (int) mpResponse.getStatusCode());
+    verify(httpClientMock).execute(any(HttpRequestBase.class), any(HttpContext.class));
+  }
+
+  @Test
+  public void sendAsyncDeliversCustomHttpClientErrors() throws IOException {
+    HttpResponse httpResponse = MockHelper.generateHttpResponseFromFile(responseFile, 404);
+    doReturn(httpResponse)
+        .when(httpClientMock)
+        .execute(any(HttpRequestBase.class), any(HttpContext.class));
+
+    ExecutionException exception =
+        assertThrows(
+            ExecutionException.class,
+            () -> testClient.sendRequestAsync("/test", HttpMethod.GET, null, null, null).get());
+
+    assertTrue(exception.getCause() instanceof MPApiException);
+    assertEquals(404, ((MPApiException) exception.getCause()).getStatusCode());
+  }
+
   private static class TestClient extends MercadoPagoClient {
 
     /**
@@ -317,6 +389,15 @@ public class MercadoPagoClientTest extends BaseClientTest {
       return send(path, method, payload, queryParams, requestOptions);
     }
 
+    public CompletableFuture<MPResponse> sendRequestAsync(
+        String path,
+        HttpMethod method,
+        JsonObject payload,
+        Map<String, Object> queryParams,
+        MPRequestOptions requestOptions) {
+      return sendAsync(path, method, payload, queryParams, requestOptions);
+    }
+
     public MPResponse searchRequest(String path, MPSearchRequest searchRequest)
         throws MPException, MPApiException {
       return search(path, searchRequest);
@@ -0,0 +1,68 @@
+package com.mercadopago.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.mercadopago.BaseClientTest;
+import com.mercadopago.MercadoPagoContext;
+import com.mercadopago.client.payment.PaymentClient;
+import com.mercadopago.client.user.UserClient;
+import com.mercadopago.net.Headers;
+import java.io.IOException;
+import java.util.logging.Logger;
+import org.junit.jupiter.api.Test;
+
+/** MercadoPagoClientsTest class. */
+public class MercadoPagoClientsTest extends BaseClientTest {
+
+  @Test
+  public void returnsSameClientPerFactory() {
+    MercadoPagoClients clients = MercadoPagoClients.getDefault();
+    MercadoPagoClients tenantClients =
+        new MercadoPagoClients(MercadoPagoContext.builder().accessToken("tenant").build());
+
+    PaymentClient paymentClient = clients.getPaymentClient();
+
+    assertSame(paymentClient, clients.getPaymentClient());
+    assertNotSame(paymentClient, tenantClients.getPaymentClient());
+    assertSame(tenantClients.getPaymentClient(), tenantClients.getPaymentClient());
+    assertSame(MercadoPagoContext.getDefault(), clients.getContext());
+  }
+
+  @Test
+  public void closeDropsTheCachedClients() throws IOException {
+    MercadoPagoClients clients =
+        new MercadoPagoClients(MercadoPagoContext.builder().accessToken("tenant").build());
+    PaymentClient paymentClient = clients.getPaymentClient();
+
+    clients.close();
+
+    assertNotSame(paymentClient, clients.getPaymentClient());
+    clients.close();
+  }
+
+  @Test
+  public void defaultHeadersAreSharedAndUnmodifiable() {
+    MercadoPagoClient first = new UserClient();
+    MercadoPagoClient second = new PaymentClient();
+
+    assertSame(first.defaultHeaders, second.defaultHeaders);
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> first.defaultHeaders.put(Headers.ACCEPT, "text/plain"));
+  }
+
+  @Test
+  public void constructorsDoNotAddLoggingHandlers() {
+    Logger logger = Logger.getLogger(UserClient.class.getName());
+    new UserClient();
+    int handlers = logger.getHandlers().length;
+
+    new UserClient();
+    new UserClient(MercadoPagoContext.getDefault());
+
+    assertEquals(handlers, logger.getHandlers().length);
+  }
+}
@@ -17,6 +17,7 @@ import com.mercadopago.resources.CardToken;
 import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.concurrent.ExecutionException;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
 import org.apache.http.ParseException;
@@ -110,6 +111,42 @@ public class CardTokenClientTest extends BaseClientTest {
     assertCardTokenFields(token);
   }
 
+  @Test
+  public void getCardTokenAsyncSuccess()
+      throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse(responseFileCardToken, HttpStatus.OK);
+
+    CardToken token = tokenClient.getAsync(cardId).get();
+
+    assertNotNull(token);
+    assertCardTokenFields(token);
+  }
+
+  @Test
+  public void getCardTokenAsyncWithApiError() {
+    mockAsyncApiError();
+
+    assertAsyncApiError(tokenClient.getAsync(cardId, buildRequestOptions()));
+  }
+
+  @Test
+  public void createCardTokenAsyncSuccess()
+      throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse(responseFileCardToken, HttpStatus.OK);
+
+    CardToken token = tokenClient.createAsync(buildCardTokenRequest()).get();
+
+    assertNotNull(token);
+    assertCardTokenFields(token);
+  }
+
+  @Test
+  public void createCardTokenAsyncWithApiError() {
+    mockAsyncApiError();
+
+    assertAsyncApiError(tokenClient.createAsync(buildCardTokenRequest(), buildRequestOptions()));
+  }
+
   private CardTokenRequest buildCardTokenRequest() {
     return CardTokenRequest.builder()
         .cardId(cardId)
@@ -25,6 +25,7 @@ import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpRequestBase;
@@ -333,6 +334,62 @@ public class CustomerClientTest extends BaseClientTest {
     assertEquals("1562188766852", cards.getResults().get(0).getId());
   }
 
+  @Test
+  public void getAsyncSuccess() throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse("/customer/customer_base.json", HttpStatus.OK);
+
+    Customer customer = customerClient.getAsync(customerId).get();
+
+    assertCustomerFields(customer);
+  }
+
+  @Test
+  public void getAsyncWithApiError() {
+    mockAsyncApiError();
+
+    assertAsyncApiError(customerClient.getAsync(customerId, buildRequestOptions()));
+  }
+
+  @Test
+  public void createAsyncSuccess() throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse("/customer/customer_base.json", HttpStatus.OK);
+
+    Customer customer = customerClient.createAsync(buildCustomerRequest()).get();
+
+    assertCustomerFields(customer);
+  }
+
+  @Test
+  public void createAsyncWithApiError() {
+    mockAsyncApiError();
+
+    assertAsyncApiError(customerClient.createAsync(buildCustomerRequest(), buildRequestOptions()));
+  }
+
+  @Test
+  public void searchAsyncSuccess() throws IOException, ExecutionException, InterruptedException {
+    Map<String, Object> filters = new HashMap<>();
+    filters.put("email", "test@user.com");
+    MPSearchRequest searchRequest =
+        MPSearchRequest.builder().limit(0).offset(0).filters(filters).build();
+    mockAsyncResponse("/customer/search_by_email.json", HttpStatus.OK);
+
+    MPResultsResourcesPage<Customer> result = customerClient.searchAsync(searchRequest).get();
+
+    assertNotNull(result);
+    assertEquals(10, result.getPaging().getLimit());
+    assertEquals(1, result.getPaging().getTotal());
+    assertEquals(1, result.getResults().size());
+  }
+
+  @Test
+  public void searchAsyncWithApiError() {
+    mockAsyncApiError();
+
+    MPSearchRequest searchRequest = MPSearchRequest.builder().limit(0).offset(0).build();
+    assertAsyncApiError(customerClient.searchAsync(searchRequest, buildRequestOptions()));
+  }
+
   private CustomerRequest buildCustomerRequest() {
     return CustomerRequest.builder()
         .address(
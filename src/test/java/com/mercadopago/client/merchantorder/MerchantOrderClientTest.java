@@ -26,6 +26,7 @@ import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.protocol.HttpContext;
@@ -214,6 +215,68 @@ class MerchantOrderClientTest extends BaseClientTest {
     assertMerchantOrderFields(results.getElements().get(0));
   }
 
+  @Test
+  void createAsyncSuccess() throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse(orderBaseJson, CREATED);
+    MerchantOrderCreateRequest request =
+        MerchantOrderCreateRequest.builder().preferenceId(preferenceId).build();
+
+    MerchantOrder merchantOrder = client.createAsync(request).get();
+
+    assertEquals(CREATED, merchantOrder.getResponse().getStatusCode());
+    assertMerchantOrderFields(merchantOrder);
+  }
+
+  @Test
+  void createAsyncWithApiError() {
+    mockAsyncApiError();
+    MerchantOrderCreateRequest request =
+        MerchantOrderCreateRequest.builder().preferenceId(preferenceId).build();
+
+    assertAsyncApiError(client.createAsync(request, buildRequestOptions()));
+  }
+
+  @Test
+  void getAsyncSuccess() throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse(orderBaseJson, OK);
+
+    MerchantOrder merchantOrder = client.getAsync(merchantOrderId).get();
+
+    assertEquals(OK, merchantOrder.getResponse().getStatusCode());
+    assertMerchantOrderFields(merchantOrder);
+  }
+
+  @Test
+  void getAsyncWithApiError() {
+    mockAsyncApiError();
+
+    assertAsyncApiError(client.getAsync(merchantOrderId, buildRequestOptions()));
+  }
+
+  @Test
+  void searchAsyncSuccess() throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse(orderSearchJson, OK);
+    Map<String, Object> filters = new HashMap<>();
+    filters.put("preference_id", preferenceId);
+    MPSearchRequest searchRequest =
+        MPSearchRequest.builder().limit(0).offset(0).filters(filters).build();
+
+    MPElementsResourcesPage<MerchantOrder> results = client.searchAsync(searchRequest).get();
+
+    assertEquals(OK, results.getResponse().getStatusCode());
+    assertEquals(2, results.getTotal());
+    assertEquals(2, results.getElements().size());
+    assertMerchantOrderFields(results.getElements().get(0));
+  }
+
+  @Test
+  void searchAsyncWithApiError() {
+    mockAsyncApiError();
+    MPSearchRequest searchRequest = MPSearchRequest.builder().limit(0).offset(0).build();
+
+    assertAsyncApiError(client.searchAsync(searchRequest, buildRequestOptions()));
+  }
+
   private void assertMerchantOrderFields(MerchantOrder merchantOrder) {
     assertEquals(merchantOrderId, merchantOrder.getId());
     assertEquals("opened", merchantOrder.getStatus());
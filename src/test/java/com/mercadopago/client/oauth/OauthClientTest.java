@@ -19,6 +19,7 @@ import com.mercadopago.resources.oauth.RefreshOauthCredential;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.concurrent.ExecutionException;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpGet;
@@ -166,6 +167,64 @@ public class OauthClientTest extends BaseClientTest {
     assertRefreshOauthCredentialFields(credential);
   }
 
+  @Test
+  public void getAuthorizationURLAsyncSuccess()
+      throws IOException, URISyntaxException, ExecutionException, InterruptedException {
+    mockAsyncResponse("/user/user_base.json", HttpStatus.OK);
+
+    String authorizationURL =
+        new OauthClient().getAuthorizationURLAsync(appId, redirectUri).get();
+
+    assertAuthorizationUrlComponents(authorizationURL);
+  }
+
+  @Test
+  public void getAuthorizationURLAsyncWithApiError() {
+    mockAsyncApiError();
+
+    assertAsyncApiError(
+        new OauthClient().getAuthorizationURLAsync(appId, redirectUri, buildRequestOptions()));
+  }
+
+  @Test
+  public void createCredentialAsyncSuccess()
+      throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse("/oauth/oauth_credential.json", HttpStatus.OK);
+
+    CreateOauthCredential credential =
+        new OauthClient().createCredentialAsync(authorizationCode, redirectUri).get();
+
+    assertCreateOauthCredentialFields(credential);
+  }
+
+  @Test
+  public void createCredentialAsyncWithApiError() {
+    mockAsyncApiError();
+
+    assertAsyncApiError(
+        new OauthClient()
+            .createCredentialAsync(authorizationCode, redirectUri, buildRequestOptions()));
+  }
+
+  @Test
+  public void refreshCredentialAsyncSuccess()
+      throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse("/oauth/oauth_refresh_token.json", HttpStatus.OK);
+
+    RefreshOauthCredential credential =
+        new OauthClient().refreshCredentialAsync(refreshToken).get();
+
+    assertRefreshOauthCredentialFields(credential);
+  }
+
+  @Test
+  public void refreshCredentialAsyncWithApiError() {
+    mockAsyncApiError();
+
+    assertAsyncApiError(
+        new OauthClient().refreshCredentialAsync(refreshToken, buildRequestOptions()));
+  }
+
   private void assertAuthorizationUrlComponents(String authorizationURL) throws URISyntaxException {
     URI responseURL = new URI(authorizationURL);
     assertEquals("https", responseURL.getScheme());
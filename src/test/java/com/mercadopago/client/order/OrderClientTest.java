@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 import static org.mockito.Matchers.any;
 
@@ -90,6 +91,42 @@ class OrderClientTest extends BaseClientTest {
         Assertions.assertEquals(orderId, order.getId());
     }
 
+    @Test
+    void createAsyncSuccess() throws IOException, ExecutionException, InterruptedException {
+        OrderCreateRequest request = getMinimumOrderCreateRequest();
+        mockAsyncResponse(CREATE_ORDER_RESPONSE_FILE, HttpStatus.CREATED);
+
+        Order order = client.createAsync(request).get();
+
+        Assertions.assertNotNull(order);
+        Assertions.assertEquals(request.getTotalAmount(), order.getTotalAmount());
+    }
+
+    @Test
+    void createAsyncWithApiError() {
+        mockAsyncApiError();
+
+        assertAsyncApiError(client.createAsync(getMinimumOrderCreateRequest(), buildRequestOptions()));
+    }
+
+    @Test
+    void getAsyncSuccess() throws IOException, ExecutionException, InterruptedException {
+        mockAsyncResponse(CREATE_ORDER_RESPONSE_FILE, HttpStatus.OK);
+
+        String orderId = "123";
+        Order order = client.getAsync(orderId).get();
+
+        Assertions.assertNotNull(order);
+        Assertions.assertEquals(orderId, order.getId());
+    }
+
+    @Test
+    void getAsyncWithApiError() {
+        mockAsyncApiError();
+
+        assertAsyncApiError(client.getAsync("123", buildRequestOptions()));
+    }
+
     @Test
     void processSuccess() throws MPException, MPApiException, IOException {
         HttpResponse response = MockHelper.generateHttpResponseFromFile(CREATE_ORDER_RESPONSE_FILE, HttpStatus.OK);
@@ -32,7 +32,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import lombok.var;
 import org.junit.jupiter.api.Test;
 
 /** PaymentClientIT class. */
@@ -71,8 +70,8 @@ public class PaymentClientIT extends BaseClientIT {
               .customHeaders(customHeaders)
               .build();
 
-      var firstPayment = client.create(paymentCreateRequest, requestOptions);
-      var secondPayment = client.create(paymentCreateRequest, requestOptions);
+      Payment firstPayment = client.create(paymentCreateRequest, requestOptions);
+      Payment secondPayment = client.create(paymentCreateRequest, requestOptions);
 
       assertNotNull(firstPayment.getResponse());
       assertNotNull(secondPayment.getResponse());
@@ -3,6 +3,8 @@ package com.mercadopago.client.payment;
 import static com.mercadopago.helper.MockHelper.generateHttpResponseFromFile;
 import static com.mercadopago.helper.MockHelper.generateJsonElement;
 import static com.mercadopago.helper.MockHelper.generateJsonElementFromUriRequest;
+import static com.mercadopago.helper.MockHelper.readResponseFile;
+import static com.mercadopago.net.HttpStatus.BAD_REQUEST;
 import static com.mercadopago.net.HttpStatus.CREATED;
 import static com.mercadopago.net.HttpStatus.OK;
 import static java.math.BigInteger.ZERO;
@@ -10,6 +12,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doReturn;
@@ -37,7 +40,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.core5.http.ContentType;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.protocol.HttpContext;
@@ -256,6 +262,74 @@ public class PaymentClientTest extends BaseClientTest {
     assertPaymentFields(findPayment);
   }
 
+  @Test
+  public void getAsyncSuccess() throws IOException, ExecutionException, InterruptedException {
+    HTTP_ASYNC_CLIENT_MOCK.setFailure(null);
+    HTTP_ASYNC_CLIENT_MOCK.setResponse(
+        SimpleHttpResponse.create(
+            OK, readResponseFile(paymentBaseJson), ContentType.APPLICATION_JSON));
+
+    Payment findPayment = client.getAsync(paymentTestId).get();
+
+    assertNotNull(findPayment);
+    assertEquals(OK, findPayment.getResponse().getStatusCode());
+    assertPaymentFields(findPayment);
+  }
+
+  @Test
+  public void getAsyncWithApiError() {
+    HTTP_ASYNC_CLIENT_MOCK.setFailure(null);
+    HTTP_ASYNC_CLIENT_MOCK.setResponse(
+        SimpleHttpResponse.create(
+            BAD_REQUEST, "{\"message\": \"invalid\"}", ContentType.APPLICATION_JSON));
+
+    ExecutionException exception =
+        assertThrows(ExecutionException.class, () -> client.getAsync(paymentTestId).get());
+
+    assertTrue(exception.getCause() instanceof MPApiException);
+    assertEquals(BAD_REQUEST, ((MPApiException) exception.getCause()).getStatusCode());
+  }
+
+  @Test
+  public void createAsyncSuccess() throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse(paymentBaseJson, CREATED);
+
+    Payment payment = client.createAsync(newCardPayment(false)).get();
+
+    assertNotNull(payment.getResponse());
+    assertEquals(CREATED, payment.getResponse().getStatusCode());
+    assertPaymentFields(payment);
+  }
+
+  @Test
+  public void createAsyncWithApiError() {
+    mockAsyncApiError();
+
+    assertAsyncApiError(client.createAsync(newCardPayment(false), buildRequestOptions()));
+  }
+
+  @Test
+  public void searchAsyncSuccess() throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse(paymentSearchJson, OK);
+
+    MPSearchRequest request = MPSearchRequest.builder().limit(5).offset(0).build();
+    MPResultsResourcesPage<Payment> result = client.searchAsync(request).get();
+
+    assertNotNull(result.getResponse().getContent());
+    assertEquals(OK, result.getResponse().getStatusCode());
+    assertEquals(102, result.getPaging().getTotal());
+    assertEquals(5, result.getResults().size());
+    assertEquals("pix", result.getResults().get(0).getPaymentMethodId());
+  }
+
+  @Test
+  public void searchAsyncWithApiError() {
+    mockAsyncApiError();
+
+    MPSearchRequest request = MPSearchRequest.builder().limit(5).offset(0).build();
+    assertAsyncApiError(client.searchAsync(request, buildRequestOptions()));
+  }
+
   @Test
   public void cancelSuccess() throws IOException, MPException, MPApiException {
 
@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.concurrent.ExecutionException;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.protocol.HttpContext;
@@ -153,6 +154,58 @@ class PaymentRefundClientTest extends BaseClientTest {
     assertRefundFields(result.getResults().get(0));
   }
 
+  @Test
+  void refundAsyncSuccess() throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse(refundBaseJson, CREATED);
+
+    PaymentRefund result = client.refundAsync(paymentTestId, new BigDecimal("50")).get();
+
+    assertEquals(CREATED, result.getResponse().getStatusCode());
+    assertRefundFields(result);
+  }
+
+  @Test
+  void refundAsyncWithApiError() {
+    mockAsyncApiError();
+
+    assertAsyncApiError(client.refundAsync(paymentTestId, null, buildRequestOptions()));
+  }
+
+  @Test
+  void getRefundAsyncSuccess() throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse(refundBaseJson, OK);
+
+    PaymentRefund result = client.getAsync(paymentTestId, refundTestId).get();
+
+    assertEquals(OK, result.getResponse().getStatusCode());
+    assertRefundFields(result);
+  }
+
+  @Test
+  void getRefundAsyncWithApiError() {
+    mockAsyncApiError();
+
+    assertAsyncApiError(client.getAsync(paymentTestId, refundTestId, buildRequestOptions()));
+  }
+
+  @Test
+  void listRefundsAsyncSuccess() throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse(refundListJson, OK);
+
+    MPResourceList<PaymentRefund> result = client.listAsync(paymentTestId).get();
+
+    assertEquals(OK, result.getResponse().getStatusCode());
+    assertEquals(2, result.getResults().size());
+    assertRefundFields(result.getResults().get(0));
+  }
+
+  @Test
+  void listRefundsAsyncWithApiError() {
+    mockAsyncApiError();
+
+    assertAsyncApiError(client.listAsync(paymentTestId, buildRequestOptions()));
+  }
+
   private void assertRefundFields(PaymentRefund refund) {
     assertEquals(refundTestId, refund.getId());
     assertEquals(paymentTestId, refund.getPaymentId());
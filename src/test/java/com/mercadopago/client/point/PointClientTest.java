@@ -32,6 +32,7 @@ import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.protocol.HttpContext;
@@ -303,6 +304,66 @@ class PointClientTest extends BaseClientTest {
     assertEquals(PDV, deviceOperatingMode.getOperatingMode());
   }
 
+  @Test
+  void createPaymentIntentAsyncSuccess()
+      throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse(paymentIntentJson, CREATED);
+
+    PointPaymentIntent paymentIntent =
+        client.createPaymentIntentAsync(deviceId, newPaymentIntentRequest()).get();
+
+    assertEquals(CREATED, paymentIntent.getResponse().getStatusCode());
+    assertPaymentIntentFields(paymentIntent);
+  }
+
+  @Test
+  void createPaymentIntentAsyncWithApiError() {
+    mockAsyncApiError();
+
+    assertAsyncApiError(
+        client.createPaymentIntentAsync(
+            deviceId, newPaymentIntentRequest(), buildRequestOptions()));
+  }
+
+  @Test
+  void searchPaymentIntentAsyncSuccess()
+      throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse(paymentIntentSearchJson, OK);
+
+    PointSearchPaymentIntent searchPaymentIntent =
+        client.searchPaymentIntentAsync(paymentIntentId).get();
+
+    assertEquals(OK, searchPaymentIntent.getResponse().getStatusCode());
+    assertSearchPaymentIntentFields(searchPaymentIntent);
+  }
+
+  @Test
+  void searchPaymentIntentAsyncWithApiError() {
+    mockAsyncApiError();
+
+    assertAsyncApiError(client.searchPaymentIntentAsync(paymentIntentId, buildRequestOptions()));
+  }
+
+  @Test
+  void getPaymentIntentStatusAsyncSuccess()
+      throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse(paymentIntentStatusJson, OK);
+
+    PointStatusPaymentIntent paymentIntentStatus =
+        client.getPaymentIntentStatusAsync(paymentIntentId).get();
+
+    assertEquals(OK, paymentIntentStatus.getResponse().getStatusCode());
+    assertEquals("CANCELED", paymentIntentStatus.getStatus());
+  }
+
+  @Test
+  void getPaymentIntentStatusAsyncWithApiError() {
+    mockAsyncApiError();
+
+    assertAsyncApiError(
+        client.getPaymentIntentStatusAsync(paymentIntentId, buildRequestOptions()));
+  }
+
   private void assertPaymentIntentFields(PointPaymentIntent paymentIntent) {
     assertNotNull(paymentIntent.getAdditionalInfo());
     assertEquals(
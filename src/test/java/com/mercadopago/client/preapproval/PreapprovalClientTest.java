@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.concurrent.ExecutionException;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.protocol.HttpContext;
@@ -201,6 +202,61 @@ class PreapprovalClientTest extends BaseClientTest {
     assertNotNull(preapprovalList.getResults().get(1));
   }
 
+  @Test
+  void getAsyncSuccess() throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse(preapprovalBaseJson, OK);
+
+    Preapproval preapproval = client.getAsync(preapprovalId).get();
+
+    assertEquals(OK, preapproval.getResponse().getStatusCode());
+    assertPreapprovalFields(preapproval, false);
+  }
+
+  @Test
+  void getAsyncWithApiError() {
+    mockAsyncApiError();
+
+    assertAsyncApiError(client.getAsync(preapprovalId, buildRequestOptions()));
+  }
+
+  @Test
+  void createAsyncSuccess() throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse(preapprovalBaseJson, CREATED);
+
+    Preapproval preapproval = client.createAsync(buildPreapprovalCreateRequest()).get();
+
+    assertEquals(CREATED, preapproval.getResponse().getStatusCode());
+    assertPreapprovalFields(preapproval, false);
+  }
+
+  @Test
+  void createAsyncWithApiError() {
+    mockAsyncApiError();
+
+    assertAsyncApiError(
+        client.createAsync(buildPreapprovalCreateRequest(), buildRequestOptions()));
+  }
+
+  @Test
+  void searchAsyncSuccess() throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse(preapprovalListJson, OK);
+    MPSearchRequest searchRequest = MPSearchRequest.builder().offset(0).limit(2).build();
+
+    MPResultsResourcesPage<Preapproval> preapprovalList = client.searchAsync(searchRequest).get();
+
+    assertEquals(OK, preapprovalList.getResponse().getStatusCode());
+    assertEquals(7, preapprovalList.getPaging().getTotal());
+    assertEquals(2, preapprovalList.getResults().size());
+  }
+
+  @Test
+  void searchAsyncWithApiError() {
+    mockAsyncApiError();
+    MPSearchRequest searchRequest = MPSearchRequest.builder().offset(0).limit(2).build();
+
+    assertAsyncApiError(client.searchAsync(searchRequest, buildRequestOptions()));
+  }
+
   private void assertPreapprovalFields(Preapproval preapproval, boolean updated) {
     String reason = updated ? "Updated reason" : "reason";
 
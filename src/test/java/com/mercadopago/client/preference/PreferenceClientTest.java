@@ -30,6 +30,7 @@ import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.protocol.HttpContext;
@@ -182,6 +183,59 @@ class PreferenceClientTest extends BaseClientTest {
     assertPreferenceSearchFields(result.getElements().get(0));
   }
 
+  @Test
+  void getAsyncSuccess() throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse(preferenceBaseJson, OK);
+
+    Preference preference = client.getAsync(preferenceTestId).get();
+
+    assertEquals(OK, preference.getResponse().getStatusCode());
+    assertPreferenceFields(preference);
+  }
+
+  @Test
+  void getAsyncWithApiError() {
+    mockAsyncApiError();
+
+    assertAsyncApiError(client.getAsync(preferenceTestId, buildRequestOptions()));
+  }
+
+  @Test
+  void createAsyncSuccess() throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse(preferenceBaseJson, CREATED);
+
+    Preference preference = client.createAsync(newPreference()).get();
+
+    assertEquals(CREATED, preference.getResponse().getStatusCode());
+    assertPreferenceFields(preference);
+  }
+
+  @Test
+  void createAsyncWithApiError() {
+    mockAsyncApiError();
+
+    assertAsyncApiError(client.createAsync(newPreference(), buildRequestOptions()));
+  }
+
+  @Test
+  void searchAsyncSuccess() throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse(preferenceListJson, OK);
+    MPSearchRequest searchRequest = MPSearchRequest.builder().limit(2).offset(0).build();
+
+    MPElementsResourcesPage<PreferenceSearch> result = client.searchAsync(searchRequest).get();
+
+    assertEquals(OK, result.getResponse().getStatusCode());
+    assertPreferenceSearchFields(result.getElements().get(0));
+  }
+
+  @Test
+  void searchAsyncWithApiError() {
+    mockAsyncApiError();
+    MPSearchRequest searchRequest = MPSearchRequest.builder().limit(2).offset(0).build();
+
+    assertAsyncApiError(client.searchAsync(searchRequest, buildRequestOptions()));
+  }
+
   private void assertPreferenceFields(Preference preference) {
     assertEquals("Discount: 12.00", preference.getAdditionalInfo());
     assertEquals("all", preference.getAutoReturn());
@@ -6,12 +6,19 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doReturn;
 
 import com.mercadopago.BaseClientTest;
+import com.mercadopago.core.MPInterceptor;
 import com.mercadopago.exceptions.MPApiException;
 import com.mercadopago.exceptions.MPException;
 import com.mercadopago.helper.MockHelper;
 import com.mercadopago.net.HttpStatus;
+import com.mercadopago.net.MPRequest;
 import com.mercadopago.resources.user.User;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpRequestBase;
@@ -49,6 +56,62 @@ class UserClientTest extends BaseClientTest {
     assertUserFields(user);
   }
 
+  @Test
+  void getUserAsyncSuccess() throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse("/user/user_base.json", HttpStatus.OK);
+
+    User user = new UserClient().getAsync().get();
+
+    assertNotNull(user);
+    assertUserFields(user);
+  }
+
+  @Test
+  void getUserNotifiesResultInterceptorsOnce() throws IOException, MPException, MPApiException {
+    HttpResponse httpResponse =
+        MockHelper.generateHttpResponseFromFile("/user/user_base.json", HttpStatus.OK);
+    httpResponse.setHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON);
+    doReturn(httpResponse)
+        .when(HTTP_CLIENT)
+        .execute(any(HttpRequestBase.class), any(HttpContext.class));
+    List<Object> results = new ArrayList<>();
+    UserClient client = new UserClient();
+    client.addInterceptor(observing(results));
+
+    User user = client.get();
+
+    assertEquals(Collections.singletonList(user), results);
+  }
+
+  @Test
+  void getUserAsyncNotifiesResultInterceptorsOnce()
+      throws IOException, ExecutionException, InterruptedException {
+    mockAsyncResponse("/user/user_base.json", HttpStatus.OK);
+    List<Object> results = new CopyOnWriteArrayList<>();
+    UserClient client = new UserClient();
+    client.addInterceptor(observing(results));
+
+    User user = client.getAsync().get();
+
+    assertEquals(Collections.singletonList(user), results);
+  }
+
+  @Test
+  void getUserAsyncWithApiError() {
+    mockAsyncApiError();
+
+    assertAsyncApiError(new UserClient().getAsync(buildRequestOptions()));
+  }
+
+  private static MPInterceptor observing(List<Object> results) {
+    return new MPInterceptor() {
+      @Override
+      public void onResult(MPRequest request, Object result) {
+        results.add(result);
+      }
+    };
+  }
+
   private void assertUserFields(User user) {
     assertEquals(539675046, user.getId());
     assertEquals("TETE7689213", user.getNickname());
@@ -0,0 +1,147 @@
+package com.mercadopago.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mercadopago.exceptions.MPBulkheadFullException;
+import com.mercadopago.net.HttpMethod;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class MPBulkheadHttpClientTest {
+  private static final String SEARCH = "/v1/payments/search";
+
+  private final MPBulkheadPolicy policy =
+      MPBulkheadPolicy.builder()
+          .bulkheads("search: 1, create: 32, point: 2, payments.get: 3")
+          .maxQueueWaitMillis(50)
+          .build();
+
+  @Test
+  void requestsGoToTheMostSpecificBulkhead() {
+    assertEquals("search", policy.bulkheadFor(request(HttpMethod.GET, SEARCH)).getName());
+    assertEquals("create", policy.bulkheadFor(request(HttpMethod.POST, "/v1/payments")).getName());
+    assertEquals(
+        "payments.get", policy.bulkheadFor(request(HttpMethod.GET, "/v1/payments/123")).getName());
+    assertEquals(
+        "point",
+        policy
+            .bulkheadFor(
+                request(
+                    HttpMethod.GET,
+                    "/point/integration-api/devices/PAX_A910__SMARTPOS1234/payment-intents"))
+            .getName());
+    assertNull(policy.bulkheadFor(request(HttpMethod.DELETE, "/v1/customers/123/cards/456")));
+    assertEquals(4, policy.getBulkheads().size());
+  }
+
+  @Test
+  void invalidDeclarationIsRejected() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> MPBulkheadPolicy.builder().bulkheads("search: 4, create").build());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> MPBulkheadPolicy.builder().bulkheads("search: many").build());
+  }
+
+  @Test
+  void fullBulkheadRejectsWithoutBlockingOtherBulkheads() throws Exception {
+    CountDownLatch searching = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    MPBulkheadHttpClient client =
+        new MPBulkheadHttpClient(
+            request -> {
+              if (request.getUri().endsWith("search")) {
+                searching.countDown();
+                await(release);
+              }
+              return response(200);
+            },
+            policy);
+    Thread search =
+        new Thread(
+            () -> {
+              try {
+                client.send(request(HttpMethod.GET, SEARCH));
+              } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+              }
+            });
+    search.start();
+    assertTrue(searching.await(1, TimeUnit.SECONDS));
+
+    MPBulkheadFullException exception =
+        assertThrows(
+            MPBulkheadFullException.class, () -> client.send(request(HttpMethod.GET, SEARCH)));
+    assertEquals(200, client.send(request(HttpMethod.POST, "/v1/payments")).getStatusCode());
+
+    release.countDown();
+    search.join();
+    MPBulkhead bulkhead = policy.getBulkheads().get("search");
+    assertEquals("search", exception.getBulkhead());
+    assertEquals(1, bulkhead.getAcceptedCalls());
+    assertEquals(1, bulkhead.getRejectedCalls());
+    assertEquals(0, bulkhead.getInFlight());
+  }
+
+  @Test
+  void queuedAsyncRequestRunsWhenSlotFrees() throws Exception {
+    MPBulkheadPolicy queuing =
+        MPBulkheadPolicy.builder().bulkheads("search: 1").maxQueueWaitMillis(5000).build();
+    List<CompletableFuture<MPResponse>> executions = new ArrayList<>();
+    MPBulkheadAsyncHttpClient client =
+        new MPBulkheadAsyncHttpClient(
+            request -> {
+              CompletableFuture<MPResponse> execution = new CompletableFuture<>();
+              executions.add(execution);
+              return execution;
+            },
+            queuing);
+
+    client.sendAsync(request(HttpMethod.GET, SEARCH));
+    CompletableFuture<MPResponse> queued = client.sendAsync(request(HttpMethod.GET, SEARCH));
+    MPBulkhead bulkhead = queuing.getBulkheads().get("search");
+    assertEquals(1, bulkhead.getQueueDepth());
+    Thread.sleep(20);
+    executions.get(0).complete(response(200));
+
+    assertEquals(2, executions.size());
+    assertFalse(queued.isDone());
+    executions.get(1).complete(response(200));
+    assertEquals(200, queued.get(1, TimeUnit.SECONDS).getStatusCode());
+    assertTrue(bulkhead.getMaxQueueTimeMillis() >= 20);
+    assertEquals(0, bulkhead.getInFlight());
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static MPRequest request(HttpMethod method, String path) {
+    return MPRequest.builder()
+        .uri("https://api.mercadopago.com" + path)
+        .method(method)
+        .headers(new HashMap<>())
+        .build();
+  }
+
+  private static MPResponse response(int statusCode) {
+    return new MPResponse(statusCode, Collections.emptyMap(), "");
+  }
+}
@@ -0,0 +1,152 @@
+package com.mercadopago.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPCircuitBreakerOpenException;
+import com.mercadopago.net.HttpMethod;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class MPCircuitBreakerHttpClientTest {
+  private final List<String> transitions = new ArrayList<>();
+
+  private final MPCircuitBreakerPolicy policy =
+      MPCircuitBreakerPolicy.builder()
+          .slidingWindowSize(4)
+          .minimumCalls(4)
+          .failureRateThreshold(50)
+          .openDurationMillis(50)
+          .halfOpenProbes(1)
+          .listener((breaker, from, to) -> transitions.add(from + "->" + to))
+          .build();
+
+  private final AtomicBoolean failing = new AtomicBoolean(true);
+
+  private final AtomicInteger sent = new AtomicInteger();
+
+  private final MPCircuitBreakerHttpClient client =
+      new MPCircuitBreakerHttpClient(
+          request -> {
+            sent.incrementAndGet();
+            if (failing.get()) {
+              throw new MPApiException("Api error", response(503));
+            }
+            return response(200);
+          },
+          policy);
+
+  @Test
+  void opensOnFailureRateAndFailsFast() {
+    for (int i = 0; i < 4; i++) {
+      assertThrows(MPApiException.class, () -> client.send(request("/v1/orders/ORD123")));
+    }
+
+    MPCircuitBreakerOpenException exception =
+        assertThrows(
+            MPCircuitBreakerOpenException.class, () -> client.send(request("/v1/orders/ORD456")));
+
+    assertEquals("POST /v1/orders/{id}", exception.getEndpoint());
+    assertEquals(4, sent.get());
+    MPCircuitBreaker breaker = policy.getCircuitBreakers().get("POST /v1/orders/{id}");
+    assertEquals(MPCircuitBreaker.State.OPEN, breaker.getState());
+    assertEquals(1, breaker.getRejectedCalls());
+    assertEquals(Collections.singletonList("CLOSED->OPEN"), transitions);
+  }
+
+  @Test
+  void halfOpenProbeClosesTheBreaker() throws Exception {
+    for (int i = 0; i < 4; i++) {
+      assertThrows(MPApiException.class, () -> client.send(request("/v1/orders")));
+    }
+    Thread.sleep(60);
+    failing.set(false);
+
+    assertEquals(200, client.send(request("/v1/orders")).getStatusCode());
+
+    assertEquals(
+        MPCircuitBreaker.State.CLOSED,
+        policy.getCircuitBreakers().get("POST /v1/orders").getState());
+    assertEquals(
+        Arrays.asList("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED"),
+        transitions);
+  }
+
+  @Test
+  void clientErrorsDoNotOpenTheBreaker() {
+    MPCircuitBreakerHttpClient badRequests =
+        new MPCircuitBreakerHttpClient(
+            request -> {
+              throw new MPApiException("Api error", response(400));
+            },
+            policy);
+
+    for (int i = 0; i < 10; i++) {
+      assertThrows(MPApiException.class, () -> badRequests.send(request("/v1/payments")));
+    }
+
+    assertEquals(
+        MPCircuitBreaker.State.CLOSED,
+        policy.getCircuitBreakers().get("POST /v1/payments").getState());
+  }
+
+  @Test
+  void asyncClientFailsFastWhenOpen() {
+    MPCircuitBreakerAsyncHttpClient asyncClient =
+        new MPCircuitBreakerAsyncHttpClient(
+            request -> {
+              CompletableFuture<MPResponse> future =
+                  new java.util.concurrent.CompletableFuture<>();
+              future.completeExceptionally(new MPApiException("Api error", response(500)));
+              return future;
+            },
+            policy);
+    for (int i = 0; i < 4; i++) {
+      assertThrows(
+          ExecutionException.class, () -> asyncClient.sendAsync(request("/v1/orders")).get());
+    }
+
+    ExecutionException exception =
+        assertThrows(
+            ExecutionException.class, () -> asyncClient.sendAsync(request("/v1/orders")).get());
+
+    assertTrue(exception.getCause() instanceof MPCircuitBreakerOpenException);
+  }
+
+  @Test
+  void endpointKeyUsesPathTemplate() {
+    MPRequest request =
+        MPRequest.builder()
+            .uri(
+                "https://api.mercadopago.com/point/integration-api/devices/PAX_A910__SMARTPOS1234"
+                    + "/payment-intents?limit=1")
+            .method(HttpMethod.GET)
+            .build();
+
+    assertEquals(
+        "GET /point/integration-api/devices/{id}/payment-intents",
+        MPCircuitBreakerPolicy.endpointOf(request));
+  }
+
+  private static MPRequest request(String path) {
+    return MPRequest.builder()
+        .uri("https://api.mercadopago.com" + path)
+        .method(HttpMethod.POST)
+        .build();
+  }
+
+  private static MPResponse response(int statusCode) {
+    return new MPResponse(statusCode, Collections.emptyMap(), "");
+  }
+}
@@ -0,0 +1,232 @@
+package com.mercadopago.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPConcurrencyLimitExceededException;
+import com.mercadopago.exceptions.MPDeadlineExceededException;
+import com.mercadopago.exceptions.MPException;
+import com.mercadopago.exceptions.MPPriorityQueueFullException;
+import com.mercadopago.net.HttpMethod;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class MPConcurrencyLimitHttpClientTest {
+
+  @Test
+  void limitGrowsOnSuccessAndShrinksOnOverload() throws Exception {
+    MPConcurrencyLimiter limiter =
+        MPConcurrencyLimiter.builder()
+            .initialLimit(1)
+            .latencyTolerance(50)
+            .backoffRatio(0.5)
+            .build();
+    int[] statusCode = {200};
+    MPConcurrencyLimitHttpClient client =
+        new MPConcurrencyLimitHttpClient(
+            request -> {
+              sleep(2);
+              if (statusCode[0] != 200) {
+                throw new MPApiException("Api error", response(statusCode[0]));
+              }
+              return response(200);
+            },
+            limiter);
+
+    for (int i = 0; i < 4; i++) {
+      client.send(request());
+    }
+    assertEquals(2, limiter.getLimit());
+
+    statusCode[0] = 429;
+    assertThrows(MPApiException.class, () -> client.send(request()));
+
+    assertEquals(1, limiter.getLimit());
+    assertEquals(1, limiter.getDecreases());
+    assertEquals(0, limiter.getInFlight());
+  }
+
+  @Test
+  void localRejectionsDoNotShrinkTheLimit() {
+    MPConcurrencyLimiter limiter = MPConcurrencyLimiter.builder().initialLimit(4).build();
+    List<MPException> failures = new ArrayList<>();
+    failures.add(new MPPriorityQueueFullException("queue full", MPRequestPriority.LOW));
+    failures.add(new MPException(new InterruptedException()));
+    failures.add(new MPException("local failure"));
+    MPConcurrencyLimitHttpClient client =
+        new MPConcurrencyLimitHttpClient(
+            request -> {
+              throw failures.remove(0);
+            },
+            limiter);
+
+    for (int i = 0; i < 3; i++) {
+      assertThrows(MPException.class, () -> client.send(request()));
+    }
+
+    assertEquals(4, limiter.getLimit());
+    assertEquals(0, limiter.getDecreases());
+    assertEquals(0, limiter.getInFlight());
+  }
+
+  @Test
+  void queueWaitIsCappedToTheDeadline() throws Exception {
+    MPConcurrencyLimiter limiter = MPConcurrencyLimiter.builder().initialLimit(1).build();
+    MPConcurrencyLimitHttpClient client =
+        new MPConcurrencyLimitHttpClient(request -> response(200), limiter);
+    MPConcurrencyLimitAsyncHttpClient asyncClient =
+        new MPConcurrencyLimitAsyncHttpClient(
+            request -> CompletableFuture.completedFuture(response(200)), limiter);
+    limiter.acquire(null);
+    long start = System.nanoTime();
+
+    assertThrows(MPDeadlineExceededException.class, () -> client.send(request(50)));
+    ExecutionException exception =
+        assertThrows(
+            ExecutionException.class,
+            () -> asyncClient.sendAsync(request(50)).get(1, TimeUnit.SECONDS));
+
+    assertTrue(exception.getCause() instanceof MPDeadlineExceededException);
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+    assertEquals(0, limiter.getQueueDepth());
+    assertEquals(0, limiter.getRejected());
+  }
+
+  @Test
+  void rejectsWhenNoSlotFreesUpInTime() throws Exception {
+    MPConcurrencyLimiter limiter =
+        MPConcurrencyLimiter.builder().initialLimit(1).maxQueueWaitMillis(50).build();
+    CountDownLatch sending = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    MPConcurrencyLimitHttpClient client =
+        new MPConcurrencyLimitHttpClient(
+            request -> {
+              sending.countDown();
+              await(release);
+              return response(200);
+            },
+            limiter);
+    Thread first = new Thread(() -> sendQuietly(client));
+    first.start();
+    assertTrue(sending.await(1, TimeUnit.SECONDS));
+
+    MPConcurrencyLimitExceededException exception =
+        assertThrows(MPConcurrencyLimitExceededException.class, () -> client.send(request()));
+
+    assertEquals(1, exception.getLimit());
+    assertEquals(1, limiter.getRejected());
+    assertEquals(0, limiter.getQueueDepth());
+    release.countDown();
+    first.join();
+    assertEquals(0, limiter.getInFlight());
+  }
+
+  @Test
+  void queuedAsyncRequestIsSentWhenSlotFrees() throws Exception {
+    MPConcurrencyLimiter limiter =
+        MPConcurrencyLimiter.builder().initialLimit(1).maxQueueSize(1).build();
+    List<CompletableFuture<MPResponse>> executions = new ArrayList<>();
+    MPConcurrencyLimitAsyncHttpClient client =
+        new MPConcurrencyLimitAsyncHttpClient(
+            request -> {
+              CompletableFuture<MPResponse> execution = new CompletableFuture<>();
+              executions.add(execution);
+              return execution;
+            },
+            limiter);
+
+    CompletableFuture<MPResponse> first = client.sendAsync(request());
+    CompletableFuture<MPResponse> second = client.sendAsync(request());
+    CompletableFuture<MPResponse> third = client.sendAsync(request());
+
+    assertEquals(1, executions.size());
+    assertEquals(1, limiter.getQueueDepth());
+    ExecutionException rejection = assertThrows(ExecutionException.class, third::get);
+    assertTrue(rejection.getCause() instanceof MPConcurrencyLimitExceededException);
+
+    executions.get(0).complete(response(200));
+    assertEquals(200, first.get().getStatusCode());
+    assertEquals(2, executions.size());
+    assertFalse(second.isDone());
+    executions.get(1).complete(response(200));
+    assertEquals(200, second.get(1, TimeUnit.SECONDS).getStatusCode());
+    assertEquals(0, limiter.getInFlight());
+  }
+
+  @Test
+  void cancellingQueuedAsyncRequestGivesUpItsPlace() {
+    MPConcurrencyLimiter limiter = MPConcurrencyLimiter.builder().initialLimit(1).build();
+    List<CompletableFuture<MPResponse>> executions = new ArrayList<>();
+    MPConcurrencyLimitAsyncHttpClient client =
+        new MPConcurrencyLimitAsyncHttpClient(
+            request -> {
+              CompletableFuture<MPResponse> execution = new CompletableFuture<>();
+              executions.add(execution);
+              return execution;
+            },
+            limiter);
+
+    client.sendAsync(request());
+    CompletableFuture<MPResponse> queued = client.sendAsync(request());
+    queued.cancel(false);
+    executions.get(0).complete(response(200));
+
+    assertEquals(1, executions.size());
+    assertEquals(0, limiter.getQueueDepth());
+    assertEquals(0, limiter.getInFlight());
+  }
+
+  private static void sendQuietly(MPConcurrencyLimitHttpClient client) {
+    try {
+      client.send(request());
+    } catch (Exception ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static MPRequest request() {
+    return MPRequest.builder()
+        .uri("https://api.mercadopago.com/v1/payments/123")
+        .method(HttpMethod.GET)
+        .build();
+  }
+
+  private static MPRequest request(long deadlineMillis) {
+    return MPRequest.builder()
+        .uri("https://api.mercadopago.com/v1/payments/123")
+        .method(HttpMethod.GET)
+        .deadline(MPDeadline.afterMillis(deadlineMillis))
+        .build();
+  }
+
+  private static MPResponse response(int statusCode) {
+    return new MPResponse(statusCode, Collections.emptyMap(), "");
+  }
+}
@@ -0,0 +1,259 @@
+package com.mercadopago.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPException;
+import com.mercadopago.net.HttpMethod;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class MPHedgingHttpClientTest {
+  private final MPHedgingPolicy policy =
+      MPHedgingPolicy.builder().hedgeDelayMillis(20).maxHedgeRatio(1).build();
+
+  private final List<CompletableFuture<MPResponse>> executions = new ArrayList<>();
+
+  private final MPHedgingAsyncHttpClient asyncClient =
+      new MPHedgingAsyncHttpClient(
+          request -> {
+            CompletableFuture<MPResponse> execution = new CompletableFuture<>();
+            executions.add(execution);
+            return execution;
+          },
+          policy);
+
+  @Test
+  void slowRequestIsHedgedAndTheLoserCancelled() throws Exception {
+    CompletableFuture<MPResponse> result = asyncClient.sendAsync(request(HttpMethod.GET));
+    Thread.sleep(100);
+    assertEquals(2, executions.size());
+
+    executions.get(1).complete(response(200));
+
+    assertEquals(200, result.get(1, TimeUnit.SECONDS).getStatusCode());
+    assertTrue(executions.get(0).isCancelled());
+    assertEquals(1, policy.getHedgedRequests());
+    assertEquals(1, policy.getHedgeWins());
+    assertEquals(1.0, policy.getHedgeRate());
+  }
+
+  @Test
+  void fastRequestAndNonGetRequestAreNotHedged() throws Exception {
+    CompletableFuture<MPResponse> fast = asyncClient.sendAsync(request(HttpMethod.GET));
+    executions.get(0).complete(response(200));
+    asyncClient.sendAsync(request(HttpMethod.POST));
+    Thread.sleep(60);
+
+    assertEquals(200, fast.get().getStatusCode());
+    assertEquals(2, executions.size());
+    assertEquals(0, policy.getHedgedRequests());
+    assertEquals(1, policy.getHedgeableRequests());
+  }
+
+  @Test
+  void transientFailureWaitsForTheHedge() throws Exception {
+    CompletableFuture<MPResponse> result = asyncClient.sendAsync(request(HttpMethod.GET));
+    Thread.sleep(100);
+
+    executions.get(0).completeExceptionally(new MPApiException("Api error", response(503)));
+    assertFalse(result.isDone());
+    executions.get(1).completeExceptionally(new MPApiException("Api error", response(404)));
+
+    ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+    assertEquals(404, ((MPApiException) exception.getCause()).getStatusCode());
+  }
+
+  @Test
+  void localRejectionFailsWithoutWaitingForTheHedge() throws Exception {
+    CompletableFuture<MPResponse> result = asyncClient.sendAsync(request(HttpMethod.GET));
+    Thread.sleep(100);
+
+    executions.get(0).completeExceptionally(new MPException("Request rejected"));
+
+    ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+    assertEquals("Request rejected", exception.getCause().getMessage());
+    assertTrue(executions.get(1).isCancelled());
+  }
+
+  @Test
+  void hedgesAreCappedToTheHedgeRatio() throws Exception {
+    MPHedgingPolicy cappedPolicy =
+        MPHedgingPolicy.builder().hedgeDelayMillis(10).maxHedgeRatio(0.5).build();
+    MPHedgingAsyncHttpClient client =
+        new MPHedgingAsyncHttpClient(request -> new CompletableFuture<>(), cappedPolicy);
+
+    for (int i = 0; i < 4; i++) {
+      client.sendAsync(request(HttpMethod.GET));
+    }
+    Thread.sleep(100);
+
+    assertEquals(2, cappedPolicy.getHedgedRequests());
+    assertEquals(2, cappedPolicy.getSkippedHedges());
+  }
+
+  @Test
+  void hedgeDelayFollowsTheObservedPercentile() {
+    MPHedgingPolicy observed = MPHedgingPolicy.builder().latencyPercentile(90).build();
+    for (int i = 1; i < MPHedgingPolicy.MIN_SAMPLES; i++) {
+      observed.requestSucceeded(TimeUnit.MILLISECONDS.toNanos(i * 10), false);
+    }
+    assertEquals(-1, observed.getCurrentHedgeDelayMillis());
+
+    observed.requestSucceeded(TimeUnit.MILLISECONDS.toNanos(200), false);
+
+    assertEquals(180, observed.getCurrentHedgeDelayMillis());
+  }
+
+  @Test
+  void cancelledLosersAreNotFailuresOfTheInnerPolicies() throws Exception {
+    MPCircuitBreakerPolicy breakerPolicy =
+        MPCircuitBreakerPolicy.builder().slidingWindowSize(10).minimumCalls(4).build();
+    // Winners take a few milliseconds so scheduling jitter stays far below the tolerance, and
+    // only drops may shrink the limit here.
+    MPConcurrencyLimiter limiter =
+        MPConcurrencyLimiter.builder().initialLimit(10).latencyTolerance(1_000).build();
+    AtomicInteger attempts = new AtomicInteger();
+    MPHedgingAsyncHttpClient client =
+        new MPHedgingAsyncHttpClient(
+            new MPCircuitBreakerAsyncHttpClient(
+                new MPConcurrencyLimitAsyncHttpClient(
+                    request ->
+                        attempts.incrementAndGet() % 2 == 1
+                            ? new CompletableFuture<>()
+                            : CompletableFuture.supplyAsync(MPHedgingHttpClientTest::slowOk),
+                    limiter),
+                breakerPolicy),
+            policy);
+
+    for (int i = 0; i < 8; i++) {
+      assertEquals(
+          200, client.sendAsync(request(HttpMethod.GET)).get(1, TimeUnit.SECONDS).getStatusCode());
+    }
+
+    MPCircuitBreaker breaker = breakerPolicy.getCircuitBreakers().values().iterator().next();
+    assertEquals(MPCircuitBreaker.State.CLOSED, breaker.getState());
+    assertEquals(0, breaker.getFailures());
+    assertEquals(0, limiter.getDecreases());
+    assertEquals(0, limiter.getInFlight());
+  }
+
+  @Test
+  void blockingClientReturnsTheFirstResponse() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger calls = new AtomicInteger();
+    ExecutorService executor = Executors.newCachedThreadPool();
+    try {
+      MPHedgingHttpClient client =
+          new MPHedgingHttpClient(
+              request -> {
+                if (calls.incrementAndGet() == 1) {
+                  await(release);
+                  return response(500);
+                }
+                return response(200);
+              },
+              policy,
+              executor);
+
+      assertEquals(200, client.send(request(HttpMethod.GET)).getStatusCode());
+      assertEquals(2, calls.get());
+      assertEquals(1, policy.getHedgeWins());
+    } finally {
+      release.countDown();
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void blockingClientSendsUnhedgedWhileTheExecutorIsBusy() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    List<String> threads = new CopyOnWriteArrayList<>();
+    ExecutorService executor = MPHedgingHttpClient.createExecutor(1);
+    try {
+      MPHedgingHttpClient client =
+          new MPHedgingHttpClient(
+              request -> {
+                threads.add(Thread.currentThread().getName());
+                await(new CountDownLatch(1), 100);
+                return response(200);
+              },
+              policy,
+              executor);
+
+      assertEquals(200, client.send(request(HttpMethod.GET)).getStatusCode());
+      assertEquals(Collections.singletonList("mercadopago-hedging"), threads);
+      assertEquals(0, policy.getHedgeWins());
+
+      threads.clear();
+      occupy(executor, release);
+      assertEquals(200, client.send(request(HttpMethod.GET)).getStatusCode());
+      assertEquals(Collections.singletonList(Thread.currentThread().getName()), threads);
+    } finally {
+      release.countDown();
+      executor.shutdown();
+    }
+  }
+
+  /** Blocks a thread of the executor once the previous request handed it back. */
+  private static void occupy(ExecutorService executor, CountDownLatch release) throws Exception {
+    while (true) {
+      try {
+        executor.execute(() -> await(release));
+        return;
+      } catch (RejectedExecutionException ex) {
+        Thread.sleep(5);
+      }
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    await(latch, 5000);
+  }
+
+  private static void await(CountDownLatch latch, long timeoutMillis) {
+    try {
+      latch.await(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static MPRequest request(HttpMethod method) {
+    return MPRequest.builder()
+        .uri("https://api.mercadopago.com/v1/payments/123")
+        .method(method)
+        .headers(new HashMap<>())
+        .build();
+  }
+
+  private static MPResponse slowOk() {
+    try {
+      Thread.sleep(5);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    return response(200);
+  }
+
+  private static MPResponse response(int statusCode) {
+    return new MPResponse(statusCode, Collections.emptyMap(), "");
+  }
+}
@@ -0,0 +1,154 @@
+package com.mercadopago.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPException;
+import com.mercadopago.net.HttpMethod;
+import com.mercadopago.net.MPHttpClient;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import com.mercadopago.resources.user.User;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class MPInterceptorsTest {
+  private static final String URI = "https://api.mercadopago.com/users/me";
+
+  private final List<String> events = new ArrayList<>();
+
+  @Test
+  void interceptorsRunInOrderAndMayRewriteTheRequest() throws Exception {
+    MPInterceptor rewriting =
+        new MPInterceptor() {
+          @Override
+          public MPResponse intercept(MPInterceptorChain chain) throws MPException, MPApiException {
+            events.add("first");
+            MPRequest original = chain.getRequest();
+            return chain.proceed(
+                MPRequest.builder()
+                    .uri(original.getUri() + "?cached=false")
+                    .method(original.getMethod())
+                    .headers(original.getHeaders())
+                    .build());
+          }
+        };
+    MPInterceptor recording =
+        new MPInterceptor() {
+          @Override
+          public MPResponse intercept(MPInterceptorChain chain) throws MPException, MPApiException {
+            events.add("second " + chain.getRequest().getUri());
+            return chain.proceed(chain.getRequest());
+          }
+        };
+    MPHttpClient client =
+        request -> {
+          events.add("sent " + request.getUri());
+          return response(200);
+        };
+
+    MPResponse response =
+        MPInterceptors.execute(Arrays.asList(rewriting, recording), request(), client);
+
+    assertEquals(200, response.getStatusCode());
+    assertEquals(
+        Arrays.asList("first", "second " + URI + "?cached=false", "sent " + URI + "?cached=false"),
+        events);
+  }
+
+  @Test
+  void interceptorMayAnswerWithoutSending() throws Exception {
+    MPResponse cached = response(200);
+    MPInterceptor cache =
+        new MPInterceptor() {
+          @Override
+          public MPResponse intercept(MPInterceptorChain chain) {
+            return cached;
+          }
+        };
+    MPHttpClient client =
+        request -> {
+          events.add("sent");
+          return response(500);
+        };
+
+    MPResponse response =
+        MPInterceptors.execute(Collections.singletonList(cache), request(), client);
+
+    assertSame(cached.getContent(), response.getContent());
+    assertEquals(200, response.getStatusCode());
+    assertEquals(Collections.emptyList(), events);
+  }
+
+  @Test
+  void asyncChainSeesTheResponse() throws Exception {
+    MPInterceptor timing =
+        new MPInterceptor() {
+          @Override
+          public CompletableFuture<MPResponse> interceptAsync(MPAsyncInterceptorChain chain) {
+            events.add("before");
+            return chain
+                .proceed(chain.getRequest())
+                .whenComplete(
+                    (response, throwable) -> events.add("after " + response.getStatusCode()));
+          }
+        };
+
+    MPResponse response =
+        MPInterceptors.executeAsync(
+                Collections.singletonList(timing),
+                request(),
+                request -> CompletableFuture.completedFuture(response(201)))
+            .get(1, TimeUnit.SECONDS);
+
+    assertEquals(201, response.getStatusCode());
+    assertEquals(Arrays.asList("before", "after 201"), events);
+  }
+
+  @Test
+  void interceptorsObserveTheDeserializedResult() throws Exception {
+    Object[] observed = new Object[1];
+    MPInterceptor observing =
+        new MPInterceptor() {
+          @Override
+          public void onResult(MPRequest request, Object result) {
+            observed[0] = result;
+          }
+        };
+    MPInterceptor failing =
+        new MPInterceptor() {
+          @Override
+          public void onResult(MPRequest request, Object result) {
+            throw new IllegalStateException("ignored");
+          }
+        };
+
+    MPResponse response =
+        MPInterceptors.execute(
+            Arrays.asList(failing, observing), request(), request -> response(200));
+    User user = new User();
+    user.setResponse(response);
+
+    assertNull(observed[0]);
+
+    response.resultDeserialized(user);
+
+    assertSame(user, observed[0]);
+  }
+
+  private static MPRequest request() {
+    return MPRequest.builder().uri(URI).method(HttpMethod.GET).headers(new HashMap<>()).build();
+  }
+
+  private static MPResponse response(int statusCode) {
+    return new MPResponse(statusCode, Collections.emptyMap(), "{}");
+  }
+}
@@ -0,0 +1,140 @@
+package com.mercadopago.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.JsonObject;
+import com.mercadopago.MercadoPagoConfig;
+import com.mercadopago.net.Headers;
+import com.mercadopago.net.HttpMethod;
+import com.mercadopago.net.MPRequest;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+import java.util.logging.StreamHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MPLoggingTest {
+  private final Logger logger = Logger.getLogger(MPLoggingTest.class.getName());
+
+  private final List<String> messages = new ArrayList<>();
+
+  private final Handler handler =
+      new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+          messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {}
+      };
+
+  @BeforeEach
+  void setUp() {
+    logger.setUseParentHandlers(false);
+    logger.addHandler(handler);
+    logger.setLevel(Level.FINE);
+  }
+
+  @AfterEach
+  void tearDown() {
+    logger.removeHandler(handler);
+    MercadoPagoConfig.setLogBodyMaxLength(2048);
+    MercadoPagoConfig.setLogBodySampleRate(1);
+  }
+
+  @Test
+  void redactsAuthorizationAndTruncatesBody() {
+    MercadoPagoConfig.setLogBodyMaxLength(10);
+
+    MPLogging.logRequest(logger, request());
+
+    assertEquals(2, messages.size());
+    assertTrue(messages.get(0).startsWith("Request body: {\"descript... ("));
+    assertTrue(messages.get(1).contains("Authorization: [REDACTED]"));
+    assertFalse(messages.get(1).contains("secret-token"));
+    assertTrue(messages.get(1).contains("X-Product-Id: product"));
+  }
+
+  @Test
+  void skipsUnsampledBodies() {
+    MercadoPagoConfig.setLogBodySampleRate(0);
+
+    MPLogging.logRequest(logger, request());
+
+    assertEquals(1, messages.size());
+    assertTrue(messages.get(0).startsWith("Request Headers:"));
+  }
+
+  @Test
+  void logsNothingBelowFine() {
+    logger.setLevel(Level.INFO);
+
+    MPLogging.logRequest(logger, request());
+    MPLogging.logFailure(logger, new IllegalStateException("failed"));
+
+    assertTrue(messages.isEmpty());
+  }
+
+  @Test
+  void changingTheStreamHandlerKeepsOneAsyncHandler() throws InterruptedException {
+    Logger configured = Logger.getLogger(MPLoggingTest.class.getName() + ".configured");
+    configured.setUseParentHandlers(false);
+    ByteArrayOutputStream firstOutput = new ByteArrayOutputStream();
+    ByteArrayOutputStream secondOutput = new ByteArrayOutputStream();
+    StreamHandler second = new StreamHandler(secondOutput, new SimpleFormatter());
+    try {
+      MercadoPagoConfig.setLoggingLevel(Level.INFO);
+      MercadoPagoConfig.setLoggingHandler(new StreamHandler(firstOutput, new SimpleFormatter()));
+      MPLogging.configure(configured);
+      MercadoPagoConfig.setLoggingHandler(second);
+      MPLogging.configure(configured);
+
+      assertEquals(1, configured.getHandlers().length);
+      assertSame(second, ((AsyncLogHandler) configured.getHandlers()[0]).getDelegate());
+
+      configured.severe("after the swap");
+      for (int i = 0; i < 500 && !secondOutput.toString().contains("after the swap"); i++) {
+        Thread.sleep(10);
+        second.flush();
+      }
+      assertTrue(secondOutput.toString().contains("after the swap"));
+      assertFalse(firstOutput.toString().contains("after the swap"));
+    } finally {
+      MercadoPagoConfig.setLoggingLevel(Level.OFF);
+      MercadoPagoConfig.setLoggingHandler(null);
+      for (Handler attached : configured.getHandlers()) {
+        configured.removeHandler(attached);
+      }
+    }
+  }
+
+  private static MPRequest request() {
+    Map<String, String> headers = new HashMap<>();
+    headers.put(Headers.AUTHORIZATION, "Bearer secret-token");
+    headers.put(Headers.PRODUCT_ID, "product");
+    JsonObject payload = new JsonObject();
+    payload.addProperty("description", "a payment description longer than ten characters");
+    return MPRequest.builder()
+        .uri("https://api.mercadopago.com/v1/payments")
+        .method(HttpMethod.POST)
+        .headers(headers)
+        .payload(payload)
+        .build();
+  }
+}
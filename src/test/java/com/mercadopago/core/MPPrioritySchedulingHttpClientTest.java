@@ -0,0 +1,207 @@
+package com.mercadopago.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mercadopago.exceptions.MPDeadlineExceededException;
+import com.mercadopago.exceptions.MPException;
+import com.mercadopago.exceptions.MPPriorityQueueFullException;
+import com.mercadopago.net.HttpMethod;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class MPPrioritySchedulingHttpClientTest {
+  private static final String POINT =
+      "/point/integration-api/devices/PAX_A910__SMARTPOS1234/payment-intents";
+
+  @Test
+  void priorityIsExplicitOrDerivedFromTheOperation() {
+    MPPriorityScheduler scheduler = MPPriorityScheduler.createDefault();
+
+    assertEquals(MPRequestPriority.CRITICAL, scheduler.priorityOf(request(HttpMethod.POST, POINT)));
+    assertEquals(
+        MPRequestPriority.HIGH, scheduler.priorityOf(request(HttpMethod.PUT, "/v1/payments/123")));
+    assertEquals(
+        MPRequestPriority.LOW,
+        scheduler.priorityOf(request(HttpMethod.GET, "/v1/payments/search")));
+    assertEquals(
+        MPRequestPriority.LOW,
+        scheduler.priorityOf(request(HttpMethod.GET, "/v1/payments/123/refunds")));
+    assertEquals(
+        MPRequestPriority.NORMAL,
+        scheduler.priorityOf(request(HttpMethod.GET, "/v1/customers/123")));
+    assertEquals(
+        MPRequestPriority.CRITICAL,
+        scheduler.priorityOf(
+            MPRequest.builder()
+                .uri("https://api.mercadopago.com/v1/payments/search")
+                .method(HttpMethod.GET)
+                .headers(new HashMap<>())
+                .priority(MPRequestPriority.CRITICAL)
+                .build()));
+  }
+
+  @Test
+  void invalidDeclarationIsRejected() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> MPPriorityScheduler.builder().priorities("search: urgent").build());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> MPPriorityScheduler.builder().weights("low: 0").build());
+  }
+
+  @Test
+  void higherPriorityJumpsAheadButLowPriorityStillProgresses() throws Exception {
+    MPPriorityScheduler scheduler =
+        MPPriorityScheduler.builder().maxConcurrentRequests(1).build();
+    List<String> granted = Collections.synchronizedList(new ArrayList<>());
+    scheduler.acquire(MPRequestPriority.NORMAL, null);
+
+    scheduler.acquireAsync(MPRequestPriority.LOW, null).thenRun(() -> granted.add("low"));
+    for (int i = 0; i < 12; i++) {
+      String name = "high" + i;
+      scheduler.acquireAsync(MPRequestPriority.HIGH, null).thenRun(() -> granted.add(name));
+    }
+    assertEquals(12, scheduler.getMetrics().get(MPRequestPriority.HIGH).getQueueDepth());
+
+    for (int i = 0; i < 13; i++) {
+      scheduler.release();
+    }
+
+    assertEquals(13, granted.size());
+    assertEquals("high0", granted.get(0));
+    int lowPosition = granted.indexOf("low");
+    assertTrue(lowPosition > 0 && lowPosition < 12, "low priority starved: " + granted);
+    assertEquals(1, scheduler.getMetrics().get(MPRequestPriority.LOW).getAcceptedRequests());
+    assertEquals(0, scheduler.getMetrics().get(MPRequestPriority.HIGH).getQueueDepth());
+  }
+
+  @Test
+  void fullQueueRejectsAndCountsPerClass() throws Exception {
+    MPPriorityScheduler scheduler =
+        MPPriorityScheduler.builder().maxConcurrentRequests(1).maxQueueSize(1).build();
+    scheduler.acquire(MPRequestPriority.NORMAL, null);
+    CompletableFuture<Void> queued = scheduler.acquireAsync(MPRequestPriority.LOW, null);
+
+    CompletableFuture<Void> rejected = scheduler.acquireAsync(MPRequestPriority.CRITICAL, null);
+
+    ExecutionException exception = assertThrows(ExecutionException.class, rejected::get);
+    MPPriorityQueueFullException cause = (MPPriorityQueueFullException) exception.getCause();
+    assertEquals(MPRequestPriority.CRITICAL, cause.getPriority());
+    assertEquals(1, scheduler.getMetrics().get(MPRequestPriority.CRITICAL).getRejectedRequests());
+    assertFalse(queued.isDone());
+
+    queued.cancel(false);
+    assertEquals(0, scheduler.getMetrics().get(MPRequestPriority.LOW).getQueueDepth());
+  }
+
+  @Test
+  void clientsReleaseTheirSlot() throws Exception {
+    MPPriorityScheduler scheduler =
+        MPPriorityScheduler.builder().maxConcurrentRequests(1).maxQueueWaitMillis(50).build();
+    MPPrioritySchedulingHttpClient client =
+        new MPPrioritySchedulingHttpClient(request -> response(200), scheduler);
+    MPPrioritySchedulingAsyncHttpClient asyncClient =
+        new MPPrioritySchedulingAsyncHttpClient(
+            request -> CompletableFuture.completedFuture(response(201)), scheduler);
+
+    assertEquals(200, (int) client.send(request(HttpMethod.POST, POINT)).getStatusCode());
+    MPResponse response = asyncClient.sendAsync(request(HttpMethod.GET, POINT)).get();
+    assertEquals(201, (int) response.getStatusCode());
+    assertEquals(0, scheduler.getInFlight());
+
+    scheduler.acquire(MPRequestPriority.NORMAL, null);
+    assertThrows(
+        MPPriorityQueueFullException.class, () -> client.send(request(HttpMethod.POST, POINT)));
+    assertEquals(2, scheduler.getMetrics().get(MPRequestPriority.CRITICAL).getAcceptedRequests());
+  }
+
+  @Test
+  void queueWaitIsCappedToTheDeadline() throws Exception {
+    MPPriorityScheduler scheduler =
+        MPPriorityScheduler.builder().maxConcurrentRequests(1).build();
+    MPPrioritySchedulingHttpClient client =
+        new MPPrioritySchedulingHttpClient(request -> response(200), scheduler);
+    MPPrioritySchedulingAsyncHttpClient asyncClient =
+        new MPPrioritySchedulingAsyncHttpClient(
+            request -> CompletableFuture.completedFuture(response(200)), scheduler);
+    scheduler.acquire(MPRequestPriority.NORMAL, null);
+    long start = System.nanoTime();
+
+    assertThrows(
+        MPDeadlineExceededException.class,
+        () -> client.send(request(HttpMethod.POST, POINT, MPDeadline.afterMillis(50))));
+    ExecutionException exception =
+        assertThrows(
+            ExecutionException.class,
+            () ->
+                asyncClient
+                    .sendAsync(request(HttpMethod.GET, POINT, MPDeadline.afterMillis(50)))
+                    .get(1, TimeUnit.SECONDS));
+
+    assertTrue(exception.getCause() instanceof MPDeadlineExceededException);
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+    assertEquals(0, scheduler.getMetrics().get(MPRequestPriority.CRITICAL).getQueueDepth());
+    assertEquals(0, scheduler.getMetrics().get(MPRequestPriority.CRITICAL).getRejectedRequests());
+  }
+
+  @Test
+  void fullQueueNeitherOpensTheBreakerNorShrinksTheLimit() throws Exception {
+    MPPriorityScheduler scheduler =
+        MPPriorityScheduler.builder().maxConcurrentRequests(1).maxQueueWaitMillis(10).build();
+    MPCircuitBreakerPolicy breakerPolicy =
+        MPCircuitBreakerPolicy.builder().slidingWindowSize(4).minimumCalls(4).build();
+    MPConcurrencyLimiter limiter = MPConcurrencyLimiter.builder().initialLimit(10).build();
+    MPCircuitBreakerHttpClient client =
+        new MPCircuitBreakerHttpClient(
+            new MPConcurrencyLimitHttpClient(
+                new MPPrioritySchedulingHttpClient(request -> response(200), scheduler), limiter),
+            breakerPolicy);
+    scheduler.acquire(MPRequestPriority.NORMAL, null);
+
+    for (int i = 0; i < 4; i++) {
+      assertThrows(
+          MPPriorityQueueFullException.class, () -> client.send(request(HttpMethod.POST, POINT)));
+    }
+    Thread.currentThread().interrupt();
+    MPException interrupted =
+        assertThrows(MPException.class, () -> client.send(request(HttpMethod.POST, POINT)));
+    assertTrue(Thread.interrupted());
+
+    assertTrue(interrupted.getCause() instanceof InterruptedException);
+    for (MPCircuitBreaker breaker : breakerPolicy.getCircuitBreakers().values()) {
+      assertEquals(MPCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+    assertEquals(10, limiter.getLimit());
+    assertEquals(0, limiter.getDecreases());
+    assertEquals(0, limiter.getInFlight());
+  }
+
+  private static MPRequest request(HttpMethod method, String path) {
+    return request(method, path, null);
+  }
+
+  private static MPRequest request(HttpMethod method, String path, MPDeadline deadline) {
+    return MPRequest.builder()
+        .uri("https://api.mercadopago.com" + path)
+        .method(method)
+        .headers(new HashMap<>())
+        .deadline(deadline)
+        .build();
+  }
+
+  private static MPResponse response(int statusCode) {
+    return new MPResponse(statusCode, Collections.emptyMap(), "");
+  }
+}
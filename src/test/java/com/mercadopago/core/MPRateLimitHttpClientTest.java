@@ -0,0 +1,141 @@
+package com.mercadopago.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPRateLimitExceededException;
+import com.mercadopago.net.HttpMethod;
+import com.mercadopago.net.MPHttpClient;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class MPRateLimitHttpClientTest {
+  private final AtomicInteger sent = new AtomicInteger();
+
+  private final MPHttpClient okClient =
+      request -> {
+        sent.incrementAndGet();
+        return response(200);
+      };
+
+  @Test
+  void tryAcquireModeRejectsOverTheBurstPerAccessToken() throws Exception {
+    MPRateLimiter rateLimiter =
+        MPRateLimiter.builder().permitsPerSecond(1).burstSize(2).blocking(false).build();
+    MPRateLimitHttpClient client = new MPRateLimitHttpClient(okClient, rateLimiter);
+
+    client.send(request("seller-1"));
+    client.send(request("seller-1"));
+    MPRateLimitExceededException exception =
+        assertThrows(MPRateLimitExceededException.class, () -> client.send(request("seller-1")));
+    client.send(request("seller-2"));
+
+    assertTrue(exception.getWaitMillis() > 0);
+    assertEquals(3, sent.get());
+    assertEquals(1, rateLimiter.getRejectedRequests());
+    assertEquals(2, rateLimiter.getBucketCount());
+  }
+
+  @Test
+  void blockingModeSpacesRequestsAtTheRate() throws Exception {
+    MPRateLimiter rateLimiter =
+        MPRateLimiter.builder().permitsPerSecond(20).burstSize(1).maxWaitMillis(1000).build();
+    MPRateLimitHttpClient client = new MPRateLimitHttpClient(okClient, rateLimiter);
+
+    long start = System.nanoTime();
+    for (int i = 0; i < 3; i++) {
+      client.send(request("seller-1"));
+    }
+    long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    assertTrue(elapsed >= 90, "elapsed " + elapsed);
+    assertEquals(3, rateLimiter.getAcquiredPermits());
+    assertEquals(2, rateLimiter.getThrottledRequests());
+  }
+
+  @Test
+  void tooManyRequestsWithRetryAfterPausesTheBucket() {
+    MPRateLimiter rateLimiter =
+        MPRateLimiter.builder().permitsPerSecond(100).burstSize(10).blocking(false).build();
+    Map<String, List<String>> headers = new HashMap<>();
+    headers.put("Retry-After", Collections.singletonList("2"));
+    MPRateLimitHttpClient client =
+        new MPRateLimitHttpClient(
+            request -> {
+              throw new MPApiException("Api error", new MPResponse(429, headers, ""));
+            },
+            rateLimiter);
+
+    assertThrows(MPApiException.class, () -> client.send(request("seller-1")));
+    MPRateLimitExceededException exception =
+        assertThrows(MPRateLimitExceededException.class, () -> client.send(request("seller-1")));
+
+    assertTrue(exception.getWaitMillis() > 1000);
+    assertTrue(rateLimiter.tryAcquire(request("seller-2")));
+  }
+
+  @Test
+  void rateLimitRemainingCapsThePermitsLeft() throws Exception {
+    MPRateLimiter rateLimiter =
+        MPRateLimiter.builder().permitsPerSecond(0.5).burstSize(10).blocking(false).build();
+    Map<String, List<String>> headers = new HashMap<>();
+    headers.put("x-ratelimit-remaining", Collections.singletonList("1"));
+    MPRateLimitHttpClient client =
+        new MPRateLimitHttpClient(request -> new MPResponse(200, headers, ""), rateLimiter);
+
+    client.send(request("seller-1"));
+    client.send(request("seller-1"));
+
+    assertFalse(rateLimiter.tryAcquire(request("seller-1")));
+  }
+
+  @Test
+  void asyncRequestWaitsForItsPermitWithoutBlocking() throws Exception {
+    MPRateLimiter rateLimiter =
+        MPRateLimiter.builder().permitsPerSecond(10).burstSize(1).maxWaitMillis(50).build();
+    MPRateLimitAsyncHttpClient client =
+        new MPRateLimitAsyncHttpClient(
+            request -> {
+              sent.incrementAndGet();
+              return CompletableFuture.completedFuture(response(200));
+            },
+            rateLimiter);
+
+    assertEquals(200, client.sendAsync(request("seller-1")).get().getStatusCode());
+    CompletableFuture<MPResponse> rejected = client.sendAsync(request("seller-1"));
+    Thread.sleep(60);
+    CompletableFuture<MPResponse> delayed = client.sendAsync(request("seller-1"));
+
+    ExecutionException exception = assertThrows(ExecutionException.class, rejected::get);
+    assertTrue(exception.getCause() instanceof MPRateLimitExceededException);
+    assertFalse(delayed.isDone());
+    assertEquals(200, delayed.get(1, TimeUnit.SECONDS).getStatusCode());
+    assertEquals(2, sent.get());
+  }
+
+  private static MPRequest request(String accessToken) {
+    Map<String, String> headers = new HashMap<>();
+    headers.put("Authorization", "Bearer " + accessToken);
+    return MPRequest.builder()
+        .uri("https://api.mercadopago.com/v1/payments/123")
+        .method(HttpMethod.GET)
+        .headers(headers)
+        .build();
+  }
+
+  private static MPResponse response(int statusCode) {
+    return new MPResponse(statusCode, Collections.emptyMap(), "");
+  }
+}
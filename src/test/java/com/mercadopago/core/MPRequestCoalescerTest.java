@@ -0,0 +1,235 @@
+package com.mercadopago.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPDeadlineExceededException;
+import com.mercadopago.exceptions.MPException;
+import com.mercadopago.net.HttpMethod;
+import com.mercadopago.net.MPAsyncHttpClient;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class MPRequestCoalescerTest {
+  private final MPRequestCoalescer coalescer = new MPRequestCoalescer();
+
+  private final AtomicInteger calls = new AtomicInteger();
+
+  @Test
+  void concurrentIdenticalGetsShareOneCall() throws Exception {
+    CountDownLatch sending = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    MPResponse[] responses = new MPResponse[2];
+    Thread leader =
+        new Thread(
+            () -> {
+              try {
+                responses[0] =
+                    coalescer.send(
+                        request(HttpMethod.GET, "token"),
+                        request -> {
+                          calls.incrementAndGet();
+                          sending.countDown();
+                          await(release);
+                          return response(200);
+                        });
+              } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+              }
+            });
+    leader.start();
+    assertTrue(sending.await(1, TimeUnit.SECONDS));
+
+    CompletableFuture<MPResponse> follower =
+        coalescer.sendAsync(request(HttpMethod.GET, "token"), countingClient());
+    release.countDown();
+    leader.join();
+    responses[1] = follower.get(1, TimeUnit.SECONDS);
+
+    assertSame(responses[0], responses[1]);
+    assertEquals(1, calls.get());
+    assertEquals(1, coalescer.getSentRequests());
+    assertEquals(1, coalescer.getCoalescedRequests());
+    assertEquals(0, coalescer.getInFlight());
+  }
+
+  @Test
+  void otherTokensAndMethodsAreNotCoalesced() throws Exception {
+    CompletableFuture<MPResponse> pending = new CompletableFuture<>();
+    MPAsyncHttpClient client =
+        request -> {
+          calls.incrementAndGet();
+          return pending;
+        };
+
+    coalescer.sendAsync(request(HttpMethod.GET, "token"), client);
+    coalescer.sendAsync(request(HttpMethod.GET, "other-token"), client);
+    coalescer.sendAsync(request(HttpMethod.POST, "token"), client);
+    pending.complete(response(200));
+
+    assertEquals(3, calls.get());
+    assertEquals(0, coalescer.getCoalescedRequests());
+  }
+
+  @Test
+  void failureIsSharedWithWaitingRequests() {
+    CompletableFuture<MPResponse> pending = new CompletableFuture<>();
+    MPAsyncHttpClient client =
+        request -> {
+          calls.incrementAndGet();
+          return pending;
+        };
+
+    CompletableFuture<MPResponse> first = coalescer.sendAsync(request(HttpMethod.GET, "t"), client);
+    CompletableFuture<MPResponse> second =
+        coalescer.sendAsync(request(HttpMethod.GET, "t"), client);
+    pending.completeExceptionally(new MPApiException("Api error", response(404)));
+
+    ExecutionException firstError = assertThrows(ExecutionException.class, first::get);
+    ExecutionException secondError = assertThrows(ExecutionException.class, second::get);
+    assertSame(firstError.getCause(), secondError.getCause());
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void deadlineOfTheSentRequestIsNotSharedWithWaitingRequests() throws Exception {
+    CompletableFuture<MPResponse> pending = new CompletableFuture<>();
+    MPAsyncHttpClient client =
+        request ->
+            calls.incrementAndGet() == 1
+                ? pending
+                : CompletableFuture.completedFuture(response(200));
+
+    CompletableFuture<MPResponse> leader =
+        coalescer.sendAsync(request(HttpMethod.GET, "t", MPDeadline.afterMillis(10)), client);
+    CompletableFuture<MPResponse> follower =
+        coalescer.sendAsync(request(HttpMethod.GET, "t"), client);
+    pending.completeExceptionally(new MPDeadlineExceededException(1));
+
+    ExecutionException error = assertThrows(ExecutionException.class, leader::get);
+    assertTrue(error.getCause() instanceof MPDeadlineExceededException);
+    assertEquals(200, follower.get(1, TimeUnit.SECONDS).getStatusCode());
+    assertEquals(2, calls.get());
+    assertEquals(2, coalescer.getSentRequests());
+    assertEquals(0, coalescer.getCoalescedRequests());
+  }
+
+  @Test
+  void interruptOfTheSentRequestIsNotSharedWithWaitingRequests() throws Exception {
+    CompletableFuture<MPResponse> pending = new CompletableFuture<>();
+    CompletableFuture<MPResponse> leader =
+        coalescer.sendAsync(
+            request(HttpMethod.GET, "t"),
+            request -> {
+              calls.incrementAndGet();
+              return pending;
+            });
+    CompletableFuture<MPResponse> follower =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return coalescer.send(
+                    request(HttpMethod.GET, "t"),
+                    request -> {
+                      calls.incrementAndGet();
+                      return response(200);
+                    });
+              } catch (MPException | MPApiException ex) {
+                throw new IllegalStateException(ex);
+              }
+            });
+    while (coalescer.getCoalescedRequests() == 0) {
+      Thread.sleep(1);
+    }
+
+    pending.completeExceptionally(new MPException(new InterruptedException()));
+
+    assertThrows(ExecutionException.class, leader::get);
+    assertEquals(200, follower.get(1, TimeUnit.SECONDS).getStatusCode());
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void waitingRequestGivesUpAtItsOwnDeadline() {
+    MPAsyncHttpClient client =
+        request -> {
+          calls.incrementAndGet();
+          return new CompletableFuture<>();
+        };
+    coalescer.sendAsync(request(HttpMethod.GET, "t"), client);
+
+    CompletableFuture<MPResponse> follower =
+        coalescer.sendAsync(request(HttpMethod.GET, "t", MPDeadline.afterMillis(50)), client);
+
+    ExecutionException error =
+        assertThrows(ExecutionException.class, () -> follower.get(1, TimeUnit.SECONDS));
+    assertTrue(error.getCause() instanceof MPDeadlineExceededException);
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void clientThrowingSynchronouslyDoesNotLeaveTheRequestInFlight() throws Exception {
+    IllegalStateException failure = new IllegalStateException("client closed");
+    MPAsyncHttpClient throwingClient =
+        request -> {
+          calls.incrementAndGet();
+          throw failure;
+        };
+
+    CompletableFuture<MPResponse> failed =
+        coalescer.sendAsync(request(HttpMethod.GET, "t"), throwingClient);
+
+    ExecutionException error = assertThrows(ExecutionException.class, failed::get);
+    assertSame(failure, error.getCause());
+    assertEquals(0, coalescer.getInFlight());
+    MPResponse response = coalescer.sendAsync(request(HttpMethod.GET, "t"), countingClient()).get();
+    assertEquals(200, response.getStatusCode());
+    assertEquals(2, calls.get());
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private MPAsyncHttpClient countingClient() {
+    return request -> {
+      calls.incrementAndGet();
+      return CompletableFuture.completedFuture(response(200));
+    };
+  }
+
+  private static MPRequest request(HttpMethod method, String accessToken) {
+    return request(method, accessToken, null);
+  }
+
+  private static MPRequest request(HttpMethod method, String accessToken, MPDeadline deadline) {
+    Map<String, String> headers = new HashMap<>();
+    headers.put("Authorization", "Bearer " + accessToken);
+    return MPRequest.builder()
+        .uri("https://api.mercadopago.com/v1/payments/123")
+        .method(method)
+        .headers(headers)
+        .deadline(deadline)
+        .build();
+  }
+
+  private static MPResponse response(int statusCode) {
+    return new MPResponse(statusCode, Collections.emptyMap(), "");
+  }
+}
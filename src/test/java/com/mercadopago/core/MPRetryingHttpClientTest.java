@@ -0,0 +1,261 @@
+package com.mercadopago.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPTransportException;
+import com.mercadopago.exceptions.MPTransportException.Category;
+import com.mercadopago.exceptions.MPTransportException.Phase;
+import com.mercadopago.net.Headers;
+import com.mercadopago.net.HttpMethod;
+import com.mercadopago.net.MPRequest;
+import com.mercadopago.net.MPResponse;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class MPRetryingHttpClientTest {
+  private final MPRetryPolicy retryPolicy =
+      MPRetryPolicy.builder().initialBackoffMillis(1).maxBackoffMillis(5).build();
+
+  @Test
+  void retriesServerErrorsUntilSuccess() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    MPRetryingHttpClient client =
+        new MPRetryingHttpClient(
+            request -> {
+              if (calls.incrementAndGet() < 3) {
+                throw apiException(503, Collections.emptyMap());
+              }
+              return response(200, Collections.emptyMap());
+            },
+            retryPolicy);
+
+    MPResponse response = client.send(request(HttpMethod.GET, false));
+
+    assertEquals(200, response.getStatusCode());
+    assertEquals(3, calls.get());
+    MPRetryMetrics metrics = retryPolicy.getMetrics();
+    assertEquals(3, metrics.getAttempts());
+    assertEquals(2, metrics.getRetries());
+    assertEquals(1, metrics.getRecoveredRequests());
+    assertEquals(2, (long) metrics.getRetriesByStatusCode().get(503));
+    assertEquals(1, (long) metrics.getRequestsByAttempts().get(3));
+  }
+
+  @Test
+  void givesUpAfterMaxAttempts() {
+    AtomicInteger calls = new AtomicInteger();
+    MPRetryingHttpClient client =
+        new MPRetryingHttpClient(
+            request -> {
+              calls.incrementAndGet();
+              throw apiException(500, Collections.emptyMap());
+            },
+            retryPolicy);
+
+    MPApiException exception =
+        assertThrows(MPApiException.class, () -> client.send(request(HttpMethod.GET, false)));
+
+    assertEquals(500, exception.getStatusCode());
+    assertEquals(3, calls.get());
+    assertEquals(1, retryPolicy.getMetrics().getExhaustedRequests());
+  }
+
+  @Test
+  void postIsOnlyRetriedWithIdempotencyKey() {
+    AtomicInteger calls = new AtomicInteger();
+    MPRetryingHttpClient client =
+        new MPRetryingHttpClient(
+            request -> {
+              calls.incrementAndGet();
+              throw apiException(503, Collections.emptyMap());
+            },
+            retryPolicy);
+
+    assertThrows(MPApiException.class, () -> client.send(request(HttpMethod.POST, false)));
+    assertEquals(1, calls.get());
+
+    assertThrows(MPApiException.class, () -> client.send(request(HttpMethod.POST, true)));
+    assertEquals(4, calls.get());
+  }
+
+  @Test
+  void clientErrorsAreNotRetried() {
+    AtomicInteger calls = new AtomicInteger();
+    MPRetryingHttpClient client =
+        new MPRetryingHttpClient(
+            request -> {
+              calls.incrementAndGet();
+              throw apiException(400, Collections.emptyMap());
+            },
+            retryPolicy);
+
+    assertThrows(MPApiException.class, () -> client.send(request(HttpMethod.GET, false)));
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void requestsNeverSentAreRetriedImmediately() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    MPRetryingHttpClient client =
+        new MPRetryingHttpClient(
+            request -> {
+              if (calls.incrementAndGet() < 2) {
+                throw new MPTransportException(
+                    Category.CONNECT, Phase.CONNECT, new ConnectException("refused"));
+              }
+              return response(201, Collections.emptyMap());
+            },
+            retryPolicy);
+
+    MPResponse response = client.send(request(HttpMethod.POST, false));
+
+    assertEquals(201, response.getStatusCode());
+    assertEquals(2, calls.get());
+    MPRetryMetrics metrics = retryPolicy.getMetrics();
+    assertEquals(0, metrics.getBackoffMillis());
+    assertEquals(1, (long) metrics.getRetriesByTransportFailure().get(Category.CONNECT));
+  }
+
+  @Test
+  void poolTimeoutsWaitForTheBackoff() {
+    MPRetryPolicy policy =
+        MPRetryPolicy.builder().initialBackoffMillis(100).maxBackoffMillis(300).build();
+    MPRequest request = request(HttpMethod.POST, false);
+    MPTransportException exception =
+        new MPTransportException(
+            Category.POOL_TIMEOUT,
+            Phase.CONNECTION_LEASE,
+            new SocketTimeoutException("Timeout waiting for connection from pool"));
+
+    long maxDelay = 0;
+    for (int i = 0; i < 50; i++) {
+      long delay = policy.nextDelayMillis(request, exception, 1);
+      assertTrue(delay >= 0 && delay <= 100);
+      maxDelay = Math.max(maxDelay, delay);
+    }
+    assertTrue(maxDelay > 0);
+  }
+
+  @Test
+  void requestsPossiblySentAreOnlyRetriedWhenIdempotent() {
+    AtomicInteger calls = new AtomicInteger();
+    MPRetryingHttpClient client =
+        new MPRetryingHttpClient(
+            request -> {
+              calls.incrementAndGet();
+              throw new MPTransportException(
+                  Category.READ_TIMEOUT, Phase.RESPONSE, new SocketTimeoutException("timeout"));
+            },
+            retryPolicy);
+
+    MPTransportException exception =
+        assertThrows(
+            MPTransportException.class, () -> client.send(request(HttpMethod.POST, false)));
+    assertTrue(exception.isRequestSent());
+    assertEquals(1, calls.get());
+
+    assertThrows(MPTransportException.class, () -> client.send(request(HttpMethod.GET, false)));
+    assertEquals(4, calls.get());
+  }
+
+  @Test
+  void retryAfterIsHonoured() {
+    MPRequest request = request(HttpMethod.GET, false);
+
+    long delay = retryPolicy.nextDelayMillis(request, apiException(429, retryAfter("2")), 1);
+    long tooLong = retryPolicy.nextDelayMillis(request, apiException(429, retryAfter("60")), 1);
+
+    assertEquals(2000, delay);
+    assertEquals(-1, tooLong);
+  }
+
+  @Test
+  void backoffIsJitteredBelowTheCeiling() {
+    MPRetryPolicy policy =
+        MPRetryPolicy.builder().initialBackoffMillis(100).maxBackoffMillis(300).build();
+    MPRequest request = request(HttpMethod.GET, false);
+    MPApiException exception = apiException(503, Collections.emptyMap());
+
+    for (int i = 0; i < 50; i++) {
+      long delay = policy.nextDelayMillis(request, exception, 2);
+      assertTrue(delay >= 0 && delay <= 200);
+    }
+  }
+
+  @Test
+  void asyncClientRetriesWithoutBlocking() throws ExecutionException, InterruptedException {
+    AtomicInteger calls = new AtomicInteger();
+    MPRetryingAsyncHttpClient client =
+        new MPRetryingAsyncHttpClient(
+            request -> {
+              CompletableFuture<MPResponse> future = new CompletableFuture<>();
+              if (calls.incrementAndGet() < 2) {
+                future.completeExceptionally(apiException(502, Collections.emptyMap()));
+              } else {
+                future.complete(response(200, Collections.emptyMap()));
+              }
+              return future;
+            },
+            retryPolicy);
+
+    MPResponse response = client.sendAsync(request(HttpMethod.GET, false)).get();
+
+    assertEquals(200, response.getStatusCode());
+    assertEquals(2, calls.get());
+    assertEquals(1, retryPolicy.getMetrics().getRecoveredRequests());
+  }
+
+  @Test
+  void doesNotRetryPastTheDeadline() {
+    AtomicInteger calls = new AtomicInteger();
+    MPRetryingHttpClient client =
+        new MPRetryingHttpClient(
+            request -> {
+              calls.incrementAndGet();
+              throw apiException(503, retryAfter("1"));
+            },
+            retryPolicy);
+    MPRequest request =
+        MPRequest.builder()
+            .uri("https://test.com")
+            .method(HttpMethod.GET)
+            .headers(new HashMap<>())
+            .deadline(MPDeadline.afterMillis(500))
+            .build();
+
+    assertThrows(MPApiException.class, () -> client.send(request));
+
+    assertEquals(1, calls.get());
+  }
+
+  private static MPRequest request(HttpMethod method, boolean idempotencyKey) {
+    Map<String, String> headers = new HashMap<>();
+    if (idempotencyKey) {
+      headers.put(Headers.IDEMPOTENCY_KEY, "key");
+    }
+    return MPRequest.builder().uri("https://test.com").method(method).headers(headers).build();
+  }
+
+  private static Map<String, List<String>> retryAfter(String value) {
+    return Collections.singletonMap("Retry-After", Collections.singletonList(value));
+  }
+
+  private static MPResponse response(int statusCode, Map<String, List<String>> headers) {
+    return new MPResponse(statusCode, headers, "");
+  }
+
+  private static MPApiException apiException(int statusCode, Map<String, List<String>> headers) {
+    return new MPApiException("Api error", response(statusCode, headers));
+  }
+}
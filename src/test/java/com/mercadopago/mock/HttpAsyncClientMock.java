@@ -0,0 +1,92 @@
+package com.mercadopago.mock;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.function.Supplier;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.nio.AsyncPushConsumer;
+import org.apache.hc.core5.http.nio.AsyncRequestProducer;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.HandlerFactory;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.IOReactorStatus;
+import org.apache.hc.core5.util.TimeValue;
+
+/** HttpAsyncClientMock class. Completes every execution with the configured outcome. */
+@Getter
+@Setter
+public class HttpAsyncClientMock extends CloseableHttpAsyncClient {
+
+  private SimpleHttpResponse response;
+
+  private Exception failure;
+
+  /** Thrown by execute instead of completing the callback, as a closed client does. */
+  private RuntimeException rejection;
+
+  private int executions;
+
+  private IOReactorStatus status = IOReactorStatus.INACTIVE;
+
+  @Override
+  public void start() {
+    status = IOReactorStatus.ACTIVE;
+  }
+
+  @Override
+  public IOReactorStatus getStatus() {
+    return status;
+  }
+
+  @Override
+  public void awaitShutdown(TimeValue waitTime) {}
+
+  @Override
+  public void initiateShutdown() {
+    status = IOReactorStatus.SHUT_DOWN;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected <T> Future<T> doExecute(
+      HttpHost target,
+      AsyncRequestProducer requestProducer,
+      AsyncResponseConsumer<T> responseConsumer,
+      HandlerFactory<AsyncPushConsumer> pushHandlerFactory,
+      HttpContext context,
+      FutureCallback<T> callback) {
+    executions++;
+    if (rejection != null) {
+      throw rejection;
+    }
+    CompletableFuture<T> future = new CompletableFuture<>();
+    if (failure != null) {
+      callback.failed(failure);
+      future.completeExceptionally(failure);
+    } else {
+      callback.completed((T) response);
+      future.complete((T) response);
+    }
+    return future;
+  }
+
+  @Override
+  public void register(
+      String hostname, String uriPattern, Supplier<AsyncPushConsumer> supplier) {}
+
+  @Override
+  public void close(CloseMode closeMode) {
+    status = IOReactorStatus.SHUT_DOWN;
+  }
+
+  @Override
+  public void close() {
+    close(CloseMode.GRACEFUL);
+  }
+}
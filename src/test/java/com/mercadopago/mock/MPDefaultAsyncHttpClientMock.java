@@ -0,0 +1,17 @@
+package com.mercadopago.mock;
+
+import com.mercadopago.net.MPDefaultAsyncHttpClient;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+
+/** MPDefaultAsyncHttpClientMock class. */
+public class MPDefaultAsyncHttpClientMock extends MPDefaultAsyncHttpClient {
+
+  /**
+   * MPDefaultAsyncHttpClientMock constructor.
+   *
+   * @param httpClientMock httpClientMock
+   */
+  public MPDefaultAsyncHttpClientMock(CloseableHttpAsyncClient httpClientMock) {
+    super(httpClientMock);
+  }
+}
@@ -0,0 +1,54 @@
+package com.mercadopago.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.concurrent.ForkJoinPool;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Test;
+
+class ConnectionWarmUpTest {
+
+  @Test
+  void warmUpOpensConnectionsAndReturnsThemToThePool() throws Exception {
+    try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+      PoolingHttpClientConnectionManager connectionManager =
+          new PoolingHttpClientConnectionManager();
+      connectionManager.setDefaultMaxPerRoute(5);
+      HttpRoute route =
+          new HttpRoute(new HttpHost(server.getInetAddress(), server.getLocalPort(), "http"));
+
+      int opened =
+          ConnectionWarmUp.warmUp(
+                  connectionManager, route, 3, 1000, 1000, ForkJoinPool.commonPool())
+              .get();
+
+      assertEquals(3, opened);
+      assertEquals(3, connectionManager.getStats(route).getAvailable());
+      assertEquals(0, connectionManager.getStats(route).getLeased());
+      connectionManager.shutdown();
+    }
+  }
+
+  @Test
+  void warmUpIsCappedAtTheRouteLimit() throws Exception {
+    try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+      PoolingHttpClientConnectionManager connectionManager =
+          new PoolingHttpClientConnectionManager();
+      connectionManager.setDefaultMaxPerRoute(2);
+      HttpRoute route =
+          new HttpRoute(new HttpHost(server.getInetAddress(), server.getLocalPort(), "http"));
+
+      int opened =
+          ConnectionWarmUp.warmUp(
+                  connectionManager, route, 10, 1000, 1000, ForkJoinPool.commonPool())
+              .get();
+
+      assertEquals(2, opened);
+      connectionManager.shutdown();
+    }
+  }
+}
@@ -0,0 +1,267 @@
+package com.mercadopago.net;
+
+import static com.mercadopago.net.HttpStatus.BAD_REQUEST;
+import static com.mercadopago.net.HttpStatus.OK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.JsonObject;
+import com.mercadopago.BaseClientTest;
+import com.mercadopago.MercadoPagoConfig;
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPException;
+import com.mercadopago.exceptions.MPMalformedRequestException;
+import com.mercadopago.exceptions.MPTransportException;
+import com.mercadopago.mock.HttpAsyncClientMock;
+import com.mercadopago.mock.MPDefaultAsyncHttpClientMock;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.GZIPOutputStream;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.impl.bootstrap.AsyncServerBootstrap;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.nio.AsyncRequestConsumer;
+import org.apache.hc.core5.http.nio.AsyncServerRequestHandler;
+import org.apache.hc.core5.http.nio.entity.StringAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.support.BasicRequestConsumer;
+import org.apache.hc.core5.http.nio.support.BasicResponseProducer;
+import org.apache.hc.core5.http.nio.support.BasicServerExchangeHandler;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.ListenerEndpoint;
+import org.junit.jupiter.api.Test;
+
+class MPDefaultAsyncHttpClientTest extends BaseClientTest {
+  private final HttpAsyncClientMock httpAsyncClientMock = new HttpAsyncClientMock();
+
+  private final MPDefaultAsyncHttpClient mpAsyncHttpClient =
+      new MPDefaultAsyncHttpClientMock(httpAsyncClientMock);
+
+  @Test
+  void sendAsyncSuccess() throws ExecutionException, InterruptedException {
+    SimpleHttpResponse httpResponse =
+        SimpleHttpResponse.create(OK, "{\"success\": true}", ContentType.APPLICATION_JSON);
+    httpResponse.setHeader("x-test", "test");
+    httpAsyncClientMock.setResponse(httpResponse);
+
+    MPResponse response = mpAsyncHttpClient.sendAsync(buildRequest(HttpMethod.GET)).get();
+
+    assertNotNull(response);
+    assertEquals(OK, response.getStatusCode());
+    assertEquals("{\"success\": true}", response.getContent());
+    assertEquals("test", response.getHeaders().get("x-test").get(0));
+  }
+
+  @Test
+  void sendAsyncDecodesGzipResponse() throws Exception {
+    byte[] json = "{\"success\": true}".getBytes(StandardCharsets.UTF_8);
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(json);
+    }
+    SimpleHttpResponse httpResponse =
+        SimpleHttpResponse.create(OK, compressed.toByteArray(), ContentType.APPLICATION_JSON);
+    httpResponse.setHeader("Content-Encoding", "gzip");
+    httpAsyncClientMock.setResponse(httpResponse);
+
+    MPResponse response = mpAsyncHttpClient.sendAsync(buildRequest(HttpMethod.GET)).get();
+
+    assertEquals("{\"success\": true}", response.getContent());
+    assertEquals(1, mpAsyncHttpClient.getCompressionStats().getCompressedResponses());
+    assertTrue(mpAsyncHttpClient.getCompressionStats().getResponseCompressionRatio() > 0);
+  }
+
+  @Test
+  void sendAsyncWithApiError() {
+    httpAsyncClientMock.setResponse(
+        SimpleHttpResponse.create(BAD_REQUEST, "{\"error\": \"bad\"}", ContentType.APPLICATION_JSON));
+
+    ExecutionException exception =
+        assertThrows(
+            ExecutionException.class,
+            () -> mpAsyncHttpClient.sendAsync(buildRequest(HttpMethod.GET)).get());
+
+    assertTrue(exception.getCause() instanceof MPApiException);
+    assertEquals(BAD_REQUEST, ((MPApiException) exception.getCause()).getStatusCode());
+  }
+
+  @Test
+  void sendAsyncWithIOException() {
+    httpAsyncClientMock.setFailure(new IOException("connection reset"));
+
+    ExecutionException exception =
+        assertThrows(
+            ExecutionException.class,
+            () -> mpAsyncHttpClient.sendAsync(buildRequest(HttpMethod.GET)).get());
+
+    MPTransportException transportException = (MPTransportException) exception.getCause();
+    assertEquals(MPTransportException.Category.IO, transportException.getCategory());
+    assertEquals(MPTransportException.Phase.REQUEST, transportException.getPhase());
+  }
+
+  @Test
+  void sendAsyncOnClosedClientReturnsFailedFuture() {
+    CancellationException rejection = new CancellationException("Request execution cancelled");
+    httpAsyncClientMock.setRejection(rejection);
+
+    CompletableFuture<MPResponse> future =
+        mpAsyncHttpClient.sendAsync(buildRequest(HttpMethod.GET));
+
+    ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+    assertTrue(exception.getCause() instanceof MPException);
+    assertEquals(rejection, exception.getCause().getCause());
+  }
+
+  @Test
+  void sendAsyncWithPayloadOnGetIsMalformed() {
+    JsonObject payload = new JsonObject();
+    payload.addProperty("key", "value");
+    MPRequest request =
+        MPRequest.builder()
+            .method(HttpMethod.GET)
+            .uri("http://test.com")
+            .headers(new HashMap<>())
+            .payload(payload)
+            .build();
+
+    ExecutionException exception =
+        assertThrows(ExecutionException.class, () -> mpAsyncHttpClient.sendAsync(request).get());
+
+    assertTrue(exception.getCause() instanceof MPMalformedRequestException);
+    assertEquals(0, httpAsyncClientMock.getExecutions());
+  }
+
+  @Test
+  void sendAsyncOverHttp2MultiplexesStreams() throws Exception {
+    HttpAsyncServer server =
+        H2ServerBootstrap.bootstrap()
+            .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_2)
+            .register("*", () -> new BasicServerExchangeHandler<>(new OkRequestHandler()))
+            .create();
+    server.start();
+    MercadoPagoConfig.setHttp2Enabled(true);
+    try (MPDefaultAsyncHttpClient http2Client = new MPDefaultAsyncHttpClient()) {
+      ListenerEndpoint endpoint =
+          server.listen(new InetSocketAddress("127.0.0.1", 0), URIScheme.HTTP).get();
+      String uri =
+          String.format(
+              "http://127.0.0.1:%d/v1/payments",
+              ((InetSocketAddress) endpoint.getAddress()).getPort());
+      MPRequest request =
+          MPRequest.builder().method(HttpMethod.GET).uri(uri).headers(new HashMap<>()).build();
+
+      List<CompletableFuture<MPResponse>> responses = new ArrayList<>();
+      for (int i = 0; i < 5; i++) {
+        responses.add(http2Client.sendAsync(request));
+      }
+      for (CompletableFuture<MPResponse> response : responses) {
+        assertEquals(OK, response.get().getStatusCode());
+        assertEquals("{}", response.get().getContent());
+      }
+
+      MPHttp2StreamMetrics metrics = http2Client.getStreamMetrics();
+      assertEquals(5, metrics.getOpenedStreams());
+      assertEquals(1, metrics.getConnectionCount());
+      assertEquals(100, metrics.getMaxConcurrentStreams());
+    } finally {
+      MercadoPagoConfig.setHttp2Enabled(false);
+      server.close(CloseMode.IMMEDIATE);
+    }
+  }
+
+  @Test
+  void sendAsyncReadTimeoutAfterPostWasSentIsReportedAsSent() throws Exception {
+    HttpAsyncServer server =
+        AsyncServerBootstrap.bootstrap()
+            .register("*", () -> new BasicServerExchangeHandler<>(new SilentRequestHandler()))
+            .create();
+    server.start();
+    try (MPDefaultAsyncHttpClient http1Client = new MPDefaultAsyncHttpClient()) {
+      ListenerEndpoint endpoint =
+          server.listen(new InetSocketAddress("127.0.0.1", 0), URIScheme.HTTP).get();
+      JsonObject payload = new JsonObject();
+      payload.addProperty("transaction_amount", 10);
+      MPRequest request =
+          MPRequest.builder()
+              .method(HttpMethod.POST)
+              .uri(
+                  String.format(
+                      "http://127.0.0.1:%d/v1/payments",
+                      ((InetSocketAddress) endpoint.getAddress()).getPort()))
+              .headers(new HashMap<>())
+              .payload(payload)
+              .socketTimeout(300)
+              .build();
+
+      ExecutionException exception =
+          assertThrows(ExecutionException.class, () -> http1Client.sendAsync(request).get());
+
+      MPTransportException transportException = (MPTransportException) exception.getCause();
+      assertEquals(MPTransportException.Category.READ_TIMEOUT, transportException.getCategory());
+      assertEquals(MPTransportException.Phase.RESPONSE, transportException.getPhase());
+      assertTrue(transportException.isRequestSent());
+    } finally {
+      server.close(CloseMode.IMMEDIATE);
+    }
+  }
+
+  private MPRequest buildRequest(HttpMethod method) {
+    Map<String, String> headers = new HashMap<>();
+    headers.put("x-test", "test");
+    return MPRequest.builder().method(method).uri("http://test.com").headers(headers).build();
+  }
+
+  /** Reads the request and never answers, so the client hits its socket timeout. */
+  private static class SilentRequestHandler
+      implements AsyncServerRequestHandler<Message<HttpRequest, String>> {
+
+    @Override
+    public AsyncRequestConsumer<Message<HttpRequest, String>> prepare(
+        HttpRequest request, EntityDetails entityDetails, HttpContext context) {
+      return new BasicRequestConsumer<>(
+          entityDetails == null ? null : new StringAsyncEntityConsumer());
+    }
+
+    @Override
+    public void handle(
+        Message<HttpRequest, String> message, ResponseTrigger trigger, HttpContext context) {}
+  }
+
+  private static class OkRequestHandler
+      implements AsyncServerRequestHandler<Message<HttpRequest, String>> {
+
+    @Override
+    public AsyncRequestConsumer<Message<HttpRequest, String>> prepare(
+        HttpRequest request, EntityDetails entityDetails, HttpContext context) {
+      return new BasicRequestConsumer<>(
+          entityDetails == null ? null : new StringAsyncEntityConsumer());
+    }
+
+    @Override
+    public void handle(
+        Message<HttpRequest, String> message, ResponseTrigger trigger, HttpContext context)
+        throws HttpException, IOException {
+      trigger.submitResponse(
+          new BasicResponseProducer(OK, "{}", ContentType.APPLICATION_JSON), context);
+    }
+  }
+}
@@ -1,24 +1,43 @@
 package com.mercadopago.net;
 
+import static com.mercadopago.helper.MockHelper.generateHttpResponse;
 import static com.mercadopago.helper.MockHelper.generateHttpResponseFromFile;
-import static com.mercadopago.net.HttpStatus.INTERNAL_SERVER_ERROR;
 import static com.mercadopago.net.HttpStatus.OK;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 
+import com.google.gson.JsonObject;
 import com.mercadopago.BaseClientTest;
+import com.mercadopago.MercadoPagoConfig;
 import com.mercadopago.exceptions.MPApiException;
 import com.mercadopago.exceptions.MPException;
+import com.mercadopago.exceptions.MPTransportException;
+import com.mercadopago.exceptions.MPTransportException.Category;
+import com.mercadopago.exceptions.MPTransportException.Phase;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.apache.commons.io.IOUtils;
 import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.protocol.HttpContext;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 class MPDefaultHttpClientTest extends BaseClientTest {
   private final String responseGenericSuccessJson = "/response_generic_success.json";
@@ -94,11 +113,129 @@ class MPDefaultHttpClientTest extends BaseClientTest {
         .when(HTTP_CLIENT)
         .execute(any(HttpRequestBase.class), any(HttpContext.class));
 
+    MPTransportException exception =
+        assertThrows(MPTransportException.class, () -> mpDefaultHttpClient.send(request));
+    assertEquals(Category.IO, exception.getCategory());
+    assertEquals(Phase.REQUEST, exception.getPhase());
+    assertFalse(exception.isRequestSent());
+  }
+
+  @Test
+  void sendClassifiesTransportFailures() throws IOException {
+    mpDefaultHttpClient = new MPDefaultHttpClient(HTTP_CLIENT);
+    MPRequest request =
+        MPRequest.builder()
+            .method(HttpMethod.GET)
+            .uri("http://test.com")
+            .headers(new HashMap<>())
+            .build();
+
+    doThrow(new ConnectTimeoutException("connect timed out"))
+        .when(HTTP_CLIENT)
+        .execute(any(HttpRequestBase.class), any(HttpContext.class));
+    MPTransportException connectFailure =
+        assertThrows(MPTransportException.class, () -> mpDefaultHttpClient.send(request));
+    assertEquals(Category.CONNECT, connectFailure.getCategory());
+    assertEquals(Phase.CONNECT, connectFailure.getPhase());
+
+    doThrow(new SocketTimeoutException("Read timed out"))
+        .when(HTTP_CLIENT)
+        .execute(any(HttpRequestBase.class), any(HttpContext.class));
+    MPTransportException readFailure =
+        assertThrows(MPTransportException.class, () -> mpDefaultHttpClient.send(request));
+    assertEquals(Category.READ_TIMEOUT, readFailure.getCategory());
+  }
+
+  @Test
+  void sendDecodesGzipResponse() throws MPException, MPApiException, IOException {
+    mpDefaultHttpClient = new MPDefaultHttpClient(HTTP_CLIENT);
+    MPRequest request =
+        MPRequest.builder()
+            .method(HttpMethod.GET)
+            .uri("http://test.com")
+            .headers(new HashMap<>())
+            .build();
+
+    byte[] json = "{\"success\": true}".getBytes(StandardCharsets.UTF_8);
+    HttpResponse httpResponse = generateHttpResponse(OK);
+    ByteArrayEntity entity = new ByteArrayEntity(gzip(json));
+    entity.setContentEncoding("gzip");
+    httpResponse.setEntity(entity);
+    ArgumentCaptor<HttpRequestBase> captor = ArgumentCaptor.forClass(HttpRequestBase.class);
+    doReturn(httpResponse).when(HTTP_CLIENT).execute(captor.capture(), any(HttpContext.class));
+
+    MPResponse response = mpDefaultHttpClient.send(request);
+    assertEquals("{\"success\": true}", response.getContent());
+    assertEquals("gzip, deflate", captor.getValue().getFirstHeader("Accept-Encoding").getValue());
+    assertEquals(1, mpDefaultHttpClient.getCompressionStats().getCompressedResponses());
+    assertEquals(
+        json.length, mpDefaultHttpClient.getCompressionStats().getResponseBytesAfterDecompression());
+  }
+
+  @Test
+  void sendCompressesLargeRequestBody() throws MPException, MPApiException, IOException {
+    MercadoPagoConfig.setRequestCompressionEnabled(true);
+    MercadoPagoConfig.setRequestCompressionThreshold(64);
     try {
+      mpDefaultHttpClient = new MPDefaultHttpClient(HTTP_CLIENT);
+      JsonObject payload = new JsonObject();
+      payload.addProperty("description", new String(new char[256]).replace('\0', 'a'));
+      MPRequest request =
+          MPRequest.builder()
+              .method(HttpMethod.POST)
+              .uri("http://test.com")
+              .headers(new HashMap<>())
+              .payload(payload)
+              .build();
+
+      ArgumentCaptor<HttpRequestBase> captor = ArgumentCaptor.forClass(HttpRequestBase.class);
+      doReturn(generateHttpResponseFromFile(responseGenericSuccessJson, OK))
+          .when(HTTP_CLIENT)
+          .execute(captor.capture(), any(HttpContext.class));
+
       mpDefaultHttpClient.send(request);
-    } catch (MPApiException ex) {
-      assertEquals(INTERNAL_SERVER_ERROR, ex.getStatusCode());
-      assertEquals("", ex.getApiResponse().getContent());
+
+      HttpPost sent = (HttpPost) captor.getValue();
+      assertEquals("gzip", sent.getFirstHeader("Content-Encoding").getValue());
+      try (InputStream body = new GZIPInputStream(sent.getEntity().getContent())) {
+        assertEquals(
+            payload.toString(),
+            new String(IOUtils.toByteArray(body), StandardCharsets.UTF_8));
+      }
+      MPCompressionStats stats = mpDefaultHttpClient.getCompressionStats();
+      assertEquals(1, stats.getCompressedRequests());
+      assertTrue(stats.getRequestCompressionRatio() < 1.0);
+    } finally {
+      MercadoPagoConfig.setRequestCompressionEnabled(false);
+      MercadoPagoConfig.setRequestCompressionThreshold(4096);
+    }
+  }
+
+  @Test
+  void closeStopsTheConnectionEvictor() throws Exception {
+    long evictors = evictorThreads();
+    mpDefaultHttpClient = new MPDefaultHttpClient();
+    assertEquals(evictors + 1, evictorThreads());
+
+    mpDefaultHttpClient.close();
+
+    for (int i = 0; i < 100 && evictorThreads() > evictors; i++) {
+      Thread.sleep(10);
+    }
+    assertEquals(evictors, evictorThreads());
+  }
+
+  private static long evictorThreads() {
+    return Thread.getAllStackTraces().keySet().stream()
+        .filter(thread -> thread.isAlive() && "Connection evictor".equals(thread.getName()))
+        .count();
+  }
+
+  private static byte[] gzip(byte[] body) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+      gzip.write(body);
     }
+    return output.toByteArray();
   }
 }
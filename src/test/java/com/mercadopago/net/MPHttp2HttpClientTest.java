@@ -0,0 +1,75 @@
+package com.mercadopago.net;
+
+import static com.mercadopago.net.HttpStatus.BAD_REQUEST;
+import static com.mercadopago.net.HttpStatus.OK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+class MPHttp2HttpClientTest {
+  private final MPRequest request =
+      MPRequest.builder()
+          .method(HttpMethod.GET)
+          .uri("http://test.com")
+          .headers(new HashMap<>())
+          .build();
+
+  @Test
+  void sendReturnsAsyncResponse() throws MPException, MPApiException {
+    MPResponse response = new MPResponse(OK, Collections.emptyMap(), "{}");
+    MPHttp2HttpClient client =
+        new MPHttp2HttpClient(mpRequest -> CompletableFuture.completedFuture(response));
+
+    assertEquals(response, client.send(request));
+  }
+
+  @Test
+  void sendRethrowsApiException() {
+    MPApiException apiException =
+        new MPApiException("Api error", new MPResponse(BAD_REQUEST, Collections.emptyMap(), ""));
+    MPHttp2HttpClient client = new MPHttp2HttpClient(mpRequest -> failedFuture(apiException));
+
+    MPApiException thrown = assertThrows(MPApiException.class, () -> client.send(request));
+
+    assertEquals(apiException, thrown);
+  }
+
+  @Test
+  void sendWrapsUnexpectedFailure() {
+    IllegalStateException failure = new IllegalStateException("reactor shut down");
+    MPHttp2HttpClient client = new MPHttp2HttpClient(mpRequest -> failedFuture(failure));
+
+    MPException thrown = assertThrows(MPException.class, () -> client.send(request));
+
+    assertEquals(failure, thrown.getCause());
+  }
+
+  @Test
+  void interruptedSendCancelsThePendingRequest() {
+    CompletableFuture<MPResponse> pending = new CompletableFuture<>();
+    MPHttp2HttpClient client = new MPHttp2HttpClient(mpRequest -> pending);
+
+    Thread.currentThread().interrupt();
+    try {
+      assertThrows(MPException.class, () -> client.send(request));
+      assertTrue(Thread.currentThread().isInterrupted());
+    } finally {
+      Thread.interrupted();
+    }
+
+    assertTrue(pending.isCancelled());
+  }
+
+  private static CompletableFuture<MPResponse> failedFuture(Throwable throwable) {
+    CompletableFuture<MPResponse> future = new CompletableFuture<>();
+    future.completeExceptionally(throwable);
+    return future;
+  }
+}
@@ -0,0 +1,111 @@
+package com.mercadopago.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mercadopago.MercadoPagoConfig;
+import com.mercadopago.core.MPCircuitBreakerHttpClient;
+import com.mercadopago.core.MPCircuitBreakerPolicy;
+import com.mercadopago.core.MPRetryPolicy;
+import com.mercadopago.core.MPRetryingAsyncHttpClient;
+import com.mercadopago.core.MPRetryingHttpClient;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.junit.jupiter.api.Test;
+
+class MPHttpClientStatsTest {
+
+  @Test
+  void leaseWaitIsRecordedInHistogram() {
+    MPHttpClientStats stats = new MPHttpClientStats();
+
+    stats.leaseFinished(stats.leaseStarted(), false);
+    stats.leaseFinished(stats.leaseStarted(), true);
+
+    assertEquals(2, stats.getLeaseCount());
+    assertEquals(1, stats.getLeaseTimeouts());
+    assertEquals(0, stats.getPendingLeases());
+    Map<Long, Long> histogram = stats.getLeaseWaitHistogram();
+    List<Long> bounds = new ArrayList<>(histogram.keySet());
+    assertEquals(Long.MAX_VALUE, (long) bounds.get(bounds.size() - 1));
+    assertEquals(2, (long) histogram.get(1L));
+  }
+
+  @Test
+  void saturationListenerIsNotifiedWhenPendingCrossesThreshold() {
+    List<Integer> notifications = new ArrayList<>();
+    MercadoPagoConfig.setPoolPendingThreshold(1);
+    MercadoPagoConfig.setPoolSaturationListener(
+        (stats, pendingLeases) -> notifications.add(pendingLeases));
+    try {
+      MPHttpClientStats stats = new MPHttpClientStats();
+      long first = stats.leaseStarted();
+      long second = stats.leaseStarted();
+      long third = stats.leaseStarted();
+      stats.leaseFinished(third, false);
+      stats.leaseFinished(second, false);
+      stats.leaseFinished(first, false);
+
+      assertEquals(1, notifications.size());
+      assertEquals(2, (int) notifications.get(0));
+    } finally {
+      MercadoPagoConfig.setPoolSaturationListener(null);
+      MercadoPagoConfig.setPoolPendingThreshold(10);
+    }
+  }
+
+  @Test
+  void timeoutsAreCountedByKind() {
+    MPHttpClientStats stats = new MPHttpClientStats();
+
+    stats.recordFailure(new ConnectTimeoutException());
+    stats.recordFailure(new SocketTimeoutException());
+    stats.recordFailure(new ConnectionPoolTimeoutException());
+
+    assertEquals(1, stats.getConnectTimeouts());
+    assertEquals(1, stats.getSocketTimeouts());
+    assertEquals(0, stats.getLeaseTimeouts());
+  }
+
+  @Test
+  void defaultClientExposesPoolTotals() {
+    MPDefaultHttpClient client = new MPDefaultHttpClient();
+
+    MPPoolStats totals = client.getStats().getTotalStats();
+
+    assertEquals(MercadoPagoConfig.getMaxConnections(), totals.getMax());
+    assertEquals(0, totals.getLeased());
+    assertTrue(client.getStats().getRouteStats().isEmpty());
+  }
+
+  @Test
+  void statsAreReachableBehindTheRequestPolicies() {
+    MPDefaultHttpClient transport = new MPDefaultHttpClient();
+    MPHttpClient client =
+        new MPRetryingHttpClient(
+            new MPCircuitBreakerHttpClient(transport, MPCircuitBreakerPolicy.builder().build()),
+            MPRetryPolicy.createDefault());
+
+    assertSame(transport, client.unwrap(MPDefaultHttpClient.class));
+    assertSame(transport.getStats(), client.unwrap(MPDefaultHttpClient.class).getStats());
+    assertNull(client.unwrap(MPHttp2HttpClient.class));
+
+    MPDefaultAsyncHttpClient asyncTransport = new MPDefaultAsyncHttpClient();
+    MPHttpClient http2Client =
+        new MPHttp2HttpClient(
+            new MPRetryingAsyncHttpClient(asyncTransport, MPRetryPolicy.createDefault()));
+
+    assertSame(
+        asyncTransport.getStreamMetrics(),
+        http2Client.unwrap(MPDefaultAsyncHttpClient.class).getStreamMetrics());
+    assertSame(
+        asyncTransport.getCompressionStats(),
+        http2Client.unwrap(MPDefaultAsyncHttpClient.class).getCompressionStats());
+  }
+}
@@ -0,0 +1,61 @@
+package com.mercadopago.net;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mercadopago.MercadoPagoConfig;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class RouteLimitsTest {
+
+  @Test
+  void withoutHostLimitsEveryRouteMayUseTheWholePool() {
+    RouteLimits limits = RouteLimits.compute(10, null);
+
+    assertEquals(10, limits.getMaxTotal());
+    assertEquals(10, limits.getDefaultMaxPerRoute());
+    assertTrue(limits.getHostLimits().isEmpty());
+  }
+
+  @Test
+  void hostLimitsAreReservedOutOfTheTotal() {
+    Map<String, Integer> perHost = new HashMap<>();
+    perHost.put("api.mercadopago.com", 6);
+    perHost.put("auth.mercadopago.com", 2);
+
+    RouteLimits limits = RouteLimits.compute(10, perHost);
+
+    assertEquals(10, limits.getMaxTotal());
+    assertEquals(2, limits.getDefaultMaxPerRoute());
+    assertEquals(6, (int) limits.getHostLimits().get("api.mercadopago.com"));
+  }
+
+  @Test
+  void totalIsRaisedWhenReservationsExceedIt() {
+    Map<String, Integer> perHost = new HashMap<>();
+    perHost.put("api.mercadopago.com", 12);
+    perHost.put("ignored.mercadopago.com", 0);
+
+    RouteLimits limits = RouteLimits.compute(10, perHost);
+
+    assertEquals(13, limits.getMaxTotal());
+    assertEquals(1, limits.getDefaultMaxPerRoute());
+    assertEquals(1, limits.getHostLimits().size());
+  }
+
+  @Test
+  void defaultClientUsesTheComputedTotal() {
+    Map<String, Integer> perHost = new HashMap<>();
+    perHost.put("api.mercadopago.com", 15);
+    MercadoPagoConfig.setMaxConnectionsPerHost(perHost);
+    try {
+      MPDefaultHttpClient client = new MPDefaultHttpClient();
+
+      assertEquals(16, client.getStats().getTotalStats().getMax());
+    } finally {
+      MercadoPagoConfig.setMaxConnectionsPerHost(null);
+    }
+  }
+}
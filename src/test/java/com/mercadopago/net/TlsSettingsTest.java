@@ -0,0 +1,58 @@
+package com.mercadopago.net;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mercadopago.MercadoPagoConfig;
+import java.util.Arrays;
+import java.util.List;
+import javax.net.ssl.SSLContext;
+import org.junit.jupiter.api.Test;
+
+class TlsSettingsTest {
+
+  @Test
+  void defaultProtocolsPreferTls13WhenSupported() {
+    SSLContext sslContext = TlsSettings.createSslContext();
+    List<String> supported = Arrays.asList(sslContext.getSupportedSSLParameters().getProtocols());
+
+    List<String> protocols = Arrays.asList(TlsSettings.protocols(sslContext));
+
+    assertTrue(protocols.contains("TLSv1.2"));
+    assertEquals(supported.contains("TLSv1.3"), protocols.contains("TLSv1.3"));
+    assertNull(TlsSettings.cipherSuites());
+  }
+
+  @Test
+  void configuredProtocolsAndCipherSuitesAreUsed() {
+    MercadoPagoConfig.setTlsProtocols(new String[] {"TLSv1.2"});
+    MercadoPagoConfig.setTlsCipherSuites(new String[] {"TLS_ECDHE_RSA_WITH_AES_128_GCM_SHA256"});
+    try {
+      SSLContext sslContext = TlsSettings.createSslContext();
+
+      assertArrayEquals(new String[] {"TLSv1.2"}, TlsSettings.protocols(sslContext));
+      assertArrayEquals(
+          new String[] {"TLS_ECDHE_RSA_WITH_AES_128_GCM_SHA256"}, TlsSettings.cipherSuites());
+    } finally {
+      MercadoPagoConfig.setTlsProtocols(null);
+      MercadoPagoConfig.setTlsCipherSuites(null);
+    }
+  }
+
+  @Test
+  void sessionCacheFollowsConfiguration() {
+    MercadoPagoConfig.setTlsSessionCacheSize(7);
+    MercadoPagoConfig.setTlsSessionTimeoutSeconds(60);
+    try {
+      SSLContext sslContext = TlsSettings.createSslContext();
+
+      assertEquals(7, sslContext.getClientSessionContext().getSessionCacheSize());
+      assertEquals(60, sslContext.getClientSessionContext().getSessionTimeout());
+    } finally {
+      MercadoPagoConfig.setTlsSessionCacheSize(100);
+      MercadoPagoConfig.setTlsSessionTimeoutSeconds(86400);
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.mercadopago.serialization;
 
+import static com.mercadopago.net.HttpStatus.OK;
 import static com.mercadopago.serialization.Serializer.deserializeResultsResourcesPageFromJson;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -15,13 +16,16 @@ import com.mercadopago.helper.MockHelper;
 import com.mercadopago.net.MPElementsResourcesPage;
 import com.mercadopago.net.MPResource;
 import com.mercadopago.net.MPResourceList;
+import com.mercadopago.net.MPResponse;
 import com.mercadopago.net.MPResultsResourcesPage;
 import com.mercadopago.resources.customer.CustomerCard;
 import com.mercadopago.resources.merchantorder.MerchantOrder;
 import com.mercadopago.resources.payment.Payment;
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
+import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -55,6 +59,29 @@ public class SerializerTest {
     assertEquals(6, card.getExpirationMonth());
   }
 
+  @Test
+  public void deserializeFromJsonResponseReadsBodyBytes() throws MPJsonParseException {
+    MPResponse response =
+        new MPResponse(
+            OK,
+            Collections.emptyMap(),
+            customerCardJson.getBytes(StandardCharsets.UTF_8),
+            StandardCharsets.UTF_8);
+
+    CustomerCard card = Serializer.deserializeFromJson(CustomerCard.class, response);
+
+    assertNotNull(card);
+    assertEquals(2023, card.getExpirationYear());
+    assertEquals(customerCardJson, response.getContent());
+  }
+
+  @Test
+  public void deserializeFromJsonWithTrailingContentThrowsMPJsonParseException() {
+    assertThrows(
+        MPJsonParseException.class,
+        () -> Serializer.deserializeFromJson(CustomerCard.class, customerCardJson + " {}"));
+  }
+
   @Test
   public void deserializeFromJsonErrorThrowsMPJsonParseException() {
     assertThrows(
@@ -110,6 +137,40 @@ public class SerializerTest {
     assertEquals(6, cards.getResults().get(0).getExpirationMonth());
   }
 
+  @Test
+  public void listAdapterWritesWhatItReads() throws IOException, MPJsonParseException {
+    String cardListJson = MockHelper.readResponseFile("/card/card_all.json");
+    MPResourceList<CustomerCard> cards =
+        Serializer.deserializeListFromJson(CustomerCard.class, cardListJson);
+
+    String json = Serializer.listAdapter(CustomerCard.class).toJson(cards);
+    MPResourceList<CustomerCard> written =
+        Serializer.deserializeListFromJson(CustomerCard.class, json);
+
+    assertEquals(cards.getResults().size(), written.getResults().size());
+    assertEquals(cards.getResults().get(0).getId(), written.getResults().get(0).getId());
+    assertEquals(
+        cards.getResults().get(0).getExpirationYear(),
+        written.getResults().get(0).getExpirationYear());
+    assertEquals("null", Serializer.listAdapter(CustomerCard.class).toJson(null));
+  }
+
+  @Test
+  public void deserializeListFromJsonResponseSuccess() throws IOException, MPJsonParseException {
+    String cardListJson = MockHelper.readResponseFile("/card/card_all.json");
+    MPResponse response =
+        new MPResponse(
+            OK,
+            Collections.emptyMap(),
+            cardListJson.getBytes(StandardCharsets.UTF_8),
+            StandardCharsets.UTF_8);
+
+    MPResourceList<CustomerCard> cards =
+        Serializer.deserializeListFromJson(CustomerCard.class, response);
+
+    assertEquals(6, cards.getResults().get(0).getExpirationMonth());
+  }
+
   @Test
   public void deserializeListFromJsonErrorThrowsMPJsonParseException() {
     assertThrows(
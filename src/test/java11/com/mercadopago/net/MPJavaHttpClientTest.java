@@ -0,0 +1,120 @@
+package com.mercadopago.net;
+
+import static com.mercadopago.net.HttpStatus.BAD_REQUEST;
+import static com.mercadopago.net.HttpStatus.OK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mercadopago.exceptions.MPApiException;
+import com.mercadopago.exceptions.MPTransportException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MPJavaHttpClientTest {
+  private final MPJavaHttpClient client = new MPJavaHttpClient();
+
+  private HttpServer server;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.createContext("/ok", exchange -> respond(exchange, OK, "{\"id\": 1}"));
+    server.createContext("/bad", exchange -> respond(exchange, BAD_REQUEST, "{\"error\": 1}"));
+    server.createContext(
+        "/slow",
+        exchange -> {
+          try {
+            Thread.sleep(1000);
+          } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+          }
+          respond(exchange, OK, "{}");
+        });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  void sendSuccess() throws Exception {
+    MPResponse response = client.send(request("/ok", 0));
+
+    assertEquals(OK, response.getStatusCode());
+    assertEquals("{\"id\": 1}", response.getContent());
+  }
+
+  @Test
+  void sendAsyncSuccess() throws Exception {
+    MPResponse response = client.sendAsync(request("/ok", 0)).get();
+
+    assertEquals(OK, response.getStatusCode());
+    assertEquals("{\"id\": 1}", response.getContent());
+  }
+
+  @Test
+  void sendErrorStatusThrowsApiException() {
+    MPApiException exception =
+        assertThrows(MPApiException.class, () -> client.send(request("/bad", 0)));
+
+    assertEquals(BAD_REQUEST, exception.getStatusCode());
+  }
+
+  @Test
+  void readTimeoutIsReportedAndCounted() {
+    MPTransportException exception =
+        assertThrows(MPTransportException.class, () -> client.send(request("/slow", 100)));
+    ExecutionException asyncException =
+        assertThrows(
+            ExecutionException.class, () -> client.sendAsync(request("/slow", 100)).get());
+
+    assertEquals(MPTransportException.Category.READ_TIMEOUT, exception.getCategory());
+    assertTrue(asyncException.getCause() instanceof MPTransportException);
+    assertEquals(2, client.getStats().getSocketTimeouts());
+    assertEquals(0, client.getStats().getTotalStats().getMax());
+  }
+
+  @Test
+  void unwrapReturnsTheClient() {
+    MPHttpClient httpClient = client;
+    MPAsyncHttpClient asyncHttpClient = client;
+
+    assertSame(client, httpClient.unwrap(MPJavaHttpClient.class));
+    assertSame(client, asyncHttpClient.unwrap(MPJavaHttpClient.class));
+    assertNull(httpClient.unwrap(MPDefaultHttpClient.class));
+  }
+
+  private MPRequest request(String path, int socketTimeout) {
+    return MPRequest.builder()
+        .uri("http://localhost:" + server.getAddress().getPort() + path)
+        .method(HttpMethod.GET)
+        .headers(new HashMap<>())
+        .socketTimeout(socketTimeout)
+        .build();
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+}